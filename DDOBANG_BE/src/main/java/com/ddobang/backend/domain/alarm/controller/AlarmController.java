@@ -10,7 +10,9 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -23,6 +25,7 @@ import com.ddobang.backend.domain.member.entity.Member;
 import com.ddobang.backend.domain.member.service.MemberService;
 import com.ddobang.backend.global.response.PageDto;
 import com.ddobang.backend.global.response.ResponseFactory;
+import com.ddobang.backend.global.response.SliceDto;
 import com.ddobang.backend.global.response.SuccessResponse;
 import com.ddobang.backend.global.security.LoginMemberProvider;
 
@@ -47,16 +50,30 @@ public class AlarmController {
 
 	@Operation(summary = "알림 SSE 구독", description = "실시간 알림을 위한 SSE 연결을 구독합니다.")
 	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-	public SseEmitter subscribeAlarm() {
+	public SseEmitter subscribeAlarm(
+		@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
 
 		// 실제 인증 로직이 구현되면 아래와 같이 변경
 		Member currentMember = loginMemberProvider.getCurrentMember();
 		Long userId = currentMember.getId();
 
-		return alarmEventService.subscribe(userId);
+		return alarmEventService.subscribe(userId, parseLastEventId(lastEventId));
 
 	}
 
+	// 알림 id 가 아닌 값은 재전송 없이 새로 연결
+	private Long parseLastEventId(String lastEventId) {
+		if (lastEventId == null || lastEventId.isBlank()) {
+			return null;
+		}
+
+		try {
+			return Long.parseLong(lastEventId.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
 	@Operation(summary = "알림 목록 조회", description = "사용자의 알림 목록을 페이징하여 조회합니다.")
 	@GetMapping
 	public ResponseEntity<SuccessResponse<PageDto<AlarmResponse>>> getAlarms(
@@ -68,6 +85,16 @@ public class AlarmController {
 		return ResponseFactory.ok("알림 목록 조회 성공", alarms);
 	}
 
+	@Operation(summary = "알림 목록 커서 조회", description = "마지막으로 받은 알림 id 이후의 알림 목록을 최신순으로 조회합니다. (size 최대 50)")
+	@GetMapping("/cursor")
+	public ResponseEntity<SuccessResponse<SliceDto<AlarmResponse>>> getAlarmsWithCursor(
+		@RequestParam(required = false) Long lastId,
+		@RequestParam(defaultValue = "10") int size) {
+		Member currentMember = loginMemberProvider.getCurrentMember();
+		SliceDto<AlarmResponse> alarms = alarmService.getAlarmsWithCursor(currentMember.getId(), lastId, size);
+		return ResponseFactory.ok("알림 목록 조회 성공", alarms);
+	}
+
 	@Operation(summary = "알림 상세 조회", description = "특정 알림의 상세 정보를 조회합니다.")
 	@GetMapping("/{id}")
 	public ResponseEntity<SuccessResponse<AlarmResponse>> getAlarm(
@@ -6,9 +6,13 @@ import java.util.Map;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ddobang.backend.domain.alarm.service.AlarmDeadLetterService;
 import com.ddobang.backend.domain.alarm.service.AlarmEventService;
 import com.ddobang.backend.domain.alarm.service.AlarmMessageConsumer;
 import com.ddobang.backend.domain.alarm.service.AlarmMessagePublisher;
@@ -23,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
  * 알림 시스템 모니터링 컨트롤러
  * 
  * SSE 및 RabbitMQ 알림 시스템의 상태와 통계를 제공
+ * DLQ 에 쌓인 알림 메시지 조회 및 재처리
  */
 @Slf4j
 @RestController
@@ -34,6 +39,10 @@ public class AlarmMonitoringController {
     private final AlarmEventService alarmEventService;
     private final java.util.Optional<AlarmMessagePublisher> alarmMessagePublisher;
     private final java.util.Optional<AlarmMessageConsumer> alarmMessageConsumer;
+    private final java.util.Optional<AlarmDeadLetterService> alarmDeadLetterService;
+
+    private static final int MAX_PEEK_LIMIT = 100;
+    private static final int MAX_REPLAY_LIMIT = 1000;
 
     @GetMapping("/status")
     @Operation(summary = "알림 시스템 전체 상태 조회", description = "SSE 및 RabbitMQ 알림 시스템의 전체 상태를 조회합니다.")
@@ -43,7 +52,8 @@ public class AlarmMonitoringController {
         // SSE 상태
         status.put("sse", Map.of(
             "enabled", true,
-            "activeConnections", alarmEventService.getActiveConnectionCount()
+            "activeConnections", alarmEventService.getActiveConnectionCount(),
+            "connectedUsers", alarmEventService.getConnectedUserCount()
         ));
         
         // RabbitMQ 상태
@@ -60,7 +70,8 @@ public class AlarmMonitoringController {
                     "totalPublished", publishStats.getTotalPublished(),
                     "totalFailed", publishStats.getTotalFailed(),
                     "successRate", publishStats.getSuccessRate(),
-                    "averagePublishTime", publishStats.getAveragePublishTime()
+                    "averagePublishTime", publishStats.getAveragePublishTime(),
+                    "outstandingConfirms", publishStats.getOutstandingConfirms()
                 ));
             }
             
@@ -113,7 +124,8 @@ public class AlarmMonitoringController {
             "totalPublished", stats.getTotalPublished(),
             "totalFailed", stats.getTotalFailed(),
             "successRate", stats.getSuccessRate(),
-            "averagePublishTime", stats.getAveragePublishTime()
+            "averagePublishTime", stats.getAveragePublishTime(),
+            "outstandingConfirms", stats.getOutstandingConfirms()
         );
         
         return ResponseFactory.ok(publisherStats);
@@ -139,6 +151,42 @@ public class AlarmMonitoringController {
         return ResponseFactory.ok(consumerStats);
     }
 
+    @GetMapping("/rabbitmq/dlq")
+    @Operation(summary = "알림 DLQ 현황 조회", description = "도메인별 알림 DLQ 에 쌓인 메시지 수를 조회합니다.")
+    public ResponseEntity<?> getDeadLetterQueues() {
+        if (!alarmDeadLetterService.isPresent()) {
+            return ResponseFactory.ok("RabbitMQ가 비활성화되어 있습니다.");
+        }
+
+        return ResponseFactory.ok(alarmDeadLetterService.get().getQueueStatuses());
+    }
+
+    @GetMapping("/rabbitmq/dlq/{queue}/messages")
+    @Operation(summary = "알림 DLQ 메시지 조회", description = "DLQ 에 쌓인 알림 메시지를 앞에서부터 조회합니다. 조회한 메시지는 큐에 그대로 남습니다.")
+    public ResponseEntity<?> getDeadLetterMessages(
+            @PathVariable String queue,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (!alarmDeadLetterService.isPresent()) {
+            return ResponseFactory.ok("RabbitMQ가 비활성화되어 있습니다.");
+        }
+
+        return ResponseFactory.ok(
+            alarmDeadLetterService.get().peekMessages(queue, Math.max(1, Math.min(limit, MAX_PEEK_LIMIT))));
+    }
+
+    @PostMapping("/rabbitmq/dlq/{queue}/replay")
+    @Operation(summary = "알림 DLQ 메시지 재처리", description = "DLQ 에 쌓인 알림 메시지를 재시도 횟수를 초기화하여 다시 발행합니다.")
+    public ResponseEntity<?> replayDeadLetterMessages(
+            @PathVariable String queue,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (!alarmDeadLetterService.isPresent()) {
+            return ResponseFactory.ok("RabbitMQ가 비활성화되어 있습니다.");
+        }
+
+        int replayedCount = alarmDeadLetterService.get().replay(queue, Math.max(1, Math.min(limit, MAX_REPLAY_LIMIT)));
+        return ResponseFactory.ok("DLQ 메시지 " + replayedCount + "건을 재발행했습니다.", Map.of("replayed", replayedCount));
+    }
+
     @GetMapping("/health")
     @Operation(summary = "알림 시스템 헬스 체크", description = "알림 시스템의 전반적인 건강 상태를 체크합니다.")
     public ResponseEntity<?> healthCheck() {
@@ -148,7 +196,8 @@ public class AlarmMonitoringController {
         boolean sseHealthy = true; // SSE는 항상 사용 가능하다고 가정
         health.put("sse", Map.of(
             "status", sseHealthy ? "UP" : "DOWN",
-            "activeConnections", alarmEventService.getActiveConnectionCount()
+            "activeConnections", alarmEventService.getActiveConnectionCount(),
+            "connectedUsers", alarmEventService.getConnectedUserCount()
         ));
         
         // RabbitMQ 헬스체크
@@ -2,6 +2,7 @@ package com.ddobang.backend.domain.alarm.dto.request;
 
 import com.ddobang.backend.domain.alarm.entity.Alarm;
 import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -26,7 +27,25 @@ public class AlarmCreateRequest { // 알림 생성데이터
 	private AlarmType alarmType;
 
 	public Alarm toEntity() {
+		return toEntity(null);
+	}
+
+	// 대량 저장 시 저장된 알림을 다시 조회할 수 있도록 이벤트 ID 를 함께 지정
+	public Alarm toEntity(String eventId) {
 		return Alarm.builder()
+			.receiverId(receiverId)
+			.title(title)
+			.content(content)
+			.relId(relId)
+			.alarmType(alarmType)
+			.eventId(eventId)
+			.build();
+	}
+
+	// 같은 요청이 다시 전달되어도 한 번만 저장되도록 이벤트 ID 를 지정한 알림 이벤트로 변환
+	public AlarmEvent toAlarmEvent(String eventId) {
+		return AlarmEvent.builder()
+			.eventId(eventId)
 			.receiverId(receiverId)
 			.title(title)
 			.content(content)
@@ -0,0 +1,19 @@
+package com.ddobang.backend.domain.alarm.dto.response;
+
+import com.ddobang.backend.domain.alarm.entity.AlarmType;
+
+/**
+ * DeadLetterMessageResponse
+ * DLQ 에 쌓인 알림 메시지 요약 (x-death 헤더 기준 dead-letter 사유, 횟수 포함)
+ */
+public record DeadLetterMessageResponse(
+	String eventId,
+	Long receiverId,
+	AlarmType alarmType,
+	String title,
+	Integer retryCount,
+	String deathReason,
+	String originalQueue,
+	long deathCount
+) {
+}
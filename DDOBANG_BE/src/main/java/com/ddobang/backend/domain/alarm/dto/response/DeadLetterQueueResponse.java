@@ -0,0 +1,9 @@
+package com.ddobang.backend.domain.alarm.dto.response;
+
+// 알림 DLQ 적재 현황
+public record DeadLetterQueueResponse(
+	String queue,
+	long messageCount,
+	int consumerCount
+) {
+}
@@ -9,6 +9,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,6 +18,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Getter
 @Entity
+@Table(
+	name = "alarm",
+	indexes = {
+		// 사용자별 최신순 목록 조회
+		@Index(name = "idx_alarm_receiver_created", columnList = "receiver_id, created_at"),
+		// 보관 기간이 지난 알림 정리
+		@Index(name = "idx_alarm_created", columnList = "created_at")
+	}
+)
 public class Alarm extends BaseTime {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,15 +53,20 @@ public class Alarm extends BaseTime {
 	@Column(name = "alarm_type", nullable = false)
 	private AlarmType alarmType;
 
+	// RabbitMQ 로 전달된 알림 이벤트 ID (재전달 시 중복 저장 방지)
+	@Column(name = "event_id", length = 36, unique = true)
+	private String eventId;
+
 	@Builder
 	public Alarm(Long receiverId, String title, String content,
-		AlarmType alarmType, Long relId) {
+		AlarmType alarmType, Long relId, String eventId) {
 		this.receiverId = receiverId;
 		this.title = title;
 		this.content = content;
 		this.readStatus = false; // 기본값 읽지 않음(false)
 		this.alarmType = alarmType;
 		this.relId = relId;
+		this.eventId = eventId;
 	}
 
 	// 읽음 상태 변경 메서드
@@ -0,0 +1,58 @@
+package com.ddobang.backend.domain.alarm.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AlarmArchive
+ * 보관 기간이 지나 정리된 알림 중 읽은 알림의 보관본
+ * 알림 생성 월(yyyyMM) 단위로 조회, 삭제할 수 있도록 archived_month 로 구분
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+	name = "alarm_archive",
+	indexes = @Index(name = "idx_alarm_archive_month_receiver", columnList = "archived_month, receiver_id")
+)
+public class AlarmArchive {
+	// 원본 알림 id
+	@Id
+	@Column(name = "alarm_id")
+	private Long id;
+
+	@Column(name = "receiver_id", nullable = false)
+	private Long receiverId;
+
+	@Column(name = "title", nullable = false)
+	private String title;
+
+	@Column(name = "content", nullable = false)
+	private String content;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "alarm_type", nullable = false)
+	private AlarmType alarmType;
+
+	@Column(name = "rel_id")
+	private Long relId;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	// 알림 생성 월 (예: 202501)
+	@Column(name = "archived_month", nullable = false)
+	private int archivedMonth;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+}
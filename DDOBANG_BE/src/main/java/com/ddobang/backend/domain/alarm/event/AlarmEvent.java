@@ -98,6 +98,24 @@ public class AlarmEvent implements DomainEvent {
                 .build();
     }
 
+    /**
+     * DLQ 재처리용 이벤트 생성 (재시도 횟수 초기화, eventId 는 유지하여 중복 저장 방지)
+     */
+    public AlarmEvent forReplay() {
+        return AlarmEvent.builder()
+                .eventId(this.eventId)
+                .timestamp(LocalDateTime.now())
+                .receiverId(this.receiverId)
+                .title(this.title)
+                .content(this.content)
+                .alarmType(this.alarmType)
+                .relId(this.relId)
+                .relUrl(this.relUrl)
+                .retryCount(0)
+                .priority(this.priority)
+                .build();
+    }
+
     /**
      * 높은 우선순위 이벤트인지 확인
      */
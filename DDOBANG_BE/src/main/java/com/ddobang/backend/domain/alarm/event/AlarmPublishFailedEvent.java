@@ -0,0 +1,23 @@
+package com.ddobang.backend.domain.alarm.event;
+
+import com.ddobang.backend.global.event.DomainEvent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AlarmPublishFailedEvent
+ * 브로커 확인(confirm)을 받지 못해 재발행까지 실패한 알림 이벤트
+ * AlarmEventService 에서 받아 직접 SSE 전송으로 대체
+ */
+@Getter
+@RequiredArgsConstructor
+public class AlarmPublishFailedEvent implements DomainEvent {
+	private final AlarmEvent alarmEvent;
+	private final String reason;
+
+	@Override
+	public String getEventType() {
+		return "ALARM_PUBLISH_FAILED_EVENT";
+	}
+}
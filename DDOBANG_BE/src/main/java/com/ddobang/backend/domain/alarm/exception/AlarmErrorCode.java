@@ -10,7 +10,8 @@ public enum AlarmErrorCode implements ErrorCode {
 	UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN, "NOTI_002", "알림에 접근 권한이 없습니다."),
 	SSE_CONNECTION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "NOTI_003", "SSE 연결 중 오류가 발생했습니다."),
 	SSE_SEND_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "NOTI_004", "알림 전송 중 오류가 발생했습니다."),
-	SSE_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "NOTI_005", "SSE 연결 시간이 초과되었습니다.");
+	SSE_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "NOTI_005", "SSE 연결 시간이 초과되었습니다."),
+	DEAD_LETTER_QUEUE_NOT_FOUND(HttpStatus.NOT_FOUND, "NOTI_006", "알림 DLQ 를 찾을 수 없습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String errorCode;
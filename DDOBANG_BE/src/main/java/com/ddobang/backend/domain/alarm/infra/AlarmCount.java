@@ -0,0 +1,5 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+// 사용자별 전체, 읽지 않은 알림 수
+public record AlarmCount(long totalCount, long unreadCount) {
+}
@@ -0,0 +1,29 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AlarmCountStore
+ * 사용자별 알림 수 캐시 (알림 배지 조회를 DB 집계 없이 키 조회 한 번으로 처리)
+ * 값이 없는 사용자는 DB 에서 집계하여 채우고, 이후 변경은 증감으로 반영
+ * 증감 반영은 값이 있을 때만 적용하므로 캐시가 비어 있어도 다음 조회에서 DB 기준으로 다시 채워짐
+ */
+public interface AlarmCountStore {
+
+	Optional<AlarmCount> get(Long userId);
+
+	// 값이 없을 때만 저장 (DB 집계 결과로 채울 때 사용)
+	void putIfAbsent(Long userId, AlarmCount count);
+
+	// 값이 expected 와 같을 때만 교체 (검증 중 반영된 증감을 덮어쓰지 않도록)
+	boolean replace(Long userId, AlarmCount expected, AlarmCount count);
+
+	// 값이 있을 때만 증감 반영
+	void increment(Long userId, long totalDelta, long unreadDelta);
+
+	void evict(Long userId);
+
+	// 값이 저장된 사용자 목록 (주기적 검증 대상)
+	List<Long> cachedUserIds();
+}
@@ -0,0 +1,24 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+
+/**
+ * AlarmReplayBuffer
+ * SSE 재연결 시 Last-Event-ID 이후 알림을 다시 보내기 위한 사용자별 최근 알림 버퍼
+ * 버퍼 크기를 넘으면 오래된 알림부터 밀려나며, 밀려난 구간이 요청 범위에 걸리면 DB 조회로 대체
+ */
+public interface AlarmReplayBuffer {
+
+	// 전송한 알림 추가 (알림 id 오름차순으로 추가된다고 가정)
+	void append(Long userId, AlarmResponse alarm);
+
+	/**
+	 * lastEventId 이후 알림 조회
+	 *
+	 * @return 버퍼만으로 빠짐없이 응답할 수 있으면 id 오름차순 목록, 버퍼가 밀려났거나 기록이 없으면 empty
+	 */
+	Optional<List<AlarmResponse>> findAfter(Long userId, long lastEventId);
+}
@@ -0,0 +1,159 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DistributedSseClusterRelay
+ * 다중 노드 실행 시 사용 (custom.sse.cluster.enabled=true)
+ * 사용자 연결이 있는 노드를 presence 에 등록하고, 알림은 해당 노드 채널로만 전달
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.sse.cluster.enabled", havingValue = "true")
+public class DistributedSseClusterRelay implements SseClusterRelay {
+	private final SsePresenceRegistry presenceRegistry;
+	private final SseClusterTransport transport;
+	private final EmitterRepository emitterRepository;
+	private final SseEventDispatcher sseEventDispatcher;
+	private final ObjectMapper objectMapper;
+
+	private final Counter forwardedCounter;
+	private final Counter receivedCounter;
+	private final Counter forwardFailedCounter;
+
+	@Getter
+	private final String nodeId;
+
+	public DistributedSseClusterRelay(
+		SsePresenceRegistry presenceRegistry,
+		SseClusterTransport transport,
+		EmitterRepository emitterRepository,
+		SseEventDispatcher sseEventDispatcher,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${custom.sse.cluster.node-id:}") String nodeId
+	) {
+		this.presenceRegistry = presenceRegistry;
+		this.transport = transport;
+		this.emitterRepository = emitterRepository;
+		this.sseEventDispatcher = sseEventDispatcher;
+		this.objectMapper = objectMapper;
+		this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+
+		this.forwardedCounter = Counter.builder("sse.cluster.forwarded")
+			.description("Number of alarms forwarded to other nodes")
+			.register(meterRegistry);
+		this.receivedCounter = Counter.builder("sse.cluster.received")
+			.description("Number of alarms received from other nodes")
+			.register(meterRegistry);
+		this.forwardFailedCounter = Counter.builder("sse.cluster.forward.failed")
+			.description("Number of alarms that could not be forwarded to other nodes")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void init() {
+		heartbeat();
+		transport.subscribe(nodeId, this::receive);
+		log.info("SSE 클러스터 전달 활성화 - 노드 ID: {}", nodeId);
+	}
+
+	@Scheduled(fixedDelayString = "${custom.sse.cluster.heartbeat-interval-ms:10000}")
+	public void heartbeat() {
+		try {
+			presenceRegistry.heartbeat(nodeId);
+		} catch (RuntimeException e) {
+			log.warn("SSE 노드 생존 신호 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void userConnected(Long userId) {
+		try {
+			presenceRegistry.register(nodeId, userId);
+		} catch (RuntimeException e) {
+			log.warn("SSE presence 등록 실패 - 사용자 ID: {}: {}", userId, e.getMessage());
+		}
+	}
+
+	@Override
+	public void userDisconnected(Long userId) {
+		if (!emitterRepository.get(userId).isEmpty()) {
+			return;
+		}
+
+		try {
+			presenceRegistry.unregister(nodeId, userId);
+		} catch (RuntimeException e) {
+			log.warn("SSE presence 해제 실패 - 사용자 ID: {}: {}", userId, e.getMessage());
+		}
+	}
+
+	@Override
+	public int forward(Long userId, AlarmResponse alarm) {
+		int forwardedCount = 0;
+
+		try {
+			Set<String> nodeIds = presenceRegistry.findNodes(userId);
+
+			if (nodeIds.isEmpty() || nodeIds.equals(Set.of(nodeId))) {
+				return 0;
+			}
+
+			String payload = objectMapper.writeValueAsString(new ClusterMessage(userId, alarm));
+
+			for (String targetNodeId : nodeIds) {
+				if (!targetNodeId.equals(nodeId)) {
+					transport.publish(targetNodeId, payload);
+					forwardedCount++;
+				}
+			}
+		} catch (JsonProcessingException | RuntimeException e) {
+			forwardFailedCounter.increment();
+			log.warn("다른 노드로 알림 전달 실패 - 사용자 ID: {}: {}", userId, e.getMessage());
+		}
+
+		forwardedCounter.increment(forwardedCount);
+		return forwardedCount;
+	}
+
+	// 다른 노드에서 전달된 알림을 이 노드의 연결로 전송
+	private void receive(String payload) {
+		try {
+			ClusterMessage message = objectMapper.readValue(payload, ClusterMessage.class);
+			receivedCounter.increment();
+
+			int queuedCount = sseEventDispatcher.dispatch(
+				message.userId(),
+				message.alarm(),
+				"alarm",
+				String.valueOf(message.alarm().getId())
+			);
+
+			if (queuedCount == 0) {
+				emitterRepository.markOffline(message.userId());
+			}
+		} catch (JsonProcessingException e) {
+			log.warn("다른 노드에서 전달된 알림 역직렬화 실패: {}", e.getMessage());
+		}
+	}
+
+	record ClusterMessage(Long userId, AlarmResponse alarm) {
+	}
+}
@@ -1,9 +1,17 @@
 package com.ddobang.backend.domain.alarm.infra;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -15,19 +23,44 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * EmitterRepository
+ * 사용자별 SSE 연결(탭, 기기) 여러 개를 전송 대기 큐와 함께 보관하는 저장소
+ * 사용자 ID 기준으로 shard 를 나눠 연결 수를 shard 별로 집계하고, 등록/해제 시 다른 shard 와 경합하지 않도록 함
+ */
 @Slf4j
 @Component
 public class EmitterRepository {
-	// 사용자 ID를 키로, SseEmitter를 값으로 저장하는 맵
-	private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-	
+	private static final int DEFAULT_SHARD_COUNT = 16;
+	private static final int DEFAULT_MAX_CONNECTIONS_PER_USER = 5;
+
+	private final Shard[] shards;
+	private final int shardMask;
+	private final int maxConnectionsPerUser;
+
 	// Metrics
 	private final Counter connectionCounter;
 	private final Counter connectionFailedCounter;
 	private final Counter notificationSentCounter;
 	private final Counter notificationFailedCounter;
-	
+	private final Counter notificationOfflineCounter;
+
 	public EmitterRepository(MeterRegistry meterRegistry) {
+		this(meterRegistry, DEFAULT_SHARD_COUNT, DEFAULT_MAX_CONNECTIONS_PER_USER);
+	}
+
+	@Autowired
+	public EmitterRepository(
+		MeterRegistry meterRegistry,
+		@Value("${custom.sse.shard-count:16}") int shardCount,
+		@Value("${custom.sse.max-connections-per-user:5}") int maxConnectionsPerUser
+	) {
+		// 비트 연산으로 shard 를 고르기 위해 2의 거듭제곱으로 맞춤
+		int size = shardCount <= 1 ? 1 : Integer.highestOneBit(shardCount - 1) << 1;
+		this.shards = new Shard[size];
+		this.shardMask = size - 1;
+		this.maxConnectionsPerUser = maxConnectionsPerUser;
+
 		this.connectionCounter = Counter.builder("sse.connections.created")
 				.description("Total number of SSE connections created")
 				.register(meterRegistry);
@@ -40,59 +73,190 @@ public class EmitterRepository {
 		this.notificationFailedCounter = Counter.builder("notifications.failed")
 				.description("Total number of failed notification attempts")
 				.register(meterRegistry);
-		
+		this.notificationOfflineCounter = Counter.builder("notifications.offline")
+				.description("Total number of notifications for users without any SSE connection")
+				.register(meterRegistry);
+
+		for (int i = 0; i < size; i++) {
+			Shard shard = new Shard();
+			shards[i] = shard;
+
+			// shard 별 연결 수 (특정 shard 쏠림 확인용)
+			Gauge.builder("sse.connections.shard", shard.connectionCount, AtomicInteger::get)
+				.description("Number of active SSE connections per registry shard")
+				.tag("shard", String.valueOf(i))
+				.register(meterRegistry);
+		}
+
 		// SSE 연결 수를 실시간으로 추적하는 Gauge
 		Gauge.builder("sse.connections.active", this, EmitterRepository::getActiveConnectionCount)
 			.description("Number of active SSE connections")
 			.register(meterRegistry);
+		Gauge.builder("sse.users.connected", this, EmitterRepository::getConnectedUserCount)
+			.description("Number of users with at least one SSE connection")
+			.register(meterRegistry);
 	}
 
-	// 새로운 SseEmitter 등록
+	// 새로운 SseEmitter 등록 (사용자당 최대 연결 수를 넘으면 가장 오래된 연결 종료)
 	public SseEmitter save(Long userId, SseEmitter emitter) {
-		emitters.put(userId, emitter);
+		Shard shard = shardOf(userId);
+		SseConnection connection = new SseConnection(userId, emitter);
+		Queue<SseConnection> userConnections = shard.connections.compute(userId, (id, current) -> {
+			Queue<SseConnection> queue = current != null ? current : new ConcurrentLinkedQueue<>();
+			queue.add(connection);
+			return queue;
+		});
+
+		shard.connectionCount.incrementAndGet();
 		connectionCounter.increment();
-		log.info("SSE 연결 저장 완료 - 사용자 ID: {}", userId);
+
+		while (userConnections.size() > maxConnectionsPerUser) {
+			SseConnection oldest = userConnections.peek();
+
+			if (oldest == null || !remove(userId, oldest.getEmitter())) {
+				break;
+			}
+
+			oldest.getEmitter().complete();
+			log.info("사용자 {}의 최대 SSE 연결 수 초과로 가장 오래된 연결 종료", userId);
+		}
+
+		log.info("SSE 연결 저장 완료 - 사용자 ID: {}, 연결 수: {}", userId, userConnections.size());
 		return emitter;
 	}
 
-	// 특정 사용자의 SseEmitter 조회
-	public SseEmitter get(Long userId) {
-		return emitters.get(userId);
+	// 특정 사용자의 모든 SseEmitter 조회
+	public List<SseEmitter> get(Long userId) {
+		return getConnections(userId).stream()
+			.map(SseConnection::getEmitter)
+			.toList();
+	}
+
+	// 특정 사용자의 모든 연결(전송 대기 큐 포함) 조회
+	public List<SseConnection> getConnections(Long userId) {
+		Queue<SseConnection> userConnections = shardOf(userId).connections.get(userId);
+		return userConnections == null ? Collections.emptyList() : new ArrayList<>(userConnections);
+	}
+
+	// 특정 사용자의 특정 SseEmitter 제거 (완료, 타임아웃, 오류 시 해당 연결만 제거)
+	public boolean remove(Long userId, SseEmitter emitter) {
+		Shard shard = shardOf(userId);
+		SseConnection[] removed = {null};
+
+		// 빈 목록 정리와 동시 등록이 겹치지 않도록 해당 사용자 키 단위로 처리
+		shard.connections.computeIfPresent(userId, (id, userConnections) -> {
+			for (SseConnection connection : userConnections) {
+				if (connection.getEmitter() == emitter && userConnections.remove(connection)) {
+					removed[0] = connection;
+					break;
+				}
+			}
+			return userConnections.isEmpty() ? null : userConnections;
+		});
+
+		if (removed[0] != null) {
+			removed[0].clear();
+			shard.connectionCount.decrementAndGet();
+			log.info("SSE 연결 제거 완료 - 사용자 ID: {}", userId);
+		}
+
+		return removed[0] != null;
 	}
 
-	// 특정 사용자의 SseEmitter 제거
+	// 특정 사용자의 모든 SseEmitter 제거
 	public void remove(Long userId) {
-		SseEmitter removed = emitters.remove(userId);
+		Shard shard = shardOf(userId);
+		Queue<SseConnection> removed = shard.connections.remove(userId);
+
 		if (removed != null) {
+			removed.forEach(SseConnection::clear);
+			shard.connectionCount.addAndGet(-removed.size());
 			log.info("SSE 연결 제거 완료 - 사용자 ID: {}", userId);
 		}
 	}
 
-	// 특정 사용자에게 이벤트 전송
+	// 특정 사용자의 모든 연결에 호출 스레드에서 직접 이벤트 전송 (실패한 연결만 제거하고 나머지 연결에는 계속 전송)
+	// 알림 전송은 호출 스레드가 막히지 않도록 SseEventDispatcher 사용
 	public void sendToUser(Long userId, Object data, String eventName, String id) {
-		SseEmitter emitter = this.get(userId);
-		if (emitter != null) {
+		List<SseEmitter> userEmitters = this.get(userId);
+
+		if (userEmitters.isEmpty()) {
+			markOffline(userId);
+			return;
+		}
+
+		IOException lastError = null;
+		int sentCount = 0;
+
+		for (SseEmitter emitter : userEmitters) {
 			try {
 				emitter.send(SseEmitter.event()
 					.id(id)
 					.name(eventName)
 					.data(data));
-				notificationSentCounter.increment();
-				log.debug("사용자 {}에게 이벤트 전송 성공: {}", userId, eventName);
+				sentCount++;
 			} catch (IOException e) {
-				notificationFailedCounter.increment();
+				lastError = e;
+				connectionFailedCounter.increment();
 				log.error("사용자 {}에게 이벤트 전송 실패: {}", userId, e.getMessage());
-				this.remove(userId);
-				throw new SseException(AlarmErrorCode.SSE_SEND_ERROR, e);
+				this.remove(userId, emitter);
 			}
-		} else {
+		}
+
+		if (sentCount == 0) {
 			notificationFailedCounter.increment();
-			log.warn("사용자 {}의 SSE 연결을 찾을 수 없음", userId);
+			throw new SseException(AlarmErrorCode.SSE_SEND_ERROR, lastError);
 		}
+
+		notificationSentCounter.increment();
+		log.debug("사용자 {}에게 이벤트 전송 성공: {} ({}/{}개 연결)", userId, eventName, sentCount, userEmitters.size());
+	}
+
+	// 연결이 없는 사용자에게 보낸 알림 집계 (전송 실패가 아닌 오프라인으로 분류, 알림은 DB 에 남아 있음)
+	public void markOffline(Long userId) {
+		notificationOfflineCounter.increment();
+		log.debug("사용자 {}의 SSE 연결 없음 - 오프라인", userId);
 	}
 
-	// 연결된 모든 사용자 수 반환
+	// 연결된 모든 SSE 연결 수 반환
 	public int getActiveConnectionCount() {
-		return emitters.size();
+		int count = 0;
+		for (Shard shard : shards) {
+			count += shard.connectionCount.get();
+		}
+		return count;
+	}
+
+	// 연결이 하나 이상 있는 사용자 수 반환
+	public int getConnectedUserCount() {
+		int count = 0;
+		for (Shard shard : shards) {
+			count += shard.connections.size();
+		}
+		return count;
+	}
+
+	// 모든 연결의 전송 대기 이벤트 수 합계 반환
+	public int getPendingEventCount() {
+		int count = 0;
+		for (Shard shard : shards) {
+			for (Queue<SseConnection> userConnections : shard.connections.values()) {
+				for (SseConnection connection : userConnections) {
+					count += connection.getPendingCount();
+				}
+			}
+		}
+		return count;
+	}
+
+	private Shard shardOf(Long userId) {
+		// 연속된 사용자 ID 가 고르게 퍼지도록 상위 비트를 섞어서 shard 선택
+		int hash = Long.hashCode(userId);
+		return shards[(hash ^ (hash >>> 16)) & shardMask];
+	}
+
+	private static class Shard {
+		private final Map<Long, Queue<SseConnection>> connections = new ConcurrentHashMap<>();
+		private final AtomicInteger connectionCount = new AtomicInteger();
 	}
-}
\ No newline at end of file
+}
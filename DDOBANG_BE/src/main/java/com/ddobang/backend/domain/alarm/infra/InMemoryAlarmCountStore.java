@@ -0,0 +1,87 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * InMemoryAlarmCountStore
+ * 단일 노드용 알림 수 캐시 (custom.alarm.count.store=memory)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.alarm.count.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAlarmCountStore implements AlarmCountStore {
+	private final Map<Long, AlarmCount> counts = new ConcurrentHashMap<>();
+	private final Map<Long, Long> lastReadAt = new ConcurrentHashMap<>();
+
+	@Value("${custom.alarm.count.ttl-seconds:86400}")
+	private long ttlSeconds;
+
+	@Override
+	public Optional<AlarmCount> get(Long userId) {
+		AlarmCount count = counts.get(userId);
+		if (count != null) {
+			lastReadAt.put(userId, System.currentTimeMillis());
+		}
+		return Optional.ofNullable(count);
+	}
+
+	@Override
+	public void putIfAbsent(Long userId, AlarmCount count) {
+		counts.putIfAbsent(userId, count);
+		lastReadAt.put(userId, System.currentTimeMillis());
+	}
+
+	@Override
+	public boolean replace(Long userId, AlarmCount expected, AlarmCount count) {
+		return counts.replace(userId, expected, count);
+	}
+
+	@Override
+	public void increment(Long userId, long totalDelta, long unreadDelta) {
+		counts.computeIfPresent(userId, (id, count) -> new AlarmCount(
+			Math.max(0, count.totalCount() + totalDelta),
+			Math.max(0, count.unreadCount() + unreadDelta)
+		));
+	}
+
+	@Override
+	public void evict(Long userId) {
+		counts.remove(userId);
+		lastReadAt.remove(userId);
+	}
+
+	@Override
+	public List<Long> cachedUserIds() {
+		return new ArrayList<>(counts.keySet());
+	}
+
+	// 오래 조회하지 않은 사용자 정리
+	@Scheduled(fixedDelayString = "${custom.alarm.count.cleanup-interval-ms:600000}")
+	public void evictIdleCounts() {
+		long expireBefore = System.currentTimeMillis() - ttlSeconds * 1000;
+		int before = counts.size();
+
+		lastReadAt.entrySet().removeIf(entry -> {
+			if (entry.getValue() < expireBefore) {
+				counts.remove(entry.getKey());
+				return true;
+			}
+			return false;
+		});
+
+		if (before != counts.size()) {
+			log.debug("알림 수 캐시 정리: {} -> {}", before, counts.size());
+		}
+	}
+}
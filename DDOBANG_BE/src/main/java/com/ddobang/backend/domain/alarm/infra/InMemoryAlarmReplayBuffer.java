@@ -0,0 +1,99 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * InMemoryAlarmReplayBuffer
+ * 단일 노드용 사용자별 링 버퍼 (custom.sse.replay.store=memory)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.sse.replay.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAlarmReplayBuffer implements AlarmReplayBuffer {
+	private final Map<Long, UserBuffer> buffers = new ConcurrentHashMap<>();
+
+	@Value("${custom.sse.replay.capacity:50}")
+	private int capacity;
+
+	@Value("${custom.sse.replay.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	@Override
+	public void append(Long userId, AlarmResponse alarm) {
+		if (alarm.getId() == null) {
+			return;
+		}
+
+		buffers.computeIfAbsent(userId, id -> new UserBuffer(alarm.getId() - 1))
+			.append(alarm, capacity);
+	}
+
+	@Override
+	public Optional<List<AlarmResponse>> findAfter(Long userId, long lastEventId) {
+		UserBuffer buffer = buffers.get(userId);
+		return buffer == null ? Optional.empty() : buffer.findAfter(lastEventId);
+	}
+
+	// 오래 알림이 없던 사용자 버퍼 정리
+	@Scheduled(fixedDelayString = "${custom.sse.replay.cleanup-interval-ms:600000}")
+	public void evictIdleBuffers() {
+		long expireBefore = System.currentTimeMillis() - ttlSeconds * 1000;
+		int before = buffers.size();
+
+		buffers.values().removeIf(buffer -> buffer.lastAppendedAt < expireBefore);
+
+		if (before != buffers.size()) {
+			log.debug("SSE 재전송 버퍼 정리: {} -> {}", before, buffers.size());
+		}
+	}
+
+	private static class UserBuffer {
+		private final Deque<AlarmResponse> alarms = new ArrayDeque<>();
+
+		// 이 id 이후의 알림은 모두 버퍼에 있음 (밀려난 알림 중 가장 큰 id)
+		private long coveredFrom;
+		private volatile long lastAppendedAt = System.currentTimeMillis();
+
+		private UserBuffer(long coveredFrom) {
+			this.coveredFrom = coveredFrom;
+		}
+
+		private synchronized void append(AlarmResponse alarm, int capacity) {
+			alarms.addLast(alarm);
+			lastAppendedAt = System.currentTimeMillis();
+
+			while (alarms.size() > capacity) {
+				coveredFrom = Math.max(coveredFrom, alarms.pollFirst().getId());
+			}
+		}
+
+		private synchronized Optional<List<AlarmResponse>> findAfter(long lastEventId) {
+			if (lastEventId < coveredFrom) {
+				return Optional.empty();
+			}
+
+			List<AlarmResponse> result = new ArrayList<>();
+			for (AlarmResponse alarm : alarms) {
+				if (alarm.getId() > lastEventId) {
+					result.add(alarm);
+				}
+			}
+			return Optional.of(result);
+		}
+	}
+}
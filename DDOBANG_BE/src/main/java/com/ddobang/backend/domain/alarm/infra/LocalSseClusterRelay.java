@@ -0,0 +1,28 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+
+/**
+ * LocalSseClusterRelay
+ * 단일 노드 실행 시 사용 (custom.sse.cluster.enabled=false), 다른 노드로 전달하지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "custom.sse.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalSseClusterRelay implements SseClusterRelay {
+
+	@Override
+	public void userConnected(Long userId) {
+	}
+
+	@Override
+	public void userDisconnected(Long userId) {
+	}
+
+	@Override
+	public int forward(Long userId, AlarmResponse alarm) {
+		return 0;
+	}
+}
@@ -0,0 +1,150 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RedisAlarmCountStore
+ * 다중 노드용 알림 수 캐시 (custom.alarm.count.store=redis)
+ * 사용자별 hash(total, unread) 에 보관하고 증감은 스크립트로 원자적으로 반영
+ * Redis 오류 시 조회는 비어 있는 것으로 처리하여 DB 집계로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.alarm.count.store", havingValue = "redis")
+public class RedisAlarmCountStore implements AlarmCountStore {
+	private static final String KEY_PREFIX = "alarm:count:";
+
+	private static final RedisScript<Long> PUT_IF_ABSENT_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 1 then
+			return 0
+		end
+		redis.call('HSET', KEYS[1], 'total', ARGV[1], 'unread', ARGV[2])
+		redis.call('EXPIRE', KEYS[1], ARGV[3])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+		local current = redis.call('HMGET', KEYS[1], 'total', 'unread')
+		if current[1] ~= ARGV[1] or current[2] ~= ARGV[2] then
+			return 0
+		end
+		redis.call('HSET', KEYS[1], 'total', ARGV[3], 'unread', ARGV[4])
+		redis.call('EXPIRE', KEYS[1], ARGV[5])
+		return 1
+		""", Long.class);
+
+	// 음수가 되지 않도록 보정
+	private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		if redis.call('HINCRBY', KEYS[1], 'total', ARGV[1]) < 0 then
+			redis.call('HSET', KEYS[1], 'total', 0)
+		end
+		if redis.call('HINCRBY', KEYS[1], 'unread', ARGV[2]) < 0 then
+			redis.call('HSET', KEYS[1], 'unread', 0)
+		end
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${custom.alarm.count.ttl-seconds:86400}")
+	private long ttlSeconds;
+
+	@Override
+	public Optional<AlarmCount> get(Long userId) {
+		try {
+			List<Object> values = stringRedisTemplate.opsForHash().multiGet(key(userId), List.of("total", "unread"));
+
+			if (values == null || values.get(0) == null || values.get(1) == null) {
+				return Optional.empty();
+			}
+
+			return Optional.of(new AlarmCount(
+				Long.parseLong(values.get(0).toString()),
+				Long.parseLong(values.get(1).toString())
+			));
+		} catch (DataAccessException e) {
+			log.warn("알림 수 캐시 조회 실패, DB 집계로 대체 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public void putIfAbsent(Long userId, AlarmCount count) {
+		try {
+			stringRedisTemplate.execute(PUT_IF_ABSENT_SCRIPT, List.of(key(userId)),
+				String.valueOf(count.totalCount()), String.valueOf(count.unreadCount()), String.valueOf(ttlSeconds));
+		} catch (DataAccessException e) {
+			log.warn("알림 수 캐시 저장 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+		}
+	}
+
+	@Override
+	public boolean replace(Long userId, AlarmCount expected, AlarmCount count) {
+		try {
+			Long replaced = stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(key(userId)),
+				String.valueOf(expected.totalCount()), String.valueOf(expected.unreadCount()),
+				String.valueOf(count.totalCount()), String.valueOf(count.unreadCount()), String.valueOf(ttlSeconds));
+			return replaced != null && replaced == 1L;
+		} catch (DataAccessException e) {
+			// 교체하지 못한 것으로 처리 (다음 검증 주기에 다시 비교)
+			log.warn("알림 수 캐시 교체 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+			return false;
+		}
+	}
+
+	@Override
+	public void increment(Long userId, long totalDelta, long unreadDelta) {
+		try {
+			stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key(userId)),
+				String.valueOf(totalDelta), String.valueOf(unreadDelta));
+		} catch (DataAccessException e) {
+			// 반영하지 못한 값이 남지 않도록 제거 시도 (다음 조회에서 DB 기준으로 다시 채움)
+			log.warn("알림 수 캐시 반영 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+			evict(userId);
+		}
+	}
+
+	@Override
+	public void evict(Long userId) {
+		try {
+			stringRedisTemplate.delete(key(userId));
+		} catch (DataAccessException e) {
+			log.warn("알림 수 캐시 제거 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+		}
+	}
+
+	@Override
+	public List<Long> cachedUserIds() {
+		List<Long> userIds = new ArrayList<>();
+		ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+
+		try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+			cursor.forEachRemaining(key -> userIds.add(Long.parseLong(key.substring(KEY_PREFIX.length()))));
+		}
+
+		return userIds;
+	}
+
+	private String key(Long userId) {
+		return KEY_PREFIX + userId;
+	}
+}
@@ -0,0 +1,117 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RedisAlarmReplayBuffer
+ * 다중 노드용 사용자별 재전송 버퍼 (custom.sse.replay.store=redis)
+ * 알림 id 를 score 로 하는 sorted set 에 보관하고, 밀려난 구간은 별도 키에 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.sse.replay.store", havingValue = "redis")
+public class RedisAlarmReplayBuffer implements AlarmReplayBuffer {
+	private static final String KEY_PREFIX = "sse:replay:";
+
+	// 추가, 크기 제한, 밀려난 id 기록, TTL 갱신을 한 번에 처리
+	private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+		redis.call('SETNX', KEYS[2], tonumber(ARGV[1]) - 1)
+		local over = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[3])
+		if over > 0 then
+			local evicted = redis.call('ZRANGE', KEYS[1], over - 1, over - 1, 'WITHSCORES')
+			redis.call('ZREMRANGEBYRANK', KEYS[1], 0, over - 1)
+			if tonumber(evicted[2]) > tonumber(redis.call('GET', KEYS[2])) then
+				redis.call('SET', KEYS[2], evicted[2])
+			end
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[4])
+		redis.call('EXPIRE', KEYS[2], ARGV[4])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${custom.sse.replay.capacity:50}")
+	private int capacity;
+
+	@Value("${custom.sse.replay.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	@Override
+	public void append(Long userId, AlarmResponse alarm) {
+		if (alarm.getId() == null) {
+			return;
+		}
+
+		try {
+			stringRedisTemplate.execute(
+				APPEND_SCRIPT,
+				List.of(eventsKey(userId), coveredKey(userId)),
+				String.valueOf(alarm.getId()),
+				objectMapper.writeValueAsString(alarm),
+				String.valueOf(capacity),
+				String.valueOf(ttlSeconds)
+			);
+		} catch (JsonProcessingException e) {
+			log.warn("SSE 재전송 버퍼 직렬화 실패 - 사용자 ID: {}, 알림 ID: {}", userId, alarm.getId());
+		}
+	}
+
+	@Override
+	public Optional<List<AlarmResponse>> findAfter(Long userId, long lastEventId) {
+		String coveredFrom = stringRedisTemplate.opsForValue().get(coveredKey(userId));
+
+		if (coveredFrom == null || lastEventId < Double.parseDouble(coveredFrom)) {
+			return Optional.empty();
+		}
+
+		// score 범위 (lastEventId, +inf) 조회
+		Set<String> values = stringRedisTemplate.opsForZSet()
+			.rangeByScore(eventsKey(userId), lastEventId + 1, Double.POSITIVE_INFINITY);
+		List<AlarmResponse> result = new ArrayList<>();
+
+		if (values == null) {
+			return Optional.of(result);
+		}
+
+		try {
+			for (String value : values) {
+				result.add(objectMapper.readValue(value, AlarmResponse.class));
+			}
+		} catch (JsonProcessingException e) {
+			log.warn("SSE 재전송 버퍼 역직렬화 실패 - 사용자 ID: {}", userId);
+			return Optional.empty();
+		}
+
+		return Optional.of(result);
+	}
+
+	// 클러스터에서도 두 키가 같은 슬롯에 위치하도록 hash tag 사용
+	private String eventsKey(Long userId) {
+		return KEY_PREFIX + "{" + userId + "}";
+	}
+
+	private String coveredKey(Long userId) {
+		return KEY_PREFIX + "{" + userId + "}:covered";
+	}
+}
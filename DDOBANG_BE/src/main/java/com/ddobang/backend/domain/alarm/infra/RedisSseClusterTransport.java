@@ -0,0 +1,54 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RedisSseClusterTransport
+ * 노드별 Redis pub/sub 채널 (sse:node:{nodeId}) 로 메시지 전달
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.sse.cluster.enabled", havingValue = "true")
+public class RedisSseClusterTransport implements SseClusterTransport {
+	private static final String CHANNEL_PREFIX = "sse:node:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConnectionFactory redisConnectionFactory;
+
+	private RedisMessageListenerContainer container;
+
+	@Override
+	public void publish(String nodeId, String payload) {
+		stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + nodeId, payload);
+	}
+
+	@Override
+	public synchronized void subscribe(String nodeId, Consumer<String> handler) {
+		container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(
+			(message, pattern) -> handler.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(CHANNEL_PREFIX + nodeId)
+		);
+		container.afterPropertiesSet();
+		container.start();
+	}
+
+	@PreDestroy
+	public synchronized void shutdown() throws Exception {
+		if (container != null) {
+			container.destroy();
+		}
+	}
+}
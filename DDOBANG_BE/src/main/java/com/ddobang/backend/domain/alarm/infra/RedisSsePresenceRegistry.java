@@ -0,0 +1,84 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RedisSsePresenceRegistry
+ * 사용자별 노드 목록은 set, 노드 생존 여부는 TTL 이 있는 키로 관리
+ * 비정상 종료된 노드는 생존 키가 만료되면 조회 시 목록에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.sse.cluster.enabled", havingValue = "true")
+public class RedisSsePresenceRegistry implements SsePresenceRegistry {
+	private static final String PRESENCE_PREFIX = "sse:presence:";
+	private static final String NODE_PREFIX = "sse:node:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${custom.sse.cluster.presence-ttl-seconds:3600}")
+	private long presenceTtlSeconds;
+
+	@Value("${custom.sse.cluster.node-ttl-seconds:30}")
+	private long nodeTtlSeconds;
+
+	@Override
+	public void register(String nodeId, Long userId) {
+		String key = presenceKey(userId);
+		stringRedisTemplate.opsForSet().add(key, nodeId);
+		stringRedisTemplate.expire(key, Duration.ofSeconds(presenceTtlSeconds));
+	}
+
+	@Override
+	public void unregister(String nodeId, Long userId) {
+		stringRedisTemplate.opsForSet().remove(presenceKey(userId), nodeId);
+	}
+
+	@Override
+	public Set<String> findNodes(Long userId) {
+		Set<String> members = stringRedisTemplate.opsForSet().members(presenceKey(userId));
+
+		if (members == null || members.isEmpty()) {
+			return Set.of();
+		}
+
+		List<String> nodeIds = new ArrayList<>(members);
+		List<String> alive = stringRedisTemplate.opsForValue()
+			.multiGet(nodeIds.stream().map(this::aliveKey).toList());
+		Set<String> result = new HashSet<>();
+
+		for (int i = 0; i < nodeIds.size(); i++) {
+			if (alive != null && alive.get(i) != null) {
+				result.add(nodeIds.get(i));
+			} else {
+				stringRedisTemplate.opsForSet().remove(presenceKey(userId), nodeIds.get(i));
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public void heartbeat(String nodeId) {
+		stringRedisTemplate.opsForValue().set(aliveKey(nodeId), "1", Duration.ofSeconds(nodeTtlSeconds));
+	}
+
+	private String presenceKey(Long userId) {
+		return PRESENCE_PREFIX + userId;
+	}
+
+	private String aliveKey(String nodeId) {
+		return NODE_PREFIX + nodeId + ":alive";
+	}
+}
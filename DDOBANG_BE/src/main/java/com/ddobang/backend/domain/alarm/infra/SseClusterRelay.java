@@ -0,0 +1,23 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+
+/**
+ * SseClusterRelay
+ * 다른 노드에 SSE 연결이 있는 사용자에게 알림을 전달하는 중계 계층
+ */
+public interface SseClusterRelay {
+
+	// 이 노드에 사용자의 연결이 생김
+	void userConnected(Long userId);
+
+	// 이 노드에서 사용자의 연결이 끊김 (남은 로컬 연결이 없을 때만 presence 해제)
+	void userDisconnected(Long userId);
+
+	/**
+	 * 사용자의 연결을 가진 다른 노드로 알림 전달
+	 *
+	 * @return 알림을 전달한 노드 수
+	 */
+	int forward(Long userId, AlarmResponse alarm);
+}
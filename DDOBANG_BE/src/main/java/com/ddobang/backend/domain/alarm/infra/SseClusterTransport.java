@@ -0,0 +1,15 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.function.Consumer;
+
+/**
+ * SseClusterTransport
+ * 노드별 채널로 알림 메시지를 전달하는 전송 계층
+ */
+public interface SseClusterTransport {
+
+	void publish(String nodeId, String payload);
+
+	// 이 노드 앞으로 온 메시지 수신 시작
+	void subscribe(String nodeId, Consumer<String> handler);
+}
@@ -0,0 +1,96 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+/**
+ * SseConnection
+ * SSE 연결 하나와 해당 연결의 전송 대기 큐
+ * 큐는 SseEventDispatcher 의 writer 스레드 하나만 비우도록 draining 플래그로 보장
+ */
+public class SseConnection {
+	@Getter
+	private final Long userId;
+	@Getter
+	private final SseEmitter emitter;
+
+	private final Deque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+
+	// COALESCE 정책으로 대체된 이벤트 수 (0 보다 크면 다음 전송 시 알림 개수 이벤트를 먼저 전송)
+	private int coalescedCount;
+
+	public SseConnection(Long userId, SseEmitter emitter) {
+		this.userId = userId;
+		this.emitter = emitter;
+	}
+
+	// 대기 큐에 추가, 가득 찬 경우 정책에 따라 처리
+	synchronized OfferResult offer(SseEmitter.SseEventBuilder event, int capacity, SseOverflowPolicy policy) {
+		if (pending.size() < capacity) {
+			pending.addLast(event);
+			return OfferResult.QUEUED;
+		}
+
+		switch (policy) {
+			case DROP_OLDEST -> {
+				pending.pollFirst();
+				pending.addLast(event);
+				return OfferResult.DROPPED_OLDEST;
+			}
+			case COALESCE -> {
+				coalescedCount += pending.size() + 1;
+				pending.clear();
+				return OfferResult.COALESCED;
+			}
+			default -> {
+				return OfferResult.REJECTED;
+			}
+		}
+	}
+
+	synchronized SseEmitter.SseEventBuilder poll() {
+		return pending.pollFirst();
+	}
+
+	// 대체된 이벤트 수를 꺼내고 초기화
+	synchronized int takeCoalescedCount() {
+		int count = coalescedCount;
+		coalescedCount = 0;
+		return count;
+	}
+
+	// 전송 대기 중인 이벤트가 있는지 여부 (대체된 이벤트 포함)
+	synchronized boolean hasPending() {
+		return !pending.isEmpty() || coalescedCount > 0;
+	}
+
+	synchronized void clear() {
+		pending.clear();
+		coalescedCount = 0;
+	}
+
+	public synchronized int getPendingCount() {
+		return pending.size();
+	}
+
+	boolean tryStartDrain() {
+		return draining.compareAndSet(false, true);
+	}
+
+	void finishDrain() {
+		draining.set(false);
+	}
+
+	enum OfferResult {
+		QUEUED,
+		DROPPED_OLDEST,
+		COALESCED,
+		REJECTED
+	}
+}
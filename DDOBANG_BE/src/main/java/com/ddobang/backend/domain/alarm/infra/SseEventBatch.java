@@ -0,0 +1,65 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SseEventBatch
+ * 여러 SSE 이벤트를 한 번의 쓰기(flush)로 전송하기 위한 묶음
+ * 클라이언트에는 기존과 같이 이벤트가 하나씩 전달되며, 대기 큐에서는 한 건으로 취급
+ */
+final class SseEventBatch implements SseEmitter.SseEventBuilder {
+	private final List<SseEmitter.SseEventBuilder> events;
+
+	SseEventBatch(List<SseEmitter.SseEventBuilder> events) {
+		this.events = events;
+	}
+
+	int size() {
+		return events.size();
+	}
+
+	@Override
+	public Set<ResponseBodyEmitter.DataWithMediaType> build() {
+		Set<ResponseBodyEmitter.DataWithMediaType> data = new LinkedHashSet<>();
+		for (SseEmitter.SseEventBuilder event : events) {
+			data.addAll(event.build());
+		}
+		return data;
+	}
+
+	@Override
+	public SseEmitter.SseEventBuilder id(String id) {
+		throw new UnsupportedOperationException("묶음 이벤트는 수정할 수 없습니다.");
+	}
+
+	@Override
+	public SseEmitter.SseEventBuilder name(String eventName) {
+		throw new UnsupportedOperationException("묶음 이벤트는 수정할 수 없습니다.");
+	}
+
+	@Override
+	public SseEmitter.SseEventBuilder reconnectTime(long reconnectTimeMillis) {
+		throw new UnsupportedOperationException("묶음 이벤트는 수정할 수 없습니다.");
+	}
+
+	@Override
+	public SseEmitter.SseEventBuilder comment(String comment) {
+		throw new UnsupportedOperationException("묶음 이벤트는 수정할 수 없습니다.");
+	}
+
+	@Override
+	public SseEmitter.SseEventBuilder data(Object object) {
+		throw new UnsupportedOperationException("묶음 이벤트는 수정할 수 없습니다.");
+	}
+
+	@Override
+	public SseEmitter.SseEventBuilder data(Object object, MediaType mediaType) {
+		throw new UnsupportedOperationException("묶음 이벤트는 수정할 수 없습니다.");
+	}
+}
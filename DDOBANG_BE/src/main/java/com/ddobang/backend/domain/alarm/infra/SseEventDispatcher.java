@@ -0,0 +1,279 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ddobang.backend.domain.alarm.repository.AlarmRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SseEventDispatcher
+ * SSE 이벤트를 연결별 전송 대기 큐에 넣고 별도 writer 스레드에서 전송
+ * 느린 클라이언트가 RabbitMQ 리스너, 요청 스레드를 막지 않도록 호출 스레드에서는 큐 적재만 수행
+ */
+@Slf4j
+@Component
+public class SseEventDispatcher {
+	static final String UNREAD_COUNT_EVENT = "unread-count";
+
+	// writer 스레드 한 번 실행에서 전송할 최대 이벤트 수 (다른 연결이 오래 기다리지 않도록 제한)
+	private static final int MAX_EVENTS_PER_DRAIN = 16;
+
+	private final EmitterRepository emitterRepository;
+	private final AlarmRepository alarmRepository;
+
+	private final Counter droppedCounter;
+	private final Counter coalescedCounter;
+	private final Counter evictedCounter;
+	private final Counter sentCounter;
+	private final Counter failedCounter;
+
+	@Value("${custom.sse.dispatch.queue-capacity:32}")
+	private int queueCapacity;
+
+	@Value("${custom.sse.dispatch.overflow-policy:COALESCE}")
+	private SseOverflowPolicy overflowPolicy;
+
+	@Value("${custom.sse.dispatch.writer-threads:4}")
+	private int writerThreads;
+
+	@Value("${custom.sse.dispatch.virtual-threads:false}")
+	private boolean virtualThreads;
+
+	private Executor writer;
+	private ThreadPoolTaskExecutor writerPool;
+
+	public SseEventDispatcher(
+		EmitterRepository emitterRepository,
+		AlarmRepository alarmRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.emitterRepository = emitterRepository;
+		this.alarmRepository = alarmRepository;
+
+		this.droppedCounter = Counter.builder("sse.dispatch.overflow")
+			.description("Number of queued SSE events dropped by the overflow policy")
+			.tag("policy", SseOverflowPolicy.DROP_OLDEST.name())
+			.register(meterRegistry);
+		this.coalescedCounter = Counter.builder("sse.dispatch.overflow")
+			.description("Number of queued SSE events dropped by the overflow policy")
+			.tag("policy", SseOverflowPolicy.COALESCE.name())
+			.register(meterRegistry);
+		this.evictedCounter = Counter.builder("sse.dispatch.slow-consumers.evicted")
+			.description("Number of SSE connections disconnected because their outbound queue was full")
+			.register(meterRegistry);
+		this.sentCounter = Counter.builder("sse.dispatch.events.sent")
+			.description("Number of SSE events written by dispatcher writers")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("sse.dispatch.events.failed")
+			.description("Number of SSE events that failed to be written")
+			.register(meterRegistry);
+
+		Gauge.builder("sse.dispatch.queue.depth", emitterRepository, EmitterRepository::getPendingEventCount)
+			.description("Number of SSE events waiting in outbound queues")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void init() {
+		if (virtualThreads) {
+			// 연결 수만큼 writer 가 필요할 수 있으므로 가상 스레드 사용 시 풀 크기 제한 없음 (Java 21 이상)
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-writer-");
+			executor.setVirtualThreads(true);
+			writer = executor;
+			return;
+		}
+
+		writerPool = new ThreadPoolTaskExecutor();
+		writerPool.setCorePoolSize(writerThreads);
+		writerPool.setMaxPoolSize(writerThreads);
+		writerPool.setThreadNamePrefix("sse-writer-");
+		writerPool.initialize();
+		writer = writerPool;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (writerPool != null) {
+			writerPool.shutdown();
+		}
+	}
+
+	/**
+	 * 사용자의 모든 연결에 이벤트 전송 요청
+	 * 큐에 적재만 하고 바로 반환하며, 실제 전송은 writer 스레드에서 수행
+	 *
+	 * @return 이벤트를 적재한 연결 수
+	 */
+	public int dispatch(Long userId, Object data, String eventName, String id) {
+		List<SseConnection> connections = emitterRepository.getConnections(userId);
+
+		if (connections.isEmpty()) {
+			log.debug("사용자 {}의 SSE 연결이 없어 전송 생략", userId);
+			return 0;
+		}
+
+		int queuedCount = 0;
+
+		for (SseConnection connection : connections) {
+			SseEmitter.SseEventBuilder event = SseEmitter.event()
+				.id(id)
+				.name(eventName)
+				.data(data);
+
+			if (offer(connection, event)) {
+				queuedCount++;
+			}
+		}
+
+		return queuedCount;
+	}
+
+	/**
+	 * 사용자의 모든 연결에 여러 이벤트를 묶어서 전송 요청
+	 * 연결마다 한 번의 쓰기로 전송하며, 대기 큐에서는 한 건으로 취급
+	 *
+	 * @return 이벤트를 적재한 연결 수
+	 */
+	public <T> int dispatchAll(Long userId, List<T> data, String eventName, Function<T, String> idMapper) {
+		if (data.isEmpty()) {
+			return 0;
+		}
+
+		if (data.size() == 1) {
+			T item = data.get(0);
+			return dispatch(userId, item, eventName, idMapper.apply(item));
+		}
+
+		List<SseConnection> connections = emitterRepository.getConnections(userId);
+
+		if (connections.isEmpty()) {
+			log.debug("사용자 {}의 SSE 연결이 없어 전송 생략", userId);
+			return 0;
+		}
+
+		int queuedCount = 0;
+
+		for (SseConnection connection : connections) {
+			// 이벤트 빌더는 한 번만 build 할 수 있으므로 연결마다 새로 생성
+			List<SseEmitter.SseEventBuilder> events = data.stream()
+				.map(item -> SseEmitter.event()
+					.id(idMapper.apply(item))
+					.name(eventName)
+					.data(item))
+				.toList();
+
+			if (offer(connection, new SseEventBatch(events))) {
+				queuedCount++;
+			}
+		}
+
+		return queuedCount;
+	}
+
+	// 연결 대기 큐에 적재 후 전송 예약, 적재 여부 반환
+	private boolean offer(SseConnection connection, SseEmitter.SseEventBuilder event) {
+		switch (connection.offer(event, queueCapacity, overflowPolicy)) {
+			case DROPPED_OLDEST -> droppedCounter.increment();
+			case COALESCED -> coalescedCounter.increment();
+			case REJECTED -> {
+				evict(connection);
+				return false;
+			}
+			default -> {
+			}
+		}
+
+		schedule(connection);
+		return true;
+	}
+
+	private void schedule(SseConnection connection) {
+		if (!connection.tryStartDrain()) {
+			return;
+		}
+
+		try {
+			writer.execute(() -> drain(connection));
+		} catch (TaskRejectedException e) {
+			connection.finishDrain();
+			log.warn("SSE writer 작업 등록 실패 - 사용자 ID: {}", connection.getUserId());
+		}
+	}
+
+	private void drain(SseConnection connection) {
+		try {
+			int coalescedCount = connection.takeCoalescedCount();
+
+			if (coalescedCount > 0 && !send(connection, unreadCountEvent(connection.getUserId(), coalescedCount))) {
+				return;
+			}
+
+			for (int i = 0; i < MAX_EVENTS_PER_DRAIN; i++) {
+				SseEmitter.SseEventBuilder event = connection.poll();
+
+				if (event == null || !send(connection, event)) {
+					return;
+				}
+			}
+		} finally {
+			connection.finishDrain();
+
+			// 종료 직전에 적재된 이벤트가 있으면 다시 예약
+			if (connection.hasPending()) {
+				schedule(connection);
+			}
+		}
+	}
+
+	private boolean send(SseConnection connection, SseEmitter.SseEventBuilder event) {
+		try {
+			connection.getEmitter().send(event);
+			sentCounter.increment(event instanceof SseEventBatch batch ? batch.size() : 1);
+			return true;
+		} catch (IOException | IllegalStateException e) {
+			failedCounter.increment();
+			log.warn("사용자 {}에게 SSE 이벤트 전송 실패: {}", connection.getUserId(), e.getMessage());
+			emitterRepository.remove(connection.getUserId(), connection.getEmitter());
+			return false;
+		}
+	}
+
+	// 대기 큐가 넘친 느린 연결 종료 (클라이언트 재연결 시 알림 목록을 다시 조회)
+	private void evict(SseConnection connection) {
+		if (emitterRepository.remove(connection.getUserId(), connection.getEmitter())) {
+			evictedCounter.increment();
+			connection.getEmitter().complete();
+			log.warn("전송 대기 큐 초과로 사용자 {}의 SSE 연결 종료", connection.getUserId());
+		}
+	}
+
+	// 대체된 알림 대신 읽지 않은 알림 개수 전송 (writer 스레드에서 조회)
+	private SseEmitter.SseEventBuilder unreadCountEvent(Long userId, int coalescedCount) {
+		SseEmitter.SseEventBuilder event = SseEmitter.event().name(UNREAD_COUNT_EVENT);
+
+		try {
+			long unreadCount = alarmRepository.countByReceiverIdAndReadStatus(userId, false);
+			return event.data(Map.of("unreadCount", unreadCount, "missedCount", coalescedCount));
+		} catch (RuntimeException e) {
+			log.warn("사용자 {}의 읽지 않은 알림 개수 조회 실패: {}", userId, e.getMessage());
+			return event.data(Map.of("missedCount", coalescedCount));
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+/**
+ * SseOverflowPolicy
+ * 연결별 전송 대기 큐가 가득 찼을 때의 처리 방식
+ */
+public enum SseOverflowPolicy {
+	DROP_OLDEST,    // 가장 오래된 대기 이벤트를 버리고 새 이벤트 추가
+	COALESCE,       // 대기 이벤트를 모두 버리고 읽지 않은 알림 개수 이벤트 하나로 대체
+	DISCONNECT      // 느린 연결로 보고 연결 종료 (클라이언트 재연결 유도)
+}
@@ -0,0 +1,20 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import java.util.Set;
+
+/**
+ * SsePresenceRegistry
+ * 사용자별로 SSE 연결을 가진 노드 목록을 공유하는 저장소
+ */
+public interface SsePresenceRegistry {
+
+	void register(String nodeId, Long userId);
+
+	void unregister(String nodeId, Long userId);
+
+	// 사용자의 연결을 가진 노드 중 살아 있는 노드 목록
+	Set<String> findNodes(Long userId);
+
+	// 노드 생존 신호 갱신 (갱신이 끊긴 노드는 조회 대상에서 제외)
+	void heartbeat(String nodeId);
+}
@@ -11,6 +11,7 @@ import com.ddobang.backend.domain.alarm.entity.AlarmType;
 import com.ddobang.backend.domain.alarm.service.AlarmEventService;
 import com.ddobang.backend.domain.alarm.service.AlarmService;
 import com.ddobang.backend.domain.message.event.MessageCreatedEvent;
+import com.ddobang.backend.global.outbox.OutboxDelivery;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,13 +31,7 @@ public class MessageAlarmListener {
 			event.getSenderNickname(), event.getReceiverNickname());
 
 		// 알림 생성 요청 객체 구성
-		AlarmCreateRequest alarmRequest = AlarmCreateRequest.builder()
-			.receiverId(event.getReceiverId())
-			.title("새 쪽지가 도착했습니다.")
-			.content(event.getSenderNickname() + "님으로부터 쪽지가 도착했습니다.")
-			.alarmType(AlarmType.MESSAGE)
-			.relId(event.getMessageId())
-			.build();
+		AlarmCreateRequest alarmRequest = alarmRequest(event);
 
 		try {
 			// 알림 생성
@@ -51,4 +46,21 @@ public class MessageAlarmListener {
 			// 알림 실패 시에도 메시지 기능에는 영향을 주지 않도록 예외를 잡음
 		}
 	}
-}
\ No newline at end of file
+
+	// 아웃박스에서 전달된 메시지 생성 이벤트 (실패 시 예외를 던져 다시 전달받고, 아웃박스 키로 저장하여 중복 알림 방지)
+	@EventListener
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void handleMessageCreatedDelivery(OutboxDelivery<MessageCreatedEvent> delivery) {
+		alarmEventService.saveAndSend(alarmRequest(delivery.event()).toAlarmEvent(delivery.eventKey()));
+	}
+
+	private AlarmCreateRequest alarmRequest(MessageCreatedEvent event) {
+		return AlarmCreateRequest.builder()
+			.receiverId(event.getReceiverId())
+			.title("새 쪽지가 도착했습니다.")
+			.content(event.getSenderNickname() + "님으로부터 쪽지가 도착했습니다.")
+			.alarmType(AlarmType.MESSAGE)
+			.relId(event.getMessageId())
+			.build();
+	}
+}
@@ -0,0 +1,27 @@
+package com.ddobang.backend.domain.alarm.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ddobang.backend.domain.alarm.entity.AlarmArchive;
+
+@Repository
+public interface AlarmArchiveRepository extends JpaRepository<AlarmArchive, Long> {
+
+	// 정리 대상 알림 중 읽은 알림을 보관 테이블로 복사 (생성 월 기준으로 구분)
+	@Modifying
+	@Query(value =
+		"INSERT INTO alarm_archive" +
+			" (alarm_id, receiver_id, title, content, alarm_type, rel_id, created_at, archived_month, archived_at)" +
+			" SELECT alarm_id, receiver_id, title, content, alarm_type, rel_id, created_at," +
+			" YEAR(created_at) * 100 + MONTH(created_at), :archivedAt" +
+			" FROM alarm WHERE alarm_id IN (:alarmIds) AND read_status = true",
+		nativeQuery = true)
+	int archiveReadAlarms(@Param("alarmIds") Collection<Long> alarmIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,10 @@
+package com.ddobang.backend.domain.alarm.repository;
+
+// 사용자별 알림 수 집계 결과
+public interface AlarmCountView {
+	Long getReceiverId();
+
+	Long getTotalCount();
+
+	Long getUnreadCount();
+}
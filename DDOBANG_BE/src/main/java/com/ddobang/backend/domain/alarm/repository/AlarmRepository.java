@@ -1,6 +1,8 @@
 package com.ddobang.backend.domain.alarm.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -14,28 +16,65 @@ import org.springframework.stereotype.Repository;
 import com.ddobang.backend.domain.alarm.entity.Alarm;
 
 @Repository
-public interface AlarmRepository extends JpaRepository<Alarm, Long> {
+public interface AlarmRepository extends JpaRepository<Alarm, Long>, AlarmRepositoryCustom {
 
 	//  사용자의 알림 목록 페이징으로 조회
 	Page<Alarm> findByReceiverIdOrderByCreatedAtDesc(Long receiverId, Pageable pageable);
 
+	// 커서 기반 무한 스크롤용 메서드 (생성 시각이 같으면 id 로 순서 고정)
+	@Query("SELECT a FROM Alarm a WHERE a.receiverId = :receiverId"
+		+ " ORDER BY a.createdAt DESC, a.id DESC LIMIT :size")
+	List<Alarm> findFirstAlarms(@Param("receiverId") Long receiverId, @Param("size") int size);
+
+	@Query("SELECT a FROM Alarm a WHERE a.receiverId = :receiverId"
+		+ " AND (a.createdAt < :cursorTime OR (a.createdAt = :cursorTime AND a.id < :cursorId))"
+		+ " ORDER BY a.createdAt DESC, a.id DESC LIMIT :size")
+	List<Alarm> findAlarmsBeforeCursor(
+		@Param("receiverId") Long receiverId,
+		@Param("cursorTime") LocalDateTime cursorTime,
+		@Param("cursorId") Long cursorId,
+		@Param("size") int size);
+
+	// 커서 알림이 삭제된 경우 id 기준으로 이어서 조회 (id 는 생성 순서대로 증가)
+	@Query("SELECT a FROM Alarm a WHERE a.receiverId = :receiverId AND a.id < :cursorId"
+		+ " ORDER BY a.createdAt DESC, a.id DESC LIMIT :size")
+	List<Alarm> findAlarmsBeforeId(
+		@Param("receiverId") Long receiverId,
+		@Param("cursorId") Long cursorId,
+		@Param("size") int size);
+
+	// 특정 알림 id 이후 알림 조회 (SSE 재연결 시 누락 알림 재전송)
+	List<Alarm> findByReceiverIdAndIdGreaterThanOrderByIdAsc(Long receiverId, Long id, Pageable pageable);
+
+	// 이벤트 ID 로 이미 저장된 알림 조회 (RabbitMQ 재전달 시 중복 저장 방지)
+	List<Alarm> findByEventIdIn(Collection<String> eventIds);
+
 	// 특정알림 조회
 	Optional<Alarm> findByIdAndReceiverId(Long id, Long receiverId);
 
 	// 읽지 않은 알림 개수 조회
 	long countByReceiverIdAndReadStatus(Long receiverId, boolean readStatus);
 
+	// 사용자별 전체, 읽지 않은 알림 수 집계 (알림 수 캐시 채우기, 검증용)
+	@Query("SELECT a.receiverId AS receiverId, COUNT(a) AS totalCount,"
+		+ " SUM(CASE WHEN a.readStatus = false THEN 1 ELSE 0 END) AS unreadCount"
+		+ " FROM Alarm a WHERE a.receiverId IN :receiverIds GROUP BY a.receiverId")
+	List<AlarmCountView> countByReceiverIds(@Param("receiverIds") Collection<Long> receiverIds);
+
 	// 전부 읽음 처리
 	@Modifying
 	@Query("UPDATE Alarm a SET a.readStatus = true WHERE a.receiverId = :receiverId AND a.readStatus = false")
 	int markAllAsReadByReceiverId(@Param("receiverId") Long receiverId);
 
-	// TODO?: 오래된 알림 삭제 (예: 90일 이상 지난 알림) - 필요할까?
+	// 보관 기간이 지난 알림 id 를 오래된 순으로 조회 (정리 작업에서 chunk 단위로 삭제)
+	@Query("SELECT a.id FROM Alarm a WHERE a.createdAt < :before ORDER BY a.createdAt ASC, a.id ASC")
+	List<Long> findIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+	@Query("SELECT DISTINCT a.receiverId FROM Alarm a WHERE a.id IN :ids")
+	List<Long> findReceiverIdsByIdIn(@Param("ids") Collection<Long> ids);
+
 	@Modifying
-	@Query(value =
-		"DELETE FROM alarm " +
-			"WHERE created_at < :date",
-		nativeQuery = true)
-	int deleteOldAlarms(@Param("date") LocalDateTime date);
+	@Query("DELETE FROM Alarm a WHERE a.id IN :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
 }
@@ -0,0 +1,11 @@
+package com.ddobang.backend.domain.alarm.repository;
+
+import java.util.List;
+
+import com.ddobang.backend.domain.alarm.entity.Alarm;
+
+public interface AlarmRepositoryCustom {
+
+	// 여러 알림을 JDBC batch 로 한 번에 저장 (IDENTITY 전략이라 JPA saveAll 은 건별 INSERT 가 실행됨)
+	int batchInsert(List<Alarm> alarms);
+}
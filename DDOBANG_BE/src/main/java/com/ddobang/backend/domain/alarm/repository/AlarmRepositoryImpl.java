@@ -0,0 +1,50 @@
+package com.ddobang.backend.domain.alarm.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.ddobang.backend.domain.alarm.entity.Alarm;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AlarmRepositoryImpl
+ * 알림 대량 저장용 JDBC 구현체 클래스
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlarmRepositoryImpl implements AlarmRepositoryCustom {
+
+	private static final String INSERT_SQL = "INSERT INTO alarm"
+		+ " (receiver_id, title, content, read_status, rel_id, alarm_type, event_id, created_at, modified_at)"
+		+ " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public int batchInsert(List<Alarm> alarms) {
+		if (alarms.isEmpty()) {
+			return 0;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, alarms, alarms.size(), (ps, alarm) -> {
+			ps.setLong(1, alarm.getReceiverId());
+			ps.setString(2, alarm.getTitle());
+			ps.setString(3, alarm.getContent());
+			ps.setBoolean(4, alarm.getReadStatus());
+			ps.setObject(5, alarm.getRelId());
+			ps.setString(6, alarm.getAlarmType().name());
+			ps.setString(7, alarm.getEventId());
+			ps.setTimestamp(8, now);
+			ps.setTimestamp(9, now);
+		});
+
+		return results.length == 0 ? 0 : results[0].length;
+	}
+}
@@ -0,0 +1,224 @@
+package com.ddobang.backend.domain.alarm.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.ddobang.backend.domain.alarm.dto.response.DeadLetterMessageResponse;
+import com.ddobang.backend.domain.alarm.dto.response.DeadLetterQueueResponse;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
+import com.ddobang.backend.domain.alarm.exception.AlarmErrorCode;
+import com.ddobang.backend.domain.alarm.exception.AlarmException;
+import com.ddobang.backend.global.config.RabbitMQConfig;
+import com.rabbitmq.client.GetResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 DLQ 조회, 재처리 서비스
+ *
+ * 최대 재시도 후에도 처리하지 못해 DLQ 로 이동한 알림 메시지를 조회하고 다시 발행
+ * - 조회는 basic.get 으로 가져온 뒤 다시 큐에 되돌림 (순서는 유지되지 않을 수 있음)
+ * - 재처리는 재시도 횟수를 초기화하여 알림 Exchange 로 발행한 뒤 DLQ 에서 제거
+ *   eventId 를 유지하므로 이미 저장된 알림이면 중복 저장되지 않음
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "spring.rabbitmq.host") // RabbitMQ 설정이 있을 때만 활성화
+public class AlarmDeadLetterService {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final MessageConverter messageConverter;
+    private final AlarmMessagePublisher alarmMessagePublisher;
+    private final MessagePropertiesConverter messagePropertiesConverter = new DefaultMessagePropertiesConverter();
+
+    private final Counter replayedCounter;
+
+    public AlarmDeadLetterService(
+            RabbitTemplate rabbitTemplate,
+            AmqpAdmin amqpAdmin,
+            MessageConverter messageConverter,
+            AlarmMessagePublisher alarmMessagePublisher,
+            MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpAdmin = amqpAdmin;
+        this.messageConverter = messageConverter;
+        this.alarmMessagePublisher = alarmMessagePublisher;
+
+        this.replayedCounter = Counter.builder("rabbitmq.dlq.replayed")
+                .description("Total number of dead-lettered alarms republished")
+                .register(meterRegistry);
+
+        // DLQ 적재량 (조회 시점에 브로커에서 확인, 조회 실패 시 NaN)
+        for (String queue : RabbitMQConfig.DEAD_LETTER_QUEUES) {
+            Gauge.builder("rabbitmq.dlq.messages", () -> messageCount(queue))
+                    .description("Number of messages waiting in an alarm dead letter queue")
+                    .tag("queue", queue)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * DLQ 별 적재 현황 조회
+     */
+    public List<DeadLetterQueueResponse> getQueueStatuses() {
+        return RabbitMQConfig.DEAD_LETTER_QUEUES.stream()
+                .map(queue -> {
+                    QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                    return info == null
+                            ? new DeadLetterQueueResponse(queue, 0, 0)
+                            : new DeadLetterQueueResponse(queue, info.getMessageCount(), info.getConsumerCount());
+                })
+                .toList();
+    }
+
+    /**
+     * DLQ 메시지 조회 (앞에서부터 최대 limit 건, 조회한 메시지는 다시 큐에 되돌림)
+     */
+    public List<DeadLetterMessageResponse> peekMessages(String queue, int limit) {
+        validateQueue(queue);
+
+        return rabbitTemplate.execute(channel -> {
+            List<DeadLetterMessageResponse> messages = new ArrayList<>();
+            long lastDeliveryTag = -1L;
+
+            try {
+                for (int i = 0; i < limit; i++) {
+                    GetResponse response = channel.basicGet(queue, false);
+                    if (response == null) {
+                        break;
+                    }
+
+                    lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                    messages.add(toResponse(toMessage(response)));
+                }
+            } finally {
+                if (lastDeliveryTag >= 0) {
+                    channel.basicNack(lastDeliveryTag, true, true);
+                }
+            }
+
+            return messages;
+        });
+    }
+
+    /**
+     * DLQ 메시지 재처리 (앞에서부터 최대 limit 건)
+     * 알림 이벤트로 변환할 수 없는 메시지는 DLQ 에 그대로 남김
+     *
+     * @return 재발행한 메시지 수
+     */
+    public int replay(String queue, int limit) {
+        validateQueue(queue);
+
+        Integer replayedCount = rabbitTemplate.execute(channel -> {
+            int replayed = 0;
+            List<Long> skippedTags = new ArrayList<>();
+
+            try {
+                for (int i = 0; i < limit; i++) {
+                    GetResponse response = channel.basicGet(queue, false);
+                    if (response == null) {
+                        break;
+                    }
+
+                    long deliveryTag = response.getEnvelope().getDeliveryTag();
+                    AlarmEvent alarmEvent = convert(toMessage(response));
+
+                    if (alarmEvent == null) {
+                        skippedTags.add(deliveryTag); // 이번 조회가 끝날 때까지 보류 후 되돌림
+                        continue;
+                    }
+
+                    if (!alarmMessagePublisher.publishAlarmEvent(alarmEvent.forReplay())) {
+                        log.warn("DLQ 메시지 재발행 실패, 재처리 중단: queue={}, eventId={}", queue, alarmEvent.getEventId());
+                        channel.basicNack(deliveryTag, false, true);
+                        break;
+                    }
+
+                    channel.basicAck(deliveryTag, false);
+                    replayed++;
+                }
+            } finally {
+                for (Long skippedTag : skippedTags) {
+                    channel.basicNack(skippedTag, false, true);
+                }
+            }
+
+            return replayed;
+        });
+
+        int count = replayedCount == null ? 0 : replayedCount;
+        replayedCounter.increment(count);
+        log.info("DLQ 메시지 재처리 완료: queue={}, 재발행={}", queue, count);
+
+        return count;
+    }
+
+    private void validateQueue(String queue) {
+        if (!RabbitMQConfig.DEAD_LETTER_QUEUES.contains(queue)) {
+            throw new AlarmException(AlarmErrorCode.DEAD_LETTER_QUEUE_NOT_FOUND);
+        }
+    }
+
+    private double messageCount(String queue) {
+        QueueInformation info = amqpAdmin.getQueueInfo(queue);
+        return info == null ? Double.NaN : info.getMessageCount();
+    }
+
+    private Message toMessage(GetResponse response) {
+        MessageProperties properties = messagePropertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), "UTF-8");
+        properties.setMessageCount(response.getMessageCount());
+        return new Message(response.getBody(), properties);
+    }
+
+    private AlarmEvent convert(Message message) {
+        try {
+            return messageConverter.fromMessage(message) instanceof AlarmEvent alarmEvent ? alarmEvent : null;
+        } catch (MessageConversionException e) {
+            log.warn("DLQ 메시지 변환 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private DeadLetterMessageResponse toResponse(Message message) {
+        List<Map<String, ?>> xDeath = message.getMessageProperties().getXDeathHeader();
+        Map<String, ?> lastDeath = xDeath == null || xDeath.isEmpty() ? Map.of() : xDeath.get(0);
+        long deathCount = lastDeath.get("count") instanceof Number count ? count.longValue() : 0L;
+        String deathReason = lastDeath.get("reason") != null ? lastDeath.get("reason").toString() : null;
+        String originalQueue = lastDeath.get("queue") != null ? lastDeath.get("queue").toString() : null;
+
+        AlarmEvent alarmEvent = convert(message);
+        if (alarmEvent == null) {
+            return new DeadLetterMessageResponse(
+                    null, null, null, null, null, deathReason, originalQueue, deathCount);
+        }
+
+        return new DeadLetterMessageResponse(
+                alarmEvent.getEventId(),
+                alarmEvent.getReceiverId(),
+                alarmEvent.getAlarmType(),
+                alarmEvent.getTitle(),
+                alarmEvent.getRetryCount(),
+                deathReason,
+                originalQueue,
+                deathCount);
+    }
+}
@@ -1,17 +1,25 @@
 package com.ddobang.backend.domain.alarm.service;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
 import com.ddobang.backend.domain.alarm.event.AlarmEvent;
+import com.ddobang.backend.domain.alarm.event.AlarmPublishFailedEvent;
 import com.ddobang.backend.domain.alarm.exception.AlarmErrorCode;
 import com.ddobang.backend.domain.alarm.exception.SseException;
+import com.ddobang.backend.domain.alarm.infra.AlarmReplayBuffer;
 import com.ddobang.backend.domain.alarm.infra.EmitterRepository;
+import com.ddobang.backend.domain.alarm.infra.SseClusterRelay;
+import com.ddobang.backend.domain.alarm.infra.SseEventDispatcher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,77 +29,181 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AlarmEventService {
 	private final EmitterRepository emitterRepository;
+	private final SseEventDispatcher sseEventDispatcher;
+	private final AlarmReplayBuffer alarmReplayBuffer;
+	private final SseClusterRelay sseClusterRelay;
+	private final AlarmService alarmService;
 	private final Optional<AlarmMessagePublisher> alarmMessagePublisher; // RabbitMQ 사용 가능 시에만 주입
 	
 	@Value("${custom.sse.timeout}")
 	private Long sseTimeout;
 
+	@Value("${custom.sse.replay.max-events:100}")
+	private int replayMaxEvents;
+
 	// SSE 연결 수립 (구독)
 	public SseEmitter subscribe(Long userId) {
-		log.info("사용자 {}의 SSE 구독 시작", userId);
+		return subscribe(userId, null);
+	}
 
-		// 기존 연결이 있으면 제거
-		emitterRepository.remove(userId);
+	// SSE 연결 수립 (구독)
+	// 다른 탭, 기기의 기존 연결은 유지하고 새 연결을 추가
+	// 재연결 시 Last-Event-ID 이후 놓친 알림을 재전송
+	public SseEmitter subscribe(Long userId, Long lastEventId) {
+		log.info("사용자 {}의 SSE 구독 시작 (Last-Event-ID: {})", userId, lastEventId);
 
 		// 새 이미터 생성 (1시간 타임아웃)
 		SseEmitter emitter = new SseEmitter(sseTimeout);
 
-		// 완료, 타임아웃, 에러 발생 시 이미터 제거 및 로깅
+		// 완료, 타임아웃, 에러 발생 시 해당 이미터만 제거 및 로깅
 		emitter.onCompletion(() -> {
 			log.info("사용자 {}의 SSE 연결 완료", userId);
-			emitterRepository.remove(userId);
+			removeConnection(userId, emitter);
 		});
 
 		emitter.onTimeout(() -> {
 			log.warn("사용자 {}의 SSE 연결 타임아웃", userId);
-			emitterRepository.remove(userId);
+			removeConnection(userId, emitter);
 			throw new SseException(AlarmErrorCode.SSE_TIMEOUT);
 		});
 
 		emitter.onError((e) -> {
 			log.error("사용자 {}의 SSE 연결 오류: {}", userId, e.getMessage());
-			emitterRepository.remove(userId);
+			removeConnection(userId, emitter);
 			if (e instanceof IOException) {
 				throw new SseException(AlarmErrorCode.SSE_CONNECTION_ERROR, (IOException)e);
 			}
 		});
 
-		// 이미터 저장
+		// 이미터 저장 (다중 노드 실행 시 이 노드에 연결이 있음을 등록)
 		emitterRepository.save(userId, emitter);
+		sseClusterRelay.userConnected(userId);
 
 		// 연결 성공 이벤트 전송
+		// 브라우저가 마지막으로 받은 알림 id 를 Last-Event-ID 로 유지하도록 id 없이 전송
 		try {
 			emitter.send(SseEmitter.event()
-				.id("connect")
 				.name("connect")
 				.data("연결이 성공적으로 수립되었습니다."));
 			log.info("사용자 {}에게 SSE 연결 확인 이벤트 전송", userId);
+
+			if (lastEventId != null) {
+				replayMissedAlarms(userId, lastEventId, emitter);
+			}
 		} catch (IOException e) {
 			log.error("사용자 {}에게 SSE 연결 확인 이벤트 전송 실패: {}", userId, e.getMessage());
-			emitterRepository.remove(userId);
+			removeConnection(userId, emitter);
 			throw new SseException(AlarmErrorCode.SSE_CONNECTION_ERROR, e);
 		}
 
 		return emitter;
 	}
 
+	private void removeConnection(Long userId, SseEmitter emitter) {
+		emitterRepository.remove(userId, emitter);
+		sseClusterRelay.userDisconnected(userId);
+	}
+
+	/**
+	 * 재연결 전 놓친 알림 재전송
+	 * 이미터 등록 이후에 조회하므로 누락은 없고, 등록 직후 도착한 알림은 중복 전송될 수 있음 (클라이언트는 id 로 중복 제거)
+	 * 재전송 버퍼가 밀려났거나 기록이 없으면 DB 에서 조회
+	 */
+	private void replayMissedAlarms(Long userId, Long lastEventId, SseEmitter emitter) throws IOException {
+		List<AlarmResponse> missed = alarmReplayBuffer.findAfter(userId, lastEventId)
+			.orElseGet(() -> {
+				log.debug("사용자 {}의 재전송 버퍼 범위 밖 요청, DB 조회 (Last-Event-ID: {})", userId, lastEventId);
+				return alarmService.getAlarmsAfter(userId, lastEventId, replayMaxEvents);
+			});
+
+		int from = Math.max(0, missed.size() - replayMaxEvents);
+
+		for (AlarmResponse alarm : missed.subList(from, missed.size())) {
+			emitter.send(SseEmitter.event()
+				.id(alarm.getId().toString())
+				.name("alarm")
+				.data(alarm));
+		}
+
+		log.info("사용자 {}에게 놓친 알림 {}건 재전송", userId, missed.size() - from);
+	}
+
 	// 알림 이벤트 전송
+	// 연결별 전송 대기 큐에 적재만 하고 반환 (실제 전송은 writer 스레드에서 수행하여 호출 스레드가 막히지 않음)
 	public void sendNotification(Long userId, AlarmResponse alarm) {
 		log.info("사용자 {}에게 알림 전송 시도: {}", userId, alarm.getTitle());
 		try {
-			emitterRepository.sendToUser(
+			// 재연결 시 재전송할 수 있도록 버퍼에 먼저 기록
+			alarmReplayBuffer.append(userId, alarm);
+
+			int queuedCount = sseEventDispatcher.dispatch(
 				userId,
 				alarm,
 				"alarm",
 				alarm.getId().toString()
 			);
-		} catch (SseException e) {
+
+			// 다른 노드에 있는 연결(다른 탭, 기기)로도 전달
+			int forwardedCount = sseClusterRelay.forward(userId, alarm);
+
+			if (queuedCount == 0 && forwardedCount == 0) {
+				emitterRepository.markOffline(userId);
+			}
+		} catch (RuntimeException e) {
 			log.error("알림 전송 중 오류 발생: {}", e.getMessage());
 			// 여기서는 예외를 전파하지 않고 로깅만 수행
 			// 알림 전송 실패가 비즈니스 로직 전체를 중단시키지 않도록 함
 		}
 	}
 
+	// 한 사용자에게 여러 알림 이벤트 전송 (RabbitMQ batch 소비 시 사용)
+	// 연결마다 한 번의 쓰기로 묶어서 전송
+	public void sendNotifications(Long userId, List<AlarmResponse> alarms) {
+		if (alarms.isEmpty()) {
+			return;
+		}
+
+		log.info("사용자 {}에게 알림 {}건 전송 시도", userId, alarms.size());
+		try {
+			alarms.forEach(alarm -> alarmReplayBuffer.append(userId, alarm));
+
+			int queuedCount = sseEventDispatcher.dispatchAll(
+				userId,
+				alarms,
+				"alarm",
+				alarm -> alarm.getId().toString()
+			);
+
+			int forwardedCount = 0;
+			for (AlarmResponse alarm : alarms) {
+				forwardedCount += sseClusterRelay.forward(userId, alarm);
+			}
+
+			if (queuedCount == 0 && forwardedCount == 0) {
+				emitterRepository.markOffline(userId);
+			}
+		} catch (RuntimeException e) {
+			log.error("알림 전송 중 오류 발생: {}", e.getMessage());
+		}
+	}
+
+	// 여러 사용자에게 알림 이벤트 전송 (알림 대량 생성 후 사용)
+	// 수신자별로 묶어서 사용자당 한 번만 전송
+	public void sendNotifications(List<AlarmResponse> alarms) {
+		alarms.stream()
+			.collect(Collectors.groupingBy(AlarmResponse::getReceiverId, LinkedHashMap::new, Collectors.toList()))
+			.forEach(this::sendNotifications);
+	}
+
+	/**
+	 * 알림 이벤트 저장 후 저장된 알림을 SSE 로 전송
+	 * eventId 기준으로 한 번만 저장하므로 같은 이벤트가 다시 와도 중복 저장되지 않음, 저장 실패 시 예외를 그대로 던짐
+	 */
+	public void saveAndSend(AlarmEvent alarmEvent) {
+		alarmService.saveAlarmEvents(List.of(alarmEvent))
+			.forEach(alarm -> sendNotification(alarmEvent.getReceiverId(), alarm));
+	}
+
 	/**
 	 * RabbitMQ를 통한 비동기 알림 전송
 	 * 
@@ -122,19 +234,11 @@ public class AlarmEventService {
 
 	/**
 	 * RabbitMQ 실패 시 직접 SSE 전송으로 fallback
+	 * 저장된 알림 id 를 SSE 이벤트 id (Last-Event-ID) 로 사용하므로 먼저 저장 후 전송
 	 */
 	private boolean fallbackToDirectSse(AlarmEvent alarmEvent) {
 		try {
-			AlarmResponse alarmResponse = AlarmResponse.builder()
-				.id(alarmEvent.getRelId())
-				.title(alarmEvent.getTitle())
-				.content(alarmEvent.getContent())
-				.alarmType(alarmEvent.getAlarmType())
-				.readStatus(false)
-				.createdAt(alarmEvent.getTimestamp())
-				.build();
-
-			sendNotification(alarmEvent.getReceiverId(), alarmResponse);
+			saveAndSend(alarmEvent);
 			log.info("직접 SSE 전송 성공: receiverId={}", alarmEvent.getReceiverId());
 			return true;
 			
@@ -145,6 +249,22 @@ public class AlarmEventService {
 		}
 	}
 
+	/**
+	 * 브로커 확인을 받지 못한 알림 이벤트를 직접 SSE 로 전송
+	 * eventId 기준으로 저장하므로 메시지가 뒤늦게 소비되어도 알림이 중복 저장되지 않음
+	 */
+	@EventListener
+	public void handlePublishFailed(AlarmPublishFailedEvent event) {
+		AlarmEvent alarmEvent = event.getAlarmEvent();
+		log.warn("RabbitMQ 발행 실패 알림 직접 전송: eventId={}, 사유={}", alarmEvent.getEventId(), event.getReason());
+
+		try {
+			saveAndSend(alarmEvent);
+		} catch (RuntimeException e) {
+			log.error("발행 실패 알림 직접 전송 실패: eventId={}, 오류={}", alarmEvent.getEventId(), e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * 알림 전송 방식 자동 선택
 	 * - RabbitMQ 활성화: 비동기 처리
@@ -159,6 +279,11 @@ public class AlarmEventService {
 		return emitterRepository.getActiveConnectionCount();
 	}
 
+	// 연결된 사용자 수 조회 (모니터링용)
+	public int getConnectedUserCount() {
+		return emitterRepository.getConnectedUserCount();
+	}
+
 	/**
 	 * RabbitMQ 활성화 상태 확인
 	 */
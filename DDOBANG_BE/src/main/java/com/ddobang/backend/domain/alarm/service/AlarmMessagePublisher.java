@@ -1,19 +1,35 @@
 package com.ddobang.backend.domain.alarm.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import com.ddobang.backend.domain.alarm.event.AlarmEvent;
+import com.ddobang.backend.domain.alarm.event.AlarmPublishFailedEvent;
 import com.ddobang.backend.global.config.RabbitMQConfig;
+import com.ddobang.backend.global.event.EventPublisher;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -23,104 +39,290 @@ import lombok.extern.slf4j.Slf4j;
  * - 비동기 메시지 발행
  * - 발행 실패 처리 및 모니터링
  * - 메트릭 수집 (발행 성공률, 지연시간)
+ *
+ * 발행 성공 여부는 브로커 확인(publisher confirm)으로 판단
+ * - eventId 를 CorrelationData 로 붙여 발행하고, 확인을 받을 때까지 대기 목록에서 관리
+ * - nack, 반환(returned), 시간 초과 시 별도 스레드에서 재발행, 재발행 한도를 넘으면 직접 SSE 전송으로 대체
+ * - 연결 팩토리에 publisher confirm 이 꺼져 있으면 확인이 오지 않으므로 확인 대기 없이 전송 성공을 발행 성공으로 집계
+ *
+ * 소비 실패로 인한 재시도 이벤트는 재시도 횟수별 지연 큐(1s, 5s, 30s)로 발행
+ * - 지연 큐 TTL 이 지나면 원래 라우팅 키로 알림 Exchange 에 돌아가므로, 일시적인 오류에 즉시 재시도가 몰리지 않음
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "spring.rabbitmq.host") // RabbitMQ 설정이 있을 때만 활성화
 public class AlarmMessagePublisher {
 
+    // 발행 시각 (epoch ms), 소비 측에서 발행부터 SSE 전송까지의 지연 측정에 사용
+    public static final String PUBLISHED_AT_MS_HEADER = "publishedAtMs";
+
     private final RabbitTemplate rabbitTemplate;
-    
+    private final EventPublisher eventPublisher; // 최종 실패 시 직접 SSE 전송 요청
+
+    // 브로커 확인을 기다리는 발행 (eventId -> 발행 정보)
+    private final Map<String, PendingConfirm> outstandingConfirms = new ConcurrentHashMap<>();
+
     // Metrics
-    private final Counter publishedCounter;
-    private final Counter publishFailedCounter; 
-    private final Timer publishTimer;
+    private final Counter publishedCounter; // 브로커가 확인(ack)한 발행 수
+    private final Counter publishFailedCounter; // 재발행까지 실패한 발행 수
+    private final Counter nackCounter;
+    private final Counter returnedCounter;
+    private final Counter timeoutCounter;
+    private final Counter republishedCounter;
+    private final Timer publishTimer; // 발행부터 브로커 확인까지 걸린 시간
+
+    @Value("${custom.rabbitmq.confirm.timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${custom.rabbitmq.confirm.max-republish:2}")
+    private int maxRepublish;
 
-    public AlarmMessagePublisher(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry) {
+    @Value("${custom.rabbitmq.retry.delays-ms:1000,5000,30000}")
+    private long[] retryDelaysMs;
+
+    // 확인 콜백은 연결 I/O 스레드에서 실행되므로 재발행, 대체 전송은 별도 스레드에서 처리
+    private ThreadPoolTaskExecutor recoveryExecutor;
+
+    // 연결 팩토리의 publisher confirm(correlated) 사용 여부
+    private boolean confirmsEnabled;
+
+    public AlarmMessagePublisher(
+            RabbitTemplate rabbitTemplate,
+            EventPublisher eventPublisher,
+            MeterRegistry meterRegistry) {
         this.rabbitTemplate = rabbitTemplate;
+        this.eventPublisher = eventPublisher;
         
         // 메트릭 초기화
         this.publishedCounter = Counter.builder("rabbitmq.messages.published")
-                .description("Total number of published messages")
+                .description("Total number of messages confirmed by the broker")
                 .register(meterRegistry);
         
         this.publishFailedCounter = Counter.builder("rabbitmq.messages.publish.failed")
                 .description("Total number of failed message publications")
                 .register(meterRegistry);
+
+        this.nackCounter = confirmCounter(meterRegistry, "nack");
+        this.returnedCounter = confirmCounter(meterRegistry, "returned");
+        this.timeoutCounter = confirmCounter(meterRegistry, "timeout");
+
+        this.republishedCounter = Counter.builder("rabbitmq.messages.republished")
+                .description("Total number of messages republished after a failed confirm")
+                .register(meterRegistry);
                 
         this.publishTimer = Timer.builder("rabbitmq.publish.duration")
-                .description("Time taken to publish messages")
+                .description("Time from publishing a message to its broker confirm")
+                .register(meterRegistry);
+
+        Gauge.builder("rabbitmq.publish.confirms.outstanding", outstandingConfirms, Map::size)
+                .description("Number of published messages waiting for a broker confirm")
                 .register(meterRegistry);
     }
 
+    private static Counter confirmCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("rabbitmq.publish.confirms.failed")
+                .description("Number of publications not confirmed by the broker")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        ConnectionFactory connectionFactory = rabbitTemplate.getConnectionFactory();
+        confirmsEnabled = connectionFactory != null && connectionFactory.isPublisherConfirms();
+        if (!confirmsEnabled) {
+            log.warn("RabbitMQ publisher confirm 이 비활성화되어 있어 브로커 확인 없이 발행합니다. "
+                + "(spring.rabbitmq.publisher-confirm-type: correlated 설정 필요)");
+        }
+
+        recoveryExecutor = new ThreadPoolTaskExecutor();
+        recoveryExecutor.setCorePoolSize(1);
+        recoveryExecutor.setMaxPoolSize(1);
+        recoveryExecutor.setThreadNamePrefix("alarm-publish-recovery-");
+        recoveryExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (recoveryExecutor != null) {
+            recoveryExecutor.shutdown();
+        }
+    }
+
     /**
      * 알림 이벤트 발행
+     * 브로커 확인을 기다리지 않고 반환하며, 확인 결과는 비동기로 처리
      * 
      * @param alarmEvent 발행할 알림 이벤트
-     * @return 발행 성공 여부
+     * @return 발행 요청 성공 여부 (채널로 전송하지 못한 경우 false)
      */
     public boolean publishAlarmEvent(AlarmEvent alarmEvent) {
+        return send(alarmEvent, 0);
+    }
+
+    private boolean send(AlarmEvent alarmEvent, int republishCount) {
+        log.debug("알림 이벤트 발행 시작: eventId={}, receiverId={}, republish={}", 
+            alarmEvent.getEventId(), alarmEvent.getReceiverId(), republishCount);
+
+        // 라우팅 키 결정 (우선순위에 따라)
+        String routingKey = determineRoutingKey(alarmEvent);
+
+        // 재시도 이벤트는 기본 Exchange 로 지연 큐에 직접 발행 (원래 라우팅 키는 CC 헤더로 전달)
+        boolean delayed = alarmEvent.getRetryCount() > 0;
+        String exchange = delayed ? "" : RabbitMQConfig.NOTIFICATION_EXCHANGE;
+        String destination = delayed ? RabbitMQConfig.retryQueueName(retryDelayMs(alarmEvent)) : routingKey;
+        if (!confirmsEnabled) {
+            return sendWithoutConfirm(alarmEvent, exchange, destination, delayed ? routingKey : null);
+        }
+
+        CorrelationData correlationData = new CorrelationData(alarmEvent.getEventId());
+        PendingConfirm pending = new PendingConfirm(alarmEvent, republishCount, System.nanoTime());
+
+        outstandingConfirms.put(alarmEvent.getEventId(), pending);
+
         try {
-            return publishTimer.recordCallable(() -> {
-                try {
-                log.debug("알림 이벤트 발행 시작: eventId={}, receiverId={}", 
-                    alarmEvent.getEventId(), alarmEvent.getReceiverId());
+            rabbitTemplate.convertAndSend(
+                exchange,
+                destination,
+                alarmEvent,
+                messagePostProcessor(alarmEvent, delayed ? routingKey : null),
+                correlationData
+            );
+        } catch (AmqpException e) {
+            outstandingConfirms.remove(alarmEvent.getEventId(), pending);
+            publishFailedCounter.increment();
+            log.error("알림 이벤트 발행 실패: eventId={}, 오류={}", 
+                alarmEvent.getEventId(), e.getMessage(), e);
+            return false;
+        }
 
-                // 라우팅 키 결정 (우선순위에 따라)
-                String routingKey = determineRoutingKey(alarmEvent);
-                
-                // 메시지 발행
-                rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.NOTIFICATION_EXCHANGE,
-                    routingKey,
-                    alarmEvent,
-                    message -> {
-                        // 메시지 헤더에 메타데이터 추가
-                        message.getMessageProperties().setHeader("eventId", alarmEvent.getEventId());
-                        message.getMessageProperties().setHeader("receiverId", alarmEvent.getReceiverId().toString());
-                        message.getMessageProperties().setHeader("alarmType", alarmEvent.getAlarmType().name());
-                        message.getMessageProperties().setHeader("priority", alarmEvent.getPriority().toString());
-                        message.getMessageProperties().setHeader("publishedAt", LocalDateTime.now().toString());
-                        
-                        // 높은 우선순위 메시지는 expiration 시간 단축
-                        if (alarmEvent.isHighPriority()) {
-                            message.getMessageProperties().setExpiration("60000"); // 1분
-                        } else {
-                            message.getMessageProperties().setExpiration("300000"); // 5분
-                        }
-                        
-                        return message;
-                    }
-                );
+        correlationData.getFuture().whenComplete((confirm, error) -> {
+            // 시간 초과로 이미 처리된 발행은 무시
+            if (!outstandingConfirms.remove(alarmEvent.getEventId(), pending)) {
+                return;
+            }
+
+            publishTimer.record(System.nanoTime() - pending.sentAt(), TimeUnit.NANOSECONDS);
+            ReturnedMessage returned = correlationData.getReturned();
 
+            if (error != null) {
+                nackCounter.increment();
+                recover(pending, "확인 대기 중 오류: " + error.getMessage());
+            } else if (returned != null) {
+                // mandatory 발행이 어떤 큐에도 라우팅되지 않음 (ack 는 함께 전달됨)
+                returnedCounter.increment();
+                recover(pending, "반환됨: " + returned.getReplyText());
+            } else if (confirm.isAck()) {
                 publishedCounter.increment();
-                log.info("알림 이벤트 발행 성공: eventId={}, routingKey={}", 
-                    alarmEvent.getEventId(), routingKey);
-                
-                return true;
+                log.debug("알림 이벤트 발행 확인: eventId={}, routingKey={}", alarmEvent.getEventId(), routingKey);
+            } else {
+                nackCounter.increment();
+                recover(pending, "nack: " + confirm.getReason());
+            }
+        });
 
-            } catch (AmqpException e) {
-                publishFailedCounter.increment();
-                log.error("알림 이벤트 발행 실패: eventId={}, 오류={}", 
-                    alarmEvent.getEventId(), e.getMessage(), e);
-                
-                return false;
+        return true;
+    }
 
-            } catch (Exception e) {
-                publishFailedCounter.increment();
-                log.error("알림 이벤트 발행 중 예기치 못한 오류: eventId={}, 오류={}", 
-                    alarmEvent.getEventId(), e.getMessage(), e);
-                
-                return false;
-                }
-            });
-        } catch (Exception e) {
+    // 확인을 받을 수 없으므로 채널 전송 성공을 발행 성공으로 집계
+    private boolean sendWithoutConfirm(AlarmEvent alarmEvent, String exchange, String destination,
+            String deadLetterRoutingKey) {
+        try {
+            rabbitTemplate.convertAndSend(
+                exchange,
+                destination,
+                alarmEvent,
+                messagePostProcessor(alarmEvent, deadLetterRoutingKey)
+            );
+        } catch (AmqpException e) {
             publishFailedCounter.increment();
-            log.error("알림 이벤트 발행 중 Timer 측정 오류: eventId={}, 오류={}", 
+            log.error("알림 이벤트 발행 실패: eventId={}, 오류={}",
                 alarmEvent.getEventId(), e.getMessage(), e);
             return false;
         }
+
+        publishedCounter.increment();
+        return true;
+    }
+
+    private MessagePostProcessor messagePostProcessor(AlarmEvent alarmEvent, String deadLetterRoutingKey) {
+        return message -> {
+            // 메시지 헤더에 메타데이터 추가
+            message.getMessageProperties().setHeader("eventId", alarmEvent.getEventId());
+            message.getMessageProperties().setHeader("receiverId", alarmEvent.getReceiverId().toString());
+            message.getMessageProperties().setHeader("alarmType", alarmEvent.getAlarmType().name());
+            message.getMessageProperties().setHeader("priority", alarmEvent.getPriority().toString());
+            message.getMessageProperties().setHeader("publishedAt", LocalDateTime.now().toString());
+            message.getMessageProperties().setHeader(PUBLISHED_AT_MS_HEADER, System.currentTimeMillis());
+
+            // 지연 큐에서 dead-letter 될 때 사용할 원래 라우팅 키
+            if (deadLetterRoutingKey != null) {
+                message.getMessageProperties().setHeader("CC", List.of(deadLetterRoutingKey));
+            }
+            
+            // 높은 우선순위 메시지는 expiration 시간 단축
+            if (alarmEvent.isHighPriority()) {
+                message.getMessageProperties().setExpiration("60000"); // 1분
+            } else {
+                message.getMessageProperties().setExpiration("300000"); // 5분
+            }
+            
+            return message;
+        };
+    }
+
+    /**
+     * 확인 시간 초과 발행 처리
+     * 브로커 연결이 끊겨 확인이 오지 않는 발행을 재발행 또는 대체 전송
+     */
+    @Scheduled(fixedDelayString = "${custom.rabbitmq.confirm.sweep-interval-ms:1000}")
+    public void expireOutstandingConfirms() {
+        if (!confirmsEnabled) {
+            return;
+        }
+
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+        long now = System.nanoTime();
+
+        outstandingConfirms.forEach((eventId, pending) -> {
+            if (now - pending.sentAt() > timeoutNanos && outstandingConfirms.remove(eventId, pending)) {
+                timeoutCounter.increment();
+                recover(pending, "확인 시간 초과");
+            }
+        });
+    }
+
+    // 재발행 한도 안이면 재발행, 넘으면 직접 SSE 전송 요청
+    private void recover(PendingConfirm pending, String reason) {
+        try {
+            recoveryExecutor.execute(() -> republishOrFallback(pending, reason));
+        } catch (TaskRejectedException e) {
+            log.warn("발행 실패 처리 작업 등록 실패, 직접 처리: eventId={}", pending.alarmEvent().getEventId());
+            fallback(pending.alarmEvent(), reason);
+        }
+    }
+
+    private void republishOrFallback(PendingConfirm pending, String reason) {
+        AlarmEvent alarmEvent = pending.alarmEvent();
+
+        if (pending.republishCount() < maxRepublish) {
+            republishedCounter.increment();
+            log.warn("알림 이벤트 재발행: eventId={}, 사유={}, 재발행 횟수={}",
+                alarmEvent.getEventId(), reason, pending.republishCount() + 1);
+
+            if (send(alarmEvent, pending.republishCount() + 1)) {
+                return;
+            }
+        } else {
+            publishFailedCounter.increment();
+        }
+
+        fallback(alarmEvent, reason);
+    }
+
+    private void fallback(AlarmEvent alarmEvent, String reason) {
+        log.error("알림 이벤트 발행 최종 실패, 직접 SSE 전송으로 대체: eventId={}, 사유={}", alarmEvent.getEventId(), reason);
+        eventPublisher.publish(new AlarmPublishFailedEvent(alarmEvent, reason));
     }
 
     /**
@@ -143,14 +345,22 @@ public class AlarmMessagePublisher {
         return publishAlarmEvent(retryEvent);
     }
 
+    // 재시도 횟수별 지연 시간 (설정된 단계를 넘으면 마지막 단계 사용)
+    private long retryDelayMs(AlarmEvent alarmEvent) {
+        int index = Math.min(alarmEvent.getRetryCount(), retryDelaysMs.length) - 1;
+        return retryDelaysMs[index];
+    }
+
     /**
      * 라우팅 키 결정 로직
      */
     private String determineRoutingKey(AlarmEvent alarmEvent) {
         String baseKey = getBaseRoutingKey(alarmEvent.getAlarmType().name());
-        String priorityKey = alarmEvent.isHighPriority() ? "high" : "normal";
-        
-        return String.format("%s.%s", baseKey, priorityKey);
+        String prioritySuffix = alarmEvent.isHighPriority()
+            ? RabbitMQConfig.HIGH_PRIORITY_SUFFIX
+            : RabbitMQConfig.NORMAL_PRIORITY_SUFFIX;
+
+        return baseKey + prioritySuffix;
     }
 
     /**
@@ -172,7 +382,8 @@ public class AlarmMessagePublisher {
         return PublishStats.builder()
             .totalPublished((long) publishedCounter.count())
             .totalFailed((long) publishFailedCounter.count())
-            .averagePublishTime(publishTimer.mean(java.util.concurrent.TimeUnit.MILLISECONDS))
+            .averagePublishTime(publishTimer.mean(TimeUnit.MILLISECONDS))
+            .outstandingConfirms(outstandingConfirms.size())
             .build();
     }
 
@@ -185,10 +396,14 @@ public class AlarmMessagePublisher {
         private final Long totalPublished;
         private final Long totalFailed; 
         private final Double averagePublishTime;
+        private final Integer outstandingConfirms;
         
         public Double getSuccessRate() {
             long total = totalPublished + totalFailed;
             return total > 0 ? (double) totalPublished / total * 100 : 0.0;
         }
     }
-}
\ No newline at end of file
+
+    private record PendingConfirm(AlarmEvent alarmEvent, int republishCount, long sentAt) {
+    }
+}
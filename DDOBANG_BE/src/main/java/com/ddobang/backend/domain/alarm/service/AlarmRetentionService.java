@@ -0,0 +1,69 @@
+package com.ddobang.backend.domain.alarm.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ddobang.backend.domain.alarm.infra.AlarmCountStore;
+import com.ddobang.backend.domain.alarm.repository.AlarmArchiveRepository;
+import com.ddobang.backend.domain.alarm.repository.AlarmRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AlarmRetentionService
+ * 보관 기간이 지난 알림을 chunk 단위로 정리 (chunk 마다 별도 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+public class AlarmRetentionService {
+	private final AlarmRepository alarmRepository;
+	private final AlarmArchiveRepository alarmArchiveRepository;
+	private final AlarmCountStore alarmCountStore;
+
+	/**
+	 * 기준 시각 이전에 생성된 알림을 오래된 순으로 최대 chunkSize 개 삭제
+	 * archive 가 true 면 삭제 전에 읽은 알림을 보관 테이블로 복사
+	 *
+	 * @return 삭제, 보관한 알림 수 (삭제 수가 chunkSize 와 같으면 남은 알림이 더 있을 수 있음)
+	 */
+	@Transactional
+	public PurgeResult purgeChunk(LocalDateTime before, int chunkSize, boolean archive) {
+		List<Long> alarmIds = alarmRepository.findIdsCreatedBefore(before, PageRequest.of(0, chunkSize));
+
+		if (alarmIds.isEmpty()) {
+			return new PurgeResult(0, 0);
+		}
+
+		int archivedCount = archive ? alarmArchiveRepository.archiveReadAlarms(alarmIds, LocalDateTime.now()) : 0;
+		List<Long> receiverIds = alarmRepository.findReceiverIdsByIdIn(alarmIds);
+		int purgedCount = alarmRepository.deleteByIdIn(alarmIds);
+
+		// 알림 수 캐시는 다음 조회 시 다시 집계하도록 제거
+		evictCountsAfterCommit(receiverIds);
+
+		return new PurgeResult(purgedCount, archivedCount);
+	}
+
+	private void evictCountsAfterCommit(List<Long> receiverIds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			receiverIds.forEach(alarmCountStore::evict);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				receiverIds.forEach(alarmCountStore::evict);
+			}
+		});
+	}
+
+	public record PurgeResult(int purgedCount, int archivedCount) {
+	}
+}
@@ -1,19 +1,38 @@
 package com.ddobang.backend.domain.alarm.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.ddobang.backend.domain.alarm.dto.request.AlarmCreateRequest;
 import com.ddobang.backend.domain.alarm.dto.response.AlarmCountResponse;
 import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
 import com.ddobang.backend.domain.alarm.entity.Alarm;
 import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
 import com.ddobang.backend.domain.alarm.exception.AlarmErrorCode;
 import com.ddobang.backend.domain.alarm.exception.AlarmException;
+import com.ddobang.backend.domain.alarm.infra.AlarmCount;
+import com.ddobang.backend.domain.alarm.infra.AlarmCountStore;
+import com.ddobang.backend.domain.alarm.repository.AlarmCountView;
 import com.ddobang.backend.domain.alarm.repository.AlarmRepository;
 import com.ddobang.backend.global.response.PageDto;
+import com.ddobang.backend.global.response.SliceDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +42,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AlarmService {
+	// 커서 조회 한 번에 반환할 최대 알림 수
+	private static final int MAX_CURSOR_SIZE = 50;
+
 	private final AlarmRepository alarmRepository;
+	private final AlarmCountStore alarmCountStore;
 
 	// 사용자 알림 목록 조회
 	public PageDto<AlarmResponse> getAlarms(Long userId, Pageable pageable) {
@@ -31,6 +54,26 @@ public class AlarmService {
 		return PageDto.of(alarms.map(AlarmResponse::from));
 	}
 
+	// 커서 기반 무한 스크롤 - 알림 목록 조회 (count 쿼리 없이 size + 1 개 조회로 다음 페이지 여부 판단)
+	// 응답의 createdAt 은 초 단위로 잘리므로 마지막 알림 id 만 받아서 정확한 생성 시각을 다시 조회
+	// 그 사이 마지막 알림이 삭제되었으면 id 기준으로 이어서 조회
+	public SliceDto<AlarmResponse> getAlarmsWithCursor(Long userId, Long lastId, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+		List<Alarm> alarms;
+		if (lastId == null) {
+			// 첫 페이지 요청
+			alarms = alarmRepository.findFirstAlarms(userId, pageSize + 1);
+		} else {
+			// 다음 페이지 요청
+			alarms = alarmRepository.findByIdAndReceiverId(lastId, userId)
+				.map(cursor -> alarmRepository.findAlarmsBeforeCursor(
+					userId, cursor.getCreatedAt(), cursor.getId(), pageSize + 1))
+				.orElseGet(() -> alarmRepository.findAlarmsBeforeId(userId, lastId, pageSize + 1));
+		}
+
+		return SliceDto.of(alarms.stream().map(AlarmResponse::from).toList(), pageSize);
+	}
+
 	// 알림 상세조회
 	public AlarmResponse getAlarm(Long alarmId, Long userId) {
 		Alarm alarm = alarmRepository.findByIdAndReceiverId(alarmId, userId)
@@ -38,13 +81,33 @@ public class AlarmService {
 		return AlarmResponse.from(alarm);
 	}
 
+	// 특정 알림 이후 알림 조회 (SSE 재전송 버퍼로 처리할 수 없을 때 사용)
+	public List<AlarmResponse> getAlarmsAfter(Long userId, Long lastAlarmId, int limit) {
+		return alarmRepository.findByReceiverIdAndIdGreaterThanOrderByIdAsc(userId, lastAlarmId, PageRequest.of(0, limit))
+			.stream()
+			.map(AlarmResponse::from)
+			.toList();
+	}
+
 	// 알림 개수 조회
+	// 알림 수 캐시를 먼저 조회하고, 없으면 DB 에서 집계하여 채움
 	public AlarmCountResponse getAlarmCounts(Long userId) {
-		long unreadCount = alarmRepository.countByReceiverIdAndReadStatus(userId, false);
-		long totalCount = alarmRepository.findByReceiverIdOrderByCreatedAtDesc(userId, Pageable.unpaged())
-			.getTotalElements();
+		AlarmCount count = alarmCountStore.get(userId).orElseGet(() -> {
+			AlarmCount counted = countAlarms(List.of(userId)).getOrDefault(userId, new AlarmCount(0, 0));
+			alarmCountStore.putIfAbsent(userId, counted);
+			return counted;
+		});
 
-		return AlarmCountResponse.of(totalCount, unreadCount);
+		return AlarmCountResponse.of(count.totalCount(), count.unreadCount());
+	}
+
+	// 사용자별 알림 수 DB 집계 (알림이 없는 사용자는 결과에 포함되지 않음)
+	public Map<Long, AlarmCount> countAlarms(List<Long> userIds) {
+		return alarmRepository.countByReceiverIds(userIds).stream()
+			.collect(Collectors.toMap(
+				AlarmCountView::getReceiverId,
+				view -> new AlarmCount(view.getTotalCount(), view.getUnreadCount())
+			));
 	}
 
 	// 알림 생성
@@ -52,9 +115,87 @@ public class AlarmService {
 	public AlarmResponse createAlarm(AlarmCreateRequest request) {
 		Alarm alarm = request.toEntity();
 		Alarm savedAlarm = alarmRepository.save(alarm);
+		incrementCountsAfterCommit(savedAlarm.getReceiverId(), 1, 1);
 		return AlarmResponse.from(savedAlarm);
 	}
 
+	// 알림 대량 생성 (파티 전체 공지 등 여러 수신자에게 같은 시점에 알림을 보낼 때 사용)
+	// 건별 save 대신 JDBC batch 로 한 번에 저장하고, 요청 순서대로 저장된 알림 반환
+	@Transactional
+	public List<AlarmResponse> createAlarms(List<AlarmCreateRequest> requests) {
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+
+		// IDENTITY 전략이라 batch 저장 후 생성된 id 를 알 수 없으므로 이벤트 ID 를 부여하여 다시 조회
+		List<Alarm> alarms = requests.stream()
+			.map(request -> request.toEntity(UUID.randomUUID().toString()))
+			.toList();
+
+		insertAll(alarms);
+
+		return findAlarmsInOrder(alarms.stream().map(Alarm::getEventId).toList());
+	}
+
+	// RabbitMQ 로 전달된 알림 이벤트 일괄 저장
+	// 아직 저장되지 않은 이벤트만 JDBC batch 로 한 번에 저장하고, 이벤트 순서대로 저장된 알림 반환 (같은 이벤트는 한 번만 반환)
+	@Transactional
+	public List<AlarmResponse> saveAlarmEvents(List<AlarmEvent> events) {
+		if (events.isEmpty()) {
+			return List.of();
+		}
+
+		Set<String> eventIds = events.stream()
+			.map(AlarmEvent::getEventId)
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+
+		Set<String> savedEventIds = alarmRepository.findByEventIdIn(eventIds).stream()
+			.map(Alarm::getEventId)
+			.collect(Collectors.toSet());
+
+		List<Alarm> missingAlarms = new ArrayList<>();
+		for (AlarmEvent event : events) {
+			if (savedEventIds.add(event.getEventId())) {
+				missingAlarms.add(toAlarm(event));
+			}
+		}
+
+		insertAll(missingAlarms);
+
+		return findAlarmsInOrder(eventIds);
+	}
+
+	// JDBC batch 로 저장하고 커밋 이후 수신자별 알림 수 캐시에 반영
+	private void insertAll(List<Alarm> alarms) {
+		alarmRepository.batchInsert(alarms);
+		alarms.stream()
+			.collect(Collectors.groupingBy(Alarm::getReceiverId, Collectors.counting()))
+			.forEach((receiverId, count) -> incrementCountsAfterCommit(receiverId, count, count));
+	}
+
+	// 이벤트 ID 순서대로 저장된 알림 조회
+	private List<AlarmResponse> findAlarmsInOrder(Collection<String> eventIds) {
+		Map<String, Alarm> alarms = alarmRepository.findByEventIdIn(eventIds).stream()
+			.collect(Collectors.toMap(Alarm::getEventId, Function.identity()));
+
+		return eventIds.stream()
+			.map(alarms::get)
+			.filter(Objects::nonNull)
+			.map(AlarmResponse::from)
+			.toList();
+	}
+
+	private Alarm toAlarm(AlarmEvent event) {
+		return Alarm.builder()
+			.receiverId(event.getReceiverId())
+			.title(event.getTitle())
+			.content(event.getContent() != null ? event.getContent() : "")
+			.alarmType(event.getAlarmType())
+			.relId(event.getRelId())
+			.eventId(event.getEventId())
+			.build();
+	}
+
 	//읽음 처리
 	@Transactional
 	public AlarmResponse markAsRead(Long alarmId, Long userId) {
@@ -67,13 +208,16 @@ public class AlarmService {
 		}
 
 		alarm.markAsRead();
+		incrementCountsAfterCommit(userId, 0, -1);
 		return AlarmResponse.from(alarm);
 	}
 
 	// 전부 읽음
 	@Transactional
 	public int markAllAsRead(Long userId) {
-		return alarmRepository.markAllAsReadByReceiverId(userId);
+		int updatedCount = alarmRepository.markAllAsReadByReceiverId(userId);
+		incrementCountsAfterCommit(userId, 0, -updatedCount);
+		return updatedCount;
 	}
 
 	//알림삭제
@@ -83,6 +227,7 @@ public class AlarmService {
 			.orElseThrow(() -> new AlarmException(AlarmErrorCode.ALARM_NOT_FOUND));
 
 		alarmRepository.delete(alarm);
+		incrementCountsAfterCommit(userId, -1, alarm.getReadStatus() ? 0 : -1);
 	}
 
 	// 알림 리다이렉트 URL 생성
@@ -94,12 +239,32 @@ public class AlarmService {
 		// 읽음 처리
 		if (!alarm.getReadStatus()) {
 			alarm.markAsRead();
+			incrementCountsAfterCommit(userId, 0, -1);
 		}
 
 		// 알람 타입과 관련 ID에 따라 리다이렉트 URL 생성
 		return generateRedirectUrl(alarm.getAlarmType(), alarm.getRelId());
 	}
 
+	// 커밋 이후 알림 수 캐시에 증감 반영 (롤백되면 반영하지 않음)
+	private void incrementCountsAfterCommit(Long userId, long totalDelta, long unreadDelta) {
+		if (totalDelta == 0 && unreadDelta == 0) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			alarmCountStore.increment(userId, totalDelta, unreadDelta);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				alarmCountStore.increment(userId, totalDelta, unreadDelta);
+			}
+		});
+	}
+
 	private String generateRedirectUrl(AlarmType alarmType, Long relId) {
 		if (relId == null) {
 			return "/notifications"; // 기본 알림 페이지
@@ -0,0 +1,75 @@
+package com.ddobang.backend.domain.alarm.support;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.alarm.infra.AlarmCount;
+import com.ddobang.backend.domain.alarm.infra.AlarmCountStore;
+import com.ddobang.backend.domain.alarm.service.AlarmService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AlarmCountReconciler
+ * 증감 반영된 알림 수 캐시를 주기적으로 DB 집계 결과와 비교하여 검증, 복구
+ * 검증 중 캐시 값이 바뀐 사용자는 건너뛰고 다음 주기에 다시 검증
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmCountReconciler {
+	private final AlarmCountStore alarmCountStore;
+	private final AlarmService alarmService;
+
+	@Value("${custom.alarm.count.reconcile-chunk-size:500}")
+	private int chunkSize;
+
+	@Scheduled(fixedDelayString = "${custom.alarm.count.reconcile-interval-ms:600000}")
+	public void reconcileAlarmCounts() {
+		List<Long> userIds = alarmCountStore.cachedUserIds();
+		int repairedCount = 0;
+
+		for (int from = 0; from < userIds.size(); from += chunkSize) {
+			List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+
+			try {
+				repairedCount += reconcile(chunk);
+			} catch (Exception e) {
+				log.warn("알림 수 캐시 검증 실패 - 사용자 {}명: {}", chunk.size(), e.getMessage());
+			}
+		}
+
+		if (!userIds.isEmpty()) {
+			log.info("알림 수 캐시 검증 완료. 검사: {}, 복구: {}", userIds.size(), repairedCount);
+		}
+	}
+
+	private int reconcile(List<Long> userIds) {
+		// DB 집계 전에 캐시 값을 먼저 읽어두고, 그 사이 값이 바뀌지 않은 경우에만 교체
+		Map<Long, Optional<AlarmCount>> cached = new HashMap<>();
+		userIds.forEach(userId -> cached.put(userId, alarmCountStore.get(userId)));
+
+		Map<Long, AlarmCount> counted = alarmService.countAlarms(userIds);
+		int repairedCount = 0;
+
+		for (Long userId : userIds) {
+			Optional<AlarmCount> expected = cached.get(userId);
+			AlarmCount actual = counted.getOrDefault(userId, new AlarmCount(0, 0));
+
+			if (expected.isPresent() && !expected.get().equals(actual)
+				&& alarmCountStore.replace(userId, expected.get(), actual)) {
+				log.debug("알림 수 캐시 복구 - 사용자 ID: {}, {} -> {}", userId, expected.get(), actual);
+				repairedCount++;
+			}
+		}
+
+		return repairedCount;
+	}
+}
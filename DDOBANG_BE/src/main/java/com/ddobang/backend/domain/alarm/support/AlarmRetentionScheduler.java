@@ -0,0 +1,102 @@
+package com.ddobang.backend.domain.alarm.support;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.alarm.service.AlarmRetentionService;
+import com.ddobang.backend.domain.alarm.service.AlarmRetentionService.PurgeResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AlarmRetentionScheduler
+ * 보관 기간이 지난 알림을 chunk 단위로 나눠 삭제
+ * 한 번에 지우면 긴 트랜잭션과 잠금으로 알림 저장, 조회가 밀리므로 chunk 사이에 잠시 쉬면서 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.alarm.retention.enabled", havingValue = "true")
+public class AlarmRetentionScheduler {
+	private final AlarmRetentionService alarmRetentionService;
+
+	private final Counter purgedCounter;
+	private final Counter archivedCounter;
+	private final Timer durationTimer;
+
+	@Value("${custom.alarm.retention.days:90}")
+	private int retentionDays;
+
+	@Value("${custom.alarm.retention.chunk-size:1000}")
+	private int chunkSize;
+
+	@Value("${custom.alarm.retention.pause-ms:200}")
+	private long pauseMs;
+
+	@Value("${custom.alarm.retention.max-duration-ms:600000}")
+	private long maxDurationMs;
+
+	@Value("${custom.alarm.retention.archive-enabled:false}")
+	private boolean archiveEnabled;
+
+	public AlarmRetentionScheduler(AlarmRetentionService alarmRetentionService, MeterRegistry meterRegistry) {
+		this.alarmRetentionService = alarmRetentionService;
+
+		this.purgedCounter = Counter.builder("alarm.retention.purged")
+			.description("Number of alarms deleted by the retention job")
+			.register(meterRegistry);
+		this.archivedCounter = Counter.builder("alarm.retention.archived")
+			.description("Number of read alarms copied to the archive table before deletion")
+			.register(meterRegistry);
+		this.durationTimer = Timer.builder("alarm.retention.duration")
+			.description("Time taken by one run of the alarm retention job")
+			.register(meterRegistry);
+	}
+
+	// 매일 3시 30분에 정리 (최대 실행 시간을 넘기면 남은 알림은 다음 실행에서 처리)
+	@Scheduled(cron = "${custom.alarm.retention.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+	public void purgeExpiredAlarms() {
+		durationTimer.record(() -> purge(LocalDateTime.now().minusDays(retentionDays)));
+	}
+
+	void purge(LocalDateTime before) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+		int purgedCount = 0;
+		int archivedCount = 0;
+
+		try {
+			while (true) {
+				PurgeResult result = alarmRetentionService.purgeChunk(before, chunkSize, archiveEnabled);
+
+				purgedCount += result.purgedCount();
+				archivedCount += result.archivedCount();
+				purgedCounter.increment(result.purgedCount());
+				archivedCounter.increment(result.archivedCount());
+
+				if (result.purgedCount() < chunkSize) {
+					break;
+				}
+
+				if (System.nanoTime() > deadline) {
+					log.warn("알림 정리 최대 실행 시간 초과, 남은 알림은 다음 실행에서 정리");
+					break;
+				}
+
+				Thread.sleep(pauseMs);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.error("알림 정리 중 오류: {}", e.getMessage(), e);
+		}
+
+		log.info("{} 이전 알림 정리 완료. 삭제: {}, 보관: {}", before, purgedCount, archivedCount);
+	}
+}
@@ -1,13 +1,15 @@
 package com.ddobang.backend.domain.board.event;
 
-import com.ddobang.backend.global.event.DomainEvent;
+import com.ddobang.backend.global.event.OutboxEvent;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
-public class PostReplyCreatedEvent implements DomainEvent {
+@Jacksonized
+public class PostReplyCreatedEvent implements OutboxEvent {
 	private Long postId;
 	private String postTitle;
 	private Long postOwnerId;  // 문의글 작성자 ID (알림 수신자)
@@ -11,6 +11,7 @@ import com.ddobang.backend.domain.alarm.entity.AlarmType;
 import com.ddobang.backend.domain.alarm.service.AlarmEventService;
 import com.ddobang.backend.domain.alarm.service.AlarmService;
 import com.ddobang.backend.domain.board.event.PostReplyCreatedEvent;
+import com.ddobang.backend.global.outbox.OutboxDelivery;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,17 +30,8 @@ public class BoardAlarmListener {
 		log.info("문의 답변 이벤트 수신: 문의 ID {}, 작성자 ID {}",
 			event.getPostId(), event.getPostOwnerId());
 
-		// 내용이 너무 길면 잘라서 미리보기로 만들기
-		String previewContent = truncateContent(event.getReplyContent(), 50);
-
 		// 알림 생성 요청 객체 구성
-		AlarmCreateRequest alarmRequest = AlarmCreateRequest.builder()
-			.receiverId(event.getPostOwnerId())
-			.title("문의하신 글에 답변이 등록되었습니다")
-			.content("'" + event.getPostTitle() + "' 문의에 답변이 등록되었습니다: " + previewContent)
-			.alarmType(AlarmType.POST_REPLY)  // 문의 답변에 대한 알람 타입
-			.relId(event.getPostId())
-			.build();
+		AlarmCreateRequest alarmRequest = alarmRequest(event);
 
 		try {
 			// 알림 생성
@@ -55,6 +47,26 @@ public class BoardAlarmListener {
 		}
 	}
 
+	// 아웃박스에서 전달된 문의 답변 이벤트 (실패 시 예외를 던져 다시 전달받고, 아웃박스 키로 저장하여 중복 알림 방지)
+	@EventListener
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void handlePostReplyCreatedDelivery(OutboxDelivery<PostReplyCreatedEvent> delivery) {
+		alarmEventService.saveAndSend(alarmRequest(delivery.event()).toAlarmEvent(delivery.eventKey()));
+	}
+
+	private AlarmCreateRequest alarmRequest(PostReplyCreatedEvent event) {
+		// 내용이 너무 길면 잘라서 미리보기로 만들기
+		String previewContent = truncateContent(event.getReplyContent(), 50);
+
+		return AlarmCreateRequest.builder()
+			.receiverId(event.getPostOwnerId())
+			.title("문의하신 글에 답변이 등록되었습니다")
+			.content("'" + event.getPostTitle() + "' 문의에 답변이 등록되었습니다: " + previewContent)
+			.alarmType(AlarmType.POST_REPLY)  // 문의 답변에 대한 알람 타입
+			.relId(event.getPostId())
+			.build();
+	}
+
 	// 긴 내용을 잘라서 미리보기 형태로 만드는 유틸리티 메서드
 	private String truncateContent(String content, int maxLength) {
 		if (content == null) {
@@ -0,0 +1,64 @@
+package com.ddobang.backend.domain.diary.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.ddobang.backend.domain.diary.entity.DiaryStat;
+
+/**
+ * DiaryStatSnapshot
+ * 일지 평가 값의 특정 시점 스냅샷
+ * 일지 작성/수정/삭제 시 통계에 반영할 변경 전/후 값을 전달하는 용도
+ * difficultyLevel, genres 는 사용자 분석에 반영한 구간 (기록 전 데이터는 null)
+ */
+public record DiaryStatSnapshot(
+	Long themeId,
+	Long authorId,
+	int difficulty,
+	int fear,
+	int activity,
+	int satisfaction,
+	int production,
+	int story,
+	int question,
+	int interior,
+	Integer deviceRatio,
+	Integer hintCount,
+	boolean escapeResult,
+	int elapsedTime,
+	LocalDate escapeDate,
+	Integer difficultyLevel,
+	List<String> genres
+) {
+	public static DiaryStatSnapshot of(DiaryStat stat) {
+		return new DiaryStatSnapshot(
+			stat.getTheme() != null ? stat.getTheme().getId() : null,
+			stat.getAuthor() != null ? stat.getAuthor().getId() : null,
+			stat.getDifficulty(),
+			stat.getFear(),
+			stat.getActivity(),
+			stat.getSatisfaction(),
+			stat.getProduction(),
+			stat.getStory(),
+			stat.getQuestion(),
+			stat.getInterior(),
+			stat.getDeviceRatio(),
+			stat.getHintCount(),
+			stat.isEscapeResult(),
+			stat.getElapsedTime(),
+			stat.getEscapeDate(),
+			stat.getStatDifficultyLevel(),
+			stat.getStatGenres()
+		);
+	}
+
+	// 사용자 분석 구간이 기록된 스냅샷인지 여부
+	public boolean hasStatBuckets() {
+		return difficultyLevel != null && genres != null;
+	}
+
+	// 힌트 없이 탈출에 성공한 기록인지 여부
+	public boolean isNoHintEscape() {
+		return escapeResult && hintCount != null && hintCount == 0;
+	}
+}
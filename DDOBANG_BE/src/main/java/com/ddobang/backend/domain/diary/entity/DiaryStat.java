@@ -1,11 +1,14 @@
 package com.ddobang.backend.domain.diary.entity;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import com.ddobang.backend.domain.diary.dto.request.DiaryRequestDto;
 import com.ddobang.backend.domain.member.entity.Member;
 import com.ddobang.backend.domain.theme.entity.Theme;
+import com.ddobang.backend.global.converter.ListStrToJsonConverter;
 
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
@@ -53,6 +56,13 @@ public class DiaryStat {
 	private int elapsedTime;
 	private LocalDate escapeDate;
 
+	// 사용자 분석에 반영한 구간 (작성/수정 시점의 테마 난이도 레벨, 장르)
+	// 테마 평균 난이도, 태그는 이후에 바뀔 수 있으므로 제거할 때도 기록한 구간에서 빼기 위해 저장 (null 이면 기록 전 데이터)
+	private Integer statDifficultyLevel; // 0 이면 난이도 없음
+
+	@Convert(converter = ListStrToJsonConverter.class)
+	private List<String> statGenres;
+
 	@Builder
 	public DiaryStat(
 		Diary diary,
@@ -130,4 +140,10 @@ public class DiaryStat {
 		this.elapsedTime = elapsedTime;
 		this.escapeDate = diaryRequestDto.escapeDate();
 	}
+
+	// 사용자 분석 구간 기록 (작성/수정 시, 전체 재계산 시 현재 테마 기준으로 다시 기록)
+	public void assignStatBuckets(int difficultyLevel, List<String> genres) {
+		this.statDifficultyLevel = difficultyLevel;
+		this.statGenres = List.copyOf(genres);
+	}
 }
@@ -0,0 +1,21 @@
+package com.ddobang.backend.domain.diary.event;
+
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
+import com.ddobang.backend.global.event.DomainEvent;
+
+/**
+ * DiaryStatChangedEvent
+ * 일지 작성/수정/삭제로 테마, 사용자 통계에 반영할 변경 전/후 값
+ * 작성 시 before = null, 삭제 시 after = null
+ */
+public record DiaryStatChangedEvent(
+	Long authorId,
+	DiaryStatSnapshot before,
+	DiaryStatSnapshot after
+) implements DomainEvent {
+
+	@Override
+	public String getEventType() {
+		return "Diary_Stat_Changed_Event";
+	}
+}
@@ -0,0 +1,41 @@
+package com.ddobang.backend.domain.diary.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ddobang.backend.domain.diary.support.DiaryStatUpdateProcessor;
+import com.ddobang.backend.domain.diary.support.DiaryStatUpdateQueue;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DiaryStatEventListener
+ * 비동기 모드(기본)에서는 커밋 이후 통계 반영 큐에 등록하고,
+ * 동기 모드에서는 일지와 같은 트랜잭션 안에서 바로 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryStatEventListener {
+	private final DiaryStatUpdateQueue diaryStatUpdateQueue;
+	private final DiaryStatUpdateProcessor diaryStatUpdateProcessor;
+
+	@Value("${custom.stat.async.enabled:true}")
+	private boolean asyncEnabled;
+
+	@EventListener
+	public void onDiaryStatChanged(DiaryStatChangedEvent event) {
+		if (!asyncEnabled) {
+			diaryStatUpdateProcessor.apply(event);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onDiaryStatCommitted(DiaryStatChangedEvent event) {
+		if (asyncEnabled) {
+			diaryStatUpdateQueue.enqueue(event);
+		}
+	}
+}
@@ -1,8 +1,12 @@
 package com.ddobang.backend.domain.diary.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ddobang.backend.domain.diary.entity.DiaryStat;
@@ -12,4 +16,10 @@ public interface DiaryStatRepository extends JpaRepository<DiaryStat, Long>, Dia
 	List<DiaryStat> findByThemeId(Long themeId);
 
 	List<DiaryStat> findByAuthorId(Long memberId);
+
+	List<DiaryStat> findByAuthorIdIn(Collection<Long> memberIds);
+
+	// 첫 탈출일 (탈출일이 입력된 일지가 없으면 null)
+	@Query("SELECT MIN(ds.escapeDate) FROM DiaryStat ds WHERE ds.author.id = :authorId")
+	LocalDate findFirstEscapeDateByAuthorId(@Param("authorId") Long authorId);
 }
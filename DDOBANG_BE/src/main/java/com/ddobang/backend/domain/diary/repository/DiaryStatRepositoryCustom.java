@@ -1,16 +1,25 @@
 package com.ddobang.backend.domain.diary.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
-import com.querydsl.core.Tuple;
+import com.ddobang.backend.domain.diary.entity.DiaryStat;
+import com.ddobang.backend.domain.member.dto.stat.DifficultyLevelStatDto;
+import com.ddobang.backend.domain.theme.dto.ThemeStatAggregateDto;
 
 public interface DiaryStatRepositoryCustom {
-	List<Tuple> top5TagCountSuccessCountByMember(long authorId);
+	Map<Integer, DifficultyLevelStatDto> difficultyStatsByMember(long authorId);
 
-	Long countTotalGenreBaseByMember(long authorId);
+	Map<Long, ThemeStatAggregateDto> aggregateThemeStatsByThemeIds(Collection<Long> themeIds);
 
-	Map<Integer, Tuple> difficultyStatsWithHints(long authorId);
+	Map<Long, List<String>> findTagNamesByThemeIds(Collection<Long> themeIds);
 
-	Map<Integer, Tuple> difficultyStatsWithSatisfaction(long authorId);
+	Map<Long, Integer> findDifficultyLevelsByThemeIds(Collection<Long> themeIds);
+
+	Optional<DiaryStat> findTopSatisfactionDiaryStat(long authorId, LocalDate from, LocalDate to);
+
+	List<DiaryStat> findByAuthorIdsAndEscapeDateBetween(Collection<Long> authorIds, LocalDate from, LocalDate to);
 }
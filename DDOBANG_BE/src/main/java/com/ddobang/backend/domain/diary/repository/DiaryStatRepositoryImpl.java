@@ -6,17 +6,25 @@ import static com.ddobang.backend.domain.theme.entity.QThemeStat.*;
 import static com.ddobang.backend.domain.theme.entity.QThemeTag.*;
 import static com.ddobang.backend.domain.theme.entity.QThemeTagMapping.*;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 
+import com.ddobang.backend.domain.diary.entity.DiaryStat;
+import com.ddobang.backend.domain.member.dto.stat.DifficultyLevelStatDto;
+import com.ddobang.backend.domain.theme.dto.ThemeStatAggregateDto;
+import com.ddobang.backend.domain.theme.entity.ThemeStatAggregate;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -26,142 +34,207 @@ import lombok.RequiredArgsConstructor;
 public class DiaryStatRepositoryImpl implements DiaryStatRepositoryCustom {
 	private final JPAQueryFactory queryFactory;
 
-	@Override
-	public List<Tuple> top5TagCountSuccessCountByMember(long authorId) {
-		NumberExpression<Long> playCount = diaryStat.id.countDistinct();
-		NumberExpression<Integer> successCount = Expressions.numberTemplate(
-			Integer.class,
-			"sum(case when {0} = true then 1 else 0 end)",
-			diaryStat.escapeResult
-		);
+	@Override // 난이도 레벨별 일지 수, 성공 수, 힌트/만족도/탈출 시간 합계와 표본 수 (레벨별로 한 번에 집계)
+	public Map<Integer, DifficultyLevelStatDto> difficultyStatsByMember(long authorId) {
+		Map<Integer, DifficultyLevelStatDto> result = new LinkedHashMap<>();
+		// 일지에 기록된 난이도 레벨 기준, 기록 전 일지는 현재 테마 난이도 레벨 기준
+		NumberExpression<Integer> level = Expressions.numberTemplate(Integer.class,
+			"coalesce({0}, {1})", diaryStat.statDifficultyLevel, difficultyLevel());
 
-		List<Tuple> result = queryFactory
+		List<Tuple> tuples = queryFactory
 			.select(
-				themeTag.name, // 태그 이름
-				playCount, // 해당 태그를 플레이한 횟수
-				successCount // 해당 태그를 성공한 횟수
+				level,
+				diaryStat.count(),
+				Expressions.numberTemplate(Long.class,
+					"coalesce(sum(case when {0} = true then 1 else 0 end), 0)", diaryStat.escapeResult),
+				Expressions.numberTemplate(Long.class,
+					"coalesce(sum(case when {0} is not null then {0} else 0 end), 0)", diaryStat.hintCount),
+				Expressions.numberTemplate(Long.class,
+					"coalesce(sum(case when {0} is not null then 1 else 0 end), 0)", diaryStat.hintCount),
+				sumIfNotZero(diaryStat.satisfaction), countIfNotZero(diaryStat.satisfaction),
+				sumIfNotZero(diaryStat.elapsedTime), countIfNotZero(diaryStat.elapsedTime)
 			)
 			.from(diaryStat)
 			.join(diaryStat.theme, theme)
-			.join(theme.themeTagMappings, themeTagMapping)
-			.join(themeTagMapping.themeTag, themeTag)
-			.where(diaryStat.author.id.eq(authorId))
-			.groupBy(themeTag.name)
-			.orderBy(playCount.desc()) // 내림차순으로
-			.limit(5) // 상위 5개만 선정
+			.leftJoin(themeStat).on(themeStat.theme.eq(theme))
+			.where(
+				diaryStat.author.id.eq(authorId),
+				level.gt(0) // 난이도가 없는 테마 제외
+			)
+			.groupBy(level)
 			.fetch();
 
+		for (Tuple tuple : tuples) {
+			// DB 방언에 따라 sum 결과 타입이 달라질 수 있어 Number 로 변환
+			Object[] row = tuple.toArray();
+			long[] values = new long[row.length];
+			for (int i = 0; i < row.length; i++) {
+				values[i] = row[i] == null ? 0 : ((Number)row[i]).longValue();
+			}
+
+			int difficulty = (int)values[0];
+			result.put(difficulty, new DifficultyLevelStatDto(
+				difficulty,
+				values[1], values[2],
+				values[3], values[4],
+				values[5], values[6],
+				values[7], values[8]
+			));
+		}
+
 		return result;
 	}
 
-	@Override // 장르 기준 전체 테마의 수(한 테마의 장르가 여러개인 경우 중복 포함)
-	public Long countTotalGenreBaseByMember(long authorId) {
-		return countGenreAppearancesByMember(authorId) + countNoGenreDiaryStatsByMember(authorId);
-	}
+	@Override // 테마별 항목 누적 합계, 표본 수 (0은 제외, 장치 비율은 null 제외)
+	public Map<Long, ThemeStatAggregateDto> aggregateThemeStatsByThemeIds(Collection<Long> themeIds) {
+		Map<Long, ThemeStatAggregateDto> result = new LinkedHashMap<>();
 
-	@Override // 난이도 레벨 기준 총 테마수, 힌트 갯수
-	public Map<Integer, Tuple> difficultyStatsWithHints(long authorId) {
-		Map<Integer, Tuple> result = new LinkedHashMap<>();
+		if (themeIds.isEmpty()) {
+			return result;
+		}
 
-		for (int level = 1; level <= 5; level++) {
-			NumberExpression<Long> themeCount = diaryStat.id.countDistinct(); // 해당 되는 일지 수
-			// 해당 되는 총 힌트 갯수(null은 제외, 0은 포함)
-			NumberExpression<Integer> totalHints = Expressions.numberTemplate(
-				Integer.class, "coalesce(sum(case when {0} is not null then {0} else 0 end), 0)", diaryStat.hintCount
-			);
+		List<Tuple> tuples = queryFactory
+			.select(
+				diaryStat.theme.id,
+				diaryStat.count(),
+				sumIfNotZero(diaryStat.difficulty), countIfNotZero(diaryStat.difficulty),
+				sumIfNotZero(diaryStat.fear), countIfNotZero(diaryStat.fear),
+				sumIfNotZero(diaryStat.activity), countIfNotZero(diaryStat.activity),
+				sumIfNotZero(diaryStat.satisfaction), countIfNotZero(diaryStat.satisfaction),
+				sumIfNotZero(diaryStat.production), countIfNotZero(diaryStat.production),
+				sumIfNotZero(diaryStat.story), countIfNotZero(diaryStat.story),
+				sumIfNotZero(diaryStat.question), countIfNotZero(diaryStat.question),
+				sumIfNotZero(diaryStat.interior), countIfNotZero(diaryStat.interior),
+				Expressions.numberTemplate(Long.class,
+					"coalesce(sum(case when {0} is not null then {0} else 0 end), 0)", diaryStat.deviceRatio),
+				Expressions.numberTemplate(Long.class,
+					"coalesce(sum(case when {0} is not null then 1 else 0 end), 0)", diaryStat.deviceRatio),
+				sumIfNotZero(diaryStat.elapsedTime), countIfNotZero(diaryStat.elapsedTime),
+				Expressions.numberTemplate(Long.class,
+					"coalesce(sum(case when {0} = true then 1 else 0 end), 0)", diaryStat.escapeResult),
+				Expressions.numberTemplate(Long.class,
+					"coalesce(sum(case when {0} = true and {1} = 0 then 1 else 0 end), 0)",
+					diaryStat.escapeResult, diaryStat.hintCount)
+			)
+			.from(diaryStat)
+			.where(diaryStat.theme.id.in(themeIds))
+			.groupBy(diaryStat.theme.id)
+			.fetch();
 
-			Tuple tuple = queryFactory
-				.select(
-					themeCount,
-					totalHints
-				)
-				.from(diaryStat)
-				.join(diaryStat.theme, theme)
-				.leftJoin(themeStat).on(themeStat.theme.eq(theme))
-				.where(
-					diaryStat.author.id.eq(authorId),
-					difficultyRange(level), // 난이도 레벨 범위 내
-					diaryStat.hintCount.isNotNull() // 힌트 개수가 null이 아닌 경우에만
-				)
-				.fetchOne();
-
-			if (tuple == null) { // 값이 없을 때 기본값 저장
-				tuple = Projections.tuple(
-					Expressions.constant(0L),
-					Expressions.constant(0)
-				).newInstance(0L, 0);
+		for (Tuple tuple : tuples) {
+			// DB 방언에 따라 sum 결과 타입이 달라질 수 있어 Number 로 변환
+			Object[] row = tuple.toArray();
+			long[] values = new long[row.length];
+			for (int i = 1; i < row.length; i++) {
+				values[i] = row[i] == null ? 0 : ((Number)row[i]).longValue();
 			}
 
-			result.put(level, tuple);
+			ThemeStatAggregate aggregate = new ThemeStatAggregate(
+				values[2], values[3],
+				values[4], values[5],
+				values[6], values[7],
+				values[8], values[9],
+				values[10], values[11],
+				values[12], values[13],
+				values[14], values[15],
+				values[16], values[17],
+				values[18], values[19],
+				values[20], values[21],
+				values[22], values[23]
+			);
+
+			Long themeId = (Long)row[0];
+			result.put(themeId, new ThemeStatAggregateDto(themeId, (int)values[1], aggregate));
 		}
 
 		return result;
 	}
 
-	@Override // 난이도 레벨 기준 총 테마수, 총 만족도 점수
-	public Map<Integer, Tuple> difficultyStatsWithSatisfaction(long authorId) {
-		Map<Integer, Tuple> result = new LinkedHashMap<>();
+	@Override // 테마별 장르(태그)명 목록
+	public Map<Long, List<String>> findTagNamesByThemeIds(Collection<Long> themeIds) {
+		Map<Long, List<String>> result = new HashMap<>();
 
-		for (int level = 1; level <= 5; level++) {
-			NumberExpression<Long> themeCount = diaryStat.id.countDistinct(); // 해당 되는 일지 수
-			// 해당 되는 만족도의 합 (0 제외)
-			NumberExpression<Integer> totalSatisfaction = Expressions.numberTemplate(
-				Integer.class, "coalesce(sum(case when {0} > 0 then {0} else 0 end), 0)", diaryStat.satisfaction
-			);
+		if (themeIds.isEmpty()) {
+			return result;
+		}
 
-			Tuple tuple = queryFactory
-				.select(
-					themeCount,
-					totalSatisfaction
-				)
-				.from(diaryStat)
-				.join(diaryStat.theme, theme)
-				.leftJoin(themeStat).on(themeStat.theme.eq(theme))
-				.where(
-					diaryStat.author.id.eq(authorId),
-					difficultyRange(level), // 난이도 레벨 범위 내
-					diaryStat.satisfaction.gt(0) // 만족도 점수가 0 초과인 경우에만
-				)
-				.fetchOne();
-
-			if (tuple == null) { // 값이 없을 때 기본값 저장
-				tuple = Projections.tuple(
-					Expressions.constant(0L),
-					Expressions.constant(0)
-				).newInstance(0L, 0);
-			}
+		List<Tuple> tuples = queryFactory
+			.select(themeTagMapping.theme.id, themeTag.name)
+			.from(themeTagMapping)
+			.join(themeTagMapping.themeTag, themeTag)
+			.where(themeTagMapping.theme.id.in(themeIds))
+			.fetch();
 
-			result.put(level, tuple);
+		for (Tuple tuple : tuples) {
+			result.computeIfAbsent(tuple.get(themeTagMapping.theme.id), id -> new ArrayList<>())
+				.add(tuple.get(themeTag.name));
 		}
 
 		return result;
 	}
 
-	// 탈출 일지 내 테마의 모든 장르들의 수
-	private Long countGenreAppearancesByMember(long authorId) {
-		return queryFactory
-			.select(
-				Expressions.numberTemplate(Long.class, "count(*)")
+	@Override // 테마별 난이도 레벨 (난이도가 없는 테마는 제외)
+	public Map<Long, Integer> findDifficultyLevelsByThemeIds(Collection<Long> themeIds) {
+		Map<Long, Integer> result = new HashMap<>();
+
+		if (themeIds.isEmpty()) {
+			return result;
+		}
+
+		NumberExpression<Integer> level = difficultyLevel();
+
+		List<Tuple> tuples = queryFactory
+			.select(theme.id, level)
+			.from(theme)
+			.leftJoin(themeStat).on(themeStat.theme.eq(theme))
+			.where(
+				theme.id.in(themeIds),
+				level.gt(0)
 			)
-			.from(diaryStat)
-			.join(diaryStat.theme, theme)
-			.join(theme.themeTagMappings, themeTagMapping)
-			.where(diaryStat.author.id.eq(authorId))
-			.fetchOne();
+			.fetch();
+
+		for (Tuple tuple : tuples) {
+			result.put(tuple.get(theme.id), ((Number)tuple.get(level)).intValue());
+		}
+
+		return result;
 	}
 
-	// 탈출 일지 내의 장르가 없는 일지들의 수
-	private Long countNoGenreDiaryStatsByMember(long authorId) {
-		return queryFactory
-			.select(diaryStat.count())
-			.from(diaryStat)
-			.join(diaryStat.theme, theme)
-			.leftJoin(theme.themeTagMappings, themeTagMapping)
+	@Override // 기간 내 만족도가 가장 높은 일지 (동점일 경우 더 최근에 했던 일지)
+	public Optional<DiaryStat> findTopSatisfactionDiaryStat(long authorId, LocalDate from, LocalDate to) {
+		return Optional.ofNullable(queryFactory
+			.selectFrom(diaryStat)
+			.join(diaryStat.theme, theme).fetchJoin()
 			.where(
 				diaryStat.author.id.eq(authorId),
-				themeTagMapping.isNull()
+				diaryStat.escapeDate.goe(from),
+				diaryStat.escapeDate.loe(to),
+				diaryStat.satisfaction.gt(0)
+			)
+			.orderBy(diaryStat.satisfaction.desc(), diaryStat.escapeDate.desc(), diaryStat.id.asc())
+			.limit(1)
+			.fetchOne());
+	}
+
+	@Override // 여러 작성자의 기간 내 일지 (테마 함께 조회)
+	public List<DiaryStat> findByAuthorIdsAndEscapeDateBetween(
+		Collection<Long> authorIds,
+		LocalDate from,
+		LocalDate to
+	) {
+		if (authorIds.isEmpty()) {
+			return List.of();
+		}
+
+		return queryFactory
+			.selectFrom(diaryStat)
+			.join(diaryStat.theme, theme).fetchJoin()
+			.where(
+				diaryStat.author.id.in(authorIds),
+				diaryStat.escapeDate.goe(from),
+				diaryStat.escapeDate.loe(to)
 			)
-			.fetchOne();
+			.fetch();
 	}
 
 	/**
@@ -171,16 +244,25 @@ public class DiaryStatRepositoryImpl implements DiaryStatRepositoryCustom {
 	 * 3 이상 4 미만 3
 	 * 4 이상 5 미만 4
 	 * 5 = 5
+	 * 그 외(난이도 없음, 0.0f) 0
 	 * */
-	private BooleanExpression difficultyRange(int level) {
+	private NumberExpression<Integer> difficultyLevel() {
 		// theme stat의 평균 난이도 기준, 해당 난이도가 없을 경우 테마의 공식 난이도 기준(null이 아닌 첫 번째 값을 반환)
-		NumberExpression<Float> difficulty = themeStat.difficulty.coalesce(theme.officialDifficulty);
-		// 난이도가 null이 아니고 0.0f가 아닌 것만
-		BooleanExpression validDifficulty = difficulty.isNotNull().and(difficulty.ne(0.0f));
+		return Expressions.numberTemplate(Integer.class,
+			"case when coalesce({0}, {1}) >= 1 and coalesce({0}, {1}) < 2 then 1"
+				+ " when coalesce({0}, {1}) >= 2 and coalesce({0}, {1}) < 3 then 2"
+				+ " when coalesce({0}, {1}) >= 3 and coalesce({0}, {1}) < 4 then 3"
+				+ " when coalesce({0}, {1}) >= 4 and coalesce({0}, {1}) < 5 then 4"
+				+ " when coalesce({0}, {1}) = 5 then 5"
+				+ " else 0 end",
+			themeStat.difficulty, theme.officialDifficulty);
+	}
 
-		double min = level;
-		double max = (level == 5) ? 5.0 : level + 1.0;
+	private NumberExpression<Long> sumIfNotZero(NumberPath<Integer> path) {
+		return Expressions.numberTemplate(Long.class, "coalesce(sum(case when {0} <> 0 then {0} else 0 end), 0)", path);
+	}
 
-		return validDifficulty.and(difficulty.goe((float)min).and(difficulty.lt((float)max)));
+	private NumberExpression<Long> countIfNotZero(NumberPath<Integer> path) {
+		return Expressions.numberTemplate(Long.class, "coalesce(sum(case when {0} <> 0 then 1 else 0 end), 0)", path);
 	}
 }
@@ -15,23 +15,23 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
 import com.ddobang.backend.domain.diary.dto.request.DiaryFilterRequest;
 import com.ddobang.backend.domain.diary.dto.request.DiaryRequestDto;
 import com.ddobang.backend.domain.diary.dto.response.DiaryDto;
 import com.ddobang.backend.domain.diary.dto.response.DiaryListDto;
 import com.ddobang.backend.domain.diary.entity.Diary;
 import com.ddobang.backend.domain.diary.entity.DiaryStat;
+import com.ddobang.backend.domain.diary.event.DiaryStatChangedEvent;
 import com.ddobang.backend.domain.diary.exception.DiaryErrorCode;
 import com.ddobang.backend.domain.diary.exception.DiaryException;
 import com.ddobang.backend.domain.diary.repository.DiaryRepository;
 import com.ddobang.backend.domain.diary.repository.DiaryStatRepository;
 import com.ddobang.backend.domain.member.entity.Member;
-import com.ddobang.backend.domain.member.support.MemberStatCalculator;
 import com.ddobang.backend.domain.theme.dto.request.ThemeForMemberRequest;
 import com.ddobang.backend.domain.theme.dto.response.SimpleThemeResponse;
 import com.ddobang.backend.domain.theme.entity.Theme;
 import com.ddobang.backend.domain.theme.service.ThemeService;
-import com.ddobang.backend.domain.theme.support.ThemeStatCalculator;
 import com.ddobang.backend.global.security.LoginMemberProvider;
 import com.ddobang.backend.domain.upload.event.DiaryImageChangedEvent;
 import com.ddobang.backend.global.event.EventPublisher;
@@ -44,8 +44,6 @@ public class DiaryService {
 	private final DiaryRepository diaryRepository;
 	private final DiaryStatRepository diaryStatRepository;
 	private final ThemeService themeService;
-	private final ThemeStatCalculator themeStatCalculator;
-	private final MemberStatCalculator memberStatCalculator;
 	private final LoginMemberProvider loginMemberProvider;
 	private final String TIME_MINUTES_SECONDS_PATTERN = "^\\d{1,3}:\\d{1,2}$";
 	private final String TIME_TYPE_REMAINING = "REMAINING";
@@ -83,8 +81,8 @@ public class DiaryService {
 		);
 
 		diary.setDiaryStat(diaryStat);
-		themeStatCalculator.updateThemeStat(theme);
-		memberStatCalculator.updateMemberStatWithRetry(author);
+		assignStatBuckets(diaryStat);
+		publisher.publish(new DiaryStatChangedEvent(author.getId(), null, DiaryStatSnapshot.of(diaryStat)));
 
 		return diary;
 	}
@@ -127,12 +125,15 @@ public class DiaryService {
 			diaryRequestDto.elapsedTime()
 		);
 
+		DiaryStatSnapshot before = DiaryStatSnapshot.of(diary.getDiaryStat());
 		diary.modify(theme, diaryRequestDto);
 		diary.getDiaryStat().modify(diaryRequestDto, elapsedTime);
+		assignStatBuckets(diary.getDiaryStat());
 
 		diaryRepository.flush();
-		themeStatCalculator.updateThemeStat(theme);
-		memberStatCalculator.updateMemberStatWithRetry(actor);
+		publisher.publish(
+			new DiaryStatChangedEvent(actor.getId(), before, DiaryStatSnapshot.of(diary.getDiaryStat()))
+		);
 
 		return DiaryDto.of(diary);
 	}
@@ -140,17 +141,16 @@ public class DiaryService {
 	@Transactional
 	public void delete(long id) {
 		Diary diary = findById(id);
-		Theme theme = diary.getTheme();
 		Member actor = loginMemberProvider.getCurrentMember();
 
 		diary.checkActor(actor);
 		String imageUrl = diary.getImageUrl();
+		DiaryStatSnapshot before = DiaryStatSnapshot.of(diary.getDiaryStat());
 
 		diaryRepository.delete(diary);
 		publisher.publish(new DiaryImageChangedEvent(imageUrl));
 
-		themeStatCalculator.updateThemeStat(theme);
-		memberStatCalculator.updateMemberStatWithRetry(actor);
+		publisher.publish(new DiaryStatChangedEvent(actor.getId(), before, null));
 	}
 
 	@Transactional(readOnly = true)
@@ -195,6 +195,16 @@ public class DiaryService {
 		return themeService.saveForMember(request);
 	}
 
+	// 사용자 분석에 반영할 구간 (현재 테마 난이도 레벨, 장르)을 일지에 기록
+	private void assignStatBuckets(DiaryStat diaryStat) {
+		Long themeId = diaryStat.getTheme().getId();
+
+		diaryStat.assignStatBuckets(
+			diaryStatRepository.findDifficultyLevelsByThemeIds(List.of(themeId)).getOrDefault(themeId, 0),
+			diaryStatRepository.findTagNamesByThemeIds(List.of(themeId)).getOrDefault(themeId, List.of())
+		);
+	}
+
 	private int calculateElapsedTime(String timeType, int themeRuntime, String time) {
 		if (time == null) {
 			return 0;
@@ -0,0 +1,64 @@
+package com.ddobang.backend.domain.diary.support;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ddobang.backend.domain.diary.event.DiaryStatChangedEvent;
+import com.ddobang.backend.domain.member.entity.Member;
+import com.ddobang.backend.domain.member.repository.MemberRepository;
+import com.ddobang.backend.domain.member.support.MemberStatCalculator;
+import com.ddobang.backend.domain.theme.repository.ThemeRepository;
+import com.ddobang.backend.domain.theme.support.ThemeStatCalculator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DiaryStatUpdateProcessor
+ * 일지 변경분을 테마, 사용자 통계에 반영 (대상별로 모인 변경분을 한 트랜잭션에서 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryStatUpdateProcessor {
+	private final ThemeStatCalculator themeStatCalculator;
+	private final MemberStatCalculator memberStatCalculator;
+	private final ThemeRepository themeRepository;
+	private final MemberRepository memberRepository;
+
+	// 동기 모드 - 일지 트랜잭션 안에서 바로 반영
+	@Transactional
+	public void apply(DiaryStatChangedEvent event) {
+		themeStatCalculator.applyDiaryDelta(event.before(), event.after());
+		memberStatCalculator.applyDiaryDelta(
+			memberRepository.getReferenceById(event.authorId()), event.before(), event.after()
+		);
+	}
+
+	@Transactional
+	public void applyThemeDeltas(List<DiaryStatChangedEvent> events) {
+		for (DiaryStatChangedEvent event : events) {
+			themeStatCalculator.applyDiaryDelta(event.before(), event.after());
+		}
+	}
+
+	@Transactional
+	public void applyMemberDeltas(Long memberId, List<DiaryStatChangedEvent> events) {
+		Member author = memberRepository.getReferenceById(memberId);
+
+		for (DiaryStatChangedEvent event : events) {
+			memberStatCalculator.applyDiaryDelta(author, event.before(), event.after());
+		}
+	}
+
+	// 변경분 반영 실패 시 전체 재계산으로 복구
+	@Transactional
+	public void recomputeTheme(Long themeId) {
+		themeStatCalculator.updateThemeStat(themeRepository.getReferenceById(themeId));
+	}
+
+	@Transactional
+	public void recomputeMember(Long memberId) {
+		memberStatCalculator.updateMemberStat(memberRepository.getReferenceById(memberId));
+	}
+}
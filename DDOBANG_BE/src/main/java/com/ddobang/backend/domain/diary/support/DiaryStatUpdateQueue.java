@@ -0,0 +1,139 @@
+package com.ddobang.backend.domain.diary.support;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
+import com.ddobang.backend.domain.diary.event.DiaryStatChangedEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DiaryStatUpdateQueue
+ * 커밋된 일지 변경분을 테마/사용자 단위로 모아 전용 스레드에서 반영
+ * 같은 대상에 대한 변경이 coalesce-delay 안에 몰리면 한 번의 트랜잭션으로 묶어서 처리
+ * (@Scheduled 용 스케줄러와 분리하기 위해 빈으로 등록하지 않은 전용 스케줄러 사용)
+ * 대기 중인 변경분은 메모리에만 있으므로 재시작 시 유실될 수 있으며, ThemeStatReconciler / MemberStatReconciler 가 매일 복구
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryStatUpdateQueue {
+	private final DiaryStatUpdateProcessor diaryStatUpdateProcessor;
+
+	private final Map<Long, List<DiaryStatChangedEvent>> pendingThemes = new ConcurrentHashMap<>();
+	private final Map<Long, List<DiaryStatChangedEvent>> pendingMembers = new ConcurrentHashMap<>();
+	private ThreadPoolTaskScheduler scheduler;
+
+	@Value("${custom.stat.async.pool-size:2}")
+	private int poolSize;
+
+	@Value("${custom.stat.async.coalesce-delay-ms:200}")
+	private long coalesceDelayMs;
+
+	@PostConstruct
+	void init() {
+		scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(poolSize);
+		scheduler.setThreadNamePrefix("stat-update-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(10);
+		scheduler.initialize();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		scheduler.shutdown();
+	}
+
+	public void enqueue(DiaryStatChangedEvent event) {
+		DiaryStatSnapshot before = event.before();
+		DiaryStatSnapshot after = event.after();
+
+		// 테마가 바뀐 경우 이전 테마에서는 제거, 새 테마에는 추가로 나눠서 등록
+		if (before != null && after != null && !Objects.equals(before.themeId(), after.themeId())) {
+			offer(pendingThemes, before.themeId(),
+				new DiaryStatChangedEvent(event.authorId(), before, null), this::flushTheme);
+			offer(pendingThemes, after.themeId(),
+				new DiaryStatChangedEvent(event.authorId(), null, after), this::flushTheme);
+		} else {
+			offer(pendingThemes, before != null ? before.themeId() : after.themeId(), event, this::flushTheme);
+		}
+
+		offer(pendingMembers, event.authorId(), event, this::flushMember);
+	}
+
+	// 대상의 첫 변경분이 들어온 경우에만 반영 작업 예약 (이후 변경분은 예약된 작업에 합류)
+	private void offer(
+		Map<Long, List<DiaryStatChangedEvent>> pending,
+		Long key,
+		DiaryStatChangedEvent event,
+		Consumer<Long> flush
+	) {
+		boolean[] scheduled = {false};
+
+		pending.compute(key, (k, events) -> {
+			if (events == null) {
+				events = new ArrayList<>();
+				scheduled[0] = true;
+			}
+			events.add(event);
+
+			return events;
+		});
+
+		if (scheduled[0]) {
+			scheduler.schedule(() -> flush.accept(key), Instant.now().plusMillis(coalesceDelayMs));
+		}
+	}
+
+	private void flushTheme(Long themeId) {
+		List<DiaryStatChangedEvent> events = pendingThemes.remove(themeId);
+
+		if (events == null) {
+			return;
+		}
+
+		try {
+			diaryStatUpdateProcessor.applyThemeDeltas(events);
+		} catch (Exception e) {
+			log.warn("테마 통계 반영 실패, 전체 재계산 - theme id {} ({}건): {}", themeId, events.size(), e.getMessage());
+			recover(() -> diaryStatUpdateProcessor.recomputeTheme(themeId), "theme", themeId);
+		}
+	}
+
+	private void flushMember(Long memberId) {
+		List<DiaryStatChangedEvent> events = pendingMembers.remove(memberId);
+
+		if (events == null) {
+			return;
+		}
+
+		try {
+			diaryStatUpdateProcessor.applyMemberDeltas(memberId, events);
+		} catch (Exception e) {
+			log.warn("사용자 분석 반영 실패, 전체 재계산 - member id {} ({}건): {}", memberId, events.size(), e.getMessage());
+			recover(() -> diaryStatUpdateProcessor.recomputeMember(memberId), "member", memberId);
+		}
+	}
+
+	private void recover(Runnable recompute, String target, Long id) {
+		try {
+			recompute.run();
+		} catch (Exception e) {
+			log.error("통계 전체 재계산 실패 - {} id {}: {}", target, id, e.getMessage());
+		}
+	}
+}
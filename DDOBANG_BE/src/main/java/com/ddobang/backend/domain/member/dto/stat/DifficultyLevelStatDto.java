@@ -0,0 +1,15 @@
+package com.ddobang.backend.domain.member.dto.stat;
+
+// 난이도 레벨별 일지 누적값 (힌트 갯수는 null 제외, 만족도와 탈출 시간은 0 제외)
+public record DifficultyLevelStatDto(
+	int level,
+	long diaryCount,
+	long successCount,
+	long hintSum,
+	long hintCount,
+	long satisfactionSum,
+	long satisfactionCount,
+	long elapsedTimeSum,
+	long elapsedTimeCount
+) {
+}
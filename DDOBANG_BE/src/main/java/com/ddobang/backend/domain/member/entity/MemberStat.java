@@ -38,17 +38,22 @@ public class MemberStat {
 	@Embedded
 	private EscapeScheduleStat escapeScheduleStat;
 
+	@Embedded
+	private MemberStatAggregate aggregate = new MemberStatAggregate();
+
 	@Builder
 	public MemberStat(
 		Member member,
 		EscapeSummaryStat escapeSummaryStat,
 		EscapeProfileStat escapeProfileStat,
-		EscapeScheduleStat escapeScheduleStat
+		EscapeScheduleStat escapeScheduleStat,
+		MemberStatAggregate aggregate
 	) {
 		this.member = member;
 		this.escapeSummaryStat = escapeSummaryStat;
 		this.escapeProfileStat = escapeProfileStat;
 		this.escapeScheduleStat = escapeScheduleStat;
+		this.aggregate = aggregate != null ? aggregate : new MemberStatAggregate();
 	}
 
 	public void update(
@@ -61,6 +66,20 @@ public class MemberStat {
 		escapeScheduleStat.update(escapeScheduleStatDto);
 	}
 
+	// 전체 일지 기준으로 다시 계산한 누적값으로 교체
+	public void rebuild(MemberStatAggregate aggregate) {
+		this.aggregate = aggregate;
+	}
+
+	// 누적값 도입 이전에 생성되었거나 일부 분석 데이터가 비어있어 전체 재계산이 필요한지 여부
+	public boolean needsRebuild() {
+		if (aggregate == null || escapeSummaryStat == null || escapeProfileStat == null || escapeScheduleStat == null) {
+			return true;
+		}
+
+		return aggregate.getDiaryCount() != escapeSummaryStat.getTotalCount();
+	}
+
 	public MemberStat(Member member, EscapeSummaryStat escapeSummaryStat) {
 		this.member = member;
 		this.escapeSummaryStat = escapeSummaryStat;
@@ -0,0 +1,144 @@
+package com.ddobang.backend.domain.member.entity;
+
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
+import com.ddobang.backend.global.util.Ut;
+
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * MemberStatAggregate
+ * 사용자 분석 전체 누적값 (탈출 요약, 성향 점수의 분자/분모)
+ * 성향 가중치는 소수 오차 없이 누적하기 위해 100 배한 정수로 계산
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode
+public class MemberStatAggregate {
+	private long diaryCount; // 일지 수
+	private long escapeSuccessCount; // 탈출 성공 수
+	private long noHintEscapeCount; // 노힌트 탈출 성공 수
+	private long hintSum; // 힌트 갯수 합 (null 제외)
+	private long hintCount; // 힌트 갯수가 입력된 일지 수
+	private long noGenreCount; // 장르가 없는 테마의 일지 수
+
+	// 성향 - (기준 항목 가중 평균 점수 x 100) x 만족도 의 합 / 만족도의 합
+	private long stimulatingScoreSum;
+	private long stimulatingWeightSum;
+	private long logicalScoreSum;
+	private long logicalWeightSum;
+	private long narrativeScoreSum;
+	private long narrativeWeightSum;
+	private long activeScoreSum;
+	private long activeWeightSum;
+	private long spatialScoreSum;
+	private long spatialWeightSum;
+
+	/**
+	 * 일지 한 건의 값을 누적값에 반영
+	 * sign = 1 이면 추가, -1 이면 제거
+	 */
+	public void accumulate(DiaryStatSnapshot stat, boolean noGenre, int sign) {
+		diaryCount += sign;
+
+		if (stat.escapeResult()) {
+			escapeSuccessCount += sign;
+			if (stat.isNoHintEscape()) {
+				noHintEscapeCount += sign;
+			}
+		}
+
+		if (stat.hintCount() != null) {
+			hintSum += (long)sign * stat.hintCount();
+			hintCount += sign;
+		}
+
+		if (noGenre) {
+			noGenreCount += sign;
+		}
+
+		int satisfaction = stat.satisfaction();
+
+		if (satisfaction <= 0) {
+			return;
+		}
+
+		// 자극형 - 공포도 0.6, 연출 0.4
+		long stimulating = causeScore(new int[] {stat.fear(), stat.production()}, new int[] {60, 40});
+		if (stimulating > 0) {
+			stimulatingScoreSum += sign * stimulating * satisfaction;
+			stimulatingWeightSum += (long)sign * satisfaction;
+		}
+
+		// 논리형 - 문제 0.65, 난이도 0.35
+		long logical = causeScore(new int[] {stat.question(), stat.difficulty()}, new int[] {65, 35});
+		if (logical > 0) {
+			logicalScoreSum += sign * logical * satisfaction;
+			logicalWeightSum += (long)sign * satisfaction;
+		}
+
+		// 서사형 - 스토리 0.7, 연출 0.3
+		long narrative = causeScore(new int[] {stat.story(), stat.production()}, new int[] {70, 30});
+		if (narrative > 0) {
+			narrativeScoreSum += sign * narrative * satisfaction;
+			narrativeWeightSum += (long)sign * satisfaction;
+		}
+
+		// 활동형 - 활동성 1.0
+		long active = causeScore(new int[] {stat.activity()}, new int[] {100});
+		if (active > 0) {
+			activeScoreSum += sign * active * satisfaction;
+			activeWeightSum += (long)sign * satisfaction;
+		}
+
+		// 공간중시형 - 인테리어 0.5, 연출 0.3, 스토리 0.2
+		long spatial = causeScore(
+			new int[] {stat.interior(), stat.production(), stat.story()}, new int[] {50, 30, 20});
+		if (spatial > 0) {
+			spatialScoreSum += sign * spatial * satisfaction;
+			spatialWeightSum += (long)sign * satisfaction;
+		}
+	}
+
+	public double tendencyStimulating() {
+		return tendency(stimulatingScoreSum, stimulatingWeightSum);
+	}
+
+	public double tendencyLogical() {
+		return tendency(logicalScoreSum, logicalWeightSum);
+	}
+
+	public double tendencyNarrative() {
+		return tendency(narrativeScoreSum, narrativeWeightSum);
+	}
+
+	public double tendencyActive() {
+		return tendency(activeScoreSum, activeWeightSum);
+	}
+
+	public double tendencySpatial() {
+		return tendency(spatialScoreSum, spatialWeightSum);
+	}
+
+	// 기준 항목 중 하나라도 0 인 경우 해당 기록은 제외
+	private long causeScore(int[] scores, int[] weights) {
+		long sum = 0;
+
+		for (int i = 0; i < scores.length; i++) {
+			if (scores[i] <= 0) {
+				return 0;
+			}
+			sum += (long)scores[i] * weights[i];
+		}
+
+		return sum;
+	}
+
+	private double tendency(long scoreSum, long weightSum) {
+		return weightSum == 0 ? 0
+			: Ut.calculator.roundToFirstDecimalAsDouble((double)scoreSum / weightSum / 100);
+	}
+}
@@ -0,0 +1,139 @@
+package com.ddobang.backend.domain.member.entity;
+
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
+import com.ddobang.backend.domain.member.dto.stat.DifficultyLevelStatDto;
+import com.ddobang.backend.domain.member.types.MemberStatBucketType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * MemberStatBucket
+ * 사용자 분석용 구간별 누적값 (장르명, 난이도 레벨, 탈출 연월 단위)
+ * 일지 작성/수정/삭제 시 변경분만 반영하고, 사용자 분석 데이터는 이 누적값으로부터 계산
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+	indexes = @Index(name = "idx_member_stat_bucket_member", columnList = "member_id"),
+	uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "bucket_type", "bucket_key"})
+)
+public class MemberStatBucket {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "member_id", nullable = false)
+	private Long memberId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "bucket_type", nullable = false)
+	private MemberStatBucketType bucketType;
+
+	// 장르명 / 난이도 레벨(1~5) / 탈출 연월(yyyy-MM)
+	@Column(name = "bucket_key", nullable = false)
+	private String bucketKey;
+
+	private long diaryCount; // 일지 수
+	private long successCount; // 탈출 성공 수
+	private long hintSum; // 힌트 갯수 합 (null 제외)
+	private long hintCount; // 힌트 갯수가 입력된 일지 수
+	private long satisfactionSum; // 만족도 합 (0 제외)
+	private long satisfactionCount; // 만족도가 입력된 일지 수
+	private long elapsedTimeSum; // 탈출 시간 합 (0 제외)
+	private long elapsedTimeCount; // 탈출 시간이 입력된 일지 수
+
+	public MemberStatBucket(Long memberId, MemberStatBucketType bucketType, String bucketKey) {
+		this.memberId = memberId;
+		this.bucketType = bucketType;
+		this.bucketKey = bucketKey;
+	}
+
+	// 난이도 레벨별 집계 결과로 생성 (전체 재계산용)
+	public static MemberStatBucket of(Long memberId, DifficultyLevelStatDto dto) {
+		MemberStatBucket bucket =
+			new MemberStatBucket(memberId, MemberStatBucketType.DIFFICULTY, String.valueOf(dto.level()));
+
+		bucket.diaryCount = dto.diaryCount();
+		bucket.successCount = dto.successCount();
+		bucket.hintSum = dto.hintSum();
+		bucket.hintCount = dto.hintCount();
+		bucket.satisfactionSum = dto.satisfactionSum();
+		bucket.satisfactionCount = dto.satisfactionCount();
+		bucket.elapsedTimeSum = dto.elapsedTimeSum();
+		bucket.elapsedTimeCount = dto.elapsedTimeCount();
+
+		return bucket;
+	}
+
+	/**
+	 * 일지 한 건의 값을 누적값에 반영
+	 * sign = 1 이면 추가, -1 이면 제거 (제거 전 canRemove 로 누적값이 일지 값을 포함하는지 확인)
+	 */
+	public void accumulate(DiaryStatSnapshot stat, int sign) {
+		diaryCount += sign;
+
+		if (stat.escapeResult()) {
+			successCount += sign;
+		}
+
+		if (stat.hintCount() != null) {
+			hintSum += (long)sign * stat.hintCount();
+			hintCount += sign;
+		}
+
+		if (stat.satisfaction() != 0) {
+			satisfactionSum += (long)sign * stat.satisfaction();
+			satisfactionCount += sign;
+		}
+
+		if (stat.elapsedTime() != 0) {
+			elapsedTimeSum += (long)sign * stat.elapsedTime();
+			elapsedTimeCount += sign;
+		}
+	}
+
+	// 일지 한 건을 제거해도 음수가 되지 않는지 여부 (false 면 누적값이 어긋난 상태)
+	public boolean canRemove(DiaryStatSnapshot stat) {
+		if (diaryCount < 1 || (stat.escapeResult() && successCount < 1)) {
+			return false;
+		}
+
+		if (stat.hintCount() != null && (hintCount < 1 || hintSum < stat.hintCount())) {
+			return false;
+		}
+
+		if (stat.satisfaction() != 0 && (satisfactionCount < 1 || satisfactionSum < stat.satisfaction())) {
+			return false;
+		}
+
+		return stat.elapsedTime() == 0 || (elapsedTimeCount >= 1 && elapsedTimeSum >= stat.elapsedTime());
+	}
+
+	// 같은 구간의 누적값이 모두 같은지 여부 (검증용)
+	public boolean hasSameCounts(MemberStatBucket other) {
+		return diaryCount == other.diaryCount
+			&& successCount == other.successCount
+			&& hintSum == other.hintSum
+			&& hintCount == other.hintCount
+			&& satisfactionSum == other.satisfactionSum
+			&& satisfactionCount == other.satisfactionCount
+			&& elapsedTimeSum == other.elapsedTimeSum
+			&& elapsedTimeCount == other.elapsedTimeCount;
+	}
+
+	public boolean isEmpty() {
+		return diaryCount == 0;
+	}
+}
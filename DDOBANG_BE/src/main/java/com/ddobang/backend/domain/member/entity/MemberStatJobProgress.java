@@ -0,0 +1,45 @@
+package com.ddobang.backend.domain.member.entity;
+
+import com.ddobang.backend.global.entity.BaseTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * MemberStatJobProgress
+ * 사용자 분석 배치 작업의 진행 위치 (중단된 경우 마지막으로 완료된 chunk 이후부터 재개)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+public class MemberStatJobProgress extends BaseTime {
+	// 작업 이름 + 기준 월 (예: monthly-2025-05)
+	@Id
+	private String jobKey;
+
+	private long lastMemberId; // 앞선 chunk 가 모두 완료된 마지막 member stat id
+	private int processedCount;
+	private int failedCount;
+	private boolean completed;
+
+	public MemberStatJobProgress(String jobKey) {
+		this.jobKey = jobKey;
+	}
+
+	public void advance(long lastMemberId, int processedCount) {
+		this.lastMemberId = lastMemberId;
+		this.processedCount += processedCount;
+	}
+
+	// 앞선 chunk 가 실패한 경우 진행 위치는 그대로 두고 처리 수만 기록 (다음 실행 시 실패한 chunk 부터 다시 처리)
+	public void record(int processedCount, int failedCount) {
+		this.processedCount += processedCount;
+		this.failedCount += failedCount;
+	}
+
+	public void complete() {
+		this.completed = true;
+	}
+}
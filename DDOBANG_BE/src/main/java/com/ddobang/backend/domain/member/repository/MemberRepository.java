@@ -1,8 +1,12 @@
 package com.ddobang.backend.domain.member.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ddobang.backend.domain.member.entity.Member;
@@ -16,4 +20,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 	Optional<Member> findByNickname(String nickname);
 
 	boolean existsByNickname(String nickname);
+
+	// 배치 작업용 id 커서 조회
+	@Query("SELECT m.id FROM Member m WHERE m.id > :lastId ORDER BY m.id ASC")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
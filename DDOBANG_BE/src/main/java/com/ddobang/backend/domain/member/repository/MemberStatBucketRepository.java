@@ -0,0 +1,27 @@
+package com.ddobang.backend.domain.member.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ddobang.backend.domain.member.entity.MemberStatBucket;
+import com.ddobang.backend.domain.member.types.MemberStatBucketType;
+
+@Repository
+public interface MemberStatBucketRepository extends JpaRepository<MemberStatBucket, Long> {
+	List<MemberStatBucket> findByMemberId(Long memberId);
+
+	List<MemberStatBucket> findByMemberIdIn(Collection<Long> memberIds);
+
+	List<MemberStatBucket> findByMemberIdInAndBucketType(Collection<Long> memberIds, MemberStatBucketType bucketType);
+
+	// 전체 재계산 시 기존 누적값을 즉시 삭제 (같은 키로 다시 저장하기 위해 bulk delete 사용)
+	@Modifying
+	@Query("DELETE FROM MemberStatBucket b WHERE b.memberId = :memberId")
+	int deleteByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,10 @@
+package com.ddobang.backend.domain.member.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.ddobang.backend.domain.member.entity.MemberStatJobProgress;
+
+@Repository
+public interface MemberStatJobProgressRepository extends JpaRepository<MemberStatJobProgress, String> {
+}
@@ -1,14 +1,21 @@
 package com.ddobang.backend.domain.member.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ddobang.backend.domain.member.entity.MemberStat;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface MemberStatRepository extends JpaRepository<MemberStat, Long> {
 	@Modifying
@@ -20,4 +27,17 @@ public interface MemberStatRepository extends JpaRepository<MemberStat, Long> {
 	int incrementDaysSinceFirstEscape();
 
 	Optional<MemberStat> findByMemberId(Long memberId); // 회원 ID로 통계 조회
+
+	// 증분 반영 시 동시 수정으로 인한 누적값 유실 방지를 위해 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ms FROM MemberStat ms WHERE ms.id = :id")
+	Optional<MemberStat> findByIdForUpdate(@Param("id") Long id);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ms FROM MemberStat ms WHERE ms.id IN :ids")
+	List<MemberStat> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+	// 배치 작업용 id 커서 조회
+	@Query("SELECT ms.id FROM MemberStat ms WHERE ms.id > :lastId ORDER BY ms.id ASC")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -2,21 +2,27 @@ package com.ddobang.backend.domain.member.support;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
 import com.ddobang.backend.domain.diary.entity.DiaryStat;
 import com.ddobang.backend.domain.diary.repository.DiaryStatRepository;
+import com.ddobang.backend.domain.member.dto.stat.DifficultyLevelStatDto;
 import com.ddobang.backend.domain.member.dto.stat.EscapeProfileStatDto;
 import com.ddobang.backend.domain.member.dto.stat.EscapeScheduleStatDto;
 import com.ddobang.backend.domain.member.dto.stat.EscapeSummaryStatDto;
@@ -25,9 +31,12 @@ import com.ddobang.backend.domain.member.entity.EscapeScheduleStat;
 import com.ddobang.backend.domain.member.entity.EscapeSummaryStat;
 import com.ddobang.backend.domain.member.entity.Member;
 import com.ddobang.backend.domain.member.entity.MemberStat;
+import com.ddobang.backend.domain.member.entity.MemberStatAggregate;
+import com.ddobang.backend.domain.member.entity.MemberStatBucket;
+import com.ddobang.backend.domain.member.repository.MemberStatBucketRepository;
 import com.ddobang.backend.domain.member.repository.MemberStatRepository;
+import com.ddobang.backend.domain.member.types.MemberStatBucketType;
 import com.ddobang.backend.global.util.Ut;
-import com.querydsl.core.Tuple;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,45 +47,187 @@ import lombok.extern.slf4j.Slf4j;
 public class MemberStatCalculator {
 	private final DiaryStatRepository diaryStatRepository;
 	private final MemberStatRepository memberStatRepository;
+	private final MemberStatBucketRepository memberStatBucketRepository;
+	// 지난달, 최근 6개월 기준 (월별 작업 스케줄러와 같은 기준 사용)
+	public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
 	private static final DateTimeFormatter YM_FORMATTER = DateTimeFormatter.ofPattern("yyyy년 M월");
+	private static final DateTimeFormatter BUCKET_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
 
+	/**
+	 * 일지 작성/수정/삭제 시 변경 전/후 값만 사용자 분석 누적값에 반영
+	 * 작성 시 before = null, 삭제 시 after = null
+	 * 누적값이 없는 기존 데이터는 전체 재계산
+	 */
 	@Transactional
-	public void updateMemberStatWithRetry(Member author) {
-		int retryCount = 0;
-
-		while (retryCount < 3) {
-			try {
-				updateMemberStat(author);
-
-				return;
-			} catch (ObjectOptimisticLockingFailureException e) {
-				retryCount++;
-
-				log.warn("OptimisticLock 충돌 발생, 재시도 중... ({}회)", retryCount);
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException ignored) {
-				}
+	public void applyDiaryDelta(Member author, DiaryStatSnapshot before, DiaryStatSnapshot after) {
+		Long memberId = author.getId();
+		Optional<MemberStat> locked = memberStatRepository.findByIdForUpdate(memberId);
+
+		if (locked.isEmpty() || locked.get().needsRebuild()) {
+			updateMemberStat(author);
+			return;
+		}
+
+		MemberStat memberStat = locked.get();
+
+		// 구간 기록 전 일지는 어느 구간에서 빼야 할지 알 수 없으므로 전체 재계산 (재계산 시 구간 기록)
+		if ((before != null && !before.hasStatBuckets()) || (after != null && !after.hasStatBuckets())) {
+			updateMemberStat(author);
+			return;
+		}
+
+		Map<String, MemberStatBucket> buckets = new HashMap<>();
+
+		for (MemberStatBucket bucket : memberStatBucketRepository.findByMemberId(memberId)) {
+			buckets.put(bucketMapKey(bucket.getBucketType(), bucket.getBucketKey()), bucket);
+		}
+
+		// 제거할 일지가 누적값에 포함되어 있지 않으면 (반영 유실 등) 누적값이 어긋난 상태이므로 전체 재계산
+		if (before != null && !canRemove(memberStat.getAggregate(), buckets, before)) {
+			log.warn("사용자 분석 누적값 불일치, 전체 재계산 - member id {}", memberId);
+			updateMemberStat(author);
+			return;
+		}
+
+		if (before != null) {
+			accumulate(memberStat.getAggregate(), buckets, memberId, before, true, -1);
+		}
+
+		if (after != null) {
+			accumulate(memberStat.getAggregate(), buckets, memberId, after, true, 1);
+		}
+
+		// 해당 멤버에 대한 일지가 없을 경우 분석 데이터 삭제
+		if (memberStat.getAggregate().getDiaryCount() <= 0) {
+			memberStatBucketRepository.deleteByMemberId(memberId);
+			memberStatRepository.delete(memberStat);
+			return;
+		}
+
+		List<MemberStatBucket> created = new ArrayList<>();
+		List<MemberStatBucket> emptied = new ArrayList<>();
+
+		for (MemberStatBucket bucket : buckets.values()) {
+			if (bucket.getId() == null && !bucket.isEmpty()) {
+				created.add(bucket);
+			} else if (bucket.getId() != null && bucket.isEmpty()) {
+				emptied.add(bucket);
 			}
 		}
-		log.error("최대 재시도 횟수 초과. author id = {} 업데이트 실패", author.getId());
+
+		memberStatBucketRepository.saveAll(created);
+		memberStatBucketRepository.deleteAll(emptied);
+
+		LocalDate firstEscapeDate = memberStat.getEscapeSummaryStat().getFirstEscapeDate();
+
+		// 첫 탈출일 기록이 빠진 경우에만 다시 조회
+		if (before != null && before.escapeDate() != null && before.escapeDate().equals(firstEscapeDate)) {
+			firstEscapeDate = diaryStatRepository.findFirstEscapeDateByAuthorId(memberId);
+		} else if (after != null && after.escapeDate() != null
+			&& (firstEscapeDate == null || after.escapeDate().isBefore(firstEscapeDate))) {
+			firstEscapeDate = after.escapeDate();
+		}
+
+		// 지난달 기록이 바뀐 경우에만 최고 평가 테마 다시 조회
+		YearMonth lastMonth = YearMonth.now(ZONE).minusMonths(1);
+		LastMonthTopTheme topTheme = isEscapedIn(before, lastMonth) || isEscapedIn(after, lastMonth)
+			? findLastMonthTopTheme(memberId)
+			: new LastMonthTopTheme(
+			memberStat.getEscapeScheduleStat().getLastMonthTopTheme(),
+			memberStat.getEscapeScheduleStat().getLastMonthTopSatisfaction()
+		);
+
+		memberStat.update(
+			calculateEscapeSummaryStat(memberStat.getAggregate(), buckets.values(), firstEscapeDate),
+			calculateEscapeProfileStat(memberStat.getAggregate(), buckets.values()),
+			calculateEscapeScheduleStat(buckets.values(), topTheme)
+		);
 	}
 
+	// 전체 일지 기준 재계산 (누적값, 구간별 누적값 교체)
+	@Transactional
 	public void updateMemberStat(Member author) {
-		List<DiaryStat> diaryStats = diaryStatRepository.findByAuthorId(author.getId());
-		EscapeSummaryStatDto escapeSummaryStatDto = calculateEscapeSummaryStat(diaryStats);
-		EscapeProfileStatDto escapeProfileStatDto = calculateEscapeProfileStat(diaryStats, author.getId());
-		EscapeScheduleStatDto escapeScheduleStatDto = calculateEscapeScheduleStat(diaryStats);
-		Optional<MemberStat> memberStat = memberStatRepository.findById(author.getId());
+		Long memberId = author.getId();
+		List<DiaryStat> diaryStats = diaryStatRepository.findByAuthorId(memberId);
+		Optional<MemberStat> memberStat = memberStatRepository.findById(memberId);
 
 		// 해당 멤버에 대한 일지가 없을 경우 분석 데이터 삭제
 		if (diaryStats.isEmpty()) {
+			memberStatBucketRepository.deleteByMemberId(memberId);
 			memberStat.ifPresent(memberStatRepository::delete);
 			return;
 		}
 
+		// 사용자 분석 구간이 기록되지 않은 일지의 테마만 현재 장르, 난이도 레벨 조회
+		Set<Long> themeIds = new HashSet<>();
+
+		for (DiaryStat stat : diaryStats) {
+			if (stat.getTheme() != null && !DiaryStatSnapshot.of(stat).hasStatBuckets()) {
+				themeIds.add(stat.getTheme().getId());
+			}
+		}
+
+		Map<Long, List<String>> tagNames = diaryStatRepository.findTagNamesByThemeIds(themeIds);
+		Map<Long, Integer> difficultyLevels = diaryStatRepository.findDifficultyLevelsByThemeIds(themeIds);
+		MemberStatAggregate aggregate = new MemberStatAggregate();
+		Map<String, MemberStatBucket> buckets = new HashMap<>();
+
+		// 난이도 레벨별 누적값은 레벨 단위 집계 쿼리 한 번으로 생성
+		for (DifficultyLevelStatDto dto : diaryStatRepository.difficultyStatsByMember(memberId).values()) {
+			MemberStatBucket bucket = MemberStatBucket.of(memberId, dto);
+			buckets.put(bucketMapKey(bucket.getBucketType(), bucket.getBucketKey()), bucket);
+		}
+
+		YearMonth lastMonth = YearMonth.now(ZONE).minusMonths(1);
+		LocalDate firstEscapeDate = null;
+		DiaryStat lastMonthTopStat = null;
+
+		for (DiaryStat stat : diaryStats) {
+			// 구간 기록 전 일지는 현재 테마 기준으로 기록 (이후 수정/삭제 시 같은 구간에서 제거)
+			DiaryStatSnapshot snapshot = DiaryStatSnapshot.of(stat);
+
+			if (!snapshot.hasStatBuckets()) {
+				Long themeId = snapshot.themeId();
+				stat.assignStatBuckets(
+					difficultyLevels.getOrDefault(themeId, 0),
+					tagNames.getOrDefault(themeId, List.of())
+				);
+				snapshot = DiaryStatSnapshot.of(stat);
+			}
+
+			// 난이도 레벨은 위에서 집계했으므로 제외
+			accumulate(aggregate, buckets, memberId, snapshot, false, 1);
+
+			LocalDate escapeDate = stat.getEscapeDate();
+
+			if (escapeDate == null) {
+				continue;
+			}
+
+			if (firstEscapeDate == null || escapeDate.isBefore(firstEscapeDate)) {
+				firstEscapeDate = escapeDate;
+			}
+
+			if (YearMonth.from(escapeDate).equals(lastMonth) && isTopThemeCandidate(stat, lastMonthTopStat)) {
+				lastMonthTopStat = stat;
+			}
+		}
+
+		memberStatBucketRepository.deleteByMemberId(memberId);
+		memberStatBucketRepository.saveAll(buckets.values().stream().filter(bucket -> !bucket.isEmpty()).toList());
+
+		LastMonthTopTheme topTheme = lastMonthTopStat != null
+			? new LastMonthTopTheme(lastMonthTopStat.getTheme().getName(), lastMonthTopStat.getSatisfaction())
+			: new LastMonthTopTheme(null, 0);
+
+		EscapeSummaryStatDto escapeSummaryStatDto =
+			calculateEscapeSummaryStat(aggregate, buckets.values(), firstEscapeDate);
+		EscapeProfileStatDto escapeProfileStatDto = calculateEscapeProfileStat(aggregate, buckets.values());
+		EscapeScheduleStatDto escapeScheduleStatDto = calculateEscapeScheduleStat(buckets.values(), topTheme);
+
 		// 해당 멤버에 대한 분석 데이터가 없을 경우 분석 데이터 생성
 		if (memberStat.isPresent()) {
+			memberStat.get().rebuild(aggregate);
 			memberStat.get().update(
 				escapeSummaryStatDto,
 				escapeProfileStatDto,
@@ -131,370 +282,433 @@ public class MemberStatCalculator {
 				.escapeSummaryStat(escapeSummaryStat)
 				.escapeProfileStat(escapeProfileStat)
 				.escapeScheduleStat(escapeScheduleStat)
+				.aggregate(aggregate)
 				.build());
 		}
 	}
 
-	// 매달 1일 스케쥴링용 메서드
-	void upDateEscapeScheduleStat(MemberStat memberStat) {
-		List<DiaryStat> diaryStats = diaryStatRepository.findByAuthorId(memberStat.getId());
+	/**
+	 * 매달 1일 스케쥴링용 메서드 (chunk 단위)
+	 * 월별 누적값, 지난달 일지를 chunk 전체에 대해 한 번씩만 조회하여 기준 월만 옮겨서 계산
+	 * 처리한 사용자 수 반환
+	 */
+	@Transactional
+	public int updateMonthlyScheduleStats(List<Long> memberIds) {
+		YearMonth lastMonth = YearMonth.now(ZONE).minusMonths(1);
+		List<MemberStat> memberStats = memberStatRepository.findAllByIdInForUpdate(memberIds);
+		Map<Long, List<MemberStatBucket>> monthBuckets = new HashMap<>();
+		Map<Long, DiaryStat> lastMonthTopStats = new HashMap<>();
+
+		for (MemberStatBucket bucket : memberStatBucketRepository.findByMemberIdInAndBucketType(
+			memberIds, MemberStatBucketType.MONTH)) {
+			monthBuckets.computeIfAbsent(bucket.getMemberId(), id -> new ArrayList<>()).add(bucket);
+		}
+
+		for (DiaryStat stat : diaryStatRepository.findByAuthorIdsAndEscapeDateBetween(
+			memberIds, lastMonth.atDay(1), lastMonth.atEndOfMonth())) {
+			Long authorId = stat.getAuthor().getId();
+
+			if (isTopThemeCandidate(stat, lastMonthTopStats.get(authorId))) {
+				lastMonthTopStats.put(authorId, stat);
+			}
+		}
+
+		for (MemberStat memberStat : memberStats) {
+			if (memberStat.needsRebuild()) {
+				updateMemberStat(memberStat.getMember());
+				continue;
+			}
+
+			DiaryStat topStat = lastMonthTopStats.get(memberStat.getId());
+			LastMonthTopTheme topTheme = topStat != null
+				? new LastMonthTopTheme(topStat.getTheme().getName(), topStat.getSatisfaction())
+				: new LastMonthTopTheme(null, 0);
+
+			memberStat.getEscapeScheduleStat().update(
+				calculateEscapeScheduleStat(monthBuckets.getOrDefault(memberStat.getId(), List.of()), topTheme)
+			);
+		}
 
-		EscapeScheduleStatDto escapeScheduleStatDto = calculateEscapeScheduleStat(diaryStats);
-		memberStat.getEscapeScheduleStat().update(escapeScheduleStatDto);
+		return memberStats.size();
 	}
 
-	// EscapeSummaryStat 계산 메서드
-	private EscapeSummaryStatDto calculateEscapeSummaryStat(List<DiaryStat> diaryStats) {
-		int totalCount = diaryStats.size();
-
-		int escapeSuccessCount = 0;
-		int noHintSuccessCount = 0;
-		int hintCount = 0;
-		int totalHintCount = 0;
-		LocalDate earliestEscapeDate = null;
-		Integer daysSinceFirstEscape = null;
-		Map<YearMonth, Integer> monthCountMap = new HashMap<>();
+	/**
+	 * 증분 반영된 사용자 분석 누적값을 일지 기준 재집계 결과와 비교하여 검증 (chunk 단위)
+	 * 반영 대기 중 재시작 등으로 변경분이 유실되어 어긋난 사용자만 전체 재계산
+	 * @return 복구된 사용자 수
+	 */
+	@Transactional
+	public int reconcile(List<Long> memberIds) {
+		Map<Long, MemberStat> memberStats = new HashMap<>();
+		Map<Long, List<DiaryStat>> diaryStats = new HashMap<>();
+		Map<Long, List<MemberStatBucket>> storedBuckets = new HashMap<>();
 
-		for (DiaryStat stat : diaryStats) {
-			if (stat.isEscapeResult()) {
-				escapeSuccessCount++;
-				if (stat.getHintCount() == 0) {
-					noHintSuccessCount++;
-				}
+		for (MemberStat memberStat : memberStatRepository.findAllByIdInForUpdate(memberIds)) {
+			memberStats.put(memberStat.getId(), memberStat);
+		}
+
+		for (DiaryStat stat : diaryStatRepository.findByAuthorIdIn(memberIds)) {
+			diaryStats.computeIfAbsent(stat.getAuthor().getId(), id -> new ArrayList<>()).add(stat);
+		}
+
+		for (MemberStatBucket bucket : memberStatBucketRepository.findByMemberIdIn(memberIds)) {
+			storedBuckets.computeIfAbsent(bucket.getMemberId(), id -> new ArrayList<>()).add(bucket);
+		}
+
+		int repairedCount = 0;
+
+		for (Long memberId : memberIds) {
+			MemberStat memberStat = memberStats.get(memberId);
+			List<DiaryStat> stats = diaryStats.getOrDefault(memberId, List.of());
+
+			if (memberStat == null && stats.isEmpty()) {
+				continue;
+			}
+
+			if (memberStat != null && !stats.isEmpty() && !memberStat.needsRebuild()
+				&& matches(memberStat, stats, storedBuckets.getOrDefault(memberId, List.of()))) {
+				continue;
+			}
+
+			log.warn("사용자 분석 불일치 - 재계산 값으로 복구. member id = {}, 저장된 일지 수 = {}, 실제 일지 수 = {}",
+				memberId, memberStat != null ? memberStat.getAggregate().getDiaryCount() : 0, stats.size());
+			updateMemberStat(memberStat != null ? memberStat.getMember() : stats.get(0).getAuthor());
+			repairedCount++;
+		}
+
+		return repairedCount;
+	}
+
+	// 저장된 누적값이 일지에 기록된 구간으로 다시 합산한 값과 같은지 여부
+	private boolean matches(MemberStat memberStat, List<DiaryStat> stats, List<MemberStatBucket> stored) {
+		MemberStatAggregate aggregate = new MemberStatAggregate();
+		Map<String, MemberStatBucket> expected = new HashMap<>();
+
+		for (DiaryStat stat : stats) {
+			DiaryStatSnapshot snapshot = DiaryStatSnapshot.of(stat);
+
+			// 구간 기록 전 일지가 있으면 재계산으로 기록
+			if (!snapshot.hasStatBuckets()) {
+				return false;
 			}
 
-			if (stat.getHintCount() != null) {
-				hintCount++;
-				totalHintCount += stat.getHintCount();
+			accumulate(aggregate, expected, memberStat.getId(), snapshot, true, 1);
+		}
+
+		if (!aggregate.equals(memberStat.getAggregate())) {
+			return false;
+		}
+
+		List<MemberStatBucket> nonEmpty = stored.stream().filter(bucket -> !bucket.isEmpty()).toList();
+
+		if (nonEmpty.size() != expected.size()) {
+			return false;
+		}
+
+		for (MemberStatBucket bucket : nonEmpty) {
+			MemberStatBucket recomputed = expected.get(bucketMapKey(bucket.getBucketType(), bucket.getBucketKey()));
+
+			if (recomputed == null || !recomputed.hasSameCounts(bucket)) {
+				return false;
 			}
+		}
+
+		return true;
+	}
+
+	// 일지 한 건을 전체 누적값과 일지에 기록된 장르/난이도 구간, 월별 누적값에 반영
+	private void accumulate(
+		MemberStatAggregate aggregate,
+		Map<String, MemberStatBucket> buckets,
+		Long memberId,
+		DiaryStatSnapshot stat,
+		boolean withDifficulty,
+		int sign
+	) {
+		aggregate.accumulate(stat, stat.genres().isEmpty(), sign);
+
+		for (BucketKey key : bucketKeys(stat, withDifficulty)) {
+			bucket(buckets, memberId, key.type(), key.key()).accumulate(stat, sign);
+		}
+	}
+
+	// 일지 한 건이 반영된 모든 누적값에서 해당 일지 값을 뺄 수 있는지 여부
+	private boolean canRemove(MemberStatAggregate aggregate, Map<String, MemberStatBucket> buckets,
+		DiaryStatSnapshot stat) {
+		if (aggregate.getDiaryCount() < 1) {
+			return false;
+		}
 
-			LocalDate date = stat.getEscapeDate();
+		for (BucketKey key : bucketKeys(stat, true)) {
+			MemberStatBucket bucket = buckets.get(bucketMapKey(key.type(), key.key()));
 
-			if (date != null) {
-				if (earliestEscapeDate == null || date.isBefore(earliestEscapeDate)) {
-					earliestEscapeDate = date;
-				}
-				YearMonth yearMonth = YearMonth.from(date);
-				monthCountMap.put(yearMonth, monthCountMap.getOrDefault(yearMonth, 0) + 1);
+			if (bucket == null || !bucket.canRemove(stat)) {
+				return false;
 			}
 		}
 
+		return true;
+	}
+
+	private List<BucketKey> bucketKeys(DiaryStatSnapshot stat, boolean withDifficulty) {
+		List<BucketKey> keys = new ArrayList<>();
+
+		for (String genre : stat.genres()) {
+			keys.add(new BucketKey(MemberStatBucketType.GENRE, genre));
+		}
+
+		if (withDifficulty && stat.difficultyLevel() > 0) {
+			keys.add(new BucketKey(MemberStatBucketType.DIFFICULTY, String.valueOf(stat.difficultyLevel())));
+		}
+
+		if (stat.escapeDate() != null) {
+			keys.add(new BucketKey(MemberStatBucketType.MONTH,
+				YearMonth.from(stat.escapeDate()).format(BUCKET_MONTH_FORMATTER)));
+		}
+
+		return keys;
+	}
+
+	private MemberStatBucket bucket(
+		Map<String, MemberStatBucket> buckets,
+		Long memberId,
+		MemberStatBucketType type,
+		String key
+	) {
+		return buckets.computeIfAbsent(bucketMapKey(type, key), k -> new MemberStatBucket(memberId, type, key));
+	}
+
+	private String bucketMapKey(MemberStatBucketType type, String key) {
+		return type.name() + ":" + key;
+	}
+
+	// 만족도가 더 높은 일지, 최고 만족도가 중복될 경우 더 최근에 했던 일지
+	private boolean isTopThemeCandidate(DiaryStat stat, DiaryStat currentTop) {
+		if (stat.getSatisfaction() <= 0) {
+			return false;
+		}
+
+		return currentTop == null
+			|| stat.getSatisfaction() > currentTop.getSatisfaction()
+			|| (stat.getSatisfaction() == currentTop.getSatisfaction()
+			&& stat.getEscapeDate().isAfter(currentTop.getEscapeDate()));
+	}
+
+	private boolean isEscapedIn(DiaryStatSnapshot stat, YearMonth yearMonth) {
+		return stat != null && stat.escapeDate() != null && YearMonth.from(stat.escapeDate()).equals(yearMonth);
+	}
+
+	private LastMonthTopTheme findLastMonthTopTheme(long memberId) {
+		YearMonth lastMonth = YearMonth.now(ZONE).minusMonths(1);
+
+		return diaryStatRepository.findTopSatisfactionDiaryStat(memberId, lastMonth.atDay(1), lastMonth.atEndOfMonth())
+			.map(stat -> new LastMonthTopTheme(stat.getTheme().getName(), stat.getSatisfaction()))
+			.orElse(new LastMonthTopTheme(null, 0));
+	}
+
+	// EscapeSummaryStat 계산 메서드
+	private EscapeSummaryStatDto calculateEscapeSummaryStat(
+		MemberStatAggregate aggregate,
+		Collection<MemberStatBucket> buckets,
+		LocalDate firstEscapeDate
+	) {
+		long totalCount = aggregate.getDiaryCount();
+		Integer daysSinceFirstEscape = null;
+
 		double successRate = Ut.calculator.roundToFirstDecimalAsDouble(
-			Ut.calculator.calculateRate(totalCount, escapeSuccessCount)
+			Ut.calculator.calculateRate(totalCount, aggregate.getEscapeSuccessCount())
 		);
 
 		double noHintSuccessRate = Ut.calculator.roundToFirstDecimalAsDouble(
-			Ut.calculator.calculateRate(totalCount, noHintSuccessCount)
+			Ut.calculator.calculateRate(totalCount, aggregate.getNoHintEscapeCount())
 		);
 
 		double averageHintCount = Ut.calculator.roundToFirstDecimalAsDouble(
-			Ut.calculator.calculateAverage(totalHintCount, hintCount)
+			Ut.calculator.calculateAverage(aggregate.getHintSum(), aggregate.getHintCount())
 		);
 
-		if (earliestEscapeDate != null) {
-			daysSinceFirstEscape = (int)ChronoUnit.DAYS.between(earliestEscapeDate, LocalDate.now());
+		if (firstEscapeDate != null) {
+			daysSinceFirstEscape = (int)ChronoUnit.DAYS.between(firstEscapeDate, LocalDate.now(ZONE));
 		}
 
-		Map.Entry<YearMonth, Integer> mostActiveMonth =
-			monthCountMap.entrySet()
-				.stream()
-				.max(Comparator
-					.comparing(Map.Entry<YearMonth, Integer>::getValue) // value 기준 내림 차순
-					.thenComparing(Map.Entry::getKey) // 날짜 기준 최신순
-				)
-				.orElse(null);
+		MemberStatBucket mostActiveMonth = buckets.stream()
+			.filter(bucket -> bucket.getBucketType() == MemberStatBucketType.MONTH && !bucket.isEmpty())
+			.max(Comparator
+				.comparingLong(MemberStatBucket::getDiaryCount) // 횟수 기준 내림 차순
+				.thenComparing(MemberStatBucket::getBucketKey) // 날짜 기준 최신순
+			)
+			.orElse(null);
 
 		return EscapeSummaryStatDto.builder()
-			.totalCount(totalCount)
+			.totalCount((int)totalCount)
 			.successRate(successRate)
-			.noHintSuccessCount(noHintSuccessCount)
+			.noHintSuccessCount((int)aggregate.getNoHintEscapeCount())
 			.noHintSuccessRate(noHintSuccessRate)
 			.averageHintCount(averageHintCount)
-			.firstEscapeDate(earliestEscapeDate)
+			.firstEscapeDate(firstEscapeDate)
 			.mostActiveMonth(
 				mostActiveMonth != null
-					? mostActiveMonth.getKey().format(YM_FORMATTER) : null
+					? YearMonth.parse(mostActiveMonth.getBucketKey(), BUCKET_MONTH_FORMATTER).format(YM_FORMATTER)
+					: null
 			)
 			.mostActiveMonthCount(
 				mostActiveMonth != null
-					? mostActiveMonth.getValue() : 0
+					? (int)mostActiveMonth.getDiaryCount() : 0
 			)
 			.daysSinceFirstEscape(daysSinceFirstEscape)
 			.build();
 	}
 
 	// EscapeProfileStat 계산 메서드
-	private EscapeProfileStatDto calculateEscapeProfileStat(List<DiaryStat> diaryStats, long authorId) {
-		// 자극형 - 공포도, 연출 각각의 가중치
-		double tendencyStimulating = calculateTendencyScore(diaryStats, Map.of(
-			"fear", 0.6,
-			"production", 0.4
-		));
-
-		// 논리형 - 문제, 난이도 각각의 가중치
-		double tendencyLogical = calculateTendencyScore(diaryStats, Map.of(
-			"question", 0.65,
-			"difficulty", 0.35
-		));
-
-		// 서사형 - 스토리, 연출 각각의 가중치
-		double tendencyNarrative = calculateTendencyScore(diaryStats, Map.of(
-			"story", 0.7,
-			"production", 0.3
-		));
-
-		// 활동형 - 활동형 가중치
-		double tendencyActive = calculateTendencyScore(diaryStats, Map.of(
-			"activity", 1.0
-		));
-
-		// 공간중시형 - 인테리어, 연출, 스토리 각각의 가중치
-		double tendencySpatial = calculateTendencyScore(diaryStats, Map.of(
-			"interior", 0.5,
-			"production", 0.3,
-			"story", 0.2
-		));
-
+	private EscapeProfileStatDto calculateEscapeProfileStat(
+		MemberStatAggregate aggregate,
+		Collection<MemberStatBucket> buckets
+	) {
 		Map<String, Integer> genreCountMap = new HashMap<>();
 		Map<String, Integer> genreSuccessMap = new HashMap<>();
-		// 장르명, 해당 장르 플레이 갯수, 해당 장르 성공 플레이 갯수
-		List<Tuple> top5TagInfo =
-			diaryStatRepository.top5TagCountSuccessCountByMember(authorId);
-		// 플레이한 테마들의 모든 장르 수 (중복 포함) + 장르가 입력되지 않은 테마의 수
-		long totalTagCount =
-			diaryStatRepository.countTotalGenreBaseByMember(authorId);
-
-		for (Tuple tuple : top5TagInfo) {
-			genreCountMap.put(
-				tuple.get(0, String.class),
-				Ut.calculator.roundToInt(
-					Ut.calculator.calculateRate(totalTagCount, tuple.get(1, Long.class))
-				)
-			);
+		List<MemberStatBucket> genreBuckets = buckets.stream()
+			.filter(bucket -> bucket.getBucketType() == MemberStatBucketType.GENRE && !bucket.isEmpty())
+			.toList();
 
-			genreSuccessMap.put(
-				tuple.get(0, String.class),
-				Ut.calculator.roundToInt(
-					Ut.calculator.calculateRate(tuple.get(1, Long.class), tuple.get(2, Integer.class))
-				)
-			);
+		// 플레이한 테마들의 모든 장르 수 (중복 포함) + 장르가 입력되지 않은 테마의 수
+		long totalTagCount = aggregate.getNoGenreCount()
+			+ genreBuckets.stream().mapToLong(MemberStatBucket::getDiaryCount).sum();
+
+		// 플레이 횟수 기준 상위 5개 장르
+		genreBuckets.stream()
+			.sorted(Comparator
+				.comparingLong(MemberStatBucket::getDiaryCount).reversed()
+				.thenComparing(MemberStatBucket::getBucketKey))
+			.limit(5)
+			.forEach(bucket -> {
+				genreCountMap.put(
+					bucket.getBucketKey(),
+					Ut.calculator.roundToInt(
+						Ut.calculator.calculateRate(totalTagCount, bucket.getDiaryCount())
+					)
+				);
+
+				genreSuccessMap.put(
+					bucket.getBucketKey(),
+					Ut.calculator.roundToInt(
+						Ut.calculator.calculateRate(bucket.getDiaryCount(), bucket.getSuccessCount())
+					)
+				);
+			});
+
+		Map<String, MemberStatBucket> difficultyBuckets = new HashMap<>();
+
+		for (MemberStatBucket bucket : buckets) {
+			if (bucket.getBucketType() == MemberStatBucketType.DIFFICULTY) {
+				difficultyBuckets.put(bucket.getBucketKey(), bucket);
+			}
 		}
 
-		Map<Integer, Tuple> difficultyWithHints = diaryStatRepository.difficultyStatsWithHints(authorId);
-		Map<Integer, Tuple> difficultyWithSatis =
-			diaryStatRepository.difficultyStatsWithSatisfaction(authorId);
-
-		double difficultyHintAvg1 =
-			calculateAvgFromTuple(difficultyWithHints, 1, 1, 0);
-		double difficultyHintAvg2 =
-			calculateAvgFromTuple(difficultyWithHints, 2, 1, 0);
-		double difficultyHintAvg3 =
-			calculateAvgFromTuple(difficultyWithHints, 3, 1, 0);
-		double difficultyHintAvg4 =
-			calculateAvgFromTuple(difficultyWithHints, 4, 1, 0);
-		double difficultyHintAvg5 =
-			calculateAvgFromTuple(difficultyWithHints, 5, 1, 0);
-
-		double difficultySatisAvg1 =
-			calculateAvgFromTuple(difficultyWithSatis, 1, 1, 0);
-		double difficultySatisAvg2 =
-			calculateAvgFromTuple(difficultyWithSatis, 2, 1, 0);
-		double difficultySatisAvg3 =
-			calculateAvgFromTuple(difficultyWithSatis, 3, 1, 0);
-		double difficultySatisAvg4 =
-			calculateAvgFromTuple(difficultyWithSatis, 4, 1, 0);
-		double difficultySatisAvg5 =
-			calculateAvgFromTuple(difficultyWithSatis, 5, 1, 0);
-
 		return EscapeProfileStatDto.builder()
-			.tendencyStimulating(tendencyStimulating)
-			.tendencyLogical(tendencyLogical)
-			.tendencyNarrative(tendencyNarrative)
-			.tendencyActive(tendencyActive)
-			.tendencySpatial(tendencySpatial)
+			.tendencyStimulating(aggregate.tendencyStimulating())
+			.tendencyLogical(aggregate.tendencyLogical())
+			.tendencyNarrative(aggregate.tendencyNarrative())
+			.tendencyActive(aggregate.tendencyActive())
+			.tendencySpatial(aggregate.tendencySpatial())
 			.genreCountMap(genreCountMap)
 			.genreSuccessMap(genreSuccessMap)
-			.difficultyHintAvg1(difficultyHintAvg1)
-			.difficultyHintAvg2(difficultyHintAvg2)
-			.difficultyHintAvg3(difficultyHintAvg3)
-			.difficultyHintAvg4(difficultyHintAvg4)
-			.difficultyHintAvg5(difficultyHintAvg5)
-			.difficultySatisAvg1(difficultySatisAvg1)
-			.difficultySatisAvg2(difficultySatisAvg2)
-			.difficultySatisAvg3(difficultySatisAvg3)
-			.difficultySatisAvg4(difficultySatisAvg4)
-			.difficultySatisAvg5(difficultySatisAvg5)
+			.difficultyHintAvg1(difficultyHintAvg(difficultyBuckets, 1))
+			.difficultyHintAvg2(difficultyHintAvg(difficultyBuckets, 2))
+			.difficultyHintAvg3(difficultyHintAvg(difficultyBuckets, 3))
+			.difficultyHintAvg4(difficultyHintAvg(difficultyBuckets, 4))
+			.difficultyHintAvg5(difficultyHintAvg(difficultyBuckets, 5))
+			.difficultySatisAvg1(difficultySatisAvg(difficultyBuckets, 1))
+			.difficultySatisAvg2(difficultySatisAvg(difficultyBuckets, 2))
+			.difficultySatisAvg3(difficultySatisAvg(difficultyBuckets, 3))
+			.difficultySatisAvg4(difficultySatisAvg(difficultyBuckets, 4))
+			.difficultySatisAvg5(difficultySatisAvg(difficultyBuckets, 5))
 			.build();
 	}
 
 	// EscapeScheduleStat 계산 메서드
-	public EscapeScheduleStatDto calculateEscapeScheduleStat(List<DiaryStat> diaryStats) {
+	private EscapeScheduleStatDto calculateEscapeScheduleStat(
+		Collection<MemberStatBucket> buckets,
+		LastMonthTopTheme topTheme
+	) {
 		Map<String, Integer> monthlyCountMap = new LinkedHashMap<>();
-		YearMonth lastMonth = YearMonth.now().minusMonths(1);
-
-		long lastMonthTotalSatis = 0;
-		long lastMonthTotalTime = 0;
-		int lastMonthTopSatisfaction = 0;
-		long lastMonthTopSatisStatId = 0;
-		LocalDate lastMonthTopThemeDate = null;
-
-		int lastMonthCount = 0;
-		long lastMonthSatisCount = 0;
-		long lastMonthHintCount = 0;
-		long lastMonthTimeCount = 0;
-		long lastMonthTotalHintCount = 0;
-		long lastMonthSuccessCount = 0;
-
-		// 최근 6개월 초기화 (0으로)
-		for (int i = 5; i >= 0; i--) {
-			monthlyCountMap.put(YearMonth.now().minusMonths(i).format(YM_FORMATTER), 0);
-		}
+		Map<String, MemberStatBucket> monthBuckets = new HashMap<>();
+		YearMonth lastMonth = YearMonth.now(ZONE).minusMonths(1);
 
-		for (DiaryStat stat : diaryStats) {
-			LocalDate escapeDate = stat.getEscapeDate();
-
-			if (escapeDate == null) {
-				continue;
+		for (MemberStatBucket bucket : buckets) {
+			if (bucket.getBucketType() == MemberStatBucketType.MONTH) {
+				monthBuckets.put(bucket.getBucketKey(), bucket);
 			}
+		}
 
-			YearMonth escapeDateYM = YearMonth.from(escapeDate);
-			String escapeDateYMStr = escapeDateYM.format(YM_FORMATTER);
-
-			if (monthlyCountMap.containsKey(escapeDateYMStr)) {
-				monthlyCountMap.put(escapeDateYMStr, monthlyCountMap.get(escapeDateYMStr) + 1);
-			}
+		// 최근 6개월 (기록이 없는 달은 0)
+		for (int i = 5; i >= 0; i--) {
+			YearMonth yearMonth = YearMonth.now(ZONE).minusMonths(i);
+			MemberStatBucket bucket = monthBuckets.get(yearMonth.format(BUCKET_MONTH_FORMATTER));
 
-			if (escapeDateYM.equals(lastMonth)) {
-				lastMonthCount++;
-
-				if (stat.isEscapeResult()) {
-					lastMonthSuccessCount++;
-				}
-
-				if (stat.getHintCount() != null) {
-					lastMonthHintCount++;
-					lastMonthTotalHintCount += stat.getHintCount();
-				}
-
-				if (stat.getSatisfaction() != 0) {
-					lastMonthSatisCount++;
-					lastMonthTotalSatis += stat.getSatisfaction();
-
-					if (stat.getSatisfaction() > lastMonthTopSatisfaction) {
-						lastMonthTopSatisfaction = stat.getSatisfaction();
-						lastMonthTopSatisStatId = stat.getId();
-						lastMonthTopThemeDate = stat.getEscapeDate();
-
-						// 이번달 최고 만족도 테마가 중복될 경우 더 최근에 했던 테마로 저장
-					} else if (stat.getSatisfaction() == lastMonthTopSatisfaction) {
-						if (stat.getEscapeDate().isAfter(lastMonthTopThemeDate)) {
-							lastMonthTopSatisStatId = stat.getId();
-							lastMonthTopThemeDate = stat.getEscapeDate();
-						}
-					}
-				}
-
-				if (stat.getElapsedTime() != 0) {
-					lastMonthTimeCount++;
-					lastMonthTotalTime += stat.getElapsedTime();
-				}
-			}
+			monthlyCountMap.put(yearMonth.format(YM_FORMATTER), bucket != null ? (int)bucket.getDiaryCount() : 0);
 		}
 
+		MemberStatBucket lastMonthBucket = monthBuckets.getOrDefault(
+			lastMonth.format(BUCKET_MONTH_FORMATTER),
+			new MemberStatBucket(null, MemberStatBucketType.MONTH, lastMonth.format(BUCKET_MONTH_FORMATTER))
+		);
+
 		double lastMonthAvgSatisfaction = Ut.calculator.roundToFirstDecimalAsDouble(
-			Ut.calculator.calculateAverage(lastMonthTotalSatis, lastMonthSatisCount)
+			Ut.calculator.calculateAverage(lastMonthBucket.getSatisfactionSum(), lastMonthBucket.getSatisfactionCount())
 		);
 
 		double lastMonthAvgHintCount = Ut.calculator.roundToFirstDecimalAsDouble(
-			Ut.calculator.calculateAverage(lastMonthTotalHintCount, lastMonthHintCount)
+			Ut.calculator.calculateAverage(lastMonthBucket.getHintSum(), lastMonthBucket.getHintCount())
 		);
 
 		double lastMonthSuccessRate = Ut.calculator.roundToFirstDecimalAsDouble(
-			Ut.calculator.calculateRate(lastMonthCount, lastMonthSuccessCount)
+			Ut.calculator.calculateRate(lastMonthBucket.getDiaryCount(), lastMonthBucket.getSuccessCount())
 		);
 
 		int lastMonthAvgTime = Ut.calculator.roundToInt(
-			Ut.calculator.calculateAverage(lastMonthTotalTime, lastMonthTimeCount)
+			Ut.calculator.calculateAverage(lastMonthBucket.getElapsedTimeSum(), lastMonthBucket.getElapsedTimeCount())
 		);
 
-		String lastMonthTopTheme = lastMonthTopSatisStatId != 0
-			? diaryStatRepository.findById(lastMonthTopSatisStatId)
-			.orElseThrow().getTheme().getName() : null;
-
 		return EscapeScheduleStatDto.builder()
 			.monthlyCountMap(monthlyCountMap)
-			.lastMonthCount(lastMonthCount)
+			.lastMonthCount((int)lastMonthBucket.getDiaryCount())
 			.lastMonthAvgSatisfaction(lastMonthAvgSatisfaction)
 			.lastMonthAvgHintCount(lastMonthAvgHintCount)
 			.lastMonthSuccessRate(lastMonthSuccessRate)
 			.lastMonthAvgTime(lastMonthAvgTime)
-			.lastMonthTopTheme(lastMonthTopTheme)
-			.lastMonthTopSatisfaction(lastMonthTopSatisfaction)
+			.lastMonthTopTheme(topTheme.name())
+			.lastMonthTopSatisfaction(topTheme.satisfaction())
 			.build();
 	}
 
-	// 성향 분석 계산 메서드
-	private double calculateTendencyScore(List<DiaryStat> diaryStats, Map<String, Double> weights) {
-		double weightedSum = 0; // 가중 평균 점수 * 만족도 점수
-		double weightSum = 0; // 만족도 점수의 합
-
-		for (DiaryStat stat : diaryStats) {
-			boolean allScoresValid = true; // 모든 항목이 존재 하는지 여부
-			double causeScoreSum = 0; // 기준 항목 점수 * 가중치의 합
-
-			for (Map.Entry<String, Double> entry : weights.entrySet()) {
-				double score = getScoreByKey(stat, entry.getKey());
-
-				if (score <= 0) {
-					allScoresValid = false;
-
-					break; // 하나라도 값이 0인 경우 해당 기록은 제외
-				}
-				causeScoreSum += score * entry.getValue();
-			}
+	private double difficultyHintAvg(Map<String, MemberStatBucket> difficultyBuckets, int level) {
+		MemberStatBucket bucket = difficultyBuckets.get(String.valueOf(level));
 
-			if (allScoresValid) {
-				int satisfaction = stat.getSatisfaction();
-
-				if (satisfaction > 0) {
-					/**
-					 * 기준 항목들의 가중 평균 점수"가 높았을 때, 그 테마에 대한 만족도가 얼마나 높았는가? 에 대한 계산
-					 * 가중 평균 점수(원인 - 기준 항목들이 얼마나 부합했는지의 수치화) * 만족도(결과 - 그로 인해 얼마나 만족했는지) = 해당 기록의 성향 기여도
-					 * 만족도 점수의 합 = 기준값
-					 */
-					weightedSum += causeScoreSum * satisfaction;
-					weightSum += satisfaction;
-				}
-			}
+		if (bucket == null) {
+			return 0;
 		}
 
-		return weightSum == 0 ? 0
-			: Ut.calculator.roundToFirstDecimalAsDouble(weightedSum / weightSum);
+		return Ut.calculator.roundToFirstDecimalAsDouble(
+			Ut.calculator.calculateAverage(bucket.getHintSum(), bucket.getHintCount())
+		);
 	}
 
-	private double getScoreByKey(DiaryStat stat, String key) {
-		return switch (key) {
-			case "fear" -> stat.getFear();
-			case "production" -> stat.getProduction();
-			case "difficulty" -> stat.getDifficulty();
-			case "activity" -> stat.getActivity();
-			case "story" -> stat.getStory();
-			case "interior" -> stat.getInterior();
-			case "question" -> stat.getQuestion();
-			default -> 0;
-		};
-	}
+	private double difficultySatisAvg(Map<String, MemberStatBucket> difficultyBuckets, int level) {
+		MemberStatBucket bucket = difficultyBuckets.get(String.valueOf(level));
 
-	private double calculateAvgFromTuple(Map<Integer, Tuple> map, int level, int numeratorIdx, int denominatorIdx) {
-		if (map.get(level) == null) {
+		if (bucket == null) {
 			return 0;
 		}
 
 		return Ut.calculator.roundToFirstDecimalAsDouble(
-			Ut.calculator.calculateAverage(
-				map.get(level).get(numeratorIdx, Integer.class),
-				map.get(level).get(denominatorIdx, Long.class)
-			)
+			Ut.calculator.calculateAverage(bucket.getSatisfactionSum(), bucket.getSatisfactionCount())
 		);
 	}
-}
\ No newline at end of file
+
+	// 지난달 최고 평가 테마명, 만족도
+	private record LastMonthTopTheme(String name, int satisfaction) {
+	}
+
+	private record BucketKey(MemberStatBucketType type, String key) {
+	}
+}
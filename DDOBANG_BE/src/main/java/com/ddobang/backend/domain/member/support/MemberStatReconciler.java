@@ -0,0 +1,57 @@
+package com.ddobang.backend.domain.member.support;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.member.repository.MemberRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MemberStatReconciler
+ * 증분 반영된 사용자 분석 누적값을 주기적으로 일지 기준 재집계 결과와 비교하여 검증, 복구
+ * (커밋 이후 메모리에서 대기 중인 변경분은 재시작/배포 시 유실될 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberStatReconciler {
+	private final MemberRepository memberRepository;
+	private final MemberStatCalculator memberStatCalculator;
+
+	@Value("${custom.stat.member.reconcile-chunk-size:500}")
+	private int chunkSize;
+
+	// 매일 4시 45분에 검증 (분석 데이터가 없는 사용자의 유실도 확인하기 위해 회원 id 순으로 chunk 단위 처리)
+	@Scheduled(cron = "${custom.stat.member.reconcile-cron:0 45 4 * * *}", zone = "Asia/Seoul")
+	public void reconcileMemberStats() {
+		long lastId = 0L;
+		int checkedCount = 0;
+		int repairedCount = 0;
+
+		while (true) {
+			List<Long> memberIds = memberRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+
+			if (memberIds.isEmpty()) {
+				break;
+			}
+
+			try {
+				repairedCount += memberStatCalculator.reconcile(memberIds);
+			} catch (Exception e) {
+				log.warn("사용자 분석 검증 실패 - member id {} ~ {}: {}",
+					memberIds.get(0), memberIds.get(memberIds.size() - 1), e.getMessage());
+			}
+
+			checkedCount += memberIds.size();
+			lastId = memberIds.get(memberIds.size() - 1);
+		}
+
+		log.info("사용자 분석 검증 완료. 검사: {}, 복구: {}", checkedCount, repairedCount);
+	}
+}
@@ -1,14 +1,22 @@
 package com.ddobang.backend.domain.member.support;
 
-import java.util.ArrayList;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.ddobang.backend.domain.member.entity.MemberStat;
+import com.ddobang.backend.domain.member.entity.MemberStatJobProgress;
+import com.ddobang.backend.domain.member.repository.MemberStatJobProgressRepository;
 import com.ddobang.backend.domain.member.repository.MemberStatRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -18,12 +26,22 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class MemberStatScheduler {
+	private static final String MONTHLY_JOB_PREFIX = "monthly-";
+
 	private final MemberStatRepository memberStatRepository;
 	private final MemberStatCalculator memberStatCalculator;
+	private final MemberStatJobProgressRepository memberStatJobProgressRepository;
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	@Value("${custom.stat.member.monthly-chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${custom.stat.member.monthly-parallelism:4}")
+	private int parallelism;
 
 	// 방탈출을 시작한 날부터 0000일
 	// 매일 0시에 반영
-	@Scheduled(cron = "0 0 0 * * *")
+	@Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
 	@Transactional
 	public void updateDaysSinceFirstEscape() {
 		int updatedCount = memberStatRepository.incrementDaysSinceFirstEscape();
@@ -31,43 +49,131 @@ public class MemberStatScheduler {
 		log.info("{}개의 daysSinceFirstEscape 값이 반영 되었습니다.", updatedCount);
 	}
 
-	// 월별 데이터 수정
-	// 매달 1일 0시 10분에 반영 (두 번째 스케줄러)
+	/**
+	 * 월별 데이터 수정
+	 * 매달 1일 0시 10분에 반영 (두 번째 스케줄러)
+	 * member stat id 순으로 chunk 를 나눠 제한된 스레드에서 병렬 처리 (chunk 마다 별도 트랜잭션)
+	 * 진행 위치를 기록하여 중단되거나 실패한 chunk 가 있는 경우 재시도 주기마다 해당 chunk 부터 다시 처리
+	 */
 	@Scheduled(cron = "0 10 0 1 * *", zone = "Asia/Seoul")
-	@Transactional
 	public void updateMonthlyMemberStat() {
-		List<MemberStat> memberStats = memberStatRepository.findAll();
-		List<MemberStat> updated = new ArrayList<>();
-		List<MemberStat> failed = new ArrayList<>();
-
-		for (MemberStat memberStat : memberStats) {
-			try {
-				memberStatCalculator.upDateEscapeScheduleStat(memberStat);
-				updated.add(memberStat);
-			} catch (Exception e) {
-				log.warn("사용자 {} 통계 업데이트 실패: {}", memberStat.getMember().getId(), e.getMessage());
-			}
+		runMonthlyMemberStat();
+	}
+
+	// 이번 달 작업이 완료되지 않은 경우 (중단, chunk 실패) 이어서 처리, 완료된 경우 바로 종료
+	@Scheduled(cron = "${custom.stat.member.monthly-retry-cron:0 40 * * * *}", zone = "Asia/Seoul")
+	public void resumeMonthlyMemberStat() {
+		runMonthlyMemberStat();
+	}
+
+	private void runMonthlyMemberStat() {
+		// 월별 작업과 재시도가 겹치지 않도록 한 번에 하나만 실행
+		if (!running.compareAndSet(false, true)) {
+			log.info("사용자 분석 월별 작업이 이미 실행 중입니다.");
+			return;
 		}
 
 		try {
-			memberStatRepository.saveAll(updated);
-		} catch (ObjectOptimisticLockingFailureException e) {
-			log.warn("사용자 분석 데이터 스케쥴링 중 낙관적 락 충돌 발생. 개별 재처리 시작.");
-
-			// 배치 저장 실패 시 개별로 저장 재시도
-			for (MemberStat memberStat : updated) {
-				try {
-					memberStatRepository.save(memberStat);
-				} catch (ObjectOptimisticLockingFailureException ex) {
-					log.error("개별 재시도 실패 - 사용자 {}", memberStat.getId());
-					failed.add(memberStat);
+			processMonthlyMemberStat();
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private void processMonthlyMemberStat() {
+		String jobKey = MONTHLY_JOB_PREFIX + YearMonth.now(MemberStatCalculator.ZONE);
+		MemberStatJobProgress progress = memberStatJobProgressRepository.findById(jobKey)
+			.orElseGet(() -> new MemberStatJobProgress(jobKey));
+
+		if (progress.isCompleted()) {
+			log.debug("이미 완료된 사용자 분석 월별 작업입니다. ({})", jobKey);
+			return;
+		}
+
+		if (progress.getLastMemberId() > 0) {
+			log.info("사용자 분석 월별 작업 재개 - member stat id {} 이후부터", progress.getLastMemberId());
+		}
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(parallelism);
+		executor.setMaxPoolSize(parallelism);
+		executor.setThreadNamePrefix("member-stat-monthly-");
+		executor.initialize();
+
+		// 제출 순서대로 완료를 확인하여, 앞선 chunk 가 모두 성공한 위치까지만 진행 위치로 기록
+		Deque<ChunkTask> inFlight = new ArrayDeque<>();
+		long lastId = progress.getLastMemberId();
+		boolean failed = false;
+
+		try {
+			while (true) {
+				List<Long> memberIds = memberStatRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+
+				if (memberIds.isEmpty()) {
+					break;
+				}
+
+				lastId = memberIds.get(memberIds.size() - 1);
+				inFlight.addLast(new ChunkTask(
+					memberIds,
+					executor.submit(() -> memberStatCalculator.updateMonthlyScheduleStats(memberIds))
+				));
+
+				if (inFlight.size() >= parallelism) {
+					failed |= !complete(inFlight.pollFirst(), progress, failed);
 				}
 			}
-		} catch (Exception ex) {
-			log.error("사용자 분석 데이터 스케쥴링 중 예외 발생: {}", ex.getMessage());
+
+			while (!inFlight.isEmpty()) {
+				failed |= !complete(inFlight.pollFirst(), progress, failed);
+			}
+
+			if (!failed) {
+				progress.complete();
+			}
+			memberStatJobProgressRepository.save(progress);
+		} finally {
+			executor.shutdown();
+		}
+
+		if (failed) {
+			log.warn("사용자 분석 월별 작업 미완료 - 실패한 chunk 가 있어 member stat id {} 이후부터 재시도합니다.",
+				progress.getLastMemberId());
+			return;
 		}
 
-		log.info("업데이트 완료. 총 시도: {}, 성공: {}, 충돌로 실패: {}",
-			memberStats.size(), updated.size() - failed.size(), failed.size());
+		log.info("업데이트 완료. 성공: {}, 실패: {}", progress.getProcessedCount(), progress.getFailedCount());
+	}
+
+	// chunk 완료 확인 (성공 여부 반환), 앞선 chunk 가 실패한 경우 진행 위치는 옮기지 않음
+	private boolean complete(ChunkTask task, MemberStatJobProgress progress, boolean blocked) {
+		List<Long> memberIds = task.memberIds();
+
+		try {
+			int processedCount = task.future().get();
+
+			if (blocked) {
+				progress.record(processedCount, 0);
+			} else {
+				progress.advance(memberIds.get(memberIds.size() - 1), processedCount);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("사용자 분석 월별 작업 중단", e);
+		} catch (ExecutionException e) {
+			log.warn("사용자 분석 월별 작업 chunk 실패 - member stat id {} ~ {}: {}",
+				memberIds.get(0), memberIds.get(memberIds.size() - 1), e.getCause().getMessage());
+			progress.record(0, memberIds.size());
+			memberStatJobProgressRepository.save(progress);
+
+			return false;
+		}
+
+		memberStatJobProgressRepository.save(progress);
+
+		return true;
+	}
+
+	private record ChunkTask(List<Long> memberIds, Future<Integer> future) {
 	}
 }
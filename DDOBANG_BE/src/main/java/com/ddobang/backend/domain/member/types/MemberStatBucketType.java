@@ -0,0 +1,6 @@
+package com.ddobang.backend.domain.member.types;
+
+// 사용자 분석 누적값 구분 - 장르별, 난이도 레벨별, 월별
+public enum MemberStatBucketType {
+	GENRE, DIFFICULTY, MONTH
+}
@@ -20,6 +20,7 @@ import com.ddobang.backend.domain.member.entity.Member;
 import com.ddobang.backend.domain.member.service.MemberService;
 import com.ddobang.backend.domain.message.dto.MessageDto;
 import com.ddobang.backend.domain.message.dto.MessageRequestDto;
+import com.ddobang.backend.domain.message.dto.MessageThreadDto;
 import com.ddobang.backend.domain.message.service.MessageService;
 import com.ddobang.backend.global.response.ResponseFactory;
 import com.ddobang.backend.global.response.SliceDto;
@@ -60,11 +61,12 @@ public class MessageController {
 	@GetMapping("/received")
 	public ResponseEntity<SuccessResponse<SliceDto<MessageDto>>> getReceivedMessages(
 		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursor,
+		@RequestParam(required = false) Long cursorId,
 		@RequestParam(defaultValue = "10") int size) {
 
 		// 변경: LoginMemberProvider 사용
 		Member member = loginMemberProvider.getCurrentMember();
-		SliceDto<MessageDto> messages = messageService.getReceivedMessagesWithCursor(member, cursor, size);
+		SliceDto<MessageDto> messages = messageService.getReceivedMessagesWithCursor(member, cursor, cursorId, size);
 
 		return ResponseFactory.ok("받은 쪽지 목록 조회 성공", messages);
 	}
@@ -72,14 +74,27 @@ public class MessageController {
 	@GetMapping("/sent")
 	public ResponseEntity<SuccessResponse<SliceDto<MessageDto>>> getSentMessages(
 		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursor,
+		@RequestParam(required = false) Long cursorId,
 		@RequestParam(defaultValue = "10") int size) {
 		// 변경: LoginMemberProvider 사용
 		Member member = loginMemberProvider.getCurrentMember();
-		SliceDto<MessageDto> messages = messageService.getSentMessagesWithCursor(member, cursor, size);
+		SliceDto<MessageDto> messages = messageService.getSentMessagesWithCursor(member, cursor, cursorId, size);
 
 		return ResponseFactory.ok("보낸 쪽지 목록 조회 성공", messages);
 	}
 
+	// 대화 목록 조회 (상대방별 마지막 쪽지, 읽지 않은 쪽지 수)
+	@GetMapping("/threads")
+	public ResponseEntity<SuccessResponse<SliceDto<MessageThreadDto>>> getThreads(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursor,
+		@RequestParam(required = false) Long cursorId,
+		@RequestParam(defaultValue = "10") int size) {
+		Member member = loginMemberProvider.getCurrentMember();
+		SliceDto<MessageThreadDto> threads = messageService.getThreadsWithCursor(member, cursor, cursorId, size);
+
+		return ResponseFactory.ok("대화 목록 조회 성공", threads);
+	}
+
 	// 단일 쪽지 상세 조회
 	@GetMapping("/{id}")
 	public ResponseEntity<SuccessResponse<MessageDto>> getMessage(
@@ -2,7 +2,9 @@ package com.ddobang.backend.domain.message.dto;
 
 import java.time.LocalDateTime;
 
+import com.ddobang.backend.domain.member.entity.Member;
 import com.ddobang.backend.domain.message.entity.Message;
+import com.ddobang.backend.domain.message.repository.MessageView;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -32,4 +34,32 @@ public class MessageDto {
 			.createdAt(message.getCreatedAt())
 			.build();
 	}
+
+	// 받은 쪽지함 목록 - 상대방은 보낸 사람
+	public static MessageDto ofReceived(MessageView view, Member receiver) {
+		return MessageDto.builder()
+			.id(view.getId())
+			.senderId(view.getCounterpartId())
+			.senderNickname(view.getCounterpartNickname())
+			.receiverId(receiver.getId())
+			.receiverNickname(receiver.getNickname())
+			.content(view.getContent())
+			.isRead(view.getIsRead())
+			.createdAt(view.getCreatedAt())
+			.build();
+	}
+
+	// 보낸 쪽지함 목록 - 상대방은 받는 사람
+	public static MessageDto ofSent(MessageView view, Member sender) {
+		return MessageDto.builder()
+			.id(view.getId())
+			.senderId(sender.getId())
+			.senderNickname(sender.getNickname())
+			.receiverId(view.getCounterpartId())
+			.receiverNickname(view.getCounterpartNickname())
+			.content(view.getContent())
+			.isRead(view.getIsRead())
+			.createdAt(view.getCreatedAt())
+			.build();
+	}
 }
@@ -0,0 +1,35 @@
+package com.ddobang.backend.domain.message.dto;
+
+import java.time.LocalDateTime;
+
+import com.ddobang.backend.domain.message.repository.MessageThreadView;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MessageThreadDto {
+
+	private Long id;
+	private Long counterpartId;
+	private String counterpartNickname;
+	private Long lastMessageId;
+	private String lastMessageContent;
+	private Long lastMessageSenderId;
+	private LocalDateTime lastActivityAt;
+	private int unreadCount;
+
+	public static MessageThreadDto from(MessageThreadView view) {
+		return MessageThreadDto.builder()
+			.id(view.getId())
+			.counterpartId(view.getCounterpartId())
+			.counterpartNickname(view.getCounterpartNickname())
+			.lastMessageId(view.getLastMessageId())
+			.lastMessageContent(view.getLastMessageContent())
+			.lastMessageSenderId(view.getLastMessageSenderId())
+			.lastActivityAt(view.getLastActivityAt())
+			.unreadCount(view.getUnreadCount())
+			.build();
+	}
+}
@@ -5,9 +5,11 @@ import com.ddobang.backend.global.entity.BaseTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,19 +20,26 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "messages")
+@Table(
+	name = "messages",
+	indexes = {
+		// 받은, 보낸 쪽지함 커서 조회 (created_at, id 순)
+		@Index(name = "idx_messages_receiver_created", columnList = "receiver_id, created_at, id"),
+		@Index(name = "idx_messages_sender_created", columnList = "sender_id, created_at, id")
+	}
+)
 public class Message extends BaseTime {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
 	// 보낸 사람과의 연관관계
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "sender_id", nullable = false)
 	private Member sender;
 
 	// 받는 사람과의 연관관계
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "receiver_id", nullable = false)
 	private Member receiver;
 
@@ -0,0 +1,58 @@
+package com.ddobang.backend.domain.message.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * MessageThread
+ * 두 사용자 사이의 대화 요약 (참여자마다 한 행)
+ * 쪽지 전송, 읽음 처리 시 MessageThreadRepository 의 upsert, 감소 쿼리로 갱신 (엔티티를 직접 수정하지 않음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+	name = "message_thread",
+	uniqueConstraints = @UniqueConstraint(name = "uk_message_thread_owner_counterpart",
+		columnNames = {"owner_id", "counterpart_id"}),
+	indexes = @Index(name = "idx_message_thread_owner_activity", columnList = "owner_id, last_activity_at, id")
+)
+public class MessageThread {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 대화 목록을 보는 사용자
+	@Column(name = "owner_id", nullable = false)
+	private Long ownerId;
+
+	// 대화 상대
+	@Column(name = "counterpart_id", nullable = false)
+	private Long counterpartId;
+
+	@Column(name = "last_message_id", nullable = false)
+	private Long lastMessageId;
+
+	@Column(name = "last_message_content", nullable = false)
+	private String lastMessageContent;
+
+	@Column(name = "last_message_sender_id", nullable = false)
+	private Long lastMessageSenderId;
+
+	@Column(name = "last_activity_at", nullable = false)
+	private LocalDateTime lastActivityAt;
+
+	// owner 가 읽지 않은 쪽지 수
+	@Column(name = "unread_count", nullable = false)
+	private int unreadCount;
+}
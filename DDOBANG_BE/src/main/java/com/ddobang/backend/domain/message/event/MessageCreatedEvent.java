@@ -1,14 +1,16 @@
 // 메시지 생성 이벤트 클래스
 package com.ddobang.backend.domain.message.event;
 
-import com.ddobang.backend.global.event.DomainEvent;
+import com.ddobang.backend.global.event.OutboxEvent;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
-public class MessageCreatedEvent implements DomainEvent {
+@Jacksonized
+public class MessageCreatedEvent implements OutboxEvent {
 	private Long senderId;
 	private String senderNickname;
 	private Long receiverId;
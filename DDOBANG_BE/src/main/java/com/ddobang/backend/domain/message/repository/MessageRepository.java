@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,26 +21,52 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
 	// 읽지않은 수신 메세지 조회
 	List<Message> findAllByReceiverIdAndIsReadFalse(Long receiverId);
 
+	// 읽지 않은 쪽지만 읽음 처리 (동시에 읽음 처리해도 한 번만 반영되도록 변경된 행 수 반환)
+	@Modifying
+	@Query("UPDATE Message m SET m.isRead = true WHERE m.id = :id AND m.isRead = false")
+	int markAsRead(@Param("id") Long id);
+
 	// 커서 기반 무한 스크롤용 메서드
-	@Query("SELECT m FROM Message m WHERE m.receiver.id = :receiverId AND m.createdAt < :cursorTime ORDER BY m.createdAt DESC LIMIT :size")
-	List<Message> findReceivedMessagesBeforeCursor(
+	// 생성 시각이 같은 쪽지가 건너뛰어지거나 중복되지 않도록 (createdAt, id) 를 함께 커서로 사용
+	@Query("SELECT m.id AS id, s.id AS counterpartId, s.nickname AS counterpartNickname,"
+		+ " m.content AS content, m.isRead AS isRead, m.createdAt AS createdAt"
+		+ " FROM Message m JOIN m.sender s"
+		+ " WHERE m.receiver.id = :receiverId"
+		+ " AND (m.createdAt < :cursorTime OR (m.createdAt = :cursorTime AND m.id < :cursorId))"
+		+ " ORDER BY m.createdAt DESC, m.id DESC LIMIT :size")
+	List<MessageView> findReceivedMessagesBeforeCursor(
 		@Param("receiverId") Long receiverId,
 		@Param("cursorTime") LocalDateTime cursorTime,
+		@Param("cursorId") Long cursorId,
 		@Param("size") int size);
 
-	@Query("SELECT m FROM Message m WHERE m.receiver.id = :receiverId ORDER BY m.createdAt DESC LIMIT :size")
-	List<Message> findFirstReceivedMessages(
+	@Query("SELECT m.id AS id, s.id AS counterpartId, s.nickname AS counterpartNickname,"
+		+ " m.content AS content, m.isRead AS isRead, m.createdAt AS createdAt"
+		+ " FROM Message m JOIN m.sender s"
+		+ " WHERE m.receiver.id = :receiverId"
+		+ " ORDER BY m.createdAt DESC, m.id DESC LIMIT :size")
+	List<MessageView> findFirstReceivedMessages(
 		@Param("receiverId") Long receiverId,
 		@Param("size") int size);
 
-	@Query("SELECT m FROM Message m WHERE m.sender.id = :senderId AND m.createdAt < :cursorTime ORDER BY m.createdAt DESC LIMIT :size")
-	List<Message> findSentMessagesBeforeCursor(
+	@Query("SELECT m.id AS id, r.id AS counterpartId, r.nickname AS counterpartNickname,"
+		+ " m.content AS content, m.isRead AS isRead, m.createdAt AS createdAt"
+		+ " FROM Message m JOIN m.receiver r"
+		+ " WHERE m.sender.id = :senderId"
+		+ " AND (m.createdAt < :cursorTime OR (m.createdAt = :cursorTime AND m.id < :cursorId))"
+		+ " ORDER BY m.createdAt DESC, m.id DESC LIMIT :size")
+	List<MessageView> findSentMessagesBeforeCursor(
 		@Param("senderId") Long senderId,
 		@Param("cursorTime") LocalDateTime cursorTime,
+		@Param("cursorId") Long cursorId,
 		@Param("size") int size);
 
-	@Query("SELECT m FROM Message m WHERE m.sender.id = :senderId ORDER BY m.createdAt DESC LIMIT :size")
-	List<Message> findFirstSentMessages(
+	@Query("SELECT m.id AS id, r.id AS counterpartId, r.nickname AS counterpartNickname,"
+		+ " m.content AS content, m.isRead AS isRead, m.createdAt AS createdAt"
+		+ " FROM Message m JOIN m.receiver r"
+		+ " WHERE m.sender.id = :senderId"
+		+ " ORDER BY m.createdAt DESC, m.id DESC LIMIT :size")
+	List<MessageView> findFirstSentMessages(
 		@Param("senderId") Long senderId,
 		@Param("size") int size);
 
@@ -0,0 +1,46 @@
+package com.ddobang.backend.domain.message.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ddobang.backend.domain.message.entity.MessageThread;
+
+@Repository
+public interface MessageThreadRepository extends JpaRepository<MessageThread, Long>, MessageThreadRepositoryCustom {
+
+	// 커서 기반 무한 스크롤용 메서드 - 최근 대화 순 (마지막 대화 시각이 같으면 id 로 순서 고정)
+	@Query("SELECT t.id AS id, c.id AS counterpartId, c.nickname AS counterpartNickname,"
+		+ " t.lastMessageId AS lastMessageId, t.lastMessageContent AS lastMessageContent,"
+		+ " t.lastMessageSenderId AS lastMessageSenderId, t.lastActivityAt AS lastActivityAt,"
+		+ " t.unreadCount AS unreadCount"
+		+ " FROM MessageThread t JOIN Member c ON c.id = t.counterpartId"
+		+ " WHERE t.ownerId = :ownerId"
+		+ " ORDER BY t.lastActivityAt DESC, t.id DESC LIMIT :size")
+	List<MessageThreadView> findFirstThreads(@Param("ownerId") Long ownerId, @Param("size") int size);
+
+	@Query("SELECT t.id AS id, c.id AS counterpartId, c.nickname AS counterpartNickname,"
+		+ " t.lastMessageId AS lastMessageId, t.lastMessageContent AS lastMessageContent,"
+		+ " t.lastMessageSenderId AS lastMessageSenderId, t.lastActivityAt AS lastActivityAt,"
+		+ " t.unreadCount AS unreadCount"
+		+ " FROM MessageThread t JOIN Member c ON c.id = t.counterpartId"
+		+ " WHERE t.ownerId = :ownerId"
+		+ " AND (t.lastActivityAt < :cursorTime OR (t.lastActivityAt = :cursorTime AND t.id < :cursorId))"
+		+ " ORDER BY t.lastActivityAt DESC, t.id DESC LIMIT :size")
+	List<MessageThreadView> findThreadsBeforeCursor(
+		@Param("ownerId") Long ownerId,
+		@Param("cursorTime") LocalDateTime cursorTime,
+		@Param("cursorId") Long cursorId,
+		@Param("size") int size);
+
+	// 쪽지 하나를 읽거나 읽지 않은 쪽지를 삭제했을 때 읽지 않은 쪽지 수 감소
+	@Modifying
+	@Query("UPDATE MessageThread t SET t.unreadCount = t.unreadCount - 1"
+		+ " WHERE t.ownerId = :ownerId AND t.counterpartId = :counterpartId AND t.unreadCount > 0")
+	int decrementUnreadCount(@Param("ownerId") Long ownerId, @Param("counterpartId") Long counterpartId);
+}
@@ -0,0 +1,15 @@
+package com.ddobang.backend.domain.message.repository;
+
+import java.util.List;
+
+import com.ddobang.backend.domain.message.entity.Message;
+
+public interface MessageThreadRepositoryCustom {
+
+	// 보낸 사람, 받는 사람의 대화 요약을 생성 또는 갱신 (받는 사람의 읽지 않은 쪽지 수 증가)
+	void upsertForMessage(Message message);
+
+	// 쪽지 기록으로 대화 요약 재구성 (owner 기준, 기존 쪽지 이관 및 복구용, 여러 번 실행해도 결과가 같음)
+	// 재구성한 대화 요약 수 반환
+	int rebuildForOwners(List<Long> ownerIds);
+}
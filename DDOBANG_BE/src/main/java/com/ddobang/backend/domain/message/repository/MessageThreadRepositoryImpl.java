@@ -0,0 +1,154 @@
+package com.ddobang.backend.domain.message.repository;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.ddobang.backend.domain.message.entity.Message;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MessageThreadRepositoryImpl
+ * 대화 요약 upsert 용 JDBC 구현체 클래스
+ * 동시에 쪽지가 오가도 읽지 않은 쪽지 수가 유실되지 않도록 증감은 UPDATE 한 문장으로 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageThreadRepositoryImpl implements MessageThreadRepositoryCustom {
+
+	// 더 최신 쪽지일 때만 마지막 쪽지 정보를 교체 (last_message_id 는 비교에 쓰이므로 마지막에 갱신)
+	private static final String UPDATE_SQL = "UPDATE message_thread SET"
+		+ " unread_count = unread_count + ?,"
+		+ " last_message_content = CASE WHEN ? > last_message_id THEN ? ELSE last_message_content END,"
+		+ " last_message_sender_id = CASE WHEN ? > last_message_id THEN ? ELSE last_message_sender_id END,"
+		+ " last_activity_at = CASE WHEN ? > last_message_id THEN ? ELSE last_activity_at END,"
+		+ " last_message_id = GREATEST(last_message_id, ?)"
+		+ " WHERE owner_id = ? AND counterpart_id = ?";
+
+	private static final String INSERT_SQL = "INSERT INTO message_thread"
+		+ " (owner_id, counterpart_id, last_message_id, last_message_content, last_message_sender_id,"
+		+ " last_activity_at, unread_count)"
+		+ " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	// owner 별 대화 상대마다 가장 최근 쪽지 조회 (보낸 쪽지, 받은 쪽지 모두 포함)
+	private static final String LAST_MESSAGES_SQL = "SELECT p.owner_id, p.counterpart_id,"
+		+ " m.id, m.content, m.sender_id, m.created_at"
+		+ " FROM (SELECT owner_id, counterpart_id, MAX(id) AS last_id FROM ("
+		+ " SELECT sender_id AS owner_id, receiver_id AS counterpart_id, id FROM messages WHERE sender_id IN (%1$s)"
+		+ " UNION ALL"
+		+ " SELECT receiver_id AS owner_id, sender_id AS counterpart_id, id FROM messages WHERE receiver_id IN (%1$s)"
+		+ ") pairs GROUP BY owner_id, counterpart_id) p"
+		+ " JOIN messages m ON m.id = p.last_id";
+
+	// 읽지 않은 쪽지 수는 같은 문장 안에서 다시 집계하여 덮어씀 (마지막 쪽지 정보는 더 최신일 때만 교체)
+	private static final String REBUILD_UPDATE_SQL = "UPDATE message_thread SET"
+		+ " unread_count = (SELECT COUNT(*) FROM messages m"
+		+ " WHERE m.receiver_id = ? AND m.sender_id = ? AND m.is_read = false),"
+		+ " last_message_content = CASE WHEN ? > last_message_id THEN ? ELSE last_message_content END,"
+		+ " last_message_sender_id = CASE WHEN ? > last_message_id THEN ? ELSE last_message_sender_id END,"
+		+ " last_activity_at = CASE WHEN ? > last_message_id THEN ? ELSE last_activity_at END,"
+		+ " last_message_id = GREATEST(last_message_id, ?)"
+		+ " WHERE owner_id = ? AND counterpart_id = ?";
+
+	private static final String REBUILD_INSERT_SQL = "INSERT INTO message_thread"
+		+ " (owner_id, counterpart_id, last_message_id, last_message_content, last_message_sender_id,"
+		+ " last_activity_at, unread_count)"
+		+ " SELECT ?, ?, ?, ?, ?, ?, COUNT(*) FROM messages m"
+		+ " WHERE m.receiver_id = ? AND m.sender_id = ? AND m.is_read = false";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void upsertForMessage(Message message) {
+		Long senderId = message.getSender().getId();
+		Long receiverId = message.getReceiver().getId();
+
+		upsert(senderId, receiverId, message, 0);
+		upsert(receiverId, senderId, message, 1);
+	}
+
+	// 대화가 없으면 생성, 동시에 생성되어 unique 제약에 걸리면 다시 갱신
+	private void upsert(Long ownerId, Long counterpartId, Message message, int unreadDelta) {
+		if (update(ownerId, counterpartId, message, unreadDelta) > 0) {
+			return;
+		}
+
+		try {
+			jdbcTemplate.update(INSERT_SQL, ownerId, counterpartId, message.getId(), message.getContent(),
+				message.getSender().getId(), Timestamp.valueOf(message.getCreatedAt()), unreadDelta);
+		} catch (DuplicateKeyException e) {
+			update(ownerId, counterpartId, message, unreadDelta);
+		}
+	}
+
+	private int update(Long ownerId, Long counterpartId, Message message, int unreadDelta) {
+		Long messageId = message.getId();
+
+		return jdbcTemplate.update(UPDATE_SQL,
+			unreadDelta,
+			messageId, message.getContent(),
+			messageId, message.getSender().getId(),
+			messageId, Timestamp.valueOf(message.getCreatedAt()),
+			messageId,
+			ownerId, counterpartId);
+	}
+
+	@Override
+	public int rebuildForOwners(List<Long> ownerIds) {
+		if (ownerIds.isEmpty()) {
+			return 0;
+		}
+
+		String placeholders = String.join(", ", Collections.nCopies(ownerIds.size(), "?"));
+		Object[] params = new Object[ownerIds.size() * 2];
+		for (int i = 0; i < ownerIds.size(); i++) {
+			params[i] = ownerIds.get(i);
+			params[ownerIds.size() + i] = ownerIds.get(i);
+		}
+
+		List<LastMessage> lastMessages = jdbcTemplate.query(
+			String.format(LAST_MESSAGES_SQL, placeholders),
+			(rs, rowNum) -> new LastMessage(
+				rs.getLong("owner_id"), rs.getLong("counterpart_id"), rs.getLong("id"),
+				rs.getString("content"), rs.getLong("sender_id"), rs.getTimestamp("created_at")),
+			params);
+
+		lastMessages.forEach(this::rebuild);
+		return lastMessages.size();
+	}
+
+	// 대화가 없으면 생성, 동시에 생성되어 unique 제약에 걸리면 다시 갱신
+	private void rebuild(LastMessage last) {
+		if (rebuildUpdate(last) > 0) {
+			return;
+		}
+
+		try {
+			jdbcTemplate.update(REBUILD_INSERT_SQL, last.ownerId(), last.counterpartId(), last.messageId(),
+				last.content(), last.senderId(), last.createdAt(), last.ownerId(), last.counterpartId());
+		} catch (DuplicateKeyException e) {
+			rebuildUpdate(last);
+		}
+	}
+
+	private int rebuildUpdate(LastMessage last) {
+		Long messageId = last.messageId();
+
+		return jdbcTemplate.update(REBUILD_UPDATE_SQL,
+			last.ownerId(), last.counterpartId(),
+			messageId, last.content(),
+			messageId, last.senderId(),
+			messageId, last.createdAt(),
+			messageId,
+			last.ownerId(), last.counterpartId());
+	}
+
+	private record LastMessage(Long ownerId, Long counterpartId, Long messageId, String content, Long senderId,
+		Timestamp createdAt) {
+	}
+}
@@ -0,0 +1,22 @@
+package com.ddobang.backend.domain.message.repository;
+
+import java.time.LocalDateTime;
+
+// 대화 목록 조회 결과 (상대방은 id, 닉네임만 조회)
+public interface MessageThreadView {
+	Long getId();
+
+	Long getCounterpartId();
+
+	String getCounterpartNickname();
+
+	Long getLastMessageId();
+
+	String getLastMessageContent();
+
+	Long getLastMessageSenderId();
+
+	LocalDateTime getLastActivityAt();
+
+	Integer getUnreadCount();
+}
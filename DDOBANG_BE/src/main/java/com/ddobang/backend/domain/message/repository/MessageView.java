@@ -0,0 +1,18 @@
+package com.ddobang.backend.domain.message.repository;
+
+import java.time.LocalDateTime;
+
+// 쪽지함 목록 조회 결과 (상대방은 id, 닉네임만 조회)
+public interface MessageView {
+	Long getId();
+
+	Long getCounterpartId();
+
+	String getCounterpartNickname();
+
+	String getContent();
+
+	Boolean getIsRead();
+
+	LocalDateTime getCreatedAt();
+}
@@ -9,11 +9,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.ddobang.backend.domain.member.entity.Member;
 import com.ddobang.backend.domain.message.dto.MessageDto;
+import com.ddobang.backend.domain.message.dto.MessageThreadDto;
 import com.ddobang.backend.domain.message.entity.Message;
 import com.ddobang.backend.domain.message.event.MessageCreatedEvent;
 import com.ddobang.backend.domain.message.exception.MessageErrorCode;
 import com.ddobang.backend.domain.message.exception.MessageException;
 import com.ddobang.backend.domain.message.repository.MessageRepository;
+import com.ddobang.backend.domain.message.repository.MessageThreadRepository;
+import com.ddobang.backend.domain.message.repository.MessageThreadView;
+import com.ddobang.backend.domain.message.repository.MessageView;
 import com.ddobang.backend.global.event.EventPublisher;
 import com.ddobang.backend.global.response.SliceDto;
 
@@ -24,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MessageService {
 	private final MessageRepository messageRepository;
+	private final MessageThreadRepository messageThreadRepository;
 	private final EventPublisher eventPublisher;
 
 	// 쪽지 보내기
@@ -39,6 +44,9 @@ public class MessageService {
 				.isRead(false)
 				.build());
 
+			// 대화 목록의 마지막 쪽지, 받는 사람의 읽지 않은 쪽지 수 갱신
+			messageThreadRepository.upsertForMessage(message);
+
 			//이벤트: 메시지 생성 이벤트 발행
 			eventPublisher.publish(MessageCreatedEvent.builder()
 				.senderId(sender.getId())
@@ -70,19 +78,22 @@ public class MessageService {
 	}
 
 	// 커서 기반 무한 스크롤 - 받은 메시지 조회 - SliceDto 사용
+	// cursorId 가 없으면 cursor 시각 이전 쪽지만 조회 (기존 클라이언트 호환)
 	@Transactional(readOnly = true)
-	public SliceDto<MessageDto> getReceivedMessagesWithCursor(Member member, LocalDateTime cursor, int size) {
-		List<Message> messages;
+	public SliceDto<MessageDto> getReceivedMessagesWithCursor(Member member, LocalDateTime cursor, Long cursorId,
+		int size) {
+		List<MessageView> messages;
 		if (cursor == null) {
 			// 첫 페이지 요청
 			messages = messageRepository.findFirstReceivedMessages(member.getId(), size + 1);
 		} else {
 			// 다음 페이지 요청
-			messages = messageRepository.findReceivedMessagesBeforeCursor(member.getId(), cursor, size + 1);
+			messages = messageRepository.findReceivedMessagesBeforeCursor(
+				member.getId(), cursor, cursorId != null ? cursorId : 0L, size + 1);
 		}
 
 		List<MessageDto> messageDtos = messages.stream()
-			.map(MessageDto::fromEntity)
+			.map(message -> MessageDto.ofReceived(message, member))
 			.collect(Collectors.toList());
 
 		return SliceDto.of(messageDtos, size);
@@ -90,23 +101,42 @@ public class MessageService {
 
 	// 커서 기반 무한 스크롤 - 보낸 메시지 조회 - SliceDto 사용
 	@Transactional(readOnly = true)
-	public SliceDto<MessageDto> getSentMessagesWithCursor(Member member, LocalDateTime cursor, int size) {
-		List<Message> messages;
+	public SliceDto<MessageDto> getSentMessagesWithCursor(Member member, LocalDateTime cursor, Long cursorId,
+		int size) {
+		List<MessageView> messages;
 		if (cursor == null) {
 			// 첫 페이지 요청
 			messages = messageRepository.findFirstSentMessages(member.getId(), size + 1);
 		} else {
 			// 다음 페이지 요청
-			messages = messageRepository.findSentMessagesBeforeCursor(member.getId(), cursor, size + 1);
+			messages = messageRepository.findSentMessagesBeforeCursor(
+				member.getId(), cursor, cursorId != null ? cursorId : 0L, size + 1);
 		}
 
 		List<MessageDto> messageDtos = messages.stream()
-			.map(MessageDto::fromEntity)
+			.map(message -> MessageDto.ofSent(message, member))
 			.collect(Collectors.toList());
 
 		return SliceDto.of(messageDtos, size);
 	}
 
+	// 커서 기반 무한 스크롤 - 대화 목록 조회 (최근 대화 순) - SliceDto 사용
+	@Transactional(readOnly = true)
+	public SliceDto<MessageThreadDto> getThreadsWithCursor(Member member, LocalDateTime cursor, Long cursorId,
+		int size) {
+		List<MessageThreadView> threads;
+		if (cursor == null) {
+			// 첫 페이지 요청
+			threads = messageThreadRepository.findFirstThreads(member.getId(), size + 1);
+		} else {
+			// 다음 페이지 요청
+			threads = messageThreadRepository.findThreadsBeforeCursor(
+				member.getId(), cursor, cursorId != null ? cursorId : 0L, size + 1);
+		}
+
+		return SliceDto.of(threads.stream().map(MessageThreadDto::from).toList(), size);
+	}
+
 	// 메시지 읽음 상태 변경
 	public MessageDto updateIsRead(Long id, Member member) {
 		Message message = messageRepository.findById(id)
@@ -122,6 +152,11 @@ public class MessageService {
 			return MessageDto.fromEntity(message);
 		}
 
+		// 대화 목록의 읽지 않은 쪽지 수는 실제로 읽음 처리된 경우에만 감소
+		if (messageRepository.markAsRead(id) > 0) {
+			messageThreadRepository.decrementUnreadCount(member.getId(), message.getSender().getId());
+		}
+
 		message.changeToRead();
 		return MessageDto.fromEntity(messageRepository.save(message));
 	}
@@ -136,6 +171,11 @@ public class MessageService {
 			throw new MessageException(MessageErrorCode.MESSAGE_DELETE_FORBIDDEN);
 		}
 
+		// 읽지 않은 쪽지를 삭제하면 대화 목록의 읽지 않은 쪽지 수도 감소
+		if (!message.isRead()) {
+			messageThreadRepository.decrementUnreadCount(member.getId(), message.getSender().getId());
+		}
+
 		messageRepository.delete(message);
 	}
 
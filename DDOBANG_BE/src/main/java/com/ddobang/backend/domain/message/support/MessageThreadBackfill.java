@@ -0,0 +1,60 @@
+package com.ddobang.backend.domain.message.support;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.member.repository.MemberRepository;
+import com.ddobang.backend.domain.message.repository.MessageThreadRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MessageThreadBackfill
+ * 대화 목록 도입 이전 쪽지로 대화 요약(message_thread)을 재구성하는 일회성 작업 (custom.message.thread-backfill.enabled=true)
+ * 사용자 id 순으로 chunk 단위 처리, 여러 번 실행해도 결과가 같으므로 중단되면 다시 켜서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.message.thread-backfill.enabled", havingValue = "true")
+public class MessageThreadBackfill {
+	private final MemberRepository memberRepository;
+	private final MessageThreadRepository messageThreadRepository;
+
+	@Value("${custom.message.thread-backfill.chunk-size:500}")
+	private int chunkSize;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		long lastId = 0L;
+		int threadCount = 0;
+		int failedCount = 0;
+
+		while (true) {
+			List<Long> memberIds = memberRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+
+			if (memberIds.isEmpty()) {
+				break;
+			}
+
+			try {
+				threadCount += messageThreadRepository.rebuildForOwners(memberIds);
+			} catch (Exception e) {
+				failedCount += memberIds.size();
+				log.warn("대화 목록 재구성 실패 - member id {} ~ {}: {}",
+					memberIds.get(0), memberIds.get(memberIds.size() - 1), e.getMessage());
+			}
+
+			lastId = memberIds.get(memberIds.size() - 1);
+		}
+
+		log.info("대화 목록 재구성 완료. 대화: {}, 실패 사용자: {}", threadCount, failedCount);
+	}
+}
@@ -1,13 +1,15 @@
 package com.ddobang.backend.domain.party.event;
 
-import com.ddobang.backend.global.event.DomainEvent;
+import com.ddobang.backend.global.event.OutboxEvent;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
-public class PartyApplyEvent implements DomainEvent {
+@Jacksonized
+public class PartyApplyEvent implements OutboxEvent {
 	private Long partyId;
 	private String partyTitle;
 	private Long hostId;        // 모임장 ID (알림 수신자)
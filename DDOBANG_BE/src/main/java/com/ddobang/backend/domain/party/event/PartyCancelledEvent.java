@@ -0,0 +1,22 @@
+package com.ddobang.backend.domain.party.event;
+
+import java.util.List;
+
+import com.ddobang.backend.global.event.DomainEvent;
+
+/**
+ * PartyCancelledEvent
+ * 모임장이 모임을 삭제(취소)했을 때 발행, 참가가 확정된 멤버 전원에게 알림
+ */
+public record PartyCancelledEvent(
+	Long partyId,
+	String partyTitle,
+	String hostNickname,
+	List<Long> receiverIds // 참가 확정 멤버 ID (모임장 제외)
+) implements DomainEvent {
+
+	@Override
+	public String getEventType() {
+		return "PARTY_CANCELLED_EVENT";
+	}
+}
@@ -0,0 +1,15 @@
+package com.ddobang.backend.domain.party.event;
+
+import com.ddobang.backend.global.event.DomainEvent;
+
+/**
+ * PartyCreatedEvent
+ * 모임 생성 시 발행
+ */
+public record PartyCreatedEvent(Long partyId) implements DomainEvent {
+
+	@Override
+	public String getEventType() {
+		return "PARTY_CREATED_EVENT";
+	}
+}
@@ -1,14 +1,16 @@
 package com.ddobang.backend.domain.party.event;
 
 import com.ddobang.backend.domain.party.types.PartyMemberStatus;
-import com.ddobang.backend.global.event.DomainEvent;
+import com.ddobang.backend.global.event.OutboxEvent;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
-public class PartyMemberStatusUpdatedEvent implements DomainEvent {
+@Jacksonized
+public class PartyMemberStatusUpdatedEvent implements OutboxEvent {
 	private Long partyId;
 	private String partyTitle;
 	private Long memberId;       // 신청자 ID (알림 수신자)
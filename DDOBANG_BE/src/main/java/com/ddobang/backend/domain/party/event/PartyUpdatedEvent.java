@@ -0,0 +1,15 @@
+package com.ddobang.backend.domain.party.event;
+
+import com.ddobang.backend.global.event.DomainEvent;
+
+/**
+ * PartyUpdatedEvent
+ * 모임 정보, 모임 상태, 참가 인원이 바뀌었을 때 발행
+ */
+public record PartyUpdatedEvent(Long partyId) implements DomainEvent {
+
+	@Override
+	public String getEventType() {
+		return "PARTY_UPDATED_EVENT";
+	}
+}
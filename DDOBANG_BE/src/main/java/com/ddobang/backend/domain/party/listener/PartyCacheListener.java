@@ -0,0 +1,32 @@
+package com.ddobang.backend.domain.party.listener;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ddobang.backend.domain.party.event.PartyCreatedEvent;
+import com.ddobang.backend.domain.party.event.PartyUpdatedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PartyCacheListener
+ * 모임 생성, 변경 시 메인 화면의 모집 중인 모임 캐시 삭제 (커밋 이후)
+ */
+@Slf4j
+@Component
+public class PartyCacheListener {
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@CacheEvict(value = "parties", key = "'upcoming'")
+	public void onPartyCreated(PartyCreatedEvent event) {
+		log.debug("모임 생성 - 모집 중인 모임 캐시 삭제. party id = {}", event.partyId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@CacheEvict(value = "parties", key = "'upcoming'")
+	public void onPartyUpdated(PartyUpdatedEvent event) {
+		log.debug("모임 변경 - 모집 중인 모임 캐시 삭제. party id = {}", event.partyId());
+	}
+}
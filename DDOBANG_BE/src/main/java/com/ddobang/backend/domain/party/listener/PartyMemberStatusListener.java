@@ -1,5 +1,8 @@
 package com.ddobang.backend.domain.party.listener;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -11,8 +14,10 @@ import com.ddobang.backend.domain.alarm.entity.AlarmType;
 import com.ddobang.backend.domain.alarm.service.AlarmEventService;
 import com.ddobang.backend.domain.alarm.service.AlarmService;
 import com.ddobang.backend.domain.party.event.PartyApplyEvent;
+import com.ddobang.backend.domain.party.event.PartyCancelledEvent;
 import com.ddobang.backend.domain.party.event.PartyMemberStatusUpdatedEvent;
 import com.ddobang.backend.domain.party.types.PartyMemberStatus;
+import com.ddobang.backend.global.outbox.OutboxDelivery;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,13 +37,7 @@ public class PartyMemberStatusListener {
 			event.getPartyId(), event.getApplicantNickname());
 
 		// 알림 생성 요청 객체 구성 (모임장에게 알림)
-		AlarmCreateRequest alarmRequest = AlarmCreateRequest.builder()
-			.receiverId(event.getHostId())
-			.title("새로운 모임 참가 신청이 있습니다")
-			.content(event.getApplicantNickname() + "님이 '" + event.getPartyTitle() + "' 모임에 참가를 신청했습니다.")
-			.alarmType(AlarmType.SUBSCRIBE)  // 적절한 알림 타입 사용
-			.relId(event.getPartyId())
-			.build();
+		AlarmCreateRequest alarmRequest = alarmRequest(event);
 
 		try {
 			// 알림 생성
@@ -60,6 +59,81 @@ public class PartyMemberStatusListener {
 		log.info("모임 신청 상태 변경 이벤트 수신: 모임 ID {}, 신청자 ID {}, 새 상태 {}",
 			event.getPartyId(), event.getMemberId(), event.getNewStatus());
 
+		// 알림 생성 요청 객체 구성 (신청자에게 알림)
+		Optional<AlarmCreateRequest> alarmRequest = alarmRequest(event);
+		if (alarmRequest.isEmpty()) {
+			log.warn("지원하지 않는 상태 변경: {}", event.getNewStatus());
+			return;
+		}
+
+		try {
+			// 알림 생성
+			AlarmResponse createdAlarm = alarmService.createAlarm(alarmRequest.get());
+
+			// 실시간 알림 전송 (SSE)
+			alarmEventService.sendNotification(event.getMemberId(), createdAlarm);
+
+			log.info("모임 신청 상태 변경 알림 생성 및 전송 완료: 알림 ID {}", createdAlarm.getId());
+		} catch (Exception e) {
+			log.error("모임 신청 상태 변경 알림 생성 중 오류 발생", e);
+			// 알림 실패 시에도 모임 신청 상태 변경 기능에는 영향을 주지 않도록 예외를 잡음
+		}
+	}
+
+	@EventListener
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void handlePartyCancelledEvent(PartyCancelledEvent event) {
+		log.info("모임 취소 이벤트 수신: 모임 ID {}, 알림 대상 {}명", event.partyId(), event.receiverIds().size());
+
+		// 참가 확정 멤버 전원에게 같은 알림 (한 번에 저장 후 수신자별로 묶어서 전송)
+		List<AlarmCreateRequest> alarmRequests = event.receiverIds().stream()
+			.map(receiverId -> AlarmCreateRequest.builder()
+				.receiverId(receiverId)
+				.title("참가한 모임이 취소되었습니다")
+				.content("'" + event.partyTitle() + "' 모임이 " + event.hostNickname() + " 모임장에 의해 취소되었습니다.")
+				.alarmType(AlarmType.PARTY_STATUS)
+				.relId(event.partyId())
+				.build())
+			.toList();
+
+		try {
+			List<AlarmResponse> createdAlarms = alarmService.createAlarms(alarmRequests);
+			alarmEventService.sendNotifications(createdAlarms);
+
+			log.info("모임 취소 알림 생성 및 전송 완료: 모임 ID {}, 알림 {}건", event.partyId(), createdAlarms.size());
+		} catch (Exception e) {
+			log.error("모임 취소 알림 생성 중 오류 발생", e);
+			// 알림 실패 시에도 모임 삭제 기능에는 영향을 주지 않도록 예외를 잡음
+		}
+	}
+
+	// 아웃박스에서 전달된 모임 신청 이벤트 (실패 시 예외를 던져 다시 전달받고, 아웃박스 키로 저장하여 중복 알림 방지)
+	@EventListener
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void handlePartyApplyDelivery(OutboxDelivery<PartyApplyEvent> delivery) {
+		alarmEventService.saveAndSend(alarmRequest(delivery.event()).toAlarmEvent(delivery.eventKey()));
+	}
+
+	// 아웃박스에서 전달된 모임 신청 상태 변경 이벤트
+	@EventListener
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void handlePartyMemberStatusUpdatedDelivery(OutboxDelivery<PartyMemberStatusUpdatedEvent> delivery) {
+		alarmRequest(delivery.event()).ifPresent(alarmRequest ->
+			alarmEventService.saveAndSend(alarmRequest.toAlarmEvent(delivery.eventKey())));
+	}
+
+	private AlarmCreateRequest alarmRequest(PartyApplyEvent event) {
+		return AlarmCreateRequest.builder()
+			.receiverId(event.getHostId())
+			.title("새로운 모임 참가 신청이 있습니다")
+			.content(event.getApplicantNickname() + "님이 '" + event.getPartyTitle() + "' 모임에 참가를 신청했습니다.")
+			.alarmType(AlarmType.SUBSCRIBE)  // 적절한 알림 타입 사용
+			.relId(event.getPartyId())
+			.build();
+	}
+
+	// 승인, 거절 외의 상태 변경은 알림 없음
+	private Optional<AlarmCreateRequest> alarmRequest(PartyMemberStatusUpdatedEvent event) {
 		String title;
 		String content;
 
@@ -73,30 +147,15 @@ public class PartyMemberStatusListener {
 			content = "'" + event.getPartyTitle() + "' 모임의 참가 신청이 " +
 				event.getHostNickname() + " 모임장에 의해 거절되었습니다.";
 		} else {
-			log.warn("지원하지 않는 상태 변경: {}", event.getNewStatus());
-			return;
+			return Optional.empty();
 		}
 
-		// 알림 생성 요청 객체 구성 (신청자에게 알림)
-		AlarmCreateRequest alarmRequest = AlarmCreateRequest.builder()
+		return Optional.of(AlarmCreateRequest.builder()
 			.receiverId(event.getMemberId())
 			.title(title)
 			.content(content)
 			.alarmType(AlarmType.SUBSCRIBE)  // 적절한 알림 타입 사용
 			.relId(event.getPartyId())
-			.build();
-
-		try {
-			// 알림 생성
-			AlarmResponse createdAlarm = alarmService.createAlarm(alarmRequest);
-
-			// 실시간 알림 전송 (SSE)
-			alarmEventService.sendNotification(event.getMemberId(), createdAlarm);
-
-			log.info("모임 신청 상태 변경 알림 생성 및 전송 완료: 알림 ID {}", createdAlarm.getId());
-		} catch (Exception e) {
-			log.error("모임 신청 상태 변경 알림 생성 중 오류 발생", e);
-			// 알림 실패 시에도 모임 신청 상태 변경 기능에는 영향을 주지 않도록 예외를 잡음
-		}
+			.build());
 	}
-}
\ No newline at end of file
+}
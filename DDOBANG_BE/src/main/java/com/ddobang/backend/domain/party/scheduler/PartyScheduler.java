@@ -9,9 +9,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.ddobang.backend.domain.party.entity.Party;
 import com.ddobang.backend.domain.party.entity.PartyMember;
+import com.ddobang.backend.domain.party.event.PartyUpdatedEvent;
 import com.ddobang.backend.domain.party.repository.PartyRepository;
 import com.ddobang.backend.domain.party.types.PartyMemberStatus;
 import com.ddobang.backend.domain.party.types.PartyStatus;
+import com.ddobang.backend.global.event.EventPublisher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PartyScheduler {
 
 	private final PartyRepository partyRepository;
+	private final EventPublisher eventPublisher;
 
 	@Scheduled(fixedRate = 300000) // 5분마다 실행
 	@Transactional
@@ -41,6 +44,8 @@ public class PartyScheduler {
 			for (PartyMember pm : applicants) {
 				pm.changeStatus(PartyMemberStatus.REJECTED);
 			}
+
+			eventPublisher.publish(new PartyUpdatedEvent(party.getId()));
 		}
 	}
 }
@@ -26,12 +26,16 @@ import com.ddobang.backend.domain.party.entity.Party;
 import com.ddobang.backend.domain.party.entity.PartyMember;
 import com.ddobang.backend.domain.party.entity.PartyMemberReview;
 import com.ddobang.backend.domain.party.event.PartyApplyEvent;
+import com.ddobang.backend.domain.party.event.PartyCancelledEvent;
+import com.ddobang.backend.domain.party.event.PartyCreatedEvent;
 import com.ddobang.backend.domain.party.event.PartyMemberStatusUpdatedEvent;
+import com.ddobang.backend.domain.party.event.PartyUpdatedEvent;
 import com.ddobang.backend.domain.party.exception.PartyErrorCode;
 import com.ddobang.backend.domain.party.exception.PartyException;
 import com.ddobang.backend.domain.party.repository.PartyMemberRepository;
 import com.ddobang.backend.domain.party.repository.PartyMemberReviewRepository;
 import com.ddobang.backend.domain.party.repository.PartyRepository;
+import com.ddobang.backend.domain.party.types.PartyMemberRole;
 import com.ddobang.backend.domain.party.types.PartyMemberStatus;
 import com.ddobang.backend.domain.party.types.PartyStatus;
 import com.ddobang.backend.domain.theme.entity.Theme;
@@ -93,6 +97,7 @@ public class PartyService {
 		Party party = partyRepository.save(Party.of(request, theme));
 		PartyMember host = partyMemberRepository.save(PartyMember.createHost(party, actor));
 		party.addPartyMember(host);
+		eventPublisher.publish(new PartyCreatedEvent(party.getId()));
 		return PartyDto.from(party);
 	}
 
@@ -102,6 +107,7 @@ public class PartyService {
 		partyValidationService.validateModifiable(party, actor);
 		Theme theme = themeService.getThemeById(request.themeId());
 		party.modifyParty(request, theme);
+		eventPublisher.publish(new PartyUpdatedEvent(party.getId()));
 		return PartyDto.from(party);
 	}
 
@@ -110,6 +116,18 @@ public class PartyService {
 		Party party = getPartyById(id);
 		partyValidationService.checkHost(party, actor);
 		party.delete();
+		eventPublisher.publish(new PartyUpdatedEvent(party.getId()));
+
+		// 참가가 확정된 멤버에게 모임 취소 알림
+		List<Long> receiverIds = party.getAcceptedMembers().stream()
+			.filter(partyMember -> partyMember.getRole() != PartyMemberRole.HOST)
+			.map(partyMember -> partyMember.getMember().getId())
+			.toList();
+
+		if (!receiverIds.isEmpty()) {
+			eventPublisher.publish(
+				new PartyCancelledEvent(party.getId(), party.getTitle(), actor.getNickname(), receiverIds));
+		}
 	}
 
 	@Transactional
@@ -150,6 +168,7 @@ public class PartyService {
 
 		party.updatePartyMemberStatus(actor, PartyMemberStatus.CANCELLED);
 		party.updatePartyStatus();
+		eventPublisher.publish(new PartyUpdatedEvent(party.getId()));
 	}
 
 	@Transactional
@@ -161,6 +180,7 @@ public class PartyService {
 
 		party.updatePartyMemberStatus(member, PartyMemberStatus.ACCEPTED);
 		party.updatePartyStatus();
+		eventPublisher.publish(new PartyUpdatedEvent(party.getId()));
 
 		// 추가: 상태 변경 이벤트 발행
 		eventPublisher.publish(PartyMemberStatusUpdatedEvent.builder()
@@ -184,6 +204,7 @@ public class PartyService {
 		// 거절 상태로 변경
 		party.updatePartyMemberStatus(member, PartyMemberStatus.REJECTED);
 		party.updatePartyStatus();
+		eventPublisher.publish(new PartyUpdatedEvent(party.getId()));
 
 		// 상태 변경 이벤트 발행
 		eventPublisher.publish(PartyMemberStatusUpdatedEvent.builder()
@@ -203,6 +224,7 @@ public class PartyService {
 		partyValidationService.validateExecutable(party, actor);
 
 		party.updateStatus(PartyStatus.COMPLETED);
+		eventPublisher.publish(new PartyUpdatedEvent(party.getId()));
 	}
 
 	@Transactional
@@ -212,6 +234,7 @@ public class PartyService {
 		partyValidationService.validateExecutable(party, actor);
 
 		party.updateStatus(PartyStatus.CANCELLED);
+		eventPublisher.publish(new PartyUpdatedEvent(party.getId()));
 	}
 
 	@Transactional
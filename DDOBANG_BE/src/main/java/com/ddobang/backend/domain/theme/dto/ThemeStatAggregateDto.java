@@ -0,0 +1,14 @@
+package com.ddobang.backend.domain.theme.dto;
+
+import com.ddobang.backend.domain.theme.entity.ThemeStatAggregate;
+
+/**
+ * ThemeStatAggregateDto
+ * 일지 테이블 기준으로 다시 집계한 테마별 누적값 (통계 검증용)
+ */
+public record ThemeStatAggregateDto(
+	Long themeId,
+	int diaryCount,
+	ThemeStatAggregate aggregate
+) {
+}
@@ -18,9 +18,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -35,6 +37,13 @@ import lombok.ToString;
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "theme",
+	indexes = {
+		// 테마 목록, 최신 테마 조회 시 id 페이징
+		@Index(name = "idx_theme_status_created", columnList = "status, created_at, id")
+	}
+)
 public class Theme extends BaseTime {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
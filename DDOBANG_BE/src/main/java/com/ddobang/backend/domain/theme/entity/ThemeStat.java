@@ -1,12 +1,18 @@
 package com.ddobang.backend.domain.theme.entity;
 
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
+import com.ddobang.backend.domain.theme.dto.ThemeStatDto;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -23,6 +29,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "theme_stat",
+	indexes = {
+		// 인기 테마 조회 시 점수순 인덱스 스캔
+		@Index(name = "idx_theme_stat_popularity", columnList = "popularity_score, theme_id")
+	}
+)
 public class ThemeStat {
 	@Id
 	@Column(name = "theme_id")
@@ -67,10 +80,20 @@ public class ThemeStat {
 
 	private int diaryCount;
 
+	// 인기 테마 정렬 기준 (일지 수 * 7 + 만족도 * 3), 통계 변경 시 함께 갱신
+	private float popularityScore;
+
+	// 증분 반영을 위한 항목별 누적 합계, 표본 수
+	@Embedded
+	private ThemeStatAggregate aggregate = new ThemeStatAggregate();
+
+	// 누적값이 일지 기준으로 채워졌는지 여부 (누적값 컬럼 도입 이전 통계는 null)
+	private Boolean aggregateInitialized;
+
 	@Builder
 	public ThemeStat(Theme theme, float difficulty, float fear, float activity, float satisfaction, float production,
 		float story, float question, float interior, float deviceRatio, int noHintEscapeRate, int escapeResult,
-		int escapeTimeAvg, int diaryCount) {
+		int escapeTimeAvg, int diaryCount, ThemeStatAggregate aggregate) {
 		this.theme = theme;
 		this.difficulty = difficulty;
 		this.fear = fear;
@@ -85,6 +108,9 @@ public class ThemeStat {
 		this.escapeResult = escapeResult;
 		this.escapeTimeAvg = escapeTimeAvg;
 		this.diaryCount = diaryCount;
+		this.aggregate = aggregate != null ? aggregate : new ThemeStatAggregate();
+		this.aggregateInitialized = aggregate != null || diaryCount == 0; // 일지가 없으면 빈 누적값이 곧 일지 기준 값
+		this.popularityScore = calculatePopularityScore();
 	}
 
 	public void updateStat(float difficulty, float fear, float activity, float satisfaction, float production,
@@ -104,5 +130,73 @@ public class ThemeStat {
 		this.escapeResult = escapeResult;
 		this.escapeTimeAvg = escapeTimeAvg;
 		this.diaryCount = diaryCount;
+		this.popularityScore = calculatePopularityScore();
+	}
+
+	// 전체 재계산 결과로 누적값과 평균값을 모두 교체
+	public void rebuild(ThemeStatAggregate aggregate, int diaryCount) {
+		this.aggregate = aggregate;
+		this.diaryCount = diaryCount;
+		this.aggregateInitialized = true;
+		refreshAverages();
+	}
+
+	// 재집계 결과와 일치함이 확인된 누적값은 이후 증분 반영에 사용
+	public void markAggregateInitialized() {
+		this.aggregateInitialized = true;
+	}
+
+	/**
+	 * 일지 한 건의 변경분만 반영
+	 * sign = 1 이면 추가, -1 이면 제거
+	 */
+	public void applyDiary(DiaryStatSnapshot diaryStat, int sign) {
+		aggregate.accumulate(diaryStat, sign);
+		diaryCount += sign;
+		refreshAverages();
+	}
+
+	// 누적값 컬럼 도입 이전에 생성되어 전체 재계산이 필요한 통계인지 여부
+	// (평가 항목이 모두 0 인 일지만 있는 테마도 누적값이 비어 있으므로 누적값 내용이 아닌 기록 여부로 판단)
+	public boolean needsRebuild() {
+		return aggregate == null || !Boolean.TRUE.equals(aggregateInitialized);
+	}
+
+	/**
+	 * 저장된 인기 점수가 현재 통계와 다르면 다시 계산 (점수 컬럼 도입 이전 통계 보정용)
+	 * @return 점수가 변경되었는지 여부
+	 */
+	public boolean refreshPopularityScore() {
+		float calculated = calculatePopularityScore();
+
+		if (Float.compare(popularityScore, calculated) == 0) {
+			return false;
+		}
+
+		this.popularityScore = calculated;
+		return true;
+	}
+
+	private float calculatePopularityScore() {
+		return diaryCount * 7 + satisfaction * 3;
+	}
+
+	private void refreshAverages() {
+		ThemeStatDto stats = aggregate.toThemeStatDto(diaryCount);
+
+		updateStat(
+			stats.difficulty(),
+			stats.fear(),
+			stats.activity(),
+			stats.satisfaction(),
+			stats.production(),
+			stats.story(),
+			stats.question(),
+			stats.interior(),
+			stats.deviceRatio(),
+			stats.noHintEscapeRate(),
+			stats.escapeResult(),
+			stats.escapeTimeAvg(),
+			diaryCount);
 	}
 }
@@ -0,0 +1,176 @@
+package com.ddobang.backend.domain.theme.entity;
+
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
+import com.ddobang.backend.domain.theme.dto.ThemeStatDto;
+import com.ddobang.backend.global.util.Ut;
+
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ThemeStatAggregate
+ * 테마 통계의 항목별 누적 합계와 표본 수
+ * 일지 작성/수정/삭제 시 전체 일지를 다시 읽지 않고 변경분(delta)만 반영하기 위해 사용
+ * (힌트 갯수, 장치 비율 제외 0은 계산에서 제외합니다.)
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode
+public class ThemeStatAggregate {
+	private long difficultySum;
+	private long difficultyCount;
+	private long fearSum;
+	private long fearCount;
+	private long activitySum;
+	private long activityCount;
+	private long satisfactionSum;
+	private long satisfactionCount;
+	private long productionSum;
+	private long productionCount;
+	private long storySum;
+	private long storyCount;
+	private long questionSum;
+	private long questionCount;
+	private long interiorSum;
+	private long interiorCount;
+	private long deviceRatioSum;
+	private long deviceRatioCount;
+	private long elapsedTimeSum;
+	private long elapsedTimeCount;
+
+	private long escapeSuccessCount;
+	private long noHintEscapeCount;
+
+	public ThemeStatAggregate(
+		long difficultySum, long difficultyCount,
+		long fearSum, long fearCount,
+		long activitySum, long activityCount,
+		long satisfactionSum, long satisfactionCount,
+		long productionSum, long productionCount,
+		long storySum, long storyCount,
+		long questionSum, long questionCount,
+		long interiorSum, long interiorCount,
+		long deviceRatioSum, long deviceRatioCount,
+		long elapsedTimeSum, long elapsedTimeCount,
+		long escapeSuccessCount, long noHintEscapeCount
+	) {
+		this.difficultySum = difficultySum;
+		this.difficultyCount = difficultyCount;
+		this.fearSum = fearSum;
+		this.fearCount = fearCount;
+		this.activitySum = activitySum;
+		this.activityCount = activityCount;
+		this.satisfactionSum = satisfactionSum;
+		this.satisfactionCount = satisfactionCount;
+		this.productionSum = productionSum;
+		this.productionCount = productionCount;
+		this.storySum = storySum;
+		this.storyCount = storyCount;
+		this.questionSum = questionSum;
+		this.questionCount = questionCount;
+		this.interiorSum = interiorSum;
+		this.interiorCount = interiorCount;
+		this.deviceRatioSum = deviceRatioSum;
+		this.deviceRatioCount = deviceRatioCount;
+		this.elapsedTimeSum = elapsedTimeSum;
+		this.elapsedTimeCount = elapsedTimeCount;
+		this.escapeSuccessCount = escapeSuccessCount;
+		this.noHintEscapeCount = noHintEscapeCount;
+	}
+
+	/**
+	 * 일지 한 건의 값을 누적값에 반영
+	 * sign = 1 이면 추가, -1 이면 제거
+	 */
+	public void accumulate(DiaryStatSnapshot stat, int sign) {
+		if (stat.difficulty() != 0) {
+			difficultySum += sign * stat.difficulty();
+			difficultyCount += sign;
+		}
+
+		if (stat.fear() != 0) {
+			fearSum += sign * stat.fear();
+			fearCount += sign;
+		}
+
+		if (stat.activity() != 0) {
+			activitySum += sign * stat.activity();
+			activityCount += sign;
+		}
+
+		if (stat.satisfaction() != 0) {
+			satisfactionSum += sign * stat.satisfaction();
+			satisfactionCount += sign;
+		}
+
+		if (stat.production() != 0) {
+			productionSum += sign * stat.production();
+			productionCount += sign;
+		}
+
+		if (stat.story() != 0) {
+			storySum += sign * stat.story();
+			storyCount += sign;
+		}
+
+		if (stat.question() != 0) {
+			questionSum += sign * stat.question();
+			questionCount += sign;
+		}
+
+		if (stat.interior() != 0) {
+			interiorSum += sign * stat.interior();
+			interiorCount += sign;
+		}
+
+		if (stat.deviceRatio() != null) {
+			deviceRatioSum += sign * stat.deviceRatio();
+			deviceRatioCount += sign;
+		}
+
+		if (stat.escapeResult()) {
+			escapeSuccessCount += sign;
+			if (stat.isNoHintEscape()) {
+				noHintEscapeCount += sign;
+			}
+		}
+
+		if (stat.elapsedTime() != 0) {
+			elapsedTimeSum += (long)sign * stat.elapsedTime();
+			elapsedTimeCount += sign;
+		}
+	}
+
+	// 누적값으로부터 평균, 비율 계산
+	public ThemeStatDto toThemeStatDto(long totalCount) {
+		return ThemeStatDto.builder()
+			.difficulty(average(difficultySum, difficultyCount))
+			.fear(average(fearSum, fearCount))
+			.activity(average(activitySum, activityCount))
+			.satisfaction(average(satisfactionSum, satisfactionCount))
+			.production(average(productionSum, productionCount))
+			.story(average(storySum, storyCount))
+			.question(average(questionSum, questionCount))
+			.interior(average(interiorSum, interiorCount))
+			.deviceRatio(average(deviceRatioSum, deviceRatioCount))
+			.noHintEscapeRate(Ut.calculator.roundToInt(
+				Ut.calculator.calculateRate(totalCount, noHintEscapeCount)
+			))
+			.escapeResult(Ut.calculator.roundToInt(
+				Ut.calculator.calculateRate(totalCount, escapeSuccessCount)
+			))
+			.escapeTimeAvg(Ut.calculator.roundToInt(
+				Ut.calculator.calculateAverage(elapsedTimeSum, elapsedTimeCount)
+			))
+			.build();
+	}
+
+	private float average(long total, long count) {
+		return Ut.calculator.roundToFirstDecimal(
+			Ut.calculator.calculateAverage(total, count)
+		);
+	}
+}
@@ -0,0 +1,15 @@
+package com.ddobang.backend.domain.theme.event;
+
+import com.ddobang.backend.global.event.DomainEvent;
+
+/**
+ * ThemeModifiedEvent
+ * 관리자가 테마 정보를 수정하거나 삭제했을 때 발행
+ */
+public record ThemeModifiedEvent(Long themeId) implements DomainEvent {
+
+	@Override
+	public String getEventType() {
+		return "THEME_MODIFIED_EVENT";
+	}
+}
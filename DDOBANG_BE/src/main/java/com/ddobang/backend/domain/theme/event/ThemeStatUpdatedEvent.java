@@ -0,0 +1,15 @@
+package com.ddobang.backend.domain.theme.event;
+
+import com.ddobang.backend.global.event.DomainEvent;
+
+/**
+ * ThemeStatUpdatedEvent
+ * 일지 작성, 수정, 삭제 또는 재집계로 테마 통계가 바뀌었을 때 발행
+ */
+public record ThemeStatUpdatedEvent(Long themeId) implements DomainEvent {
+
+	@Override
+	public String getEventType() {
+		return "THEME_STAT_UPDATED_EVENT";
+	}
+}
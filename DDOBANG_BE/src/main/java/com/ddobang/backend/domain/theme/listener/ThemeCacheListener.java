@@ -0,0 +1,38 @@
+package com.ddobang.backend.domain.theme.listener;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ddobang.backend.domain.theme.event.ThemeModifiedEvent;
+import com.ddobang.backend.domain.theme.event.ThemeStatUpdatedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ThemeCacheListener
+ * 테마, 테마 통계 변경 시 영향을 받는 캐시 항목만 삭제
+ * 커밋 전에 지우면 동시 조회가 이전 값을 다시 캐싱할 수 있으므로 커밋 이후 삭제
+ */
+@Slf4j
+@Component
+public class ThemeCacheListener {
+
+	// 상세 조회 캐시와 태그별 인기, 최신 테마 캐시 삭제
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@Caching(evict = {
+		@CacheEvict(value = "themes", key = "'detail-' + #event.themeId()"),
+		@CacheEvict(cacheNames = {"popularThemesByTag", "newestThemesByTag"}, allEntries = true)
+	})
+	public void onThemeModified(ThemeModifiedEvent event) {
+		log.debug("테마 변경 - 캐시 삭제. theme id = {}", event.themeId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@CacheEvict(value = "themes", key = "'detail-' + #event.themeId()")
+	public void onThemeStatUpdated(ThemeStatUpdatedEvent event) {
+		log.debug("테마 통계 변경 - 상세 캐시 삭제. theme id = {}", event.themeId());
+	}
+}
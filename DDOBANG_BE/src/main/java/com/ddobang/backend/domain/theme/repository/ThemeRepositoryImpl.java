@@ -1,6 +1,10 @@
 package com.ddobang.backend.domain.theme.repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 
@@ -13,12 +17,12 @@ import com.ddobang.backend.domain.theme.entity.QThemeStat;
 import com.ddobang.backend.domain.theme.entity.QThemeTag;
 import com.ddobang.backend.domain.theme.entity.QThemeTagMapping;
 import com.ddobang.backend.domain.theme.entity.Theme;
-import com.ddobang.backend.domain.theme.entity.ThemeStat;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -41,22 +45,32 @@ public class ThemeRepositoryImpl implements ThemeRepositoryCustom {
 	private static final QThemeTag tag = QThemeTag.themeTag;
 	private static final QThemeStat themeStat = QThemeStat.themeStat;
 
+	/**
+	 * 태그 컬렉션을 fetch join 한 채로 offset, limit 을 걸면 메모리에서 페이징되므로
+	 * 1. 조건에 맞는 테마 id 만 페이징해서 조회
+	 * 2. 해당 id 의 테마를 매장, 지역, 태그와 함께 IN 조회
+	 */
 	@Override
 	public List<Theme> findThemesByFilter(ThemeFilterRequest request, int page, int size) {
 		BooleanBuilder condition = buildFilterConditions(request, false);
 
-		return queryFactory
-			.selectFrom(theme)
-			.leftJoin(theme.store, store).fetchJoin()
-			.leftJoin(store.region, region).fetchJoin()
-			.leftJoin(theme.themeTagMappings, mapping).fetchJoin()
-			.leftJoin(mapping.themeTag, tag).fetchJoin()
-			.distinct()
+		JPAQuery<Long> idQuery = queryFactory
+			.select(theme.id)
+			.from(theme);
+
+		// 지역, 키워드 필터가 있을 때만 매장 조인
+		if (hasStoreCondition(request)) {
+			idQuery.join(theme.store, store);
+		}
+
+		List<Long> ids = idQuery
 			.where(condition)
-			.orderBy(theme.createdAt.desc())
+			.orderBy(theme.createdAt.desc(), theme.id.desc())
 			.offset((long)page * size)
 			.limit(size + 1) // size보다 1개 더 가져와서 hasNext 판단
 			.fetch();
+
+		return findThemesWithTagsByIds(ids);
 	}
 
 	@Override
@@ -98,40 +112,61 @@ public class ThemeRepositoryImpl implements ThemeRepositoryCustom {
 	public List<Theme> findTop10PopularThemesByTagName(String tagName) {
 		BooleanBuilder condition = buildForLandingConditions(tagName);
 
-		List<ThemeStat> themeStats = queryFactory
-			.select(themeStat)
+		// 미리 계산된 인기 점수 인덱스 순으로 읽으면서 조건에 맞는 10개만 조회
+		List<Long> ids = queryFactory
+			.select(themeStat.id)
 			.from(themeStat)
-			.join(themeStat.theme, theme).fetchJoin()
-			.leftJoin(theme.store, store).fetchJoin()
-			.leftJoin(theme.themeTagMappings, mapping).fetchJoin()
-			.leftJoin(mapping.themeTag, tag).fetchJoin()
+			.join(themeStat.theme, theme)
 			.where(condition)
-			.orderBy(
-				themeStat.diaryCount.multiply(7)
-					.add(themeStat.satisfaction.multiply(3))
-					.desc()
-			)
+			.orderBy(themeStat.popularityScore.desc(), themeStat.id.desc())
 			.limit(10)
 			.fetch();
 
-		return themeStats.stream()
-			.map(ThemeStat::getTheme)
-			.toList();
+		return findThemesWithTagsByIds(ids);
 	}
 
 	@Override
 	public List<Theme> findTop10NewestThemesByTagName(String tagName) {
 		BooleanBuilder condition = buildForLandingConditions(tagName);
 
-		return queryFactory
+		List<Long> ids = queryFactory
+			.select(theme.id)
+			.from(theme)
+			.where(condition)
+			.orderBy(theme.createdAt.desc(), theme.id.desc())
+			.limit(10)
+			.fetch();
+
+		return findThemesWithTagsByIds(ids);
+	}
+
+	// id 목록 순서대로 테마를 매장, 지역, 태그와 함께 조회 (페이지 크기만큼만 조회하므로 컬렉션 fetch join 사용)
+	private List<Theme> findThemesWithTagsByIds(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Theme> themeMap = queryFactory
 			.selectFrom(theme)
 			.join(theme.store, store).fetchJoin()
+			.leftJoin(store.region, region).fetchJoin()
 			.leftJoin(theme.themeTagMappings, mapping).fetchJoin()
 			.leftJoin(mapping.themeTag, tag).fetchJoin()
-			.where(condition)
-			.orderBy(theme.createdAt.desc())
-			.limit(10)
-			.fetch();
+			.distinct()
+			.where(theme.id.in(ids))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(Theme::getId, Function.identity()));
+
+		return ids.stream()
+			.map(themeMap::get)
+			.filter(Objects::nonNull)    // 두 조회 사이에 삭제된 테마 제외
+			.toList();
+	}
+
+	private boolean hasStoreCondition(ThemeFilterRequest request) {
+		return (request.regionId() != null && !request.regionId().isEmpty())
+			|| (request.keyword() != null && !request.keyword().isBlank());
 	}
 
 	private BooleanBuilder buildFilterConditions(ThemeFilterRequest request, Boolean isForAdmin) {
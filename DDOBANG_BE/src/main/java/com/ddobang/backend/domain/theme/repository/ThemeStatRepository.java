@@ -1,14 +1,37 @@
 package com.ddobang.backend.domain.theme.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ddobang.backend.domain.theme.entity.ThemeStat;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * ThemeStatRepository
  * @author 100minha
  */
 @Repository
 public interface ThemeStatRepository extends JpaRepository<ThemeStat, Long> {
+
+	// 증분 반영 시 동시 수정으로 인한 누적값 유실 방지를 위해 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ts FROM ThemeStat ts WHERE ts.id = :id")
+	Optional<ThemeStat> findByIdForUpdate(@Param("id") Long id);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ts FROM ThemeStat ts WHERE ts.id IN :ids")
+	List<ThemeStat> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+	// 통계 검증용 id 커서 조회
+	@Query("SELECT ts.id FROM ThemeStat ts WHERE ts.id > :lastId ORDER BY ts.id ASC")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
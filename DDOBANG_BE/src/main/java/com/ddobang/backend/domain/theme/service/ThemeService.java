@@ -24,10 +24,12 @@ import com.ddobang.backend.domain.theme.dto.response.ThemesResponse;
 import com.ddobang.backend.domain.theme.entity.Theme;
 import com.ddobang.backend.domain.theme.entity.ThemeStat;
 import com.ddobang.backend.domain.theme.entity.ThemeTag;
+import com.ddobang.backend.domain.theme.event.ThemeModifiedEvent;
 import com.ddobang.backend.domain.theme.exception.ThemeErrorCode;
 import com.ddobang.backend.domain.theme.exception.ThemeException;
 import com.ddobang.backend.domain.theme.repository.ThemeRepository;
 import com.ddobang.backend.domain.theme.repository.ThemeStatRepository;
+import com.ddobang.backend.global.event.EventPublisher;
 import com.ddobang.backend.global.response.SliceDto;
 
 import lombok.RequiredArgsConstructor;
@@ -43,6 +45,7 @@ public class ThemeService {
 
 	private final StoreService storeService;
 	private final ThemeTagService themeTagService;
+	private final EventPublisher eventPublisher;
 
 	@Cacheable(value = "themes", key = "#filterRequest.toString() + '-' + #page + '-' + #size")
 	@Transactional(readOnly = true)
@@ -119,6 +122,7 @@ public class ThemeService {
 		Store store = storeService.findById(request.storeId());
 
 		theme.modify(request, store, themeTags);
+		eventPublisher.publish(new ThemeModifiedEvent(id));
 	}
 
 	@Transactional
@@ -126,6 +130,7 @@ public class ThemeService {
 		Theme theme = getThemeById(id);
 
 		theme.delete();
+		eventPublisher.publish(new ThemeModifiedEvent(id));
 	}
 
 	@Transactional(readOnly = true)
@@ -1,33 +1,64 @@
 package com.ddobang.backend.domain.theme.support;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
 import com.ddobang.backend.domain.diary.entity.DiaryStat;
 import com.ddobang.backend.domain.diary.repository.DiaryStatRepository;
-import com.ddobang.backend.domain.theme.dto.ThemeStatDto;
+import com.ddobang.backend.domain.theme.dto.ThemeStatAggregateDto;
 import com.ddobang.backend.domain.theme.entity.Theme;
 import com.ddobang.backend.domain.theme.entity.ThemeStat;
+import com.ddobang.backend.domain.theme.entity.ThemeStatAggregate;
+import com.ddobang.backend.domain.theme.event.ThemeStatUpdatedEvent;
+import com.ddobang.backend.domain.theme.repository.ThemeRepository;
 import com.ddobang.backend.domain.theme.repository.ThemeStatRepository;
-import com.ddobang.backend.global.util.Ut;
+import com.ddobang.backend.global.event.EventPublisher;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ThemeStatCalculator {
 	private final DiaryStatRepository diaryStatRepository;
 	private final ThemeStatRepository themeStatRepository;
+	private final ThemeRepository themeRepository;
+	private final EventPublisher eventPublisher;
 
+	/**
+	 * 일지 한 건의 변경분만 테마 통계에 반영 (O(1))
+	 * before == null : 일지 작성, after == null : 일지 삭제, 둘 다 존재 : 일지 수정
+	 */
+	@Transactional
+	public void applyDiaryDelta(DiaryStatSnapshot before, DiaryStatSnapshot after) {
+		if (before != null && after != null && before.themeId().equals(after.themeId())) {
+			applyDelta(after.themeId(), before, after);
+			return;
+		}
+
+		// 일지 수정으로 테마가 바뀐 경우 기존 테마에서는 제거, 새 테마에는 추가
+		if (before != null) {
+			applyDelta(before.themeId(), before, null);
+		}
+
+		if (after != null) {
+			applyDelta(after.themeId(), null, after);
+		}
+	}
+
+	// 전체 일지 기준 재계산
 	@Transactional
 	public void updateThemeStat(Theme theme) {
 		Long themeId = theme.getId();
 		List<DiaryStat> diaryStats = diaryStatRepository.findByThemeId(themeId);
-		ThemeStatDto stats = calculateThemeStat(diaryStats);
 		Optional<ThemeStat> themeStat = themeStatRepository.findById(themeId);
+		eventPublisher.publish(new ThemeStatUpdatedEvent(themeId));
 
 		// 해당 테마에 대한 일지가 없을 경우 통계 삭제
 		if (diaryStats.isEmpty()) {
@@ -35,191 +66,87 @@ public class ThemeStatCalculator {
 			return;
 		}
 
+		ThemeStatAggregate aggregate = new ThemeStatAggregate();
+		diaryStats.forEach(diaryStat -> aggregate.accumulate(DiaryStatSnapshot.of(diaryStat), 1));
+
 		// 해당 테마에 대한 통계가 없을 경우 통계 생성
 		if (themeStat.isPresent()) {
-			themeStat.get().updateStat(
-				stats.difficulty(),
-				stats.fear(),
-				stats.activity(),
-				stats.satisfaction(),
-				stats.production(),
-				stats.story(),
-				stats.question(),
-				stats.interior(),
-				stats.deviceRatio(),
-				stats.noHintEscapeRate(),
-				stats.escapeResult(),
-				stats.escapeTimeAvg(),
-				diaryStats.size());
+			themeStat.get().rebuild(aggregate, diaryStats.size());
 		} else {
-			themeStatRepository.save(ThemeStat.builder()
+			ThemeStat created = ThemeStat.builder()
 				.theme(theme)
-				.difficulty(stats.difficulty())
-				.fear(stats.fear())
-				.activity(stats.activity())
-				.satisfaction(stats.satisfaction())
-				.production(stats.production())
-				.story(stats.story())
-				.question(stats.question())
-				.interior(stats.interior())
-				.deviceRatio(stats.deviceRatio())
-				.noHintEscapeRate(stats.noHintEscapeRate())
-				.escapeResult(stats.escapeResult())
-				.escapeTimeAvg(stats.escapeTimeAvg())
-				.diaryCount(diaryStats.size())
-				.build());
+				.build();
+			created.rebuild(aggregate, diaryStats.size());
+
+			themeStatRepository.save(created);
 		}
 	}
 
-	// 테마 평가 및 통계 계산 메서드(힌트 갯수, 장치 비율 제외 0은 계산에서 제외합니다.)
-	private ThemeStatDto calculateThemeStat(List<DiaryStat> diaryStats) {
-		long totalCount = diaryStats.size();
-
-		long totalDifficulty = 0;
-		long totalFear = 0;
-		long totalActivity = 0;
-		long totalSatisfaction = 0;
-		long totalProduction = 0;
-		long totalStory = 0;
-		long totalQuestion = 0;
-		long totalInterior = 0;
-		long totalDeviceRatio = 0;
-		long totalElapsedTime = 0;
-
-		long difficultyCount = 0;
-		long fearCount = 0;
-		long activityCount = 0;
-		long satisfactionCount = 0;
-		long productionCount = 0;
-		long storyCount = 0;
-		long questionCount = 0;
-		long interiorCount = 0;
-		long deviceRatioCount = 0;
-
-		long escapeSuccessCount = 0;
-		long noHintEscapeCount = 0;
-		long elapsedTimeCount = 0;
-
-		for (DiaryStat stat : diaryStats) {
-			if (stat.getDifficulty() != 0) {
-				totalDifficulty += stat.getDifficulty();
-				difficultyCount++;
-			}
-
-			if (stat.getFear() != 0) {
-				totalFear += stat.getFear();
-				fearCount++;
+	/**
+	 * 저장된 누적값을 일지 테이블 기준 집계와 비교하여 어긋난 통계를 복구
+	 * @return 복구된 통계 수
+	 */
+	@Transactional
+	public int reconcile(List<Long> themeIds) {
+		List<ThemeStat> themeStats = themeStatRepository.findAllByIdInForUpdate(themeIds);
+		Map<Long, ThemeStatAggregateDto> expected = diaryStatRepository.aggregateThemeStatsByThemeIds(themeIds);
+		int repairedCount = 0;
+
+		for (ThemeStat themeStat : themeStats) {
+			ThemeStatAggregateDto recomputed = expected.get(themeStat.getId());
+
+			if (recomputed == null) {
+				log.warn("테마 통계 불일치 - 일지 없는 통계 삭제. theme id = {}", themeStat.getId());
+				themeStatRepository.delete(themeStat);
+				eventPublisher.publish(new ThemeStatUpdatedEvent(themeStat.getId()));
+				repairedCount++;
+				continue;
 			}
 
-			if (stat.getActivity() != 0) {
-				totalActivity += stat.getActivity();
-				activityCount++;
+			if (themeStat.getDiaryCount() != recomputed.diaryCount()
+				|| !recomputed.aggregate().equals(themeStat.getAggregate())) {
+				log.warn("테마 통계 불일치 - 재계산 값으로 복구. theme id = {}, 저장된 일지 수 = {}, 실제 일지 수 = {}",
+					themeStat.getId(), themeStat.getDiaryCount(), recomputed.diaryCount());
+				themeStat.rebuild(recomputed.aggregate(), recomputed.diaryCount());
+				eventPublisher.publish(new ThemeStatUpdatedEvent(themeStat.getId()));
+				repairedCount++;
+				continue;
 			}
 
-			if (stat.getSatisfaction() != 0) {
-				totalSatisfaction += stat.getSatisfaction();
-				satisfactionCount++;
-			}
+			// 재집계 결과와 같으므로 누적값 기록 여부 표시가 없던 이전 통계도 증분 반영 대상으로 전환
+			themeStat.markAggregateInitialized();
 
-			if (stat.getProduction() != 0) {
-				totalProduction += stat.getProduction();
-				productionCount++;
+			if (themeStat.refreshPopularityScore()) {
+				repairedCount++;
 			}
+		}
 
-			if (stat.getStory() != 0) {
-				totalStory += stat.getStory();
-				storyCount++;
-			}
+		return repairedCount;
+	}
 
-			if (stat.getQuestion() != 0) {
-				totalQuestion += stat.getQuestion();
-				questionCount++;
-			}
+	private void applyDelta(Long themeId, DiaryStatSnapshot removed, DiaryStatSnapshot added) {
+		Optional<ThemeStat> found = themeStatRepository.findByIdForUpdate(themeId);
 
-			if (stat.getInterior() != 0) {
-				totalInterior += stat.getInterior();
-				interiorCount++;
-			}
+		// 통계가 아직 없거나 누적값이 없는 이전 통계는 전체 재계산으로 초기화
+		if (found.isEmpty() || found.get().needsRebuild()) {
+			updateThemeStat(themeRepository.getReferenceById(themeId));
+			return;
+		}
 
-			if (stat.getDeviceRatio() != null) {
-				totalDeviceRatio += stat.getDeviceRatio();
-				deviceRatioCount++;
-			}
+		ThemeStat themeStat = found.get();
+		eventPublisher.publish(new ThemeStatUpdatedEvent(themeId));
 
-			if (stat.isEscapeResult()) {
-				escapeSuccessCount++;
-				if (stat.getHintCount() == 0) {
-					noHintEscapeCount++;
-				}
-			}
+		if (removed != null) {
+			themeStat.applyDiary(removed, -1);
+		}
 
-			if (stat.getElapsedTime() != 0) {
-				totalElapsedTime += stat.getElapsedTime();
-				elapsedTimeCount++;
-			}
+		if (added != null) {
+			themeStat.applyDiary(added, 1);
 		}
 
-		float difficultyAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalDifficulty, difficultyCount)
-		);
-
-		float fearAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalFear, fearCount)
-		);
-
-		float activityAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalActivity, activityCount)
-		);
-
-		float satisfactionAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalSatisfaction, satisfactionCount)
-		);
-
-		float productionAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalProduction, productionCount)
-		);
-
-		float storyAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalStory, storyCount)
-		);
-
-		float questionAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalQuestion, questionCount)
-		);
-
-		float interiorAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalInterior, interiorCount)
-		);
-
-		float deviceRatioAvg = Ut.calculator.roundToFirstDecimal(
-			Ut.calculator.calculateAverage(totalDeviceRatio, deviceRatioCount)
-		);
-
-		int noHintEscapeRate = Ut.calculator.roundToInt(
-			Ut.calculator.calculateRate(totalCount, noHintEscapeCount)
-		);
-
-		int escapedRate = Ut.calculator.roundToInt(
-			Ut.calculator.calculateRate(totalCount, escapeSuccessCount)
-		);
-
-		int escapeTimeAvg = Ut.calculator.roundToInt(
-			Ut.calculator.calculateAverage(totalElapsedTime, elapsedTimeCount)
-		);
-
-		return ThemeStatDto.builder()
-			.difficulty(difficultyAvg)
-			.fear(fearAvg)
-			.activity(activityAvg)
-			.satisfaction(satisfactionAvg)
-			.production(productionAvg)
-			.story(storyAvg)
-			.question(questionAvg)
-			.interior(interiorAvg)
-			.deviceRatio(deviceRatioAvg)
-			.noHintEscapeRate(noHintEscapeRate)
-			.escapeResult(escapedRate)
-			.escapeTimeAvg(escapeTimeAvg)
-			.build();
+		// 해당 테마에 대한 일지가 없을 경우 통계 삭제
+		if (themeStat.getDiaryCount() <= 0) {
+			themeStatRepository.delete(themeStat);
+		}
 	}
 }
@@ -0,0 +1,56 @@
+package com.ddobang.backend.domain.theme.support;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ddobang.backend.domain.theme.repository.ThemeStatRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ThemeStatReconciler
+ * 증분 반영된 테마 통계 누적값을 주기적으로 전체 재집계 결과와 비교하여 검증, 복구
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThemeStatReconciler {
+	private final ThemeStatRepository themeStatRepository;
+	private final ThemeStatCalculator themeStatCalculator;
+
+	@Value("${custom.stat.theme.reconcile-chunk-size:500}")
+	private int chunkSize;
+
+	// 매일 4시 30분에 검증 (id 순으로 chunk 단위 처리, chunk 마다 별도 트랜잭션)
+	@Scheduled(cron = "${custom.stat.theme.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+	public void reconcileThemeStats() {
+		long lastId = 0L;
+		int checkedCount = 0;
+		int repairedCount = 0;
+
+		while (true) {
+			List<Long> themeIds = themeStatRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+
+			if (themeIds.isEmpty()) {
+				break;
+			}
+
+			try {
+				repairedCount += themeStatCalculator.reconcile(themeIds);
+			} catch (Exception e) {
+				log.warn("테마 통계 검증 실패 - theme id {} ~ {}: {}",
+					themeIds.get(0), themeIds.get(themeIds.size() - 1), e.getMessage());
+			}
+
+			checkedCount += themeIds.size();
+			lastId = themeIds.get(themeIds.size() - 1);
+		}
+
+		log.info("테마 통계 검증 완료. 검사: {}, 복구: {}", checkedCount, repairedCount);
+	}
+}
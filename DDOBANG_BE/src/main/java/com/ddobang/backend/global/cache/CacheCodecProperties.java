@@ -0,0 +1,29 @@
+package com.ddobang.backend.global.cache;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * CacheCodecProperties
+ * 캐시별 값 직렬화 방식, 압축 기준 설정 (custom.cache.codec)
+ * @param defaultCodec 따로 지정하지 않은 캐시의 직렬화 방식
+ * @param compressThreshold 직렬화 결과가 이 크기(byte) 이상이면 LZ4 압축 (0 이면 압축 안 함)
+ * @param caches 캐시 이름별 직렬화 방식
+ */
+@ConfigurationProperties(prefix = "custom.cache.codec")
+public record CacheCodecProperties(
+	@DefaultValue("JSON") CacheValueCodec defaultCodec,
+	@DefaultValue("0") int compressThreshold,
+	Map<String, CacheValueCodec> caches
+) {
+
+	public CacheValueCodec codecOf(String cacheName) {
+		return caches == null ? defaultCodec : caches.getOrDefault(cacheName, defaultCodec);
+	}
+
+	public boolean compressionEnabled() {
+		return compressThreshold > 0;
+	}
+}
@@ -0,0 +1,16 @@
+package com.ddobang.backend.global.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * CacheInvalidationBus
+ * 로컬 캐시(L1) 무효화 메시지를 다른 노드로 전달하는 전송 계층
+ */
+public interface CacheInvalidationBus {
+
+	// key 가 null 이면 캐시 전체 무효화
+	void publish(String cacheName, String key);
+
+	// 다른 노드에서 보낸 무효화 메시지 수신 시작
+	void subscribe(Consumer<CacheInvalidationMessage> handler);
+}
@@ -0,0 +1,12 @@
+package com.ddobang.backend.global.cache;
+
+/**
+ * CacheInvalidationMessage
+ * 로컬 캐시 무효화 메시지 (key 가 null 이면 캐시 전체)
+ */
+public record CacheInvalidationMessage(
+	String nodeId,
+	String cacheName,
+	String key
+) {
+}
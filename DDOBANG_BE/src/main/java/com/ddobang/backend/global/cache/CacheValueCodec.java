@@ -0,0 +1,124 @@
+package com.ddobang.backend.global.cache;
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * CacheValueCodec
+ * Redis 캐시 값 직렬화 방식
+ * JSON : 사람이 읽을 수 있지만 필드명, 클래스명이 그대로 들어가 크기가 큼
+ * SMILE : Jackson 바이너리 JSON, 같은 타입 정보를 유지하면서 반복되는 필드명을 참조로 줄임
+ */
+public enum CacheValueCodec {
+	JSON {
+		@Override
+		public RedisSerializer<Object> serializer() {
+			return jacksonSerializer(new JsonFactory());
+		}
+	},
+	SMILE {
+		@Override
+		public RedisSerializer<Object> serializer() {
+			return jacksonSerializer(new SmileFactory());
+		}
+	};
+
+	private static final String TYPE_PROPERTY = "@class";
+
+	public abstract RedisSerializer<Object> serializer();
+
+	private static RedisSerializer<Object> jacksonSerializer(JsonFactory factory) {
+		return GenericJackson2JsonRedisSerializer.builder()
+			.objectMapper(objectMapper(factory))
+			.typeHintPropertyName(TYPE_PROPERTY)
+			.registerNullValueSerializer(true)
+			.build();
+	}
+
+	// 응답 dto 의 LocalDateTime, subList()/toList() 결과도 저장, 복원할 수 있도록 설정
+	@SuppressWarnings("deprecation")
+	private static ObjectMapper objectMapper(JsonFactory factory) {
+		ObjectMapper mapper = new ObjectMapper(factory);
+		mapper.registerModule(new JavaTimeModule());
+
+		ObjectMapper.DefaultTypeResolverBuilder typer = new PortableTypeResolverBuilder(
+			mapper.getPolymorphicTypeValidator());
+		mapper.setDefaultTyping(typer
+			.init(JsonTypeInfo.Id.CLASS, null)
+			.inclusion(JsonTypeInfo.As.PROPERTY)
+			.typeProperty(TYPE_PROPERTY));
+
+		return mapper;
+	}
+
+	/**
+	 * 모든 값에 클래스명을 기록하되, 생성할 수 없는 JDK 내부 컬렉션(SubList, ImmutableCollections 등)은
+	 * ArrayList, LinkedHashSet, LinkedHashMap 으로 기록
+	 */
+	@SuppressWarnings("deprecation")
+	private static class PortableTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+		PortableTypeResolverBuilder(PolymorphicTypeValidator validator) {
+			super(ObjectMapper.DefaultTyping.EVERYTHING, validator);
+		}
+
+		@Override
+		protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType,
+			PolymorphicTypeValidator subtypeValidator, Collection<NamedType> subtypes, boolean forSer,
+			boolean forDeser) {
+			return new PortableClassNameIdResolver(baseType, config.getTypeFactory(), subtypeValidator);
+		}
+	}
+
+	private static class PortableClassNameIdResolver extends ClassNameIdResolver {
+
+		PortableClassNameIdResolver(JavaType baseType, TypeFactory typeFactory, PolymorphicTypeValidator validator) {
+			super(baseType, typeFactory, validator);
+		}
+
+		@Override
+		public String idFromValue(Object value) {
+			return idFromValueAndType(value, value.getClass());
+		}
+
+		@Override
+		public String idFromValueAndType(Object value, Class<?> type) {
+			if (type != null && isInternalType(type)) {
+				if (value instanceof List) {
+					return "java.util.ArrayList";
+				}
+				if (value instanceof Set) {
+					return "java.util.LinkedHashSet";
+				}
+				if (value instanceof Map) {
+					return "java.util.LinkedHashMap";
+				}
+			}
+			return super.idFromValueAndType(value, type);
+		}
+
+		private boolean isInternalType(Class<?> type) {
+			return type.getName().startsWith("java.util.")
+				&& (!Modifier.isPublic(type.getModifiers()) || type.getEnclosingClass() != null);
+		}
+	}
+}
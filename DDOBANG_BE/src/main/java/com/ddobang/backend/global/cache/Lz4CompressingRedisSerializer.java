@@ -0,0 +1,80 @@
+package com.ddobang.backend.global.cache;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Lz4CompressingRedisSerializer
+ * 직렬화 결과가 기준 크기 이상이면 LZ4 로 압축
+ * 첫 바이트로 압축 여부를 표시 (0: 원본, 1: LZ4 + 원본 길이 4바이트)
+ */
+public class Lz4CompressingRedisSerializer implements RedisSerializer<Object> {
+	private static final byte RAW = 0;
+	private static final byte LZ4 = 1;
+	private static final int LZ4_HEADER_SIZE = 1 + Integer.BYTES;
+
+	private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+	private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+	private final RedisSerializer<Object> delegate;
+	private final int threshold;
+
+	public Lz4CompressingRedisSerializer(RedisSerializer<Object> delegate, int threshold) {
+		this.delegate = delegate;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		byte[] bytes = delegate.serialize(value);
+
+		if (bytes == null) {
+			return null;
+		}
+
+		if (bytes.length < threshold) {
+			byte[] raw = new byte[bytes.length + 1];
+			raw[0] = RAW;
+			System.arraycopy(bytes, 0, raw, 1, bytes.length);
+			return raw;
+		}
+
+		byte[] compressed = new byte[LZ4_HEADER_SIZE + COMPRESSOR.maxCompressedLength(bytes.length)];
+		compressed[0] = LZ4;
+		ByteBuffer.wrap(compressed, 1, Integer.BYTES).putInt(bytes.length);
+		int compressedLength = COMPRESSOR.compress(bytes, 0, bytes.length, compressed, LZ4_HEADER_SIZE);
+
+		byte[] result = new byte[LZ4_HEADER_SIZE + compressedLength];
+		System.arraycopy(compressed, 0, result, 0, result.length);
+		return result;
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		byte[] payload;
+		switch (bytes[0]) {
+			case RAW -> {
+				payload = new byte[bytes.length - 1];
+				System.arraycopy(bytes, 1, payload, 0, payload.length);
+			}
+			case LZ4 -> {
+				int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+				payload = new byte[originalLength];
+				DECOMPRESSOR.decompress(bytes, LZ4_HEADER_SIZE, payload, 0, originalLength);
+			}
+			default -> throw new SerializationException("알 수 없는 캐시 값 압축 형식: " + bytes[0]);
+		}
+
+		return delegate.deserialize(payload);
+	}
+}
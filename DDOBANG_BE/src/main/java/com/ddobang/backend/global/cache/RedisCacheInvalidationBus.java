@@ -0,0 +1,83 @@
+package com.ddobang.backend.global.cache;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RedisCacheInvalidationBus
+ * Redis pub/sub 채널 (cache:invalidate) 로 로컬 캐시 무효화 메시지 전달
+ * 자신이 보낸 메시지는 노드 ID 로 걸러서 무시
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.cache.local.enabled", havingValue = "true")
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+	private static final String CHANNEL = "cache:invalidate";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConnectionFactory redisConnectionFactory;
+	private final ObjectMapper objectMapper;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private RedisMessageListenerContainer container;
+
+	public RedisCacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+		RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisConnectionFactory = redisConnectionFactory;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void publish(String cacheName, String key) {
+		try {
+			String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+			stringRedisTemplate.convertAndSend(CHANNEL, payload);
+		} catch (Exception e) {
+			// 전달 실패 시 다른 노드의 로컬 캐시는 로컬 TTL 만료 후 갱신
+			log.warn("로컬 캐시 무효화 메시지 전송 실패 - cache: {}, key: {}: {}", cacheName, key, e.getMessage());
+		}
+	}
+
+	@Override
+	public synchronized void subscribe(Consumer<CacheInvalidationMessage> handler) {
+		container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener((message, pattern) -> {
+			try {
+				CacheInvalidationMessage invalidation =
+					objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+
+				if (!nodeId.equals(invalidation.nodeId())) {
+					handler.accept(invalidation);
+				}
+			} catch (JsonProcessingException e) {
+				log.warn("로컬 캐시 무효화 메시지 변환 실패: {}", e.getMessage());
+			} catch (Exception e) {
+				log.warn("로컬 캐시 무효화 처리 실패: {}", e.getMessage());
+			}
+		}, new ChannelTopic(CHANNEL));
+		container.afterPropertiesSet();
+		container.start();
+	}
+
+	@PreDestroy
+	public synchronized void shutdown() throws Exception {
+		if (container != null) {
+			container.destroy();
+		}
+	}
+}
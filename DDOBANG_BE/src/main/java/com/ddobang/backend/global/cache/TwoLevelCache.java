@@ -0,0 +1,193 @@
+package com.ddobang.backend.global.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * TwoLevelCache
+ * 노드별 로컬 캐시(L1, Caffeine) 뒤에 공유 캐시(L2, Redis)를 두는 캐시
+ * 조회는 L1 -> L2 순서로 하고 L2 에서 찾은 값은 L1 에 적재
+ * 저장, 삭제 시 L2 를 먼저 반영한 뒤 다른 노드의 L1 을 무효화
+ * L2 조회 도중 무효화된 키는 조회한 (이전) 값을 L1 에 적재하지 않음
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+	// 키 구간별 무효화 세대 수 (키마다 보관하지 않도록 해시로 나눠 기록)
+	private static final int INVALIDATION_STRIPES = 64;
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+	private final Cache remoteCache;
+	private final CacheInvalidationBus invalidationBus;
+	private final AtomicLongArray invalidationGenerations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+	private final Counter localHitCounter;
+	private final Counter localMissCounter;
+	private final Counter remoteHitCounter;
+	private final Counter remoteMissCounter;
+	private final Timer localTimer;
+	private final Timer remoteTimer;
+
+	public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+		Cache remoteCache, CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+		super(true);
+		this.name = name;
+		this.localCache = localCache;
+		this.remoteCache = remoteCache;
+		this.invalidationBus = invalidationBus;
+
+		this.localHitCounter = requestCounter(meterRegistry, "l1", "hit");
+		this.localMissCounter = requestCounter(meterRegistry, "l1", "miss");
+		this.remoteHitCounter = requestCounter(meterRegistry, "l2", "hit");
+		this.remoteMissCounter = requestCounter(meterRegistry, "l2", "miss");
+		this.localTimer = latencyTimer(meterRegistry, "l1");
+		this.remoteTimer = latencyTimer(meterRegistry, "l2");
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return localCache;
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		String localKey = localKey(key);
+		Object localValue = localTimer.record(() -> localCache.getIfPresent(localKey));
+
+		if (localValue != null) {
+			localHitCounter.increment();
+			return localValue;
+		}
+		localMissCounter.increment();
+
+		long generation = generation(localKey);
+		ValueWrapper remoteValue = remoteTimer.record(() -> remoteCache.get(key));
+
+		if (remoteValue == null) {
+			remoteMissCounter.increment();
+			return null;
+		}
+		remoteHitCounter.increment();
+
+		Object storeValue = toStoreValue(remoteValue.get());
+		putLocal(localKey, storeValue, generation);
+		return storeValue;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		Object storeValue = lookup(key);
+
+		if (storeValue != null) {
+			return (T)fromStoreValue(storeValue);
+		}
+
+		// 동시 적재는 L2 캐시의 동기화에 맡김
+		String localKey = localKey(key);
+		long generation = generation(localKey);
+		T value = remoteCache.get(key, valueLoader);
+		putLocal(localKey, toStoreValue(value), generation);
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		remoteCache.put(key, value);
+		markInvalidated(localKey(key));
+		localCache.put(localKey(key), toStoreValue(value));
+		invalidationBus.publish(name, localKey(key));
+	}
+
+	@Override
+	public void evict(Object key) {
+		remoteCache.evict(key);
+		markInvalidated(localKey(key));
+		localCache.invalidate(localKey(key));
+		invalidationBus.publish(name, localKey(key));
+	}
+
+	@Override
+	public void clear() {
+		remoteCache.clear();
+		markInvalidated(null);
+		localCache.invalidateAll();
+		invalidationBus.publish(name, null);
+	}
+
+	// 다른 노드에서 변경된 항목을 이 노드의 L1 에서만 제거
+	public void evictLocal(String key) {
+		markInvalidated(key);
+		if (key == null) {
+			localCache.invalidateAll();
+		} else {
+			localCache.invalidate(key);
+		}
+	}
+
+	// L2 조회 시작 이후 무효화되지 않았을 때만 L1 에 적재
+	// 적재 직후 무효화된 경우에도 이전 값이 남지 않도록 적재 후 한 번 더 확인하여 제거
+	private void putLocal(String localKey, Object storeValue, long generation) {
+		if (generation(localKey) != generation) {
+			return;
+		}
+
+		localCache.put(localKey, storeValue);
+
+		if (generation(localKey) != generation) {
+			localCache.invalidate(localKey);
+		}
+	}
+
+	private long generation(String localKey) {
+		return invalidationGenerations.get(stripe(localKey));
+	}
+
+	// L2 반영 이후, L1 무효화 전에 호출 (key 가 null 이면 전체)
+	private void markInvalidated(String localKey) {
+		if (localKey == null) {
+			for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+				invalidationGenerations.incrementAndGet(i);
+			}
+		} else {
+			invalidationGenerations.incrementAndGet(stripe(localKey));
+		}
+	}
+
+	private int stripe(String localKey) {
+		return Math.floorMod(localKey.hashCode(), INVALIDATION_STRIPES);
+	}
+
+	// Redis 캐시 키와 같은 기준(문자열)으로 L1 키 생성
+	private String localKey(Object key) {
+		return String.valueOf(key);
+	}
+
+	private Counter requestCounter(MeterRegistry meterRegistry, String tier, String result) {
+		return Counter.builder("cache.tier.requests")
+			.description("Number of cache lookups per tier")
+			.tag("cache", name)
+			.tag("tier", tier)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private Timer latencyTimer(MeterRegistry meterRegistry, String tier) {
+		return Timer.builder("cache.tier.latency")
+			.description("Time taken by a cache lookup per tier")
+			.tag("cache", name)
+			.tag("tier", tier)
+			.register(meterRegistry);
+	}
+}
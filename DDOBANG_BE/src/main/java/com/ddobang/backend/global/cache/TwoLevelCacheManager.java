@@ -0,0 +1,81 @@
+package com.ddobang.backend.global.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * TwoLevelCacheManager
+ * Redis 캐시 매니저의 캐시마다 크기 제한이 있는 로컬 캐시를 앞에 두는 캐시 매니저
+ * 로컬 캐시 TTL 은 캐시별 Redis TTL 을 넘지 않도록 설정
+ */
+public class TwoLevelCacheManager implements CacheManager {
+	private final CacheManager remoteCacheManager;
+	private final CacheInvalidationBus invalidationBus;
+	private final MeterRegistry meterRegistry;
+	private final long localMaxSize;
+	private final Map<String, Duration> localTtls;
+	private final Duration defaultLocalTtl;
+
+	private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+	public TwoLevelCacheManager(CacheManager remoteCacheManager, CacheInvalidationBus invalidationBus,
+		MeterRegistry meterRegistry, long localMaxSize, Map<String, Duration> localTtls, Duration defaultLocalTtl) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.invalidationBus = invalidationBus;
+		this.meterRegistry = meterRegistry;
+		this.localMaxSize = localMaxSize;
+		this.localTtls = localTtls;
+		this.defaultLocalTtl = defaultLocalTtl;
+
+		invalidationBus.subscribe(this::evictLocal);
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		TwoLevelCache cache = caches.get(name);
+
+		if (cache != null) {
+			return cache;
+		}
+
+		Cache remoteCache = remoteCacheManager.getCache(name);
+
+		if (remoteCache == null) {
+			return null;
+		}
+
+		return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+			cacheName,
+			Caffeine.newBuilder()
+				.maximumSize(localMaxSize)
+				.expireAfterWrite(localTtls.getOrDefault(cacheName, defaultLocalTtl))
+				.<String, Object>build(),
+			remoteCache,
+			invalidationBus,
+			meterRegistry
+		));
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return remoteCacheManager.getCacheNames();
+	}
+
+	void evictLocal(CacheInvalidationMessage message) {
+		TwoLevelCache cache = caches.get(message.cacheName());
+
+		// 이 노드에서 아직 사용하지 않은 캐시는 비울 항목이 없음
+		if (cache != null) {
+			cache.evictLocal(message.key());
+		}
+	}
+}
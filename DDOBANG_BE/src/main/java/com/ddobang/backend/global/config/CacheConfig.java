@@ -1,7 +1,9 @@
 package com.ddobang.backend.global.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,8 +13,17 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.ddobang.backend.global.cache.CacheCodecProperties;
+import com.ddobang.backend.global.cache.CacheInvalidationBus;
+import com.ddobang.backend.global.cache.CacheValueCodec;
+import com.ddobang.backend.global.cache.Lz4CompressingRedisSerializer;
+import com.ddobang.backend.global.cache.TwoLevelCacheManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -20,10 +31,13 @@ import java.util.Map;
 /**
  * CacheConfig
  * Redis 기반 캐싱 설정
+ * 캐시별 값 직렬화 방식(JSON, SMILE)과 LZ4 압축 기준은 custom.cache.codec 으로 설정
+ * custom.cache.local.enabled=true 면 노드별 로컬 캐시(L1)를 Redis(L2) 앞에 두고 변경 시 pub/sub 으로 다른 노드 L1 무효화
  * @author 100minha
  */
 @EnableCaching
 @Configuration
+@EnableConfigurationProperties(CacheCodecProperties.class)
 public class CacheConfig {
 
     @Value("${custom.cache.ttl.regions:3600}")
@@ -32,9 +46,18 @@ public class CacheConfig {
     @Value("${custom.cache.ttl.themes:1800}")
     private long themesCacheTtl;
 
-    @Value("${custom.cache.ttl.parties:300}")
+    @Value("${custom.cache.ttl.parties:1800}")
     private long partiesCacheTtl;
 
+    @Value("${custom.cache.local.enabled:false}")
+    private boolean localCacheEnabled;
+
+    @Value("${custom.cache.local.max-size:1000}")
+    private long localCacheMaxSize;
+
+    @Value("${custom.cache.local.ttl-seconds:300}")
+    private long localCacheTtl;
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -51,23 +74,71 @@ public class CacheConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheCodecProperties codecProperties,
+            ObjectProvider<CacheInvalidationBus> invalidationBus, MeterRegistry meterRegistry) {
         // 기본 캐시 설정
-        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
+        RedisCacheConfiguration baseConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
-                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()));
+        RedisCacheConfiguration defaultConfig = withCodec(baseConfig, codecProperties.defaultCodec(), codecProperties);
 
         // 캐시별 TTL 설정
+        Map<String, Duration> cacheTtls = new HashMap<>();
+        cacheTtls.put("regions", Duration.ofSeconds(regionsCacheTtl));
+        cacheTtls.put("themes", Duration.ofSeconds(themesCacheTtl));
+        cacheTtls.put("parties", Duration.ofSeconds(partiesCacheTtl));
+
+        // 캐시별 TTL, 직렬화 방식 설정
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        
-        cacheConfigurations.put("regions", defaultConfig.entryTtl(Duration.ofSeconds(regionsCacheTtl)));
-        cacheConfigurations.put("themes", defaultConfig.entryTtl(Duration.ofSeconds(themesCacheTtl)));
-        cacheConfigurations.put("parties", defaultConfig.entryTtl(Duration.ofSeconds(partiesCacheTtl)));
+        cacheTtls.forEach((name, ttl) -> cacheConfigurations.put(name,
+                withCodec(baseConfig.entryTtl(ttl), codecProperties.codecOf(name), codecProperties)));
+
+        if (codecProperties.caches() != null) {
+            codecProperties.caches().forEach((name, codec) -> cacheConfigurations.putIfAbsent(name,
+                    withCodec(baseConfig, codec, codecProperties)));
+        }
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+
+        if (!localCacheEnabled) {
+            return redisCacheManager;
+        }
+
+        // 빈으로 등록하지 않으므로 초기 캐시 설정을 직접 반영
+        redisCacheManager.afterPropertiesSet();
+
+        // 로컬 캐시는 Redis TTL 보다 오래 보관하지 않음
+        Duration localTtl = Duration.ofSeconds(localCacheTtl);
+        Map<String, Duration> localTtls = new HashMap<>();
+        cacheTtls.forEach((name, ttl) -> localTtls.put(name, min(localTtl, ttl)));
+
+        return new TwoLevelCacheManager(redisCacheManager, invalidationBus.getObject(), meterRegistry,
+                localCacheMaxSize, localTtls, min(localTtl, Duration.ofMinutes(10)));
+    }
+
+    private RedisCacheConfiguration withCodec(RedisCacheConfiguration config, CacheValueCodec codec,
+            CacheCodecProperties codecProperties) {
+        RedisSerializer<Object> serializer = codec.serializer();
+
+        if (codecProperties.compressionEnabled()) {
+            serializer = new Lz4CompressingRedisSerializer(serializer, codecProperties.compressThreshold());
+        }
+
+        config = config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+
+        // 기존 JSON 형식은 키를 그대로 사용하고, 다른 형식은 키 prefix 를 달리해 이전 형식으로 저장된 값을 읽지 않도록 함
+        if (codec == CacheValueCodec.JSON && !codecProperties.compressionEnabled()) {
+            return config;
+        }
+
+        String format = codec.name().toLowerCase() + (codecProperties.compressionEnabled() ? "-lz4" : "");
+        return config.computePrefixWith(cacheName -> cacheName + ":" + format + "::");
+    }
+
+    private Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
     }
 }
@@ -1,10 +1,14 @@
 package com.ddobang.backend.global.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -30,15 +34,31 @@ public class RabbitMQConfig {
     public static final String PARTY_NOTIFICATION_QUEUE = "notification.party.queue";
     public static final String MESSAGE_NOTIFICATION_QUEUE = "notification.message.queue";
     public static final String BOARD_NOTIFICATION_QUEUE = "notification.board.queue";
+    public static final String PARTY_HIGH_PRIORITY_QUEUE = "notification.party.high.queue";
+    public static final String MESSAGE_HIGH_PRIORITY_QUEUE = "notification.message.high.queue";
+    public static final String BOARD_HIGH_PRIORITY_QUEUE = "notification.board.high.queue";
     public static final String CHAT_ROOM_QUEUE_PREFIX = "chat.room.";
 
     // Routing Keys
     public static final String PARTY_ROUTING_KEY = "notification.party";
     public static final String MESSAGE_ROUTING_KEY = "notification.message";
     public static final String BOARD_ROUTING_KEY = "notification.board";
+    public static final String HIGH_PRIORITY_SUFFIX = ".high";
+    public static final String NORMAL_PRIORITY_SUFFIX = ".normal";
 
     // Dead Letter Queue
     public static final String DLQ_SUFFIX = ".dlq";
+    public static final List<String> DEAD_LETTER_QUEUES = List.of(
+            PARTY_NOTIFICATION_QUEUE + DLQ_SUFFIX,
+            MESSAGE_NOTIFICATION_QUEUE + DLQ_SUFFIX,
+            BOARD_NOTIFICATION_QUEUE + DLQ_SUFFIX);
+
+    // 지연 재시도 큐 (notification.retry.{지연}ms)
+    public static final String RETRY_QUEUE_PREFIX = "notification.retry.";
+
+    // Listener Container Factories
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchRabbitListenerContainerFactory";
+    public static final String HIGH_PRIORITY_LISTENER_CONTAINER_FACTORY = "highPriorityRabbitListenerContainerFactory";
 
     /**
      * 메시지 변환기 - JSON 형태로 직렬화/역직렬화
@@ -55,15 +75,9 @@ public class RabbitMQConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter());
-        template.setMandatory(true); // 메시지가 큐에 도달하지 못하면 예외 발생
-        
-        // Publisher Confirms 설정
-        template.setConfirmCallback((correlationData, ack, cause) -> {
-            if (!ack) {
-                // 메시지 발송 실패 시 로깅 및 재시도 로직
-                System.err.println("Message not delivered: " + cause);
-            }
-        });
+        template.setMandatory(true); // 메시지가 큐에 도달하지 못하면 반환됨 (CorrelationData 에 기록)
+
+        // Publisher Confirms 는 AlarmMessagePublisher 에서 발행별 CorrelationData 로 확인
         
         return template;
     }
@@ -84,6 +98,51 @@ public class RabbitMQConfig {
         return factory;
     }
 
+    /**
+     * 배치 리스너 컨테이너 팩토리 설정
+     * 최대 batchSize 건 또는 receiveTimeout 동안 모인 메시지를 한 번에 전달하고, 리스너에서 multiple ACK 처리
+     */
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${custom.rabbitmq.batch.size:50}") int batchSize,
+            @Value("${custom.rabbitmq.batch.receive-timeout-ms:100}") long receiveTimeoutMs) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setConcurrentConsumers(3);
+        factory.setMaxConcurrentConsumers(10);
+        factory.setPrefetchCount(Math.max(50, batchSize * 2)); // 배치를 채우는 동안 다음 배치 메시지도 받아둘 수 있도록 여유 있게 설정
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs); // 이 시간 동안 새 메시지가 없으면 모인 만큼 전달
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
+    /**
+     * 높은 우선순위 리스너 컨테이너 팩토리 설정
+     * 일반 알림이 몰려도 대기하지 않도록 별도 소비자 스레드에서 배치 없이 한 건씩 처리
+     */
+    @Bean(HIGH_PRIORITY_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory highPriorityRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${custom.rabbitmq.high-priority.concurrency:2}") int concurrency,
+            @Value("${custom.rabbitmq.high-priority.max-concurrency:4}") int maxConcurrency,
+            @Value("${custom.rabbitmq.high-priority.prefetch:10}") int prefetch) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        factory.setPrefetchCount(prefetch); // 소비자 하나가 많은 메시지를 쥐고 있지 않도록 작게 설정
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
     // ============ Exchanges ============
 
     /**
@@ -160,6 +219,58 @@ public class RabbitMQConfig {
                 .build();
     }
 
+    /**
+     * 높은 우선순위 알림 큐 (도메인별)
+     * 만료, 거절 시 일반 큐와 같은 도메인 DLQ 로 이동
+     */
+    @Bean
+    public Queue partyHighPriorityQueue() {
+        return highPriorityQueue(PARTY_HIGH_PRIORITY_QUEUE, PARTY_NOTIFICATION_QUEUE);
+    }
+
+    @Bean
+    public Queue messageHighPriorityQueue() {
+        return highPriorityQueue(MESSAGE_HIGH_PRIORITY_QUEUE, MESSAGE_NOTIFICATION_QUEUE);
+    }
+
+    @Bean
+    public Queue boardHighPriorityQueue() {
+        return highPriorityQueue(BOARD_HIGH_PRIORITY_QUEUE, BOARD_NOTIFICATION_QUEUE);
+    }
+
+    private Queue highPriorityQueue(String name, String normalQueue) {
+        return QueueBuilder
+                .durable(name)
+                .withArgument("x-dead-letter-exchange", DLX_EXCHANGE)
+                .withArgument("x-dead-letter-routing-key", normalQueue + DLQ_SUFFIX)
+                .withArgument("x-message-ttl", 60000) // 1분 TTL
+                .build();
+    }
+
+    /**
+     * 지연 재시도 큐 (재시도 횟수별 TTL 큐)
+     * 소비자 없이 TTL 동안 대기한 뒤 알림 Exchange 로 dead-letter 되어 다시 소비됨
+     * 발행 시 원래 라우팅 키를 CC 헤더로 붙이므로 dead-letter 시 원래 큐(도메인, 우선순위)로 돌아감
+     * 지연 시간이 큐 이름에 포함되므로 설정을 바꾸면 새 큐가 생성됨 (기존 큐 인자 충돌 방지)
+     */
+    @Bean
+    public Declarables retryQueues(
+            @Value("${custom.rabbitmq.retry.delays-ms:1000,5000,30000}") long[] delaysMs) {
+        List<Declarable> queues = new ArrayList<>();
+        for (long delayMs : delaysMs) {
+            queues.add(QueueBuilder
+                    .durable(retryQueueName(delayMs))
+                    .withArgument("x-message-ttl", delayMs)
+                    .withArgument("x-dead-letter-exchange", NOTIFICATION_EXCHANGE)
+                    .build());
+        }
+        return new Declarables(queues);
+    }
+
+    public static String retryQueueName(long delayMs) {
+        return RETRY_QUEUE_PREFIX + delayMs + "ms";
+    }
+
     // Dead Letter Queues
     @Bean
     public Queue partyNotificationDLQ() {
@@ -186,7 +297,7 @@ public class RabbitMQConfig {
         return BindingBuilder
                 .bind(partyNotificationQueue())
                 .to(notificationExchange())
-                .with(PARTY_ROUTING_KEY + ".*"); // notification.party.* 패턴
+                .with(PARTY_ROUTING_KEY + NORMAL_PRIORITY_SUFFIX); // notification.party.normal
     }
 
     /**
@@ -197,7 +308,7 @@ public class RabbitMQConfig {
         return BindingBuilder
                 .bind(messageNotificationQueue())
                 .to(notificationExchange())
-                .with(MESSAGE_ROUTING_KEY + ".*"); // notification.message.* 패턴
+                .with(MESSAGE_ROUTING_KEY + NORMAL_PRIORITY_SUFFIX); // notification.message.normal
     }
 
     /**
@@ -208,7 +319,34 @@ public class RabbitMQConfig {
         return BindingBuilder
                 .bind(boardNotificationQueue())
                 .to(notificationExchange())
-                .with(BOARD_ROUTING_KEY + ".*"); // notification.board.* 패턴
+                .with(BOARD_ROUTING_KEY + NORMAL_PRIORITY_SUFFIX); // notification.board.normal
+    }
+
+    /**
+     * 높은 우선순위 알림 바인딩 (notification.*.high)
+     */
+    @Bean
+    public Binding partyHighPriorityBinding() {
+        return BindingBuilder
+                .bind(partyHighPriorityQueue())
+                .to(notificationExchange())
+                .with(PARTY_ROUTING_KEY + HIGH_PRIORITY_SUFFIX);
+    }
+
+    @Bean
+    public Binding messageHighPriorityBinding() {
+        return BindingBuilder
+                .bind(messageHighPriorityQueue())
+                .to(notificationExchange())
+                .with(MESSAGE_ROUTING_KEY + HIGH_PRIORITY_SUFFIX);
+    }
+
+    @Bean
+    public Binding boardHighPriorityBinding() {
+        return BindingBuilder
+                .bind(boardHighPriorityQueue())
+                .to(notificationExchange())
+                .with(BOARD_ROUTING_KEY + HIGH_PRIORITY_SUFFIX);
     }
 
     // DLQ Bindings
@@ -0,0 +1,44 @@
+package com.ddobang.backend.global.converter;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class ListStrToJsonConverter implements AttributeConverter<List<String>, String> {
+	// 문자열 목록만 다루므로 설정 없는 ObjectMapper 사용 (스프링 컨텍스트 없이 엔티티를 다루는 테스트에서도 동작)
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	@Override
+	public String convertToDatabaseColumn(List<String> attribute) {
+		if (attribute == null) {
+			return null;
+		}
+
+		try {
+			return OBJECT_MAPPER.writeValueAsString(attribute);
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public List<String> convertToEntityAttribute(String dbData) {
+		if (dbData == null) {
+			return null;
+		}
+
+		try {
+			return OBJECT_MAPPER.readValue(dbData, new TypeReference<List<String>>() {
+			});
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,5 @@
+package com.ddobang.backend.global.event;
+
+// 트랜잭션 아웃박스를 거쳐 커밋 이후 전달할 이벤트 (JSON 으로 저장 후 복원 가능해야 함)
+public interface OutboxEvent extends DomainEvent {
+}
@@ -1,17 +1,47 @@
 package com.ddobang.backend.global.event;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ddobang.backend.global.outbox.OutboxMessage;
+import com.ddobang.backend.global.outbox.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class SpringEventPublisher implements EventPublisher {
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final OutboxMessageRepository outboxMessageRepository;
+	private final ObjectMapper objectMapper;
+
+	@Value("${custom.outbox.enabled:false}")
+	private boolean outboxEnabled;
 
+	// 아웃박스 이벤트는 진행 중인 트랜잭션에 함께 저장하고 커밋 이후 OutboxRelay 가 전달
+	// (트랜잭션이 롤백되면 이벤트도 함께 사라지고, 커밋되면 전달이 보장됨)
 	@Override
 	public void publish(DomainEvent event) {
+		if (outboxEnabled && event instanceof OutboxEvent
+			&& TransactionSynchronizationManager.isActualTransactionActive()) {
+			try {
+				outboxMessageRepository.save(new OutboxMessage(
+					event.getEventType(),
+					event.getClass().getName(),
+					objectMapper.writeValueAsString(event)
+				));
+				return;
+			} catch (JsonProcessingException e) {
+				log.error("아웃박스 이벤트 직렬화 실패, 즉시 발행: type={}, 오류={}", event.getEventType(), e.getMessage());
+			}
+		}
+
 		applicationEventPublisher.publishEvent(event);
 	}
-}
\ No newline at end of file
+}
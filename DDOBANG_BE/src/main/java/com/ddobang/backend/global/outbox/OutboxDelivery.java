@@ -0,0 +1,21 @@
+package com.ddobang.backend.global.outbox;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+import com.ddobang.backend.global.event.OutboxEvent;
+
+/**
+ * OutboxDelivery
+ * 아웃박스에서 복원한 이벤트와 이벤트 키 (리스너는 OutboxDelivery<이벤트 타입> 으로 구독)
+ * 같은 아웃박스 이벤트는 항상 같은 eventKey 로 전달되므로 수신 측은 이를 기준으로 중복 처리를 막아야 하며,
+ * 처리 실패 시 예외를 던지면 OutboxRelayService 가 실패로 기록 후 다시 전달함
+ */
+public record OutboxDelivery<E extends OutboxEvent>(E event, String eventKey) implements ResolvableTypeProvider {
+
+	// 제네릭 타입으로 리스너를 구분할 수 있도록 실제 이벤트 타입 제공
+	@Override
+	public ResolvableType getResolvableType() {
+		return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(event));
+	}
+}
@@ -0,0 +1,74 @@
+package com.ddobang.backend.global.outbox;
+
+import com.ddobang.backend.global.entity.BaseTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * OutboxMessage
+ * 비즈니스 트랜잭션과 함께 저장되는 도메인 이벤트 (OutboxRelay 가 커밋 이후 읽어서 전달)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+	name = "outbox_message",
+	indexes = @Index(name = "idx_outbox_message_status", columnList = "status, id")
+)
+public class OutboxMessage extends BaseTime {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, length = 100)
+	private String eventType;
+
+	// 복원할 이벤트 클래스 이름
+	@Column(nullable = false)
+	private String eventClass;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private Status status;
+
+	private int attempts;
+
+	public OutboxMessage(String eventType, String eventClass, String payload) {
+		this.eventType = eventType;
+		this.eventClass = eventClass;
+		this.payload = payload;
+		this.status = Status.PENDING;
+	}
+
+	// 재전달되어도 같은 값이 되는 이벤트 키 (수신 측 중복 처리 방지용)
+	public String getEventKey() {
+		return "outbox-" + id;
+	}
+
+	// 전달 실패 기록, 최대 횟수에 도달하면 더 이상 전달하지 않음
+	public void recordFailure(int maxAttempts) {
+		this.attempts++;
+		if (this.attempts >= maxAttempts) {
+			this.status = Status.FAILED;
+		}
+	}
+
+	public enum Status {
+		PENDING,
+		PUBLISHED,
+		FAILED
+	}
+}
@@ -0,0 +1,37 @@
+package com.ddobang.backend.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+	// 전달 대기 이벤트를 id 순으로 조회
+	// 여러 노드의 relay 가 같은 이벤트를 가져가지 않도록 행 잠금, 이미 잠긴 행은 건너뜀 (lock timeout -2: SKIP LOCKED)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT o FROM OutboxMessage o WHERE o.status = :status ORDER BY o.id ASC")
+	List<OutboxMessage> findByStatusForUpdate(@Param("status") OutboxMessage.Status status, Pageable pageable);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE OutboxMessage o SET o.status = :status WHERE o.id IN :ids")
+	int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") OutboxMessage.Status status);
+
+	// 전달 완료된 오래된 이벤트 삭제
+	@Modifying
+	@Query("DELETE FROM OutboxMessage o WHERE o.status = :status AND o.createdAt < :before")
+	int deleteByStatusBefore(@Param("status") OutboxMessage.Status status, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,55 @@
+package com.ddobang.backend.global.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OutboxRelay
+ * 아웃박스 테이블을 주기적으로 읽어 이벤트 전달, 전달 완료된 이벤트 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+	// 한 번 실행에서 처리할 최대 batch 수 (밀린 이벤트가 많아도 다른 스케줄 작업을 오래 막지 않도록 제한)
+	private static final int MAX_BATCHES_PER_RUN = 20;
+
+	private final OutboxRelayService outboxRelayService;
+
+	@Value("${custom.outbox.batch-size:100}")
+	private int batchSize;
+
+	@Value("${custom.outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${custom.outbox.retention-hours:24}")
+	private int retentionHours;
+
+	@Scheduled(fixedDelayString = "${custom.outbox.poll-interval-ms:200}")
+	public void relay() {
+		try {
+			for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+				if (outboxRelayService.relayBatch(batchSize, maxAttempts) < batchSize) {
+					return;
+				}
+			}
+		} catch (Exception e) {
+			log.error("아웃박스 이벤트 전달 중 오류: {}", e.getMessage(), e);
+		}
+	}
+
+	// 매일 5시에 전달 완료된 이벤트 정리
+	@Scheduled(cron = "${custom.outbox.cleanup-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+	public void deletePublished() {
+		int deletedCount = outboxRelayService.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+		log.info("전달 완료된 아웃박스 이벤트 {}건 삭제", deletedCount);
+	}
+}
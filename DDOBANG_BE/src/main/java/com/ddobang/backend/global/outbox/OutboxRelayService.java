@@ -0,0 +1,118 @@
+package com.ddobang.backend.global.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ddobang.backend.global.event.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OutboxRelayService
+ * 아웃박스에 쌓인 이벤트를 batch 단위로 읽어 OutboxDelivery 로 감싸 애플리케이션 이벤트로 전달 (알림 리스너가 처리)
+ * 리스너가 예외를 던지면 실패로 기록하고 다음 주기에 다시 전달 (at-least-once, 수신 측은 eventKey 로 중복 처리 방지)
+ */
+@Slf4j
+@Service
+public class OutboxRelayService {
+	private final OutboxMessageRepository outboxMessageRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ObjectMapper objectMapper;
+
+	private final DistributionSummary batchSizeSummary;
+	private final Timer lagTimer;
+	private final Counter publishedCounter;
+	private final Counter failedCounter;
+
+	public OutboxRelayService(
+		OutboxMessageRepository outboxMessageRepository,
+		ApplicationEventPublisher applicationEventPublisher,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry
+	) {
+		this.outboxMessageRepository = outboxMessageRepository;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.objectMapper = objectMapper;
+
+		this.batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size")
+			.description("Number of outbox events read per relay batch")
+			.register(meterRegistry);
+		this.lagTimer = Timer.builder("outbox.relay.lag")
+			.description("Time from writing an outbox event to relaying it")
+			.register(meterRegistry);
+		this.publishedCounter = Counter.builder("outbox.relay.published")
+			.description("Number of outbox events relayed")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("outbox.relay.failed")
+			.description("Number of outbox event relay attempts that failed")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 전달 대기 이벤트 한 batch 전달
+	 *
+	 * @return 읽어온 이벤트 수 (batchSize 와 같으면 남은 이벤트가 더 있을 수 있음)
+	 */
+	@Transactional
+	public int relayBatch(int batchSize, int maxAttempts) {
+		List<OutboxMessage> messages = outboxMessageRepository.findByStatusForUpdate(
+			OutboxMessage.Status.PENDING, PageRequest.of(0, batchSize));
+
+		if (messages.isEmpty()) {
+			return 0;
+		}
+
+		batchSizeSummary.record(messages.size());
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> publishedIds = new ArrayList<>(messages.size());
+
+		for (OutboxMessage message : messages) {
+			try {
+				applicationEventPublisher.publishEvent(new OutboxDelivery<>(toEvent(message), message.getEventKey()));
+				publishedIds.add(message.getId());
+				lagTimer.record(Duration.between(message.getCreatedAt(), now));
+			} catch (Exception e) {
+				failedCounter.increment();
+				message.recordFailure(maxAttempts);
+				log.warn("아웃박스 이벤트 전달 실패 - id: {}, type: {}, 시도: {}, 오류: {}",
+					message.getId(), message.getEventType(), message.getAttempts(), e.getMessage());
+			}
+		}
+
+		if (!publishedIds.isEmpty()) {
+			outboxMessageRepository.updateStatus(publishedIds, OutboxMessage.Status.PUBLISHED);
+			publishedCounter.increment(publishedIds.size());
+		}
+
+		return messages.size();
+	}
+
+	// 전달 완료된 오래된 이벤트 삭제
+	@Transactional
+	public int deletePublishedBefore(LocalDateTime before) {
+		return outboxMessageRepository.deleteByStatusBefore(OutboxMessage.Status.PUBLISHED, before);
+	}
+
+	private OutboxEvent toEvent(OutboxMessage message) throws ClassNotFoundException, JsonProcessingException {
+		Class<?> eventClass = Class.forName(message.getEventClass());
+
+		if (!OutboxEvent.class.isAssignableFrom(eventClass)) {
+			throw new IllegalStateException("아웃박스 이벤트 타입이 아닙니다: " + message.getEventClass());
+		}
+
+		return (OutboxEvent)objectMapper.readValue(message.getPayload(), eventClass);
+	}
+}
@@ -68,6 +68,7 @@ public class SecurityConfig {
 					// 관리자 관련 API
 					.requestMatchers("/admin/login").permitAll() // 로그인만 공개
 					.requestMatchers("/admin/**").hasRole("ADMIN")
+					.requestMatchers("/api/v1/monitoring/**").hasRole("ADMIN") // 알림 시스템 모니터링, DLQ 조회/재처리
 					// TODO : 관리자 관련 API 추가
 
 					// 닉네임 중복 체크
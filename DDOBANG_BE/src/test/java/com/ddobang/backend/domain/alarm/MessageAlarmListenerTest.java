@@ -15,10 +15,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
 import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
 import com.ddobang.backend.domain.alarm.listener.MessageAlarmListener;
 import com.ddobang.backend.domain.alarm.service.AlarmEventService;
 import com.ddobang.backend.domain.alarm.service.AlarmService;
 import com.ddobang.backend.domain.message.event.MessageCreatedEvent;
+import com.ddobang.backend.global.outbox.OutboxDelivery;
 
 @ExtendWith(MockitoExtension.class)
 public class MessageAlarmListenerTest {
@@ -107,4 +109,47 @@ public class MessageAlarmListenerTest {
 		// 예외가 발생해도 sendNotification은 호출되지 않아야 함
 		verify(alarmEventService, never()).sendNotification(any(), any());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("아웃박스로 전달된 이벤트는 아웃박스 키를 eventId 로 저장 후 전송")
+	void handleMessageCreatedDelivery_ShouldSaveWithOutboxKey() {
+		// Given
+		MessageCreatedEvent event = MessageCreatedEvent.builder()
+			.senderId(1L)
+			.senderNickname("김보내")
+			.receiverId(2L)
+			.receiverNickname("이받아")
+			.content("안녕하세요")
+			.messageId(10L)
+			.build();
+
+		// When
+		messageAlarmListener.handleMessageCreatedDelivery(new OutboxDelivery<>(event, "outbox-7"));
+
+		// Then
+		ArgumentCaptor<AlarmEvent> captor = ArgumentCaptor.forClass(AlarmEvent.class);
+		verify(alarmEventService, times(1)).saveAndSend(captor.capture());
+		AlarmEvent alarmEvent = captor.getValue();
+		assertThat(alarmEvent.getEventId()).isEqualTo("outbox-7");
+		assertThat(alarmEvent.getReceiverId()).isEqualTo(2L);
+		assertThat(alarmEvent.getAlarmType()).isEqualTo(AlarmType.MESSAGE);
+		assertThat(alarmEvent.getRelId()).isEqualTo(10L);
+		verify(alarmService, never()).createAlarm(any());
+	}
+
+	@Test
+	@DisplayName("아웃박스로 전달된 이벤트 처리 실패 시 예외를 전파하여 다시 전달받음")
+	void handleMessageCreatedDelivery_WhenSaveFails_ShouldPropagateException() {
+		// Given
+		MessageCreatedEvent event = MessageCreatedEvent.builder()
+			.receiverId(2L)
+			.senderNickname("김보내")
+			.messageId(10L)
+			.build();
+		doThrow(new RuntimeException("알림 저장 오류")).when(alarmEventService).saveAndSend(any());
+
+		// When & Then
+		assertThatThrownBy(() -> messageAlarmListener.handleMessageCreatedDelivery(new OutboxDelivery<>(event, "outbox-7")))
+			.isInstanceOf(RuntimeException.class);
+	}
+}
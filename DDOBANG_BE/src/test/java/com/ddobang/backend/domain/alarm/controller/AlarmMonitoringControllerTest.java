@@ -0,0 +1,104 @@
+package com.ddobang.backend.domain.alarm.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.util.WebUtils;
+
+import com.ddobang.backend.domain.alarm.service.AlarmDeadLetterService;
+import com.ddobang.backend.domain.alarm.service.AlarmEventService;
+import com.ddobang.backend.domain.member.service.MemberService;
+import com.ddobang.backend.global.security.SecurityConfig;
+import com.ddobang.backend.global.security.jwt.JwtTokenProvider;
+import com.ddobang.backend.global.security.jwt.JwtTokenType;
+import com.ddobang.backend.global.security.oauth.CustomAuthorizationRequestResolver;
+import com.ddobang.backend.global.security.oauth.OAuth2SuccessHandler;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * AlarmMonitoringControllerTest
+ * 실제 SecurityConfig 기준으로 모니터링, DLQ API 접근 권한 확인
+ */
+@WebMvcTest(AlarmMonitoringController.class)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+public class AlarmMonitoringControllerTest {
+	private static final String USER_TOKEN = "user-token";
+	private static final String ADMIN_TOKEN = "admin-token";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private AlarmEventService alarmEventService;
+	@MockitoBean
+	private AlarmDeadLetterService alarmDeadLetterService;
+	@MockitoBean
+	private JwtTokenProvider jwtTokenProvider;
+	@MockitoBean
+	private MemberService memberService;
+	@MockitoBean
+	private OAuth2SuccessHandler oAuth2SuccessHandler;
+	@MockitoBean
+	private CustomAuthorizationRequestResolver customAuthorizationRequestResolver;
+	@MockitoBean
+	private ClientRegistrationRepository clientRegistrationRepository;
+
+	@Test
+	@DisplayName("일반 사용자 토큰으로 DLQ 메시지 조회, 재처리 시 403")
+	void dlqEndpoints_WithUserToken_ShouldBeForbidden() throws Exception {
+		// given
+		givenToken(USER_TOKEN, 1L, false);
+
+		// when & then
+		mockMvc.perform(get("/api/v1/monitoring/alarms/rabbitmq/dlq/alarm.queue.dlq/messages")
+				.cookie(new Cookie("accessToken", USER_TOKEN)))
+			.andExpect(status().isForbidden());
+		mockMvc.perform(post("/api/v1/monitoring/alarms/rabbitmq/dlq/alarm.queue.dlq/replay")
+				.cookie(new Cookie("accessToken", USER_TOKEN)))
+			.andExpect(status().isForbidden());
+
+		verify(alarmDeadLetterService, never()).peekMessages(anyString(), anyInt());
+		verify(alarmDeadLetterService, never()).replay(anyString(), anyInt());
+	}
+
+	@Test
+	@DisplayName("관리자 토큰으로 DLQ 메시지 조회 가능")
+	void dlqMessages_WithAdminToken_ShouldBeAllowed() throws Exception {
+		// given
+		givenToken(ADMIN_TOKEN, 2L, true);
+		when(alarmDeadLetterService.peekMessages(anyString(), anyInt())).thenReturn(List.of());
+
+		// when & then
+		mockMvc.perform(get("/api/v1/monitoring/alarms/rabbitmq/dlq/alarm.queue.dlq/messages")
+				.cookie(new Cookie("accessToken", ADMIN_TOKEN)))
+			.andExpect(status().isOk());
+	}
+
+	private void givenToken(String token, Long memberId, boolean isAdmin) {
+		when(jwtTokenProvider.resolveAccessToken(any())).thenAnswer(invocation -> {
+			HttpServletRequest request = invocation.getArgument(0);
+			Cookie cookie = WebUtils.getCookie(request, "accessToken");
+			return cookie == null ? null : cookie.getValue();
+		});
+		when(jwtTokenProvider.isValidToken(token, JwtTokenType.ACCESS)).thenReturn(true);
+		when(jwtTokenProvider.getSubject(token)).thenReturn(String.valueOf(memberId));
+		when(jwtTokenProvider.extractNickname(token)).thenReturn("닉네임");
+		when(jwtTokenProvider.extractIsAdmin(token)).thenReturn(isAdmin);
+	}
+}
@@ -0,0 +1,191 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+import com.ddobang.backend.domain.alarm.repository.AlarmRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 두 노드를 Redis 대신 메모리 기반 presence, 전송 계층으로 연결하여 노드 간 전달 검증
+ */
+class DistributedSseClusterRelayTest {
+	private static final Long USER_ID = 1L;
+
+	private final LocalPresence presence = new LocalPresence();
+	private final LocalTransport transport = new LocalTransport();
+
+	private Node nodeA;
+	private Node nodeB;
+
+	@BeforeEach
+	void setUp() {
+		nodeA = new Node("node-a");
+		nodeB = new Node("node-b");
+	}
+
+	@AfterEach
+	void tearDown() {
+		nodeA.dispatcher.shutdown();
+		nodeB.dispatcher.shutdown();
+	}
+
+	@Test
+	@DisplayName("다른 노드에 연결된 사용자에게 해당 노드로만 전달")
+	void forward_ShouldDeliverToOwningNode() throws IOException {
+		// given - 사용자는 node-b 에만 연결
+		SseEmitter emitter = mock(SseEmitter.class);
+		nodeB.connect(USER_ID, emitter);
+
+		// when - node-a 가 알림 소비
+		int forwardedCount = nodeA.relay.forward(USER_ID, alarm());
+
+		// then
+		assertEquals(1, forwardedCount);
+		verify(emitter, timeout(2000)).send(any(SseEmitter.SseEventBuilder.class));
+		assertEquals(1, nodeB.meterRegistry.get("sse.cluster.received").counter().count());
+		assertEquals(0, nodeB.meterRegistry.get("notifications.offline").counter().count());
+	}
+
+	@Test
+	@DisplayName("이 노드에만 연결된 사용자는 다른 노드로 전달하지 않음")
+	void forward_WhenOnlyLocal_ShouldNotPublish() {
+		// given
+		nodeA.connect(USER_ID, mock(SseEmitter.class));
+
+		// when & then
+		assertEquals(0, nodeA.relay.forward(USER_ID, alarm()));
+		assertEquals(0, transport.published);
+	}
+
+	@Test
+	@DisplayName("마지막 로컬 연결이 끊기면 presence 해제")
+	void userDisconnected_ShouldUnregisterWhenNoLocalConnection() {
+		// given
+		SseEmitter first = mock(SseEmitter.class);
+		SseEmitter second = mock(SseEmitter.class);
+		nodeB.connect(USER_ID, first);
+		nodeB.connect(USER_ID, second);
+
+		// when - 한 탭만 종료
+		nodeB.disconnect(USER_ID, first);
+
+		// then
+		assertEquals(Set.of("node-b"), presence.findNodes(USER_ID));
+
+		// when - 남은 탭 종료
+		nodeB.disconnect(USER_ID, second);
+
+		// then
+		assertTrue(presence.findNodes(USER_ID).isEmpty());
+		assertEquals(0, nodeA.relay.forward(USER_ID, alarm()));
+	}
+
+	@Test
+	@DisplayName("전달받은 노드에 연결이 이미 없으면 실패가 아닌 오프라인으로 집계")
+	void receive_WhenNoLocalConnection_ShouldCountOffline() {
+		// given - presence 만 남아 있고 실제 연결은 없음
+		presence.register("node-b", USER_ID);
+
+		// when
+		nodeA.relay.forward(USER_ID, alarm());
+
+		// then
+		assertEquals(1, nodeB.meterRegistry.get("notifications.offline").counter().count());
+		assertEquals(0, nodeB.meterRegistry.get("notifications.failed").counter().count());
+	}
+
+	private AlarmResponse alarm() {
+		return AlarmResponse.builder().id(10L).receiverId(USER_ID).title("알림").build();
+	}
+
+	private class Node {
+		private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		private final EmitterRepository emitterRepository = new EmitterRepository(meterRegistry);
+		private final SseEventDispatcher dispatcher;
+		private final DistributedSseClusterRelay relay;
+
+		private Node(String nodeId) {
+			dispatcher = new SseEventDispatcher(emitterRepository, mock(AlarmRepository.class), meterRegistry);
+			ReflectionTestUtils.setField(dispatcher, "queueCapacity", 8);
+			ReflectionTestUtils.setField(dispatcher, "overflowPolicy", SseOverflowPolicy.COALESCE);
+			ReflectionTestUtils.setField(dispatcher, "writerThreads", 1);
+			dispatcher.init();
+
+			ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+			relay = new DistributedSseClusterRelay(
+				presence, transport, emitterRepository, dispatcher, objectMapper, meterRegistry, nodeId);
+			relay.init();
+		}
+
+		private void connect(Long userId, SseEmitter emitter) {
+			emitterRepository.save(userId, emitter);
+			relay.userConnected(userId);
+		}
+
+		private void disconnect(Long userId, SseEmitter emitter) {
+			emitterRepository.remove(userId, emitter);
+			relay.userDisconnected(userId);
+		}
+	}
+
+	// Redis presence 대체
+	private static class LocalPresence implements SsePresenceRegistry {
+		private final Map<Long, Set<String>> nodes = new ConcurrentHashMap<>();
+
+		@Override
+		public void register(String nodeId, Long userId) {
+			nodes.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(nodeId);
+		}
+
+		@Override
+		public void unregister(String nodeId, Long userId) {
+			nodes.getOrDefault(userId, new HashSet<>()).remove(nodeId);
+		}
+
+		@Override
+		public Set<String> findNodes(Long userId) {
+			return Set.copyOf(nodes.getOrDefault(userId, Set.of()));
+		}
+
+		@Override
+		public void heartbeat(String nodeId) {
+		}
+	}
+
+	// Redis pub/sub 대체 (동기 전달)
+	private static class LocalTransport implements SseClusterTransport {
+		private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+		private int published;
+
+		@Override
+		public void publish(String nodeId, String payload) {
+			published++;
+			handlers.get(nodeId).accept(payload);
+		}
+
+		@Override
+		public void subscribe(String nodeId, Consumer<String> handler) {
+			handlers.put(nodeId, handler);
+		}
+	}
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -14,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
@@ -52,37 +55,93 @@ class EmitterRepositoryExtendedTest {
 
 		// 저장 확인
 		assertEquals(3, emitterRepository.getActiveConnectionCount());
-		assertEquals(mockEmitter1, emitterRepository.get(USER_ID_1));
-		assertEquals(mockEmitter2, emitterRepository.get(USER_ID_2));
-		assertEquals(mockEmitter3, emitterRepository.get(USER_ID_3));
+		assertEquals(List.of(mockEmitter1), emitterRepository.get(USER_ID_1));
+		assertEquals(List.of(mockEmitter2), emitterRepository.get(USER_ID_2));
+		assertEquals(List.of(mockEmitter3), emitterRepository.get(USER_ID_3));
 
 		// 한 사용자의 이미터 제거
 		emitterRepository.remove(USER_ID_2);
 
 		// 제거 확인
 		assertEquals(2, emitterRepository.getActiveConnectionCount());
-		assertNull(emitterRepository.get(USER_ID_2));
+		assertTrue(emitterRepository.get(USER_ID_2).isEmpty());
 
 		// 남은 사용자들의 이미터 확인
-		assertEquals(mockEmitter1, emitterRepository.get(USER_ID_1));
-		assertEquals(mockEmitter3, emitterRepository.get(USER_ID_3));
+		assertEquals(List.of(mockEmitter1), emitterRepository.get(USER_ID_1));
+		assertEquals(List.of(mockEmitter3), emitterRepository.get(USER_ID_3));
 	}
 
 	@Test
-	@DisplayName("동일 사용자의 이미터 업데이트 테스트")
-	void sameUser_ShouldUpdateEmitter() {
-		// 첫 번째 이미터 저장
+	@DisplayName("동일 사용자의 여러 연결(탭, 기기) 유지 테스트")
+	void sameUser_ShouldKeepAllEmitters() {
+		// 같은 사용자가 두 개의 탭에서 연결
 		emitterRepository.save(USER_ID_1, mockEmitter1);
-		assertEquals(mockEmitter1, emitterRepository.get(USER_ID_1));
-
-		// 동일 사용자에 대해 두 번째 이미터 저장 (업데이트)
 		emitterRepository.save(USER_ID_1, mockEmitter2);
 
-		// 업데이트 확인
-		assertEquals(mockEmitter2, emitterRepository.get(USER_ID_1));
+		// 기존 연결이 끊기지 않고 모두 유지
+		assertEquals(List.of(mockEmitter1, mockEmitter2), emitterRepository.get(USER_ID_1));
+		assertEquals(2, emitterRepository.getActiveConnectionCount());
+		assertEquals(1, emitterRepository.getConnectedUserCount());
+
+		// 한 탭만 종료
+		emitterRepository.remove(USER_ID_1, mockEmitter1);
+
+		assertEquals(List.of(mockEmitter2), emitterRepository.get(USER_ID_1));
 		assertEquals(1, emitterRepository.getActiveConnectionCount());
 	}
 
+	@Test
+	@DisplayName("여러 연결 중 일부 전송 실패 시 실패한 연결만 제거 테스트")
+	void sendToUser_WhenOneConnectionFails_ShouldKeepOthers() throws IOException {
+		// given
+		emitterRepository.save(USER_ID_1, mockEmitter1);
+		emitterRepository.save(USER_ID_1, mockEmitter2);
+		doThrow(IOException.class).when(mockEmitter1).send(any(SseEmitter.SseEventBuilder.class));
+
+		// when
+		assertDoesNotThrow(() -> emitterRepository.sendToUser(USER_ID_1, "Test Data", "testEvent", "1"));
+
+		// then
+		verify(mockEmitter2, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+		assertEquals(List.of(mockEmitter2), emitterRepository.get(USER_ID_1));
+	}
+
+	@Test
+	@DisplayName("사용자당 최대 연결 수 초과 시 가장 오래된 연결 종료 테스트")
+	void save_WhenExceedingMaxConnections_ShouldCompleteOldest() {
+		// given
+		emitterRepository = new EmitterRepository(new SimpleMeterRegistry(), 4, 2);
+
+		// when
+		emitterRepository.save(USER_ID_1, mockEmitter1);
+		emitterRepository.save(USER_ID_1, mockEmitter2);
+		emitterRepository.save(USER_ID_1, mockEmitter3);
+
+		// then
+		verify(mockEmitter1, times(1)).complete();
+		assertEquals(List.of(mockEmitter2, mockEmitter3), emitterRepository.get(USER_ID_1));
+		assertEquals(2, emitterRepository.getActiveConnectionCount());
+	}
+
+	@Test
+	@DisplayName("shard 별 연결 수 Gauge 등록 테스트")
+	void shardGauges_ShouldSumToActiveConnections() {
+		// given
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		emitterRepository = new EmitterRepository(meterRegistry, 4, 5);
+
+		// when
+		for (long userId = 1; userId <= 20; userId++) {
+			emitterRepository.save(userId, mock(SseEmitter.class));
+		}
+
+		// then
+		Collection<Gauge> gauges = meterRegistry.find("sse.connections.shard").gauges();
+		assertEquals(4, gauges.size());
+		assertEquals(20, gauges.stream().mapToDouble(Gauge::value).sum());
+		assertEquals(20, meterRegistry.get("sse.connections.active").gauge().value());
+	}
+
 	@Test
 	@DisplayName("동시성 환경에서 이미터 관리 테스트")
 	void concurrentAccess_ShouldHandleEmittersCorrectly() throws InterruptedException {
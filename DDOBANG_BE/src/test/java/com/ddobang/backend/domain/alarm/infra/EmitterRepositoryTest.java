@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,11 +39,11 @@ class EmitterRepositoryTest {
 	void saveAndGet_ShouldStoreAndRetrieveEmitter() {
 		// when
 		SseEmitter result = emitterRepository.save(TEST_USER_ID, mockEmitter);
-		SseEmitter retrieved = emitterRepository.get(TEST_USER_ID);
+		List<SseEmitter> retrieved = emitterRepository.get(TEST_USER_ID);
 
 		// then
 		assertEquals(mockEmitter, result);
-		assertEquals(mockEmitter, retrieved);
+		assertEquals(List.of(mockEmitter), retrieved);
 	}
 
 	@Test
@@ -55,7 +56,7 @@ class EmitterRepositoryTest {
 		emitterRepository.remove(TEST_USER_ID);
 
 		// then
-		assertNull(emitterRepository.get(TEST_USER_ID));
+		assertTrue(emitterRepository.get(TEST_USER_ID).isEmpty());
 	}
 
 	@Test
@@ -85,7 +86,7 @@ class EmitterRepositoryTest {
 		});
 
 		// 예외 발생 시 emitter 제거 확인
-		assertNull(emitterRepository.get(TEST_USER_ID));
+		assertTrue(emitterRepository.get(TEST_USER_ID).isEmpty());
 	}
 
 	@Test
@@ -95,9 +96,9 @@ class EmitterRepositoryTest {
 		assertEquals(0, emitterRepository.getActiveConnectionCount());
 
 		// when
-		emitterRepository.save(1L, mockEmitter);
-		emitterRepository.save(2L, mockEmitter);
-		emitterRepository.save(3L, mockEmitter);
+		emitterRepository.save(1L, mock(SseEmitter.class));
+		emitterRepository.save(2L, mock(SseEmitter.class));
+		emitterRepository.save(3L, mock(SseEmitter.class));
 
 		// then
 		assertEquals(3, emitterRepository.getActiveConnectionCount());
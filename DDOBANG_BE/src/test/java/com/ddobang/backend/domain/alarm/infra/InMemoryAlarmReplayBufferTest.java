@@ -0,0 +1,81 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+
+class InMemoryAlarmReplayBufferTest {
+	private static final Long USER_ID = 1L;
+
+	private InMemoryAlarmReplayBuffer replayBuffer;
+
+	@BeforeEach
+	void setUp() {
+		replayBuffer = new InMemoryAlarmReplayBuffer();
+		ReflectionTestUtils.setField(replayBuffer, "capacity", 3);
+		ReflectionTestUtils.setField(replayBuffer, "ttlSeconds", 3600L);
+	}
+
+	@Test
+	@DisplayName("Last-Event-ID 이후 알림만 id 순으로 조회")
+	void findAfter_ShouldReturnAlarmsAfterLastEventId() {
+		// given
+		append(10L, 12L, 15L);
+
+		// when
+		Optional<List<AlarmResponse>> result = replayBuffer.findAfter(USER_ID, 12L);
+
+		// then
+		assertTrue(result.isPresent());
+		assertEquals(List.of(15L), ids(result.get()));
+	}
+
+	@Test
+	@DisplayName("버퍼가 밀려난 구간을 요청하면 empty 반환 (DB 조회로 대체)")
+	void findAfter_WhenBufferWrapped_ShouldReturnEmpty() {
+		// given - 용량 3 에 4건 추가하여 10 이 밀려남
+		append(10L, 12L, 15L, 20L);
+
+		// when & then
+		assertTrue(replayBuffer.findAfter(USER_ID, 9L).isEmpty());
+		assertEquals(List.of(12L, 15L, 20L), ids(replayBuffer.findAfter(USER_ID, 10L).orElseThrow()));
+	}
+
+	@Test
+	@DisplayName("기록이 없는 사용자는 empty 반환")
+	void findAfter_WhenNoBuffer_ShouldReturnEmpty() {
+		assertTrue(replayBuffer.findAfter(USER_ID, 0L).isEmpty());
+	}
+
+	@Test
+	@DisplayName("오래 알림이 없던 사용자 버퍼 정리")
+	void evictIdleBuffers_ShouldRemoveExpiredBuffers() {
+		// given
+		append(10L);
+		ReflectionTestUtils.setField(replayBuffer, "ttlSeconds", -1L);
+
+		// when
+		replayBuffer.evictIdleBuffers();
+
+		// then
+		assertTrue(replayBuffer.findAfter(USER_ID, 10L).isEmpty());
+	}
+
+	private void append(Long... alarmIds) {
+		for (Long alarmId : alarmIds) {
+			replayBuffer.append(USER_ID, AlarmResponse.builder().id(alarmId).title("알림 " + alarmId).build());
+		}
+	}
+
+	private List<Long> ids(List<AlarmResponse> alarms) {
+		return alarms.stream().map(AlarmResponse::getId).toList();
+	}
+}
@@ -0,0 +1,193 @@
+package com.ddobang.backend.domain.alarm.infra;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ddobang.backend.domain.alarm.repository.AlarmRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseEventDispatcherTest {
+	private static final Long SLOW_USER_ID = 1L;
+	private static final Long FAST_USER_ID = 2L;
+
+	@Mock
+	private AlarmRepository alarmRepository;
+
+	@Mock
+	private SseEmitter slowEmitter;
+
+	@Mock
+	private SseEmitter fastEmitter;
+
+	private MeterRegistry meterRegistry;
+	private EmitterRepository emitterRepository;
+	private SseEventDispatcher dispatcher;
+
+	// 느린 클라이언트의 전송을 테스트에서 풀어줄 때까지 막아둠
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() throws IOException {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		emitterRepository = new EmitterRepository(meterRegistry);
+
+		doAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(slowEmitter).send(any(SseEmitter.SseEventBuilder.class));
+
+		emitterRepository.save(SLOW_USER_ID, slowEmitter);
+		emitterRepository.save(FAST_USER_ID, fastEmitter);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		dispatcher.shutdown();
+	}
+
+	@Test
+	@DisplayName("느린 연결이 있어도 호출 스레드와 다른 사용자 전송이 막히지 않음")
+	void dispatch_WhenClientIsSlow_ShouldNotBlockCallerOrOtherUsers() throws IOException {
+		// given
+		dispatcher = dispatcher(4, SseOverflowPolicy.COALESCE);
+
+		// when
+		long start = System.nanoTime();
+		dispatcher.dispatch(SLOW_USER_ID, "data", "alarm", "1");
+		dispatcher.dispatch(FAST_USER_ID, "data", "alarm", "1");
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		assertTrue(elapsedMillis < 1000, "dispatch 가 전송 완료를 기다리지 않아야 합니다.");
+		verify(fastEmitter, timeout(2000)).send(any(SseEmitter.SseEventBuilder.class));
+	}
+
+	@Test
+	@DisplayName("DROP_OLDEST - 대기 큐가 가득 차면 가장 오래된 이벤트를 버림")
+	void dispatch_WhenQueueIsFull_ShouldDropOldest() throws IOException {
+		// given
+		dispatcher = dispatcher(2, SseOverflowPolicy.DROP_OLDEST);
+		dispatcher.dispatch(SLOW_USER_ID, "data", "alarm", "0");
+		verify(slowEmitter, timeout(2000)).send(any(SseEmitter.SseEventBuilder.class));
+
+		// when - 첫 이벤트 전송이 막힌 상태에서 4건 추가
+		for (int i = 1; i <= 4; i++) {
+			dispatcher.dispatch(SLOW_USER_ID, "data", "alarm", String.valueOf(i));
+		}
+		assertEquals(2, emitterRepository.getPendingEventCount());
+		assertEquals(2, meterRegistry.get("sse.dispatch.queue.depth").gauge().value());
+
+		release.countDown();
+
+		// then - 0, 3, 4 만 전송
+		ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+		verify(slowEmitter, timeout(2000).times(3)).send(captor.capture());
+		assertEquals(List.of("0", "3", "4"), captor.getAllValues().stream().map(this::eventId).toList());
+		assertEquals(2, meterRegistry.get("sse.dispatch.overflow").tag("policy", "DROP_OLDEST").counter().count());
+	}
+
+	@Test
+	@DisplayName("COALESCE - 대기 큐가 가득 차면 읽지 않은 알림 개수 이벤트 하나로 대체")
+	void dispatch_WhenQueueIsFull_ShouldCoalesceIntoUnreadCount() throws IOException {
+		// given
+		dispatcher = dispatcher(2, SseOverflowPolicy.COALESCE);
+		when(alarmRepository.countByReceiverIdAndReadStatus(SLOW_USER_ID, false)).thenReturn(7L);
+		dispatcher.dispatch(SLOW_USER_ID, "data", "alarm", "0");
+		verify(slowEmitter, timeout(2000)).send(any(SseEmitter.SseEventBuilder.class));
+
+		// when
+		for (int i = 1; i <= 3; i++) {
+			dispatcher.dispatch(SLOW_USER_ID, "data", "alarm", String.valueOf(i));
+		}
+		release.countDown();
+
+		// then - 첫 이벤트 이후 알림 개수 이벤트 하나만 전송
+		ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+		verify(slowEmitter, timeout(2000).times(2)).send(captor.capture());
+		String coalesced = render(captor.getAllValues().get(1));
+		assertTrue(coalesced.contains("event:" + SseEventDispatcher.UNREAD_COUNT_EVENT));
+		assertTrue(coalesced.contains("unreadCount=7"));
+		assertEquals(0, emitterRepository.getPendingEventCount());
+	}
+
+	@Test
+	@DisplayName("DISCONNECT - 대기 큐가 가득 찬 느린 연결 종료")
+	void dispatch_WhenQueueIsFull_ShouldEvictSlowConsumer() throws IOException {
+		// given
+		dispatcher = dispatcher(1, SseOverflowPolicy.DISCONNECT);
+		dispatcher.dispatch(SLOW_USER_ID, "data", "alarm", "0");
+		verify(slowEmitter, timeout(2000)).send(any(SseEmitter.SseEventBuilder.class));
+
+		// when
+		dispatcher.dispatch(SLOW_USER_ID, "data", "alarm", "1");
+		int queuedCount = dispatcher.dispatch(SLOW_USER_ID, "data", "alarm", "2");
+
+		// then
+		assertEquals(0, queuedCount);
+		verify(slowEmitter).complete();
+		assertTrue(emitterRepository.get(SLOW_USER_ID).isEmpty());
+		assertEquals(List.of(fastEmitter), emitterRepository.get(FAST_USER_ID));
+		assertEquals(1, meterRegistry.get("sse.dispatch.slow-consumers.evicted").counter().count());
+	}
+
+	@Test
+	@DisplayName("dispatchAll - 여러 이벤트를 연결마다 한 번의 쓰기로 전송")
+	void dispatchAll_ShouldWriteEventsOnceWithSeparateEvents() throws IOException {
+		// given
+		dispatcher = dispatcher(4, SseOverflowPolicy.COALESCE);
+
+		// when
+		int queuedCount = dispatcher.dispatchAll(FAST_USER_ID, List.of("a", "b", "c"), "alarm", data -> "id-" + data);
+
+		// then
+		assertEquals(1, queuedCount);
+		ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+		verify(fastEmitter, timeout(2000).times(1)).send(captor.capture());
+		String rendered = render(captor.getValue());
+		assertEquals(3, rendered.split("event:alarm").length - 1);
+		assertTrue(rendered.indexOf("id:id-a") < rendered.indexOf("id:id-b"));
+		assertTrue(rendered.indexOf("id:id-b") < rendered.indexOf("id:id-c"));
+		assertEquals(3, meterRegistry.get("sse.dispatch.events.sent").counter().count());
+	}
+
+	private SseEventDispatcher dispatcher(int queueCapacity, SseOverflowPolicy policy) {
+		SseEventDispatcher sseEventDispatcher = new SseEventDispatcher(emitterRepository, alarmRepository, meterRegistry);
+		ReflectionTestUtils.setField(sseEventDispatcher, "queueCapacity", queueCapacity);
+		ReflectionTestUtils.setField(sseEventDispatcher, "overflowPolicy", policy);
+		ReflectionTestUtils.setField(sseEventDispatcher, "writerThreads", 2);
+		sseEventDispatcher.init();
+		return sseEventDispatcher;
+	}
+
+	private String render(SseEmitter.SseEventBuilder event) {
+		return event.build().stream()
+			.map(part -> String.valueOf(part.getData()))
+			.collect(Collectors.joining());
+	}
+
+	private String eventId(SseEmitter.SseEventBuilder event) {
+		String rendered = render(event);
+		int start = rendered.indexOf("id:") + 3;
+		return rendered.substring(start, rendered.indexOf('\n', start));
+	}
+}
@@ -0,0 +1,97 @@
+package com.ddobang.backend.domain.alarm.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.alarm.entity.Alarm;
+import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.global.config.QuerydslConfig;
+
+/**
+ * AlarmRepositoryTest
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+public class AlarmRepositoryTest {
+
+	@Autowired
+	private AlarmRepository alarmRepository;
+
+	@Test
+	@DisplayName("batchInsert - 여러 알림을 한 번에 저장하고 이벤트 ID 로 조회")
+	void t1() {
+		// given
+		List<Alarm> alarms = List.of(alarm(1L, "event-1"), alarm(1L, "event-2"), alarm(2L, "event-3"));
+
+		// when
+		int insertedCount = alarmRepository.batchInsert(alarms);
+
+		// then
+		assertThat(insertedCount).isEqualTo(3);
+
+		List<Alarm> saved = alarmRepository.findByEventIdIn(List.of("event-1", "event-3", "event-4"));
+		assertThat(saved).extracting(Alarm::getEventId).containsExactlyInAnyOrder("event-1", "event-3");
+		assertThat(saved).allSatisfy(alarm -> {
+			assertThat(alarm.getId()).isNotNull();
+			assertThat(alarm.getReadStatus()).isFalse();
+			assertThat(alarm.getCreatedAt()).isNotNull();
+		});
+		assertThat(alarmRepository.countByReceiverIdAndReadStatus(1L, false)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("countByReceiverIds - 사용자별 전체, 읽지 않은 알림 수 집계")
+	void t2() {
+		// given
+		alarmRepository.batchInsert(List.of(alarm(1L, "event-1"), alarm(1L, "event-2"), alarm(2L, "event-3")));
+		alarmRepository.markAllAsReadByReceiverId(2L);
+
+		// when
+		List<AlarmCountView> counts = alarmRepository.countByReceiverIds(List.of(1L, 2L, 3L));
+
+		// then
+		assertThat(counts)
+			.extracting(AlarmCountView::getReceiverId, AlarmCountView::getTotalCount, AlarmCountView::getUnreadCount)
+			.containsExactlyInAnyOrder(tuple(1L, 2L, 2L), tuple(2L, 1L, 0L));
+	}
+
+	@Test
+	@DisplayName("findAlarmsBeforeCursor - 생성 시각이 같은 알림도 id 순으로 빠짐없이 이어서 조회")
+	void t3() {
+		// given - batchInsert 는 같은 생성 시각으로 저장
+		alarmRepository.batchInsert(List.of(
+			alarm(1L, "event-1"), alarm(1L, "event-2"), alarm(1L, "event-3"), alarm(2L, "event-4"), alarm(1L, "event-5")));
+
+		// when
+		List<Alarm> first = alarmRepository.findFirstAlarms(1L, 2);
+		Alarm cursor = first.get(first.size() - 1);
+		List<Alarm> second = alarmRepository.findAlarmsBeforeCursor(1L, cursor.getCreatedAt(), cursor.getId(), 2);
+		cursor = second.get(second.size() - 1);
+		List<Alarm> third = alarmRepository.findAlarmsBeforeCursor(1L, cursor.getCreatedAt(), cursor.getId(), 2);
+
+		// then
+		assertThat(first).extracting(Alarm::getEventId).containsExactly("event-5", "event-3");
+		assertThat(second).extracting(Alarm::getEventId).containsExactly("event-2", "event-1");
+		assertThat(third).isEmpty();
+	}
+
+	private Alarm alarm(Long receiverId, String eventId) {
+		return Alarm.builder()
+			.receiverId(receiverId)
+			.title("알림 " + eventId)
+			.content("내용")
+			.alarmType(AlarmType.MESSAGE)
+			.relId(10L)
+			.eventId(eventId)
+			.build();
+	}
+}
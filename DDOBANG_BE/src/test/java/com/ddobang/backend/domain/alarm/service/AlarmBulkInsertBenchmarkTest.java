@@ -0,0 +1,97 @@
+package com.ddobang.backend.domain.alarm.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.alarm.dto.request.AlarmCreateRequest;
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.infra.InMemoryAlarmCountStore;
+import com.ddobang.backend.domain.alarm.repository.AlarmRepository;
+import com.ddobang.backend.global.config.QuerydslConfig;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * AlarmBulkInsertBenchmarkTest
+ * 알림 생성 - 건별 저장(createAlarm) 과 대량 저장(createAlarms) 의 초당 저장 건수 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, AlarmService.class, InMemoryAlarmCountStore.class})
+public class AlarmBulkInsertBenchmarkTest {
+	private static final int WARMUP_SIZE = 100;
+
+	@Autowired
+	private AlarmService alarmService;
+	@Autowired
+	private AlarmRepository alarmRepository;
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@ParameterizedTest(name = "알림 {0}개")
+	@ValueSource(ints = {100, 1_000, 5_000})
+	@DisplayName("알림 생성 - 건별 저장 대비 대량 저장의 초당 저장 건수")
+	void t1(int alarmCount) {
+		List<AlarmCreateRequest> requests = requests(alarmCount);
+
+		// 워밍업
+		saveEach(requests(WARMUP_SIZE));
+		alarmService.createAlarms(requests(WARMUP_SIZE));
+		em.clear();
+
+		long perRowStart = System.nanoTime();
+		saveEach(requests);
+		long perRowNanos = System.nanoTime() - perRowStart;
+		em.clear();
+
+		long bulkStart = System.nanoTime();
+		List<AlarmResponse> created = alarmService.createAlarms(requests);
+		long bulkNanos = System.nanoTime() - bulkStart;
+
+		System.out.printf("[alarm insert] alarms=%d per-row: %.2f ms (%.0f inserts/s) / bulk: %.2f ms (%.0f inserts/s)%n",
+			alarmCount,
+			perRowNanos / 1_000_000.0, alarmCount * 1_000_000_000.0 / perRowNanos,
+			bulkNanos / 1_000_000.0, alarmCount * 1_000_000_000.0 / bulkNanos);
+
+		assertThat(created).hasSize(alarmCount);
+		assertThat(created).extracting(AlarmResponse::getReceiverId)
+			.containsExactlyElementsOf(requests.stream().map(AlarmCreateRequest::getReceiverId).toList());
+		assertThat(alarmRepository.count()).isEqualTo(2L * (WARMUP_SIZE + alarmCount));
+	}
+
+	// 기존 방식 - 수신자마다 createAlarm 호출 (IDENTITY 전략이라 save 마다 INSERT 실행)
+	private void saveEach(List<AlarmCreateRequest> requests) {
+		requests.forEach(alarmService::createAlarm);
+		em.flush();
+	}
+
+	private List<AlarmCreateRequest> requests(int count) {
+		List<AlarmCreateRequest> requests = new ArrayList<>();
+		for (long receiverId = 1; receiverId <= count; receiverId++) {
+			requests.add(AlarmCreateRequest.builder()
+				.receiverId(receiverId)
+				.title("파티 일정 변경")
+				.content("참여 중인 파티의 일정이 변경되었습니다.")
+				.relId(1L)
+				.alarmType(AlarmType.PARTY_STATUS)
+				.build());
+		}
+		return requests;
+	}
+}
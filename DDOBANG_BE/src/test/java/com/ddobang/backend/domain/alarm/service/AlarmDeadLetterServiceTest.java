@@ -0,0 +1,136 @@
+package com.ddobang.backend.domain.alarm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
+import com.ddobang.backend.domain.alarm.exception.AlarmException;
+import com.ddobang.backend.global.config.RabbitMQConfig;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmDeadLetterServiceTest {
+
+	private static final String PARTY_DLQ = RabbitMQConfig.PARTY_NOTIFICATION_QUEUE + RabbitMQConfig.DLQ_SUFFIX;
+
+	@Mock
+	private RabbitTemplate rabbitTemplate;
+
+	@Mock
+	private AmqpAdmin amqpAdmin;
+
+	@Mock
+	private AlarmMessagePublisher alarmMessagePublisher;
+
+	@Mock
+	private Channel channel;
+
+	private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+	private AlarmDeadLetterService alarmDeadLetterService;
+
+	@BeforeEach
+	void setUp() {
+		alarmDeadLetterService = new AlarmDeadLetterService(
+			rabbitTemplate, amqpAdmin, messageConverter, alarmMessagePublisher, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("재처리 - 재시도 횟수를 초기화하여 재발행 후 ACK, 변환할 수 없는 메시지는 DLQ 에 되돌림")
+	void replay_ShouldRepublishAndAcknowledge() throws Exception {
+		// given
+		AlarmEvent deadLettered = AlarmEvent.builder()
+			.receiverId(1L)
+			.title("파티 신청 알림")
+			.alarmType(AlarmType.PARTY_APPLY)
+			.retryCount(3)
+			.build();
+
+		givenChannel();
+		when(channel.basicGet(PARTY_DLQ, false))
+			.thenReturn(getResponse(1L, "{not json".getBytes()))
+			.thenReturn(getResponse(2L, messageConverter.toMessage(deadLettered, new MessageProperties()).getBody()))
+			.thenReturn(null);
+		when(alarmMessagePublisher.publishAlarmEvent(any(AlarmEvent.class))).thenReturn(true);
+
+		// when
+		int replayed = alarmDeadLetterService.replay(PARTY_DLQ, 10);
+
+		// then
+		assertEquals(1, replayed);
+
+		ArgumentCaptor<AlarmEvent> captor = ArgumentCaptor.forClass(AlarmEvent.class);
+		verify(alarmMessagePublisher).publishAlarmEvent(captor.capture());
+		assertEquals(deadLettered.getEventId(), captor.getValue().getEventId());
+		assertEquals(0, captor.getValue().getRetryCount());
+
+		verify(channel).basicAck(2L, false);
+		verify(channel).basicNack(1L, false, true);
+	}
+
+	@Test
+	@DisplayName("재처리 - 재발행에 실패하면 메시지를 DLQ 에 되돌리고 중단")
+	void replay_WhenPublishFails_ShouldRequeueAndStop() throws Exception {
+		// given
+		AlarmEvent deadLettered = AlarmEvent.builder()
+			.receiverId(1L)
+			.title("새 쪽지")
+			.alarmType(AlarmType.MESSAGE)
+			.build();
+
+		givenChannel();
+		when(channel.basicGet(PARTY_DLQ, false))
+			.thenReturn(getResponse(7L, messageConverter.toMessage(deadLettered, new MessageProperties()).getBody()));
+		when(alarmMessagePublisher.publishAlarmEvent(any(AlarmEvent.class))).thenReturn(false);
+
+		// when
+		int replayed = alarmDeadLetterService.replay(PARTY_DLQ, 10);
+
+		// then
+		assertEquals(0, replayed);
+		verify(channel, times(1)).basicGet(PARTY_DLQ, false);
+		verify(channel).basicNack(7L, false, true);
+		verify(channel, never()).basicAck(anyLong(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("알림 DLQ 가 아닌 큐는 조회, 재처리할 수 없음")
+	void replay_WithUnknownQueue_ShouldThrow() {
+		assertThrows(AlarmException.class, () -> alarmDeadLetterService.replay("notification.party.queue", 10));
+		assertThrows(AlarmException.class, () -> alarmDeadLetterService.peekMessages("other.queue", 10));
+		verifyNoInteractions(rabbitTemplate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenChannel() {
+		when(rabbitTemplate.execute(any(ChannelCallback.class)))
+			.thenAnswer(invocation -> ((ChannelCallback<?>)invocation.getArgument(0)).doInRabbit(channel));
+	}
+
+	private GetResponse getResponse(long deliveryTag, byte[] body) {
+		AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+			.contentType(MessageProperties.CONTENT_TYPE_JSON)
+			.headers(java.util.Map.of("__TypeId__", AlarmEvent.class.getName()))
+			.build();
+		return new GetResponse(new Envelope(deliveryTag, false, "", PARTY_DLQ), properties, body, 0);
+	}
+}
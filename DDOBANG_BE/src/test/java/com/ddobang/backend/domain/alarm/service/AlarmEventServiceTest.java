@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,13 +14,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
 import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
+import com.ddobang.backend.domain.alarm.event.AlarmPublishFailedEvent;
 import com.ddobang.backend.domain.alarm.exception.AlarmErrorCode;
 import com.ddobang.backend.domain.alarm.exception.SseException;
+import com.ddobang.backend.domain.alarm.infra.AlarmReplayBuffer;
 import com.ddobang.backend.domain.alarm.infra.EmitterRepository;
+import com.ddobang.backend.domain.alarm.infra.SseClusterRelay;
+import com.ddobang.backend.domain.alarm.infra.SseEventDispatcher;
 
 @ExtendWith(MockitoExtension.class)
 class AlarmEventServiceTest {
@@ -27,6 +34,18 @@ class AlarmEventServiceTest {
 	@Mock
 	private EmitterRepository emitterRepository;
 
+	@Mock
+	private SseEventDispatcher sseEventDispatcher;
+
+	@Mock
+	private AlarmReplayBuffer alarmReplayBuffer;
+
+	@Mock
+	private AlarmService alarmService;
+
+	@Mock
+	private SseClusterRelay sseClusterRelay;
+
 	@InjectMocks
 	private AlarmEventService alarmEventService;
 
@@ -50,7 +69,6 @@ class AlarmEventServiceTest {
 	void subscribeSuccessTest() {
 		// Given
 		// 실제 구현에서는 새로운 SseEmitter를 생성하고 이를 저장 후 반환함
-		doNothing().when(emitterRepository).remove(userId);
 		when(emitterRepository.save(eq(userId), any(SseEmitter.class))).thenAnswer(invocation -> {
 			return invocation.getArgument(1); // 두 번째 인자 (SseEmitter)를 그대로 반환
 		});
@@ -60,7 +78,7 @@ class AlarmEventServiceTest {
 
 		// Then
 		assertNotNull(result);
-		verify(emitterRepository, times(1)).remove(userId); // 기존 연결 제거 확인
+		verify(emitterRepository, never()).remove(userId); // 다른 탭, 기기의 기존 연결 유지 확인
 		verify(emitterRepository, times(1)).save(eq(userId), any(SseEmitter.class)); // 새 연결 저장 확인
 	}
 
@@ -71,13 +89,12 @@ class AlarmEventServiceTest {
 
 		// Given
 		// 1. save 메서드는 성공적으로 호출되도록 설정
-		doNothing().when(emitterRepository).remove(userId);
 		when(emitterRepository.save(eq(userId), any(SseEmitter.class))).thenReturn(mock(SseEmitter.class));
 
 		// 2. SSE 연결 후 예외 시나리오 기대하기
 		// 알림 전송 시 예외 발생
 		doThrow(new SseException(AlarmErrorCode.SSE_CONNECTION_ERROR))
-			.when(emitterRepository).sendToUser(eq(userId), any(), any(), any());
+			.when(sseEventDispatcher).dispatch(eq(userId), any(), any(), any());
 
 		// When & Then
 		// 구독은 성공적으로 수행됨
@@ -90,28 +107,27 @@ class AlarmEventServiceTest {
 		});
 
 		// 검증
-		verify(emitterRepository).remove(userId);
 		verify(emitterRepository).save(eq(userId), any(SseEmitter.class));
-		verify(emitterRepository).sendToUser(eq(userId), any(), any(), any());
+		verify(sseEventDispatcher).dispatch(eq(userId), any(), any(), any());
 	}
 
 	@Test
 	@DisplayName("알림 전송 성공 테스트")
 	void sendNotificationSuccessTest() {
 		// Given
-		doNothing().when(emitterRepository).sendToUser(
+		when(sseEventDispatcher.dispatch(
 			eq(userId),
 			eq(alarmResponse),
 			eq("alarm"),
 			eq(alarmResponse.getId().toString())
-		);
+		)).thenReturn(1);
 
 		// When & Then - 예외가 발생하지 않아야 함
 		assertDoesNotThrow(() -> {
 			alarmEventService.sendNotification(userId, alarmResponse);
 		});
 
-		verify(emitterRepository, times(1)).sendToUser(
+		verify(sseEventDispatcher, times(1)).dispatch(
 			eq(userId),
 			eq(alarmResponse),
 			eq("alarm"),
@@ -124,7 +140,7 @@ class AlarmEventServiceTest {
 	void sendNotificationExceptionHandlingTest() {
 		// Given
 		doThrow(new SseException(AlarmErrorCode.SSE_SEND_ERROR))
-			.when(emitterRepository).sendToUser(
+			.when(sseEventDispatcher).dispatch(
 				eq(userId),
 				eq(alarmResponse),
 				eq("alarm"),
@@ -136,7 +152,7 @@ class AlarmEventServiceTest {
 			alarmEventService.sendNotification(userId, alarmResponse);
 		});
 
-		verify(emitterRepository, times(1)).sendToUser(
+		verify(sseEventDispatcher, times(1)).dispatch(
 			eq(userId),
 			eq(alarmResponse),
 			eq("alarm"),
@@ -151,12 +167,12 @@ class AlarmEventServiceTest {
 		List<Long> userIds = Arrays.asList(1L, 2L, 3L);
 
 		for (Long uid : userIds) {
-			doNothing().when(emitterRepository).sendToUser(
+			when(sseEventDispatcher.dispatch(
 				eq(uid),
 				eq(alarmResponse),
 				eq("alarm"),
 				eq(alarmResponse.getId().toString())
-			);
+			)).thenReturn(1);
 		}
 
 		// When
@@ -164,7 +180,7 @@ class AlarmEventServiceTest {
 
 		// Then
 		for (Long uid : userIds) {
-			verify(emitterRepository, times(1)).sendToUser(
+			verify(sseEventDispatcher, times(1)).dispatch(
 				eq(uid),
 				eq(alarmResponse),
 				eq("alarm"),
@@ -187,4 +203,120 @@ class AlarmEventServiceTest {
 		assertEquals(expectedCount, result);
 		verify(emitterRepository, times(1)).getActiveConnectionCount();
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("재연결 시 재전송 버퍼에서 놓친 알림 재전송")
+	void subscribeWithLastEventIdReplaysFromBufferTest() {
+		// Given
+		ReflectionTestUtils.setField(alarmEventService, "replayMaxEvents", 100);
+		when(emitterRepository.save(eq(userId), any(SseEmitter.class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(alarmReplayBuffer.findAfter(userId, 10L)).thenReturn(Optional.of(List.of(alarmResponse)));
+
+		// When
+		SseEmitter result = alarmEventService.subscribe(userId, 10L);
+
+		// Then
+		assertNotNull(result);
+		verify(alarmReplayBuffer).findAfter(userId, 10L);
+		verify(alarmService, never()).getAlarmsAfter(any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("재전송 버퍼 범위 밖이면 DB 에서 놓친 알림 조회")
+	void subscribeWithLastEventIdFallsBackToDbTest() {
+		// Given
+		ReflectionTestUtils.setField(alarmEventService, "replayMaxEvents", 100);
+		when(emitterRepository.save(eq(userId), any(SseEmitter.class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(alarmReplayBuffer.findAfter(userId, 10L)).thenReturn(Optional.empty());
+		when(alarmService.getAlarmsAfter(userId, 10L, 100)).thenReturn(List.of(alarmResponse));
+
+		// When
+		alarmEventService.subscribe(userId, 10L);
+
+		// Then
+		verify(alarmService, times(1)).getAlarmsAfter(userId, 10L, 100);
+	}
+
+	@Test
+	@DisplayName("알림 전송 시 재전송 버퍼에 기록")
+	void sendNotificationAppendsToReplayBufferTest() {
+		// When
+		alarmEventService.sendNotification(userId, alarmResponse);
+
+		// Then
+		verify(alarmReplayBuffer, times(1)).append(userId, alarmResponse);
+		verify(sseEventDispatcher, times(1)).dispatch(eq(userId), eq(alarmResponse), eq("alarm"), any());
+	}
+
+	@Test
+	@DisplayName("다른 노드에 연결이 있으면 전달하고 오프라인으로 집계하지 않음")
+	void sendNotificationForwardsToOtherNodesTest() {
+		// Given
+		when(sseEventDispatcher.dispatch(eq(userId), any(), any(), any())).thenReturn(0);
+		when(sseClusterRelay.forward(userId, alarmResponse)).thenReturn(1);
+
+		// When
+		alarmEventService.sendNotification(userId, alarmResponse);
+
+		// Then
+		verify(sseClusterRelay, times(1)).forward(userId, alarmResponse);
+		verify(emitterRepository, never()).markOffline(userId);
+	}
+
+	@Test
+	@DisplayName("어느 노드에도 연결이 없으면 실패가 아닌 오프라인으로 집계")
+	void sendNotificationMarksOfflineTest() {
+		// Given
+		when(sseEventDispatcher.dispatch(eq(userId), any(), any(), any())).thenReturn(0);
+		when(sseClusterRelay.forward(userId, alarmResponse)).thenReturn(0);
+
+		// When
+		alarmEventService.sendNotification(userId, alarmResponse);
+
+		// Then
+		verify(emitterRepository, times(1)).markOffline(userId);
+	}
+
+	@Test
+	@DisplayName("발행 확인을 받지 못한 알림은 저장 후 직접 SSE 전송")
+	void handlePublishFailedTest() {
+		// Given
+		AlarmEvent alarmEvent = AlarmEvent.builder()
+			.receiverId(userId)
+			.title("테스트 알림")
+			.alarmType(AlarmType.SYSTEM)
+			.build();
+		when(alarmService.saveAlarmEvents(List.of(alarmEvent))).thenReturn(List.of(alarmResponse));
+		when(sseEventDispatcher.dispatch(eq(userId), any(), any(), any())).thenReturn(1);
+
+		// When
+		alarmEventService.handlePublishFailed(new AlarmPublishFailedEvent(alarmEvent, "nack"));
+
+		// Then
+		verify(sseEventDispatcher, times(1)).dispatch(userId, alarmResponse, "alarm", "1");
+	}
+
+	@Test
+	@DisplayName("RabbitMQ 미사용 시 저장된 알림 id 로 직접 SSE 전송")
+	void sendNotificationAsyncWithoutBrokerPersistsBeforeSendTest() {
+		// Given
+		ReflectionTestUtils.setField(alarmEventService, "alarmMessagePublisher", Optional.empty());
+		AlarmEvent alarmEvent = AlarmEvent.builder()
+			.receiverId(userId)
+			.title("테스트 알림")
+			.alarmType(AlarmType.PARTY_APPLY)
+			.relId(99L)
+			.build();
+		when(alarmService.saveAlarmEvents(List.of(alarmEvent))).thenReturn(List.of(alarmResponse));
+		when(sseEventDispatcher.dispatch(eq(userId), any(), any(), any())).thenReturn(1);
+
+		// When
+		boolean result = alarmEventService.sendNotificationAsync(alarmEvent);
+
+		// Then
+		assertTrue(result);
+		verify(alarmReplayBuffer, times(1)).append(userId, alarmResponse);
+		verify(sseEventDispatcher, times(1)).dispatch(userId, alarmResponse, "alarm", "1");
+		verify(sseEventDispatcher, never()).dispatch(eq(userId), any(), any(), eq("99"));
+	}
+}
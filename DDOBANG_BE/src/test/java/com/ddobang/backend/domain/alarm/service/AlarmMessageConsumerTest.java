@@ -0,0 +1,271 @@
+package com.ddobang.backend.domain.alarm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
+import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
+import com.rabbitmq.client.Channel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmMessageConsumerTest {
+
+	@Mock
+	private AlarmEventService alarmEventService;
+
+	@Mock
+	private AlarmService alarmService;
+
+	@Mock
+	private AlarmMessagePublisher alarmMessagePublisher;
+
+	@Mock
+	private Channel channel;
+
+	private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+	private MeterRegistry meterRegistry;
+	private AlarmMessageConsumer alarmMessageConsumer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		alarmMessageConsumer = new AlarmMessageConsumer(
+			alarmEventService, alarmService, alarmMessagePublisher, messageConverter, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("배치 처리 - 한 번에 저장하고 수신자별로 묶어 전송한 뒤 마지막 태그로 multiple ACK")
+	void processAlarmBatch_ShouldPersistOnceAndSendPerReceiver() throws IOException {
+		// given
+		AlarmEvent first = event(1L, "파티 신청");
+		AlarmEvent second = event(2L, "파티 승인");
+		AlarmEvent third = event(1L, "파티 취소");
+		List<Message> messages = List.of(message(first, 11L), message(second, 12L), message(third, 13L));
+
+		when(alarmService.saveAlarmEvents(anyList())).thenReturn(List.of(
+			response(101L, first), response(102L, second), response(103L, third)));
+
+		// when
+		alarmMessageConsumer.processAlarmBatch(messages, channel, "PARTY");
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<AlarmEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(alarmService, times(1)).saveAlarmEvents(eventsCaptor.capture());
+		assertEquals(List.of(first.getEventId(), second.getEventId(), third.getEventId()),
+			eventsCaptor.getValue().stream().map(AlarmEvent::getEventId).toList());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<AlarmResponse>> alarmsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(alarmEventService).sendNotifications(eq(1L), alarmsCaptor.capture());
+		assertEquals(List.of(101L, 103L), alarmsCaptor.getValue().stream().map(AlarmResponse::getId).toList());
+		verify(alarmEventService).sendNotifications(eq(2L), anyList());
+		verify(alarmEventService, never()).sendNotification(anyLong(), any());
+
+		verify(channel).basicAck(13L, true);
+		verifyNoMoreInteractions(channel);
+		assertEquals(3, meterRegistry.get("rabbitmq.messages.consumed").counter().count());
+		assertEquals(3, meterRegistry.get("rabbitmq.processing.duration").tag("mode", "batch").timer().count());
+	}
+
+	@Test
+	@DisplayName("배치 처리 - 유효하지 않은 메시지는 저장하지 않고 배치와 함께 ACK")
+	void processAlarmBatch_WithInvalidMessage_ShouldSkipAndAcknowledge() throws IOException {
+		// given
+		AlarmEvent valid = event(1L, "새 쪽지");
+		AlarmEvent invalid = event(null, "수신자 없음");
+		List<Message> messages = List.of(message(invalid, 21L), message(valid, 22L));
+
+		when(alarmService.saveAlarmEvents(anyList())).thenReturn(List.of(response(201L, valid)));
+
+		// when
+		alarmMessageConsumer.processAlarmBatch(messages, channel, "MESSAGE");
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<AlarmEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(alarmService).saveAlarmEvents(eventsCaptor.capture());
+		assertEquals(1, eventsCaptor.getValue().size());
+		verify(channel).basicAck(22L, true);
+		verifyNoMoreInteractions(channel);
+	}
+
+	@Test
+	@DisplayName("배치 처리 - 저장 실패 시 메시지별로 재시도 발행 후 개별 ACK")
+	void processAlarmBatch_WhenPersistFails_ShouldRetryEachMessage() throws IOException {
+		// given
+		AlarmEvent first = event(1L, "답변 등록");
+		AlarmEvent second = event(2L, "답변 등록");
+		List<Message> messages = List.of(message(first, 31L), message(second, 32L));
+
+		when(alarmService.saveAlarmEvents(anyList())).thenThrow(new IllegalStateException("DB 오류"));
+		when(alarmMessagePublisher.publishRetryEvent(any(AlarmEvent.class))).thenReturn(true);
+
+		// when
+		alarmMessageConsumer.processAlarmBatch(messages, channel, "BOARD");
+
+		// then
+		verify(alarmMessagePublisher, times(2)).publishRetryEvent(any(AlarmEvent.class));
+		verify(channel).basicAck(31L, false);
+		verify(channel).basicAck(32L, false);
+		verify(channel, never()).basicAck(anyLong(), eq(true));
+		verify(alarmEventService, never()).sendNotifications(anyLong(), anyList());
+		assertEquals(2, meterRegistry.get("rabbitmq.messages.processing.failed").counter().count());
+	}
+
+	@Test
+	@DisplayName("최대 재시도 횟수에 도달한 메시지는 REJECT 하여 DLQ 로 이동")
+	void processAlarmBatch_WhenMaxRetryReached_ShouldRejectToDeadLetterQueue() throws IOException {
+		// given
+		AlarmEvent exhausted = AlarmEvent.builder()
+			.receiverId(1L)
+			.title("파티 신청")
+			.alarmType(AlarmType.PARTY_APPLY)
+			.retryCount(3)
+			.build();
+
+		when(alarmService.saveAlarmEvents(anyList())).thenThrow(new IllegalStateException("DB 오류"));
+
+		// when
+		alarmMessageConsumer.processAlarmBatch(List.of(message(exhausted, 51L)), channel, "PARTY");
+
+		// then
+		verify(channel).basicReject(51L, false);
+		verify(channel, never()).basicAck(anyLong(), anyBoolean());
+		verify(alarmMessagePublisher, never()).publishRetryEvent(any(AlarmEvent.class));
+	}
+
+	@Test
+	@DisplayName("단건 처리 - 저장 후 저장된 알림 id 로 SSE 전송하고 ACK")
+	void handlePartyNotification_ShouldPersistBeforeSend() throws IOException {
+		// given
+		AlarmEvent event = event(1L, "파티 신청");
+		AlarmResponse saved = response(301L, event);
+		when(alarmService.saveAlarmEvents(List.of(event))).thenReturn(List.of(saved));
+
+		// when
+		alarmMessageConsumer.handlePartyNotification(event, 31L, false, channel, message(event, 31L));
+
+		// then
+		verify(alarmEventService).sendNotification(1L, saved);
+		verify(alarmEventService, never()).sendNotification(eq(1L), argThat(alarm -> Long.valueOf(5L).equals(alarm.getId())));
+		verify(channel).basicAck(31L, false);
+	}
+
+	@Test
+	@DisplayName("단건 처리 - 저장 실패 시 전송하지 않고 재시도 발행")
+	void handlePartyNotification_WhenPersistFails_ShouldRetry() throws IOException {
+		// given
+		AlarmEvent event = event(1L, "파티 신청");
+		when(alarmService.saveAlarmEvents(List.of(event))).thenThrow(new IllegalStateException("DB 오류"));
+
+		// when
+		alarmMessageConsumer.handlePartyNotification(event, 32L, false, channel, message(event, 32L));
+
+		// then
+		verify(alarmEventService, never()).sendNotification(anyLong(), any());
+		verify(alarmMessagePublisher).publishRetryEvent(any(AlarmEvent.class));
+	}
+
+	@Test
+	@DisplayName("높은 우선순위 큐 소비는 단건 처리 시간(mode=single)으로 기록하고 배치 크기에는 포함하지 않음")
+	void handleHighPriorityNotification_ShouldRecordSingleMode() throws IOException {
+		// given
+		AlarmEvent high = AlarmEvent.builder()
+			.receiverId(1L)
+			.title("새 쪽지")
+			.alarmType(AlarmType.MESSAGE)
+			.priority(1)
+			.build();
+		when(alarmService.saveAlarmEvents(anyList())).thenReturn(List.of(response(501L, high)));
+
+		// when
+		alarmMessageConsumer.handleMessageHighPriorityNotification(message(high, 51L), channel);
+
+		// then
+		verify(channel).basicAck(51L, true);
+		assertEquals(1, meterRegistry.get("rabbitmq.processing.duration").tag("mode", "single").timer().count());
+		assertEquals(0, meterRegistry.get("rabbitmq.processing.duration").tag("mode", "batch").timer().count());
+		assertEquals(0, meterRegistry.get("rabbitmq.batch.size").summary().count());
+	}
+
+	@Test
+	@DisplayName("발행 시각 헤더 기준으로 우선순위 lane 별 전달 지연 기록")
+	void processAlarmBatch_ShouldRecordLatencyPerLane() {
+		// given
+		AlarmEvent high = AlarmEvent.builder()
+			.receiverId(1L)
+			.title("새 쪽지")
+			.alarmType(AlarmType.MESSAGE)
+			.priority(1)
+			.build();
+		AlarmEvent normal = event(2L, "파티 신청");
+		Message highMessage = message(high, 41L);
+		highMessage.getMessageProperties()
+			.setHeader(AlarmMessagePublisher.PUBLISHED_AT_MS_HEADER, System.currentTimeMillis() - 30);
+		Message normalMessage = message(normal, 42L);
+		normalMessage.getMessageProperties()
+			.setHeader(AlarmMessagePublisher.PUBLISHED_AT_MS_HEADER, System.currentTimeMillis() - 500);
+
+		when(alarmService.saveAlarmEvents(anyList())).thenReturn(List.of(response(401L, high), response(402L, normal)));
+
+		// when
+		alarmMessageConsumer.processAlarmBatch(List.of(highMessage, normalMessage), channel, "MESSAGE");
+
+		// then
+		Timer highLatency = meterRegistry.get("alarm.delivery.latency").tag("lane", "high").timer();
+		Timer normalLatency = meterRegistry.get("alarm.delivery.latency").tag("lane", "normal").timer();
+		assertEquals(1, highLatency.count());
+		assertEquals(1, normalLatency.count());
+		assertTrue(highLatency.totalTime(TimeUnit.MILLISECONDS) >= 30);
+		assertTrue(normalLatency.totalTime(TimeUnit.MILLISECONDS) >= 500);
+	}
+
+	private AlarmEvent event(Long receiverId, String title) {
+		return AlarmEvent.builder()
+			.receiverId(receiverId)
+			.title(title)
+			.content(title + " 내용")
+			.alarmType(AlarmType.PARTY_APPLY)
+			.relId(5L)
+			.build();
+	}
+
+	private Message message(AlarmEvent event, long deliveryTag) {
+		MessageProperties properties = new MessageProperties();
+		properties.setDeliveryTag(deliveryTag);
+		return messageConverter.toMessage(event, properties);
+	}
+
+	private AlarmResponse response(Long id, AlarmEvent event) {
+		return AlarmResponse.builder()
+			.id(id)
+			.receiverId(event.getReceiverId())
+			.title(event.getTitle())
+			.content(event.getContent())
+			.alarmType(event.getAlarmType())
+			.readStatus(false)
+			.build();
+	}
+}
@@ -0,0 +1,258 @@
+package com.ddobang.backend.domain.alarm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
+import com.ddobang.backend.domain.alarm.event.AlarmPublishFailedEvent;
+import com.ddobang.backend.global.config.RabbitMQConfig;
+import com.ddobang.backend.global.event.EventPublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmMessagePublisherTest {
+
+	@Mock
+	private RabbitTemplate rabbitTemplate;
+
+	@Mock
+	private ConnectionFactory connectionFactory;
+
+	@Mock
+	private EventPublisher eventPublisher;
+
+	private MeterRegistry meterRegistry;
+	private AlarmMessagePublisher alarmMessagePublisher;
+	private AlarmEvent alarmEvent;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		alarmMessagePublisher = new AlarmMessagePublisher(rabbitTemplate, eventPublisher, meterRegistry);
+		ReflectionTestUtils.setField(alarmMessagePublisher, "confirmTimeoutMs", 5000L);
+		ReflectionTestUtils.setField(alarmMessagePublisher, "maxRepublish", 1);
+		ReflectionTestUtils.setField(alarmMessagePublisher, "retryDelaysMs", new long[] {1000L, 5000L, 30000L});
+		when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+		when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+		alarmMessagePublisher.init();
+
+		alarmEvent = AlarmEvent.builder()
+			.receiverId(1L)
+			.title("파티 신청 알림")
+			.content("새 참가 신청이 있습니다.")
+			.alarmType(AlarmType.PARTY_APPLY)
+			.relId(10L)
+			.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		alarmMessagePublisher.shutdown();
+	}
+
+	@Test
+	@DisplayName("브로커 확인(ack)을 받은 뒤에만 발행 성공으로 집계")
+	void publishAlarmEvent_ShouldCountSuccessOnlyAfterAck() {
+		// when
+		boolean accepted = alarmMessagePublisher.publishAlarmEvent(alarmEvent);
+
+		// then - 확인 전
+		assertTrue(accepted);
+		CorrelationData correlationData = sentCorrelations(1).get(0);
+		assertEquals(alarmEvent.getEventId(), correlationData.getId());
+		assertEquals(0, alarmMessagePublisher.getPublishStats().getTotalPublished());
+		assertEquals(1, alarmMessagePublisher.getPublishStats().getOutstandingConfirms());
+
+		// when - 확인 수신
+		correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+		// then
+		assertEquals(1, alarmMessagePublisher.getPublishStats().getTotalPublished());
+		assertEquals(0, alarmMessagePublisher.getPublishStats().getOutstandingConfirms());
+		assertEquals(1, meterRegistry.get("rabbitmq.publish.duration").timer().count());
+	}
+
+	@Test
+	@DisplayName("정상 ack 를 받은 발행은 시간 초과 검사 후에도 재발행하지 않음")
+	void publishAlarmEvent_WhenAcked_ShouldNotRepublish() throws Exception {
+		// given
+		ReflectionTestUtils.setField(alarmMessagePublisher, "confirmTimeoutMs", 0L);
+		alarmMessagePublisher.publishAlarmEvent(alarmEvent);
+
+		// when
+		sentCorrelations(1).get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+		Thread.sleep(1); // 시간 초과 기준(0ms)을 넘긴 뒤 검사
+		alarmMessagePublisher.expireOutstandingConfirms();
+
+		// then
+		verify(rabbitTemplate, after(200).times(1)).convertAndSend(anyString(), anyString(), any(Object.class),
+			any(MessagePostProcessor.class), any(CorrelationData.class));
+		assertEquals(0, meterRegistry.get("rabbitmq.messages.republished").counter().count());
+		assertEquals(1, alarmMessagePublisher.getPublishStats().getTotalPublished());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("publisher confirm 이 꺼져 있으면 확인 대기 없이 전송 성공을 발행 성공으로 집계")
+	void publishAlarmEvent_WhenConfirmsDisabled_ShouldNotTrackConfirms() {
+		// given
+		when(connectionFactory.isPublisherConfirms()).thenReturn(false);
+		alarmMessagePublisher.shutdown();
+		alarmMessagePublisher.init();
+		ReflectionTestUtils.setField(alarmMessagePublisher, "confirmTimeoutMs", 0L);
+
+		// when
+		assertTrue(alarmMessagePublisher.publishAlarmEvent(alarmEvent));
+		alarmMessagePublisher.expireOutstandingConfirms();
+
+		// then
+		verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.NOTIFICATION_EXCHANGE), eq("notification.party.normal"),
+			any(Object.class), any(MessagePostProcessor.class));
+		verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class),
+			any(MessagePostProcessor.class), any(CorrelationData.class));
+		assertEquals(1, alarmMessagePublisher.getPublishStats().getTotalPublished());
+		assertEquals(0, alarmMessagePublisher.getPublishStats().getOutstandingConfirms());
+		assertEquals(0, meterRegistry.get("rabbitmq.publish.confirms.failed").tag("result", "timeout").counter().count());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("nack 을 받으면 같은 eventId 로 재발행")
+	void publishAlarmEvent_WhenNacked_ShouldRepublish() {
+		// given
+		alarmMessagePublisher.publishAlarmEvent(alarmEvent);
+
+		// when
+		sentCorrelations(1).get(0).getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+
+		// then
+		CorrelationData republished = sentCorrelations(2).get(1);
+		assertEquals(alarmEvent.getEventId(), republished.getId());
+		assertEquals(1, meterRegistry.get("rabbitmq.publish.confirms.failed").tag("result", "nack").counter().count());
+
+		republished.getFuture().complete(new CorrelationData.Confirm(true, null));
+		assertEquals(1, alarmMessagePublisher.getPublishStats().getTotalPublished());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("반환된 메시지가 재발행 한도를 넘으면 직접 SSE 전송 이벤트 발행")
+	void publishAlarmEvent_WhenReturnedRepeatedly_ShouldFallback() {
+		// given
+		alarmMessagePublisher.publishAlarmEvent(alarmEvent);
+		returnAndAck(sentCorrelations(1).get(0));
+
+		// when - 재발행도 반환됨
+		returnAndAck(sentCorrelations(2).get(1));
+
+		// then
+		ArgumentCaptor<AlarmPublishFailedEvent> captor = ArgumentCaptor.forClass(AlarmPublishFailedEvent.class);
+		verify(eventPublisher, timeout(2000)).publish(captor.capture());
+		assertEquals(alarmEvent.getEventId(), captor.getValue().getAlarmEvent().getEventId());
+		assertEquals(0, alarmMessagePublisher.getPublishStats().getTotalPublished());
+		assertEquals(1, alarmMessagePublisher.getPublishStats().getTotalFailed());
+		assertEquals(2, meterRegistry.get("rabbitmq.publish.confirms.failed").tag("result", "returned").counter().count());
+	}
+
+	@Test
+	@DisplayName("확인 시간 초과 시 재발행하고, 뒤늦은 확인은 무시")
+	void expireOutstandingConfirms_ShouldRepublishAndIgnoreLateConfirm() {
+		// given
+		ReflectionTestUtils.setField(alarmMessagePublisher, "confirmTimeoutMs", 0L);
+		alarmMessagePublisher.publishAlarmEvent(alarmEvent);
+		CorrelationData original = sentCorrelations(1).get(0);
+
+		// when
+		alarmMessagePublisher.expireOutstandingConfirms();
+
+		// then
+		sentCorrelations(2);
+		assertEquals(1, meterRegistry.get("rabbitmq.publish.confirms.failed").tag("result", "timeout").counter().count());
+
+		original.getFuture().complete(new CorrelationData.Confirm(true, null));
+		assertEquals(0, alarmMessagePublisher.getPublishStats().getTotalPublished());
+	}
+
+	@Test
+	@DisplayName("채널 전송 자체가 실패하면 false 반환")
+	void publishAlarmEvent_WhenSendFails_ShouldReturnFalse() {
+		// given
+		doThrow(new AmqpConnectException(new RuntimeException("connection refused")))
+			.when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class),
+				any(MessagePostProcessor.class), any(CorrelationData.class));
+
+		// when & then
+		assertFalse(alarmMessagePublisher.publishAlarmEvent(alarmEvent));
+		assertEquals(1, alarmMessagePublisher.getPublishStats().getTotalFailed());
+		assertEquals(0, alarmMessagePublisher.getPublishStats().getOutstandingConfirms());
+	}
+
+	@Test
+	@DisplayName("재시도 이벤트는 재시도 횟수별 지연 큐로 발행하고 원래 라우팅 키를 CC 헤더로 전달")
+	void publishRetryEvent_ShouldPublishToDelayQueueByAttempt() throws Exception {
+		// given
+		AlarmEvent retried = AlarmEvent.builder()
+			.receiverId(2L)
+			.title("파티 신청 알림")
+			.alarmType(AlarmType.PARTY_APPLY)
+			.retryCount(1)
+			.build();
+
+		// when
+		assertTrue(alarmMessagePublisher.publishRetryEvent(alarmEvent));
+		assertTrue(alarmMessagePublisher.publishRetryEvent(retried));
+
+		// then
+		ArgumentCaptor<String> queueCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<MessagePostProcessor> processorCaptor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+		verify(rabbitTemplate, times(2)).convertAndSend(eq(""), queueCaptor.capture(), any(Object.class),
+			processorCaptor.capture(), any(CorrelationData.class));
+		verify(rabbitTemplate, never()).convertAndSend(eq(RabbitMQConfig.NOTIFICATION_EXCHANGE), anyString(),
+			any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+
+		assertEquals(List.of("notification.retry.1000ms", "notification.retry.5000ms"), queueCaptor.getAllValues());
+		Message processed = processorCaptor.getValue()
+			.postProcessMessage(new Message(new byte[0], new MessageProperties()));
+		assertEquals(List.of("notification.party.normal"), processed.getMessageProperties().getHeader("CC"));
+	}
+
+	// 지금까지 발행된 CorrelationData 목록 (비동기 재발행을 기다림)
+	private List<CorrelationData> sentCorrelations(int expectedCount) {
+		ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+		verify(rabbitTemplate, timeout(2000).times(expectedCount)).convertAndSend(
+			eq(RabbitMQConfig.NOTIFICATION_EXCHANGE), anyString(), any(Object.class),
+			any(MessagePostProcessor.class), captor.capture());
+		return captor.getAllValues();
+	}
+
+	private void returnAndAck(CorrelationData correlationData) {
+		correlationData.setReturned(new ReturnedMessage(
+			new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE",
+			RabbitMQConfig.NOTIFICATION_EXCHANGE, "notification.party.normal"));
+		correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+	}
+}
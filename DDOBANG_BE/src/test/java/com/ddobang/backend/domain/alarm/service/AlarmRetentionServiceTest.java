@@ -0,0 +1,114 @@
+package com.ddobang.backend.domain.alarm.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.alarm.entity.Alarm;
+import com.ddobang.backend.domain.alarm.entity.AlarmArchive;
+import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.infra.InMemoryAlarmCountStore;
+import com.ddobang.backend.domain.alarm.repository.AlarmArchiveRepository;
+import com.ddobang.backend.domain.alarm.repository.AlarmRepository;
+import com.ddobang.backend.domain.alarm.service.AlarmRetentionService.PurgeResult;
+import com.ddobang.backend.global.config.QuerydslConfig;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * AlarmRetentionServiceTest
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, AlarmRetentionService.class, InMemoryAlarmCountStore.class})
+public class AlarmRetentionServiceTest {
+	private static final LocalDateTime OLD = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+	@Autowired
+	private AlarmRetentionService alarmRetentionService;
+	@Autowired
+	private AlarmRepository alarmRepository;
+	@Autowired
+	private AlarmArchiveRepository alarmArchiveRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@Test
+	@DisplayName("purgeChunk - 기준 시각 이전 알림만 오래된 순으로 chunk 크기만큼 삭제")
+	void t1() {
+		// given
+		seed(List.of(alarm(1L, "old-1"), alarm(1L, "old-2"), alarm(2L, "old-3"), alarm(2L, "new-1")));
+		ageAlarms("old-1", "old-2", "old-3");
+		LocalDateTime before = OLD.plusDays(1);
+
+		// when
+		PurgeResult first = alarmRetentionService.purgeChunk(before, 2, false);
+		PurgeResult second = alarmRetentionService.purgeChunk(before, 2, false);
+		PurgeResult third = alarmRetentionService.purgeChunk(before, 2, false);
+
+		// then
+		assertThat(first.purgedCount()).isEqualTo(2);
+		assertThat(second.purgedCount()).isEqualTo(1);
+		assertThat(third.purgedCount()).isZero();
+		assertThat(alarmRepository.findAll()).extracting(Alarm::getEventId).containsExactly("new-1");
+		assertThat(alarmArchiveRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("purgeChunk - archive 사용 시 읽은 알림만 생성 월과 함께 보관 후 삭제")
+	void t2() {
+		// given
+		seed(List.of(alarm(1L, "old-read"), alarm(2L, "old-unread")));
+		ageAlarms("old-read", "old-unread");
+		alarmRepository.markAllAsReadByReceiverId(1L);
+
+		// when
+		PurgeResult result = alarmRetentionService.purgeChunk(OLD.plusDays(1), 10, true);
+
+		// then
+		assertThat(result.purgedCount()).isEqualTo(2);
+		assertThat(result.archivedCount()).isEqualTo(1);
+		assertThat(alarmRepository.count()).isZero();
+
+		List<AlarmArchive> archives = alarmArchiveRepository.findAll();
+		assertThat(archives).singleElement().satisfies(archive -> {
+			assertThat(archive.getReceiverId()).isEqualTo(1L);
+			assertThat(archive.getArchivedMonth()).isEqualTo(202501);
+			assertThat(archive.getCreatedAt()).isEqualTo(OLD);
+		});
+	}
+
+	private void seed(List<Alarm> alarms) {
+		alarmRepository.batchInsert(alarms);
+	}
+
+	private void ageAlarms(String... eventIds) {
+		for (String eventId : eventIds) {
+			jdbcTemplate.update("UPDATE alarm SET created_at = ? WHERE event_id = ?", OLD, eventId);
+		}
+		em.clear();
+	}
+
+	private Alarm alarm(Long receiverId, String eventId) {
+		return Alarm.builder()
+			.receiverId(receiverId)
+			.title("알림")
+			.content("내용")
+			.alarmType(AlarmType.SYSTEM)
+			.eventId(eventId)
+			.build();
+	}
+}
@@ -4,16 +4,18 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.ddobang.backend.domain.alarm.dto.request.AlarmCreateRequest;
@@ -21,9 +23,14 @@ import com.ddobang.backend.domain.alarm.dto.response.AlarmCountResponse;
 import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
 import com.ddobang.backend.domain.alarm.entity.Alarm;
 import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
 import com.ddobang.backend.domain.alarm.exception.AlarmErrorCode;
 import com.ddobang.backend.domain.alarm.exception.AlarmException;
+import com.ddobang.backend.domain.alarm.infra.AlarmCountStore;
+import com.ddobang.backend.domain.alarm.infra.InMemoryAlarmCountStore;
+import com.ddobang.backend.domain.alarm.repository.AlarmCountView;
 import com.ddobang.backend.domain.alarm.repository.AlarmRepository;
+import com.ddobang.backend.global.response.SliceDto;
 
 @ExtendWith(MockitoExtension.class)
 public class AlarmServiceTest {
@@ -31,6 +38,9 @@ public class AlarmServiceTest {
 	@Mock
 	private AlarmRepository alarmRepository;
 
+	@Spy
+	private AlarmCountStore alarmCountStore = new InMemoryAlarmCountStore();
+
 	@InjectMocks
 	private AlarmService alarmService;
 
@@ -82,6 +92,66 @@ public class AlarmServiceTest {
 		verify(alarmRepository, times(1)).findByIdAndReceiverId(alarmId, userId);
 	}
 
+	@Test
+	@DisplayName("알림 목록 커서 조회 테스트 - 마지막 알림의 생성 시각, id 를 커서로 사용하고 count 쿼리 없음")
+	void getAlarmsWithCursorTest() {
+		// Given
+		Long lastId = 10L;
+		Alarm cursor = mock(Alarm.class);
+		when(cursor.getId()).thenReturn(lastId);
+		when(cursor.getCreatedAt()).thenReturn(now);
+		when(alarmRepository.findByIdAndReceiverId(lastId, userId)).thenReturn(Optional.of(cursor));
+
+		Alarm alarm1 = mock(Alarm.class);
+		when(alarm1.getId()).thenReturn(9L);
+		Alarm alarm2 = mock(Alarm.class);
+		when(alarm2.getId()).thenReturn(8L);
+		Alarm alarm3 = mock(Alarm.class);
+		when(alarm3.getId()).thenReturn(7L);
+		when(alarmRepository.findAlarmsBeforeCursor(userId, now, lastId, 3)).thenReturn(List.of(alarm1, alarm2, alarm3));
+
+		// When
+		SliceDto<AlarmResponse> result = alarmService.getAlarmsWithCursor(userId, lastId, 2);
+
+		// Then
+		assertTrue(result.hasNext());
+		assertEquals(List.of(9L, 8L), result.content().stream().map(AlarmResponse::getId).toList());
+		verify(alarmRepository, never()).findByReceiverIdOrderByCreatedAtDesc(eq(userId), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("알림 목록 커서 조회 테스트 - 커서 알림이 삭제되었으면 id 기준으로 이어서 조회")
+	void getAlarmsWithCursorDeletedCursorTest() {
+		// Given
+		Long lastId = 10L;
+		when(alarmRepository.findByIdAndReceiverId(lastId, userId)).thenReturn(Optional.empty());
+
+		Alarm alarm1 = mock(Alarm.class);
+		when(alarm1.getId()).thenReturn(9L);
+		when(alarmRepository.findAlarmsBeforeId(userId, lastId, 3)).thenReturn(List.of(alarm1));
+
+		// When
+		SliceDto<AlarmResponse> result = alarmService.getAlarmsWithCursor(userId, lastId, 2);
+
+		// Then
+		assertFalse(result.hasNext());
+		assertEquals(List.of(9L), result.content().stream().map(AlarmResponse::getId).toList());
+		verify(alarmRepository, never()).findAlarmsBeforeCursor(eq(userId), any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("알림 목록 커서 조회 테스트 - 요청 크기는 최대 50 으로 제한")
+	void getAlarmsWithCursorClampsSizeTest() {
+		// Given
+		when(alarmRepository.findFirstAlarms(userId, 51)).thenReturn(List.of());
+
+		// When
+		alarmService.getAlarmsWithCursor(userId, null, 10_000);
+
+		// Then
+		verify(alarmRepository, times(1)).findFirstAlarms(userId, 51);
+	}
+
 	@Test
 	@DisplayName("알림 상세 조회 실패 테스트 - 알림 없음")
 	void getAlarmNotFoundTest() {
@@ -99,30 +169,54 @@ public class AlarmServiceTest {
 	}
 
 	@Test
-	@DisplayName("알림 개수 조회 테스트")
+	@DisplayName("알림 개수 조회 테스트 - 처음에만 DB 집계하고 이후에는 캐시에서 조회")
 	void getAlarmCountsTest() {
 		// Given
-		long unreadCount = 5;
-		long totalCount = 10;
+		givenCounted(10L, 5L);
 
-		when(alarmRepository.countByReceiverIdAndReadStatus(userId, false))
-			.thenReturn(unreadCount);
+		// When
+		AlarmCountResponse first = alarmService.getAlarmCounts(userId);
+		AlarmCountResponse second = alarmService.getAlarmCounts(userId);
+
+		// Then
+		assertEquals(10L, first.getTotalCount());
+		assertEquals(5L, first.getUnreadCount());
+		assertEquals(10L, second.getTotalCount());
+		assertEquals(5L, second.getUnreadCount());
+		verify(alarmRepository, times(1)).countByReceiverIds(List.of(userId));
+		verify(alarmRepository, never()).findByReceiverIdOrderByCreatedAtDesc(eq(userId), any(Pageable.class));
+	}
 
-		Page<Alarm> emptyPage = mock(Page.class);
-		when(emptyPage.getTotalElements()).thenReturn(totalCount);
+	@Test
+	@DisplayName("알림 개수 조회 테스트 - 생성, 읽음, 전부 읽음, 삭제가 캐시에 반영")
+	void getAlarmCounts_ShouldReflectChanges() {
+		// Given
+		givenCounted(10L, 5L);
+		alarmService.getAlarmCounts(userId);
 
-		when(alarmRepository.findByReceiverIdOrderByCreatedAtDesc(eq(userId), any(Pageable.class)))
-			.thenReturn(emptyPage);
+		Alarm saved = mock(Alarm.class);
+		when(saved.getReceiverId()).thenReturn(userId);
+		when(alarmRepository.save(any(Alarm.class))).thenReturn(saved);
+
+		Alarm unread = mock(Alarm.class);
+		when(unread.getReadStatus()).thenReturn(false);
+		Alarm read = mock(Alarm.class);
+		when(read.getReadStatus()).thenReturn(true);
+		when(alarmRepository.findByIdAndReceiverId(1L, userId)).thenReturn(Optional.of(unread));
+		when(alarmRepository.findByIdAndReceiverId(2L, userId)).thenReturn(Optional.of(read));
+		when(alarmRepository.markAllAsReadByReceiverId(userId)).thenReturn(3);
 
 		// When
-		AlarmCountResponse result = alarmService.getAlarmCounts(userId);
+		alarmService.createAlarm(createRequest); // 11 / 6
+		alarmService.markAsRead(1L, userId);     // 11 / 5
+		alarmService.deleteAlarm(2L, userId);    // 10 / 5
+		alarmService.markAllAsRead(userId);      // 10 / 2
 
 		// Then
-		assertNotNull(result);
-		assertEquals(totalCount, result.getTotalCount());
-		assertEquals(unreadCount, result.getUnreadCount());
-		verify(alarmRepository, times(1)).countByReceiverIdAndReadStatus(userId, false);
-		verify(alarmRepository, times(1)).findByReceiverIdOrderByCreatedAtDesc(eq(userId), any(Pageable.class));
+		AlarmCountResponse result = alarmService.getAlarmCounts(userId);
+		assertEquals(10L, result.getTotalCount());
+		assertEquals(2L, result.getUnreadCount());
+		verify(alarmRepository, times(1)).countByReceiverIds(List.of(userId));
 	}
 
 	@Test
@@ -131,6 +225,7 @@ public class AlarmServiceTest {
 		// Given
 		Alarm alarm = mock(Alarm.class);
 		when(alarm.getId()).thenReturn(1L);
+		when(alarm.getReceiverId()).thenReturn(userId);
 		when(alarm.getTitle()).thenReturn("테스트 알림 제목");
 		when(alarm.getContent()).thenReturn("테스트 알림 내용");
 
@@ -243,4 +338,91 @@ public class AlarmServiceTest {
 		verify(alarmRepository, times(1)).findByIdAndReceiverId(alarmId, userId);
 		verify(alarmRepository, never()).delete(any(Alarm.class));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("알림 이벤트 일괄 저장 - 이미 저장된 이벤트와 중복 이벤트는 건너뛰고 한 번에 저장")
+	void saveAlarmEventsTest() {
+		// Given
+		AlarmEvent saved = alarmEvent("event-1");
+		AlarmEvent missing = alarmEvent("event-2");
+		List<AlarmEvent> events = List.of(saved, missing, missing);
+
+		Alarm savedAlarm = mock(Alarm.class);
+		when(savedAlarm.getEventId()).thenReturn("event-1");
+		when(savedAlarm.getId()).thenReturn(1L);
+		Alarm insertedAlarm = mock(Alarm.class);
+		when(insertedAlarm.getEventId()).thenReturn("event-2");
+		when(insertedAlarm.getId()).thenReturn(2L);
+
+		when(alarmRepository.findByEventIdIn(anyCollection()))
+			.thenReturn(List.of(savedAlarm))
+			.thenReturn(List.of(insertedAlarm, savedAlarm));
+
+		// When
+		List<AlarmResponse> result = alarmService.saveAlarmEvents(events);
+
+		// Then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Alarm>> captor = ArgumentCaptor.forClass(List.class);
+		verify(alarmRepository, times(1)).batchInsert(captor.capture());
+		assertEquals(1, captor.getValue().size());
+		assertEquals("event-2", captor.getValue().get(0).getEventId());
+		assertEquals(List.of(1L, 2L), result.stream().map(AlarmResponse::getId).toList());
+	}
+
+	@Test
+	@DisplayName("알림 대량 생성 - 한 번에 저장하고 요청 순서대로 반환, 수신자별 알림 수 반영")
+	void createAlarmsTest() {
+		// Given
+		Long otherUserId = 2L;
+		AlarmCreateRequest otherRequest = AlarmCreateRequest.builder()
+			.receiverId(otherUserId)
+			.title("새 알림 제목")
+			.content("새 알림 내용")
+			.alarmType(AlarmType.PARTY_STATUS)
+			.relId(200L)
+			.build();
+
+		givenCounted(0L, 0L);
+		alarmService.getAlarmCounts(userId);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Alarm>> captor = ArgumentCaptor.forClass(List.class);
+		when(alarmRepository.batchInsert(captor.capture())).thenReturn(3);
+		when(alarmRepository.findByEventIdIn(anyCollection())).thenAnswer(invocation -> {
+			List<Alarm> inserted = captor.getValue();
+			return List.of(inserted.get(2), inserted.get(0), inserted.get(1));
+		});
+
+		// When
+		List<AlarmResponse> result = alarmService.createAlarms(List.of(createRequest, otherRequest, createRequest));
+
+		// Then
+		verify(alarmRepository, times(1)).batchInsert(anyList());
+		verify(alarmRepository, never()).save(any(Alarm.class));
+		assertEquals(3, captor.getValue().stream().map(Alarm::getEventId).distinct().count());
+		assertEquals(List.of(userId, otherUserId, userId), result.stream().map(AlarmResponse::getReceiverId).toList());
+
+		AlarmCountResponse counts = alarmService.getAlarmCounts(userId);
+		assertEquals(2L, counts.getTotalCount());
+		assertEquals(2L, counts.getUnreadCount());
+	}
+
+	private AlarmEvent alarmEvent(String eventId) {
+		return AlarmEvent.builder()
+			.eventId(eventId)
+			.receiverId(userId)
+			.title("파티 알림")
+			.alarmType(AlarmType.PARTY_APPLY)
+			.relId(300L)
+			.build();
+	}
+
+	private void givenCounted(Long totalCount, Long unreadCount) {
+		AlarmCountView view = mock(AlarmCountView.class);
+		when(view.getReceiverId()).thenReturn(userId);
+		when(view.getTotalCount()).thenReturn(totalCount);
+		when(view.getUnreadCount()).thenReturn(unreadCount);
+		when(alarmRepository.countByReceiverIds(List.of(userId))).thenReturn(List.of(view));
+	}
+}
@@ -0,0 +1,227 @@
+package com.ddobang.backend.domain.diary.repository;
+
+import static com.ddobang.backend.domain.diary.entity.QDiaryStat.*;
+import static com.ddobang.backend.domain.theme.entity.QTheme.*;
+import static com.ddobang.backend.domain.theme.entity.QThemeStat.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.member.dto.stat.DifficultyLevelStatDto;
+import com.ddobang.backend.domain.member.entity.Gender;
+import com.ddobang.backend.domain.member.entity.Member;
+import com.ddobang.backend.domain.member.repository.MemberRepository;
+import com.ddobang.backend.domain.store.entity.Store;
+import com.ddobang.backend.domain.store.repository.StoreRepository;
+import com.ddobang.backend.domain.theme.entity.Theme;
+import com.ddobang.backend.domain.theme.repository.ThemeRepository;
+import com.ddobang.backend.global.config.QuerydslConfig;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * DiaryStatRepositoryBenchmarkTest
+ * 난이도 레벨별 통계 조회 - 레벨별 쿼리(5회 x 2) 와 단일 집계 쿼리의 쿼리 수, 소요 시간 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+public class DiaryStatRepositoryBenchmarkTest {
+	private static final float[] DIFFICULTIES = {1.0f, 1.5f, 2.0f, 2.5f, 3.0f, 3.5f, 4.0f, 4.5f, 5.0f, 0.0f};
+	private static final int ITERATIONS = 5;
+
+	@Autowired
+	private DiaryStatRepository diaryStatRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private StoreRepository storeRepository;
+	@Autowired
+	private ThemeRepository themeRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private JPAQueryFactory queryFactory;
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@ParameterizedTest(name = "일지 {0}개")
+	@ValueSource(ints = {10, 1_000, 10_000})
+	@DisplayName("난이도 레벨별 통계 - 레벨별 쿼리 대비 단일 집계 쿼리의 쿼리 수, 소요 시간")
+	void t1(int diaryCount) {
+		long authorId = seed(diaryCount);
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		// 워밍업
+		legacyDifficultyStats(authorId);
+		diaryStatRepository.difficultyStatsByMember(authorId);
+
+		statistics.clear();
+		long legacyStart = System.nanoTime();
+		Map<Integer, long[]> legacy = null;
+		for (int i = 0; i < ITERATIONS; i++) {
+			legacy = legacyDifficultyStats(authorId);
+		}
+		long legacyNanos = (System.nanoTime() - legacyStart) / ITERATIONS;
+		long legacyQueries = statistics.getPrepareStatementCount() / ITERATIONS;
+
+		statistics.clear();
+		long groupedStart = System.nanoTime();
+		Map<Integer, DifficultyLevelStatDto> grouped = null;
+		for (int i = 0; i < ITERATIONS; i++) {
+			grouped = diaryStatRepository.difficultyStatsByMember(authorId);
+		}
+		long groupedNanos = (System.nanoTime() - groupedStart) / ITERATIONS;
+		long groupedQueries = statistics.getPrepareStatementCount() / ITERATIONS;
+
+		System.out.printf("[difficulty stats] diaries=%d legacy: %d queries %.2f ms / grouped: %d queries %.2f ms%n",
+			diaryCount, legacyQueries, legacyNanos / 1_000_000.0, groupedQueries, groupedNanos / 1_000_000.0);
+
+		assertThat(legacyQueries).isEqualTo(10);
+		assertThat(groupedQueries).isEqualTo(1);
+
+		// 기존 구현은 5.0 이 어느 레벨에도 포함되지 않으므로 1 ~ 4 레벨만 비교
+		for (int level = 1; level <= 4; level++) {
+			DifficultyLevelStatDto dto = grouped.get(level);
+			long[] expected = legacy.get(level);
+
+			assertThat(dto.hintCount()).isEqualTo(expected[0]);
+			assertThat(dto.hintSum()).isEqualTo(expected[1]);
+			assertThat(dto.satisfactionCount()).isEqualTo(expected[2]);
+			assertThat(dto.satisfactionSum()).isEqualTo(expected[3]);
+		}
+		assertThat(grouped.get(5).diaryCount()).isPositive();
+	}
+
+	private long seed(int diaryCount) {
+		Member member = memberRepository.save(Member.builder()
+			.nickname("벤치마크")
+			.gender(Gender.BLIND)
+			.kakaoId("benchmark")
+			.mannerScore(BigDecimal.valueOf(50))
+			.hostCount(0)
+			.build());
+
+		Store store = storeRepository.save(Store.builder()
+			.name("매장")
+			.status(Store.Status.OPENED)
+			.build());
+
+		List<Long> themeIds = new ArrayList<>();
+		for (int i = 0; i < DIFFICULTIES.length * 2; i++) {
+			themeIds.add(themeRepository.save(Theme.builder()
+				.name("테마 " + i)
+				.officialDifficulty(DIFFICULTIES[i % DIFFICULTIES.length])
+				.runtime(60)
+				.status(Theme.Status.OPENED)
+				.themeTags(Collections.emptyList())
+				.store(store)
+				.build()).getId());
+		}
+		em.flush();
+
+		List<Object[]> diaries = new ArrayList<>();
+		List<Object[]> stats = new ArrayList<>();
+		for (long id = 1; id <= diaryCount; id++) {
+			Long themeId = themeIds.get((int)(id % themeIds.size()));
+			diaries.add(new Object[] {id, themeId, member.getId()});
+			stats.add(new Object[] {
+				id, themeId, member.getId(),
+				(int)(id % 6), (int)(id % 5) + 1, (int)(id % 4) + 1, (int)(id % 6),
+				id % 7 == 0 ? null : (int)(id % 4),
+				id % 3 != 0,
+				(int)(id % 4) * 900,
+				Date.valueOf(LocalDate.of(2025, 1, 1).plusDays(id % 365))
+			});
+		}
+
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO diary (id, theme_id, author_id) VALUES (?, ?, ?)", diaries);
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO diary_stat (diary_id, theme_id, author_id, difficulty, fear, activity, satisfaction,"
+				+ " production, story, question, interior, hint_count, escape_result, elapsed_time, escape_date)"
+				+ " VALUES (?, ?, ?, ?, ?, ?, ?, 3, 3, 3, 3, ?, ?, ?, ?)", stats);
+
+		return member.getId();
+	}
+
+	// 기존 구현 - 레벨마다 힌트, 만족도 쿼리를 각각 실행 (레벨 -> {힌트 일지 수, 힌트 합, 만족도 일지 수, 만족도 합})
+	private Map<Integer, long[]> legacyDifficultyStats(long authorId) {
+		Map<Integer, long[]> result = new LinkedHashMap<>();
+
+		for (int level = 1; level <= 5; level++) {
+			Tuple hints = queryFactory
+				.select(
+					diaryStat.id.countDistinct(),
+					Expressions.numberTemplate(Integer.class,
+						"coalesce(sum(case when {0} is not null then {0} else 0 end), 0)", diaryStat.hintCount)
+				)
+				.from(diaryStat)
+				.join(diaryStat.theme, theme)
+				.leftJoin(themeStat).on(themeStat.theme.eq(theme))
+				.where(diaryStat.author.id.eq(authorId), legacyDifficultyRange(level), diaryStat.hintCount.isNotNull())
+				.fetchOne();
+
+			Tuple satisfaction = queryFactory
+				.select(
+					diaryStat.id.countDistinct(),
+					Expressions.numberTemplate(Integer.class,
+						"coalesce(sum(case when {0} > 0 then {0} else 0 end), 0)", diaryStat.satisfaction)
+				)
+				.from(diaryStat)
+				.join(diaryStat.theme, theme)
+				.leftJoin(themeStat).on(themeStat.theme.eq(theme))
+				.where(diaryStat.author.id.eq(authorId), legacyDifficultyRange(level), diaryStat.satisfaction.gt(0))
+				.fetchOne();
+
+			result.put(level, new long[] {
+				toLong(hints.get(0, Object.class)), toLong(hints.get(1, Object.class)),
+				toLong(satisfaction.get(0, Object.class)), toLong(satisfaction.get(1, Object.class))
+			});
+		}
+
+		return result;
+	}
+
+	private BooleanExpression legacyDifficultyRange(int level) {
+		NumberExpression<Float> difficulty = themeStat.difficulty.coalesce(theme.officialDifficulty);
+		BooleanExpression validDifficulty = difficulty.isNotNull().and(difficulty.ne(0.0f));
+
+		double min = level;
+		double max = (level == 5) ? 5.0 : level + 1.0;
+
+		return validDifficulty.and(difficulty.goe((float)min).and(difficulty.lt((float)max)));
+	}
+
+	private long toLong(Object value) {
+		return value == null ? 0 : ((Number)value).longValue();
+	}
+}
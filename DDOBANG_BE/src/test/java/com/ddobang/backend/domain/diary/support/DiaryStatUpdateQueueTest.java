@@ -0,0 +1,92 @@
+package com.ddobang.backend.domain.diary.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
+import com.ddobang.backend.domain.diary.event.DiaryStatChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+public class DiaryStatUpdateQueueTest {
+	@Mock
+	private DiaryStatUpdateProcessor diaryStatUpdateProcessor;
+
+	@InjectMocks
+	private DiaryStatUpdateQueue diaryStatUpdateQueue;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(diaryStatUpdateQueue, "poolSize", 1);
+		ReflectionTestUtils.setField(diaryStatUpdateQueue, "coalesceDelayMs", 100L);
+		diaryStatUpdateQueue.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		diaryStatUpdateQueue.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 테마, 사용자의 연속된 변경은 한 번의 반영으로 묶어서 처리")
+	@SuppressWarnings("unchecked")
+	void t1() {
+		// given
+		DiaryStatSnapshot first = snapshot(1L, 3);
+		DiaryStatSnapshot second = snapshot(1L, 4);
+
+		// when
+		diaryStatUpdateQueue.enqueue(new DiaryStatChangedEvent(1L, null, first));
+		diaryStatUpdateQueue.enqueue(new DiaryStatChangedEvent(1L, first, second));
+		diaryStatUpdateQueue.enqueue(new DiaryStatChangedEvent(1L, second, null));
+
+		// then
+		await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> {
+			verify(diaryStatUpdateProcessor, times(1)).applyThemeDeltas(anyList());
+			verify(diaryStatUpdateProcessor, times(1)).applyMemberDeltas(eq(1L), anyList());
+		});
+
+		ArgumentCaptor<List<DiaryStatChangedEvent>> captor = ArgumentCaptor.forClass(List.class);
+		verify(diaryStatUpdateProcessor).applyThemeDeltas(captor.capture());
+		assertThat(captor.getValue()).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("테마가 바뀐 경우 이전 테마 제거, 새 테마 추가로 나누고 반영 실패 시 전체 재계산")
+	void t2() {
+		// given
+		DiaryStatSnapshot before = snapshot(1L, 3);
+		DiaryStatSnapshot after = snapshot(2L, 3);
+		doThrow(new IllegalStateException("lock timeout"))
+			.when(diaryStatUpdateProcessor).applyThemeDeltas(argThat(events -> events.get(0).after() == null));
+
+		// when
+		diaryStatUpdateQueue.enqueue(new DiaryStatChangedEvent(1L, before, after));
+
+		// then
+		await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> {
+			verify(diaryStatUpdateProcessor, times(2)).applyThemeDeltas(anyList());
+			verify(diaryStatUpdateProcessor).recomputeTheme(1L);
+			verify(diaryStatUpdateProcessor, never()).recomputeTheme(2L);
+		});
+	}
+
+	private DiaryStatSnapshot snapshot(Long themeId, int satisfaction) {
+		return new DiaryStatSnapshot(themeId, 1L, 3, 3, 3, satisfaction, 3, 3, 3, 3, 50, 1, true, 3000, null, 0, List.of());
+	}
+}
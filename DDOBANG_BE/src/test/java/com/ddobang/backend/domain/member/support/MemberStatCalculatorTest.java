@@ -4,25 +4,34 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
 import com.ddobang.backend.domain.diary.entity.DiaryStat;
 import com.ddobang.backend.domain.diary.repository.DiaryStatRepository;
+import com.ddobang.backend.domain.member.dto.stat.DifficultyLevelStatDto;
 import com.ddobang.backend.domain.member.entity.Member;
 import com.ddobang.backend.domain.member.entity.MemberStat;
+import com.ddobang.backend.domain.member.entity.MemberStatBucket;
+import com.ddobang.backend.domain.member.repository.MemberStatBucketRepository;
 import com.ddobang.backend.domain.member.repository.MemberStatRepository;
+import com.ddobang.backend.domain.member.types.MemberStatBucketType;
 import com.ddobang.backend.domain.theme.entity.Theme;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +42,12 @@ public class MemberStatCalculatorTest {
 	@Mock
 	private MemberStatRepository memberStatRepository;
 
+	@Mock
+	private MemberStatBucketRepository memberStatBucketRepository;
+
+	@Captor
+	private ArgumentCaptor<List<MemberStatBucket>> bucketCaptor;
+
 	@InjectMocks
 	private MemberStatCalculator memberStatCalculator;
 
@@ -105,7 +120,7 @@ public class MemberStatCalculatorTest {
 		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(diaryStats);
 
 		// when
-		memberStatCalculator.updateMemberStatWithRetry(member);
+		memberStatCalculator.updateMemberStat(member);
 
 		// then
 		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
@@ -131,7 +146,7 @@ public class MemberStatCalculatorTest {
 		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(diaryStats);
 
 		// when
-		memberStatCalculator.updateMemberStatWithRetry(member);
+		memberStatCalculator.updateMemberStat(member);
 
 		// then
 		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
@@ -153,7 +168,7 @@ public class MemberStatCalculatorTest {
 		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(diaryStats);
 
 		// when
-		memberStatCalculator.updateMemberStatWithRetry(member);
+		memberStatCalculator.updateMemberStat(member);
 
 		// then
 		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
@@ -171,4 +186,242 @@ public class MemberStatCalculatorTest {
 		assertThat(saved.getEscapeScheduleStat().getLastMonthTopTheme()).isEqualTo(null);
 		assertThat(saved.getEscapeScheduleStat().getLastMonthTopSatisfaction()).isEqualTo(0);
 	}
+
+	@Test
+	@DisplayName("사용자 분석 증분 반영 테스트 - 일지 작성 시 전체 일지를 다시 읽지 않고 누적값에 반영")
+	void t4() {
+		// given
+		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(diaryStats);
+		memberStatCalculator.updateMemberStat(member);
+
+		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
+		verify(memberStatRepository).save(captor.capture());
+		verify(memberStatBucketRepository).saveAll(bucketCaptor.capture());
+		MemberStat saved = captor.getValue();
+
+		when(memberStatRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(saved));
+		when(memberStatBucketRepository.findByMemberId(1L)).thenReturn(bucketCaptor.getValue());
+
+		DiaryStatSnapshot added = new DiaryStatSnapshot(
+			4L, 1L, 3, 3, 3, 5, 3, 3, 3, 3, 50, 2, true, 3000, LocalDate.of(2025, 1, 10), 3, List.of("공포")
+		);
+
+		// when
+		memberStatCalculator.applyDiaryDelta(member, null, added);
+
+		// then
+		verify(diaryStatRepository, times(1)).findByAuthorId(1L);
+		verify(memberStatRepository, times(1)).save(any());
+
+		assertThat(saved.getEscapeSummaryStat().getTotalCount()).isEqualTo(4);
+		assertThat(saved.getEscapeSummaryStat().getSuccessRate()).isEqualTo(75.0);
+		assertThat(saved.getEscapeSummaryStat().getNoHintSuccessCount()).isEqualTo(1);
+		assertThat(saved.getEscapeSummaryStat().getAverageHintCount()).isEqualTo(0.8);
+		assertThat(saved.getEscapeSummaryStat().getFirstEscapeDate()).isEqualTo("2025-01-10");
+		assertThat(saved.getEscapeSummaryStat().getMostActiveMonth()).isEqualTo("2025년 3월");
+		assertThat(saved.getEscapeProfileStat().getTendencyActive()).isEqualTo(3.4);
+	}
+
+	@Test
+	@DisplayName("사용자 분석 증분 반영 테스트 - 마지막 일지 삭제 시 분석 데이터 삭제")
+	void t5() {
+		// given
+		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(List.of(diaryStats.get(0)));
+		memberStatCalculator.updateMemberStat(member);
+		DiaryStatSnapshot only = DiaryStatSnapshot.of(diaryStats.get(0));
+
+		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
+		verify(memberStatRepository).save(captor.capture());
+		verify(memberStatBucketRepository).saveAll(bucketCaptor.capture());
+		MemberStat saved = captor.getValue();
+
+		when(memberStatRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(saved));
+		when(memberStatBucketRepository.findByMemberId(1L)).thenReturn(bucketCaptor.getValue());
+
+		// when
+		memberStatCalculator.applyDiaryDelta(member, only, null);
+
+		// then
+		verify(memberStatRepository).delete(saved);
+		verify(memberStatBucketRepository, times(2)).deleteByMemberId(1L);
+	}
+
+	@Test
+	@DisplayName("사용자 분석 월별 갱신 테스트 - chunk 단위로 지난달 일지를 한 번에 조회하여 반영")
+	void t6() {
+		// given
+		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(diaryStats);
+		memberStatCalculator.updateMemberStat(member);
+
+		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
+		verify(memberStatRepository).save(captor.capture());
+		MemberStat saved = captor.getValue();
+		ReflectionTestUtils.setField(saved, "id", 1L);
+
+		Theme topTheme = Theme.builder().name("지난달 최고 테마").build();
+		ReflectionTestUtils.setField(topTheme, "id", 4L);
+		LocalDate lastMonthDate = YearMonth.now().minusMonths(1).atDay(10);
+
+		List<DiaryStat> lastMonthStats = List.of(
+			DiaryStat.builder().theme(theme1).author(member).satisfaction(3).escapeDate(lastMonthDate).build(),
+			DiaryStat.builder().theme(topTheme).author(member).satisfaction(5).escapeDate(lastMonthDate).build()
+		);
+
+		when(memberStatRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(saved));
+		when(memberStatBucketRepository.findByMemberIdInAndBucketType(List.of(1L), MemberStatBucketType.MONTH))
+			.thenReturn(List.of());
+		when(diaryStatRepository.findByAuthorIdsAndEscapeDateBetween(any(), any(), any())).thenReturn(lastMonthStats);
+
+		// when
+		int processedCount = memberStatCalculator.updateMonthlyScheduleStats(List.of(1L));
+
+		// then
+		assertThat(processedCount).isEqualTo(1);
+		verify(diaryStatRepository, times(1)).findByAuthorId(1L);
+		assertThat(saved.getEscapeScheduleStat().getLastMonthTopTheme()).isEqualTo("지난달 최고 테마");
+		assertThat(saved.getEscapeScheduleStat().getLastMonthTopSatisfaction()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("사용자 분석 증분 반영 테스트 - 일지 삭제 시 현재 테마가 아닌 작성 시 기록한 장르/난이도 구간에서 제거")
+	void t7() {
+		// given
+		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(List.of(diaryStats.get(2)));
+		memberStatCalculator.updateMemberStat(member);
+
+		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
+		verify(memberStatRepository).save(captor.capture());
+		MemberStat saved = captor.getValue();
+
+		List<MemberStatBucket> storedBuckets = new ArrayList<>();
+		when(memberStatRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(saved));
+		when(memberStatBucketRepository.findByMemberId(1L)).thenReturn(storedBuckets);
+
+		DiaryStatSnapshot written = new DiaryStatSnapshot(
+			4L, 1L, 3, 3, 3, 5, 3, 3, 3, 3, 50, 2, true, 3000, null, 3, List.of("공포")
+		);
+		memberStatCalculator.applyDiaryDelta(member, null, written);
+		verify(memberStatBucketRepository, times(2)).saveAll(bucketCaptor.capture());
+		storedBuckets.addAll(bucketCaptor.getValue());
+		clearInvocations(diaryStatRepository);
+
+		// when
+		memberStatCalculator.applyDiaryDelta(member, written, null);
+
+		// then
+		verify(diaryStatRepository, never()).findDifficultyLevelsByThemeIds(any());
+		verify(diaryStatRepository, never()).findTagNamesByThemeIds(any());
+		verify(diaryStatRepository, never()).findByAuthorId(any());
+
+		assertThat(storedBuckets)
+			.extracting(MemberStatBucket::getBucketType, MemberStatBucket::getBucketKey, MemberStatBucket::getDiaryCount)
+			.containsExactlyInAnyOrder(
+				tuple(MemberStatBucketType.GENRE, "공포", 0L),
+				tuple(MemberStatBucketType.DIFFICULTY, "3", 0L)
+			);
+		assertThat(saved.getEscapeSummaryStat().getTotalCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("사용자 분석 증분 반영 테스트 - 누적값에 없는 구간에서 제거하려는 경우 값을 자르지 않고 전체 재계산")
+	void t8() {
+		// given
+		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(diaryStats);
+		memberStatCalculator.updateMemberStat(member);
+
+		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
+		verify(memberStatRepository).save(captor.capture());
+		verify(memberStatBucketRepository).saveAll(bucketCaptor.capture());
+		MemberStat saved = captor.getValue();
+
+		when(memberStatRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(saved));
+		when(memberStatBucketRepository.findByMemberId(1L)).thenReturn(bucketCaptor.getValue());
+
+		DiaryStatSnapshot unknown = new DiaryStatSnapshot(
+			9L, 1L, 3, 3, 3, 5, 3, 3, 3, 3, 50, 2, true, 3000, null, 2, List.of("없는 장르")
+		);
+
+		// when
+		memberStatCalculator.applyDiaryDelta(member, unknown, null);
+
+		// then
+		verify(diaryStatRepository, times(2)).findByAuthorId(1L);
+		assertThat(bucketCaptor.getValue()).allSatisfy(bucket -> assertThat(bucket.getDiaryCount()).isPositive());
+		assertThat(saved.getEscapeSummaryStat().getTotalCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("사용자 분석 검증 테스트 - 누적값이 일지와 같으면 유지, 반영되지 않은 일지가 있으면 전체 재계산")
+	void t9() {
+		// given
+		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(diaryStats);
+		memberStatCalculator.updateMemberStat(member);
+
+		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
+		verify(memberStatRepository).save(captor.capture());
+		verify(memberStatBucketRepository).saveAll(bucketCaptor.capture());
+		MemberStat saved = captor.getValue();
+		ReflectionTestUtils.setField(saved, "id", 1L);
+		diaryStats.forEach(stat -> ReflectionTestUtils.setField(stat, "author", member));
+
+		when(memberStatRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(saved));
+		when(memberStatBucketRepository.findByMemberIdIn(List.of(1L))).thenReturn(bucketCaptor.getValue());
+		when(diaryStatRepository.findByAuthorIdIn(List.of(1L))).thenReturn(diaryStats);
+
+		// when
+		int consistent = memberStatCalculator.reconcile(List.of(1L));
+
+		DiaryStat lost = DiaryStat.builder().theme(theme1).author(member).satisfaction(4).escapeResult(true).build();
+		lost.assignStatBuckets(0, List.of());
+		List<DiaryStat> withLost = new ArrayList<>(diaryStats);
+		withLost.add(lost);
+		when(diaryStatRepository.findByAuthorIdIn(List.of(1L))).thenReturn(withLost);
+		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(withLost);
+		when(memberStatRepository.findById(1L)).thenReturn(Optional.of(saved));
+
+		int repaired = memberStatCalculator.reconcile(List.of(1L));
+
+		// then
+		assertThat(consistent).isZero();
+		assertThat(repaired).isEqualTo(1);
+		assertThat(saved.getEscapeSummaryStat().getTotalCount()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("사용자 분석 검증 테스트 - 테마 난이도 레벨이 바뀌어도 일지에 기록한 난이도 구간으로 검증")
+	void t10() {
+		// given - 작성 시 난이도 레벨 3 으로 기록, 현재 테마 난이도 레벨은 5
+		DiaryStat recorded = diaryStats.get(0);
+		recorded.assignStatBuckets(3, List.of());
+		ReflectionTestUtils.setField(recorded, "author", member);
+
+		when(diaryStatRepository.findByAuthorId(1L)).thenReturn(List.of(recorded));
+		when(diaryStatRepository.findDifficultyLevelsByThemeIds(any())).thenReturn(Map.of(1L, 5));
+		when(diaryStatRepository.difficultyStatsByMember(1L))
+			.thenReturn(Map.of(3, new DifficultyLevelStatDto(3, 1, 0, 0, 1, 0, 0, 3600, 1)));
+		memberStatCalculator.updateMemberStat(member);
+
+		ArgumentCaptor<MemberStat> captor = ArgumentCaptor.forClass(MemberStat.class);
+		verify(memberStatRepository).save(captor.capture());
+		verify(memberStatBucketRepository).saveAll(bucketCaptor.capture());
+		MemberStat saved = captor.getValue();
+		ReflectionTestUtils.setField(saved, "id", 1L);
+
+		when(memberStatRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(saved));
+		when(memberStatBucketRepository.findByMemberIdIn(List.of(1L))).thenReturn(bucketCaptor.getValue());
+		when(diaryStatRepository.findByAuthorIdIn(List.of(1L))).thenReturn(List.of(recorded));
+		clearInvocations(diaryStatRepository);
+
+		// when
+		int repaired = memberStatCalculator.reconcile(List.of(1L));
+
+		// then
+		assertThat(repaired).isZero();
+		verify(diaryStatRepository, never()).findDifficultyLevelsByThemeIds(any());
+		verify(diaryStatRepository, never()).difficultyStatsByMember(anyLong());
+		assertThat(bucketCaptor.getValue())
+			.filteredOn(bucket -> bucket.getBucketType() == MemberStatBucketType.DIFFICULTY)
+			.extracting(MemberStatBucket::getBucketKey)
+			.containsExactly("3");
+	}
 }
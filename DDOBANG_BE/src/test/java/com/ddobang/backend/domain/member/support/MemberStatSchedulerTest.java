@@ -0,0 +1,89 @@
+package com.ddobang.backend.domain.member.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ddobang.backend.domain.member.entity.MemberStatJobProgress;
+import com.ddobang.backend.domain.member.repository.MemberStatJobProgressRepository;
+import com.ddobang.backend.domain.member.repository.MemberStatRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberStatSchedulerTest {
+	@Mock
+	private MemberStatRepository memberStatRepository;
+
+	@Mock
+	private MemberStatCalculator memberStatCalculator;
+
+	@Mock
+	private MemberStatJobProgressRepository memberStatJobProgressRepository;
+
+	@InjectMocks
+	private MemberStatScheduler memberStatScheduler;
+
+	// 저장된 진행 위치 (작업 키별)
+	private final Map<String, MemberStatJobProgress> saved = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(memberStatScheduler, "chunkSize", 2);
+		ReflectionTestUtils.setField(memberStatScheduler, "parallelism", 1);
+
+		when(memberStatJobProgressRepository.findById(anyString()))
+			.thenAnswer(invocation -> Optional.ofNullable(saved.get(invocation.<String>getArgument(0))));
+		when(memberStatJobProgressRepository.save(any())).thenAnswer(invocation -> {
+			MemberStatJobProgress progress = invocation.getArgument(0);
+			saved.put(progress.getJobKey(), progress);
+			return progress;
+		});
+		when(memberStatRepository.findIdsAfter(anyLong(), any())).thenAnswer(invocation -> {
+			long lastId = invocation.getArgument(0);
+			return lastId == 0 ? List.of(1L, 2L) : lastId == 2 ? List.of(3L, 4L) : List.of();
+		});
+	}
+
+	@Test
+	@DisplayName("월별 작업 - 실패한 chunk 이후로 진행 위치를 옮기지 않고 미완료로 남겨 재시도 시 실패한 chunk 부터 처리")
+	void t1() {
+		// given
+		when(memberStatCalculator.updateMonthlyScheduleStats(List.of(1L, 2L)))
+			.thenThrow(new IllegalStateException("lock timeout"))
+			.thenReturn(2);
+		when(memberStatCalculator.updateMonthlyScheduleStats(List.of(3L, 4L))).thenReturn(2);
+
+		// when
+		memberStatScheduler.updateMonthlyMemberStat();
+		MemberStatJobProgress afterFailure = saved.values().iterator().next();
+		boolean completedAfterFailure = afterFailure.isCompleted();
+		long lastIdAfterFailure = afterFailure.getLastMemberId();
+
+		memberStatScheduler.resumeMonthlyMemberStat();
+		memberStatScheduler.resumeMonthlyMemberStat();
+
+		// then
+		assertThat(completedAfterFailure).isFalse();
+		assertThat(lastIdAfterFailure).isZero();
+
+		MemberStatJobProgress progress = saved.values().iterator().next();
+		assertThat(progress.isCompleted()).isTrue();
+		assertThat(progress.getLastMemberId()).isEqualTo(4L);
+		assertThat(progress.getFailedCount()).isEqualTo(2);
+		verify(memberStatCalculator, times(2)).updateMonthlyScheduleStats(List.of(1L, 2L));
+		verify(memberStatCalculator, times(2)).updateMonthlyScheduleStats(List.of(3L, 4L));
+	}
+}
@@ -0,0 +1,180 @@
+package com.ddobang.backend.domain.message.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.member.entity.Gender;
+import com.ddobang.backend.domain.member.entity.Member;
+import com.ddobang.backend.domain.member.repository.MemberRepository;
+import com.ddobang.backend.domain.message.dto.MessageDto;
+import com.ddobang.backend.domain.message.entity.Message;
+import com.ddobang.backend.global.config.QuerydslConfig;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * MessageInboxBenchmarkTest
+ * 받은 쪽지함 페이지 조회 - 엔티티 조회 후 변환과 (createdAt, id) 커서 DTO 조회의 페이지당 쿼리 수, 소요 시간 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+public class MessageInboxBenchmarkTest {
+	private static final int SENDER_COUNT = 50;
+	private static final int PAGE_SIZE = 20;
+	private static final int PAGES = 10;
+
+	@Autowired
+	private MessageRepository messageRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@ParameterizedTest(name = "쪽지 {0}개")
+	@ValueSource(ints = {1_000, 10_000})
+	@DisplayName("받은 쪽지함 - 엔티티 조회 대비 커서 DTO 조회의 페이지당 쿼리 수, 소요 시간")
+	void t1(int messageCount) {
+		Member receiver = seed(messageCount);
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		// 워밍업
+		legacyPages(receiver);
+		cursorPages(receiver);
+
+		statistics.clear();
+		long legacyStart = System.nanoTime();
+		List<Long> legacy = legacyPages(receiver);
+		double legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000.0 / PAGES;
+		double legacyQueries = (double)statistics.getPrepareStatementCount() / PAGES;
+
+		statistics.clear();
+		long cursorStart = System.nanoTime();
+		List<Long> cursor = cursorPages(receiver);
+		double cursorMillis = (System.nanoTime() - cursorStart) / 1_000_000.0 / PAGES;
+		double cursorQueries = (double)statistics.getPrepareStatementCount() / PAGES;
+
+		System.out.printf("[message inbox] messages=%d per page legacy: %.1f queries %.2f ms / cursor: %.1f queries %.2f ms%n",
+			messageCount, legacyQueries, legacyMillis, cursorQueries, cursorMillis);
+
+		// 커서 방식은 최신 쪽지부터 빠짐없이 조회, 기존 방식은 같은 시각에 보낸 쪽지를 페이지 경계에서 건너뜀
+		List<Long> expected = LongStream.iterate(messageCount, id -> id - 1).limit(PAGE_SIZE * PAGES).boxed().toList();
+		assertThat(cursorQueries).isEqualTo(1.0);
+		assertThat(cursor).containsExactlyElementsOf(expected);
+		assertThat(legacy).isNotEqualTo(expected);
+	}
+
+	// 기존 구현 - 엔티티 조회 후 MessageDto 변환 (보낸 사람, 받는 사람 Member 를 추가 조회), createdAt 만 커서로 사용
+	private List<Long> legacyPages(Member receiver) {
+		em.clear();
+		List<Long> ids = new ArrayList<>();
+		LocalDateTime cursorTime = null;
+
+		for (int page = 0; page < PAGES; page++) {
+			TypedQuery<Message> query = em.createQuery(
+					"SELECT m FROM Message m WHERE m.receiver.id = :receiverId"
+						+ (cursorTime == null ? "" : " AND m.createdAt < :cursorTime")
+						+ " ORDER BY m.createdAt DESC", Message.class)
+				.setParameter("receiverId", receiver.getId())
+				.setMaxResults(PAGE_SIZE + 1);
+			if (cursorTime != null) {
+				query.setParameter("cursorTime", cursorTime);
+			}
+			List<Message> messages = query.getResultList();
+
+			List<MessageDto> dtos = messages.stream().limit(PAGE_SIZE).map(MessageDto::fromEntity).toList();
+			if (dtos.isEmpty()) {
+				break;
+			}
+			dtos.forEach(dto -> ids.add(dto.getId()));
+			cursorTime = dtos.get(dtos.size() - 1).getCreatedAt();
+			em.clear();
+		}
+
+		return ids;
+	}
+
+	private List<Long> cursorPages(Member receiver) {
+		em.clear();
+		List<Long> ids = new ArrayList<>();
+		MessageView last = null;
+
+		for (int page = 0; page < PAGES; page++) {
+			List<MessageView> messages = last == null
+				? messageRepository.findFirstReceivedMessages(receiver.getId(), PAGE_SIZE + 1)
+				: messageRepository.findReceivedMessagesBeforeCursor(
+				receiver.getId(), last.getCreatedAt(), last.getId(), PAGE_SIZE + 1);
+
+			List<MessageDto> dtos = messages.stream()
+				.limit(PAGE_SIZE)
+				.map(message -> MessageDto.ofReceived(message, receiver))
+				.toList();
+			if (dtos.isEmpty()) {
+				break;
+			}
+			dtos.forEach(dto -> ids.add(dto.getId()));
+			last = messages.get(dtos.size() - 1);
+		}
+
+		return ids;
+	}
+
+	private Member seed(int messageCount) {
+		Member receiver = memberRepository.save(member("받는사람"));
+		List<Long> senderIds = new ArrayList<>();
+		for (int i = 0; i < SENDER_COUNT; i++) {
+			senderIds.add(memberRepository.save(member("보낸사람 " + i)).getId());
+		}
+		em.flush();
+
+		// 3개씩 같은 시각에 보낸 것으로 저장 (페이지 경계에서 같은 시각의 쪽지가 나뉘도록)
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+		List<Object[]> messages = new ArrayList<>();
+		for (long id = 1; id <= messageCount; id++) {
+			Timestamp sentAt = Timestamp.valueOf(base.plusSeconds(id / 3));
+			messages.add(new Object[] {
+				id, senderIds.get((int)(id % SENDER_COUNT)), receiver.getId(), "쪽지 " + id, id % 2 == 0, sentAt, sentAt
+			});
+		}
+
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO messages (id, sender_id, receiver_id, content, is_read, created_at, modified_at)"
+				+ " VALUES (?, ?, ?, ?, ?, ?, ?)", messages);
+
+		return receiver;
+	}
+
+	private Member member(String nickname) {
+		return Member.builder()
+			.nickname(nickname)
+			.gender(Gender.BLIND)
+			.mannerScore(BigDecimal.valueOf(50))
+			.hostCount(0)
+			.build();
+	}
+}
@@ -0,0 +1,100 @@
+package com.ddobang.backend.domain.message.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.member.entity.Gender;
+import com.ddobang.backend.domain.member.entity.Member;
+import com.ddobang.backend.domain.member.repository.MemberRepository;
+import com.ddobang.backend.global.config.QuerydslConfig;
+
+/**
+ * MessageRepositoryTest
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+public class MessageRepositoryTest {
+	private static final LocalDateTime SENT_AT = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+	@Autowired
+	private MessageRepository messageRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("findReceivedMessagesBeforeCursor - 보낸 시각이 같은 쪽지도 (createdAt, id) 커서로 빠짐없이 이어서 조회")
+	void t1() {
+		// given
+		Member sender = memberRepository.save(member("보낸사람"));
+		Member receiver = memberRepository.save(member("받는사람"));
+		for (long id = 1; id <= 5; id++) {
+			insertMessage(id, sender.getId(), receiver.getId());
+		}
+
+		// when
+		List<MessageView> first = messageRepository.findFirstReceivedMessages(receiver.getId(), 2);
+		MessageView cursor = first.get(first.size() - 1);
+		List<MessageView> second = messageRepository.findReceivedMessagesBeforeCursor(
+			receiver.getId(), cursor.getCreatedAt(), cursor.getId(), 2);
+		cursor = second.get(second.size() - 1);
+		List<MessageView> third = messageRepository.findReceivedMessagesBeforeCursor(
+			receiver.getId(), cursor.getCreatedAt(), cursor.getId(), 2);
+
+		// then
+		assertThat(first).extracting(MessageView::getId).containsExactly(5L, 4L);
+		assertThat(second).extracting(MessageView::getId).containsExactly(3L, 2L);
+		assertThat(third).extracting(MessageView::getId).containsExactly(1L);
+		assertThat(first).allSatisfy(message -> {
+			assertThat(message.getCounterpartId()).isEqualTo(sender.getId());
+			assertThat(message.getCounterpartNickname()).isEqualTo("보낸사람");
+			assertThat(message.getIsRead()).isFalse();
+		});
+	}
+
+	@Test
+	@DisplayName("findSentMessagesBeforeCursor - 커서 id 가 없으면(0) 커서 시각 이전 쪽지만 조회")
+	void t2() {
+		// given
+		Member sender = memberRepository.save(member("보낸사람"));
+		Member receiver = memberRepository.save(member("받는사람"));
+		insertMessage(1L, sender.getId(), receiver.getId());
+		insertMessage(2L, sender.getId(), receiver.getId());
+
+		// when
+		List<MessageView> messages = messageRepository.findSentMessagesBeforeCursor(sender.getId(), SENT_AT, 0L, 10);
+
+		// then
+		assertThat(messages).isEmpty();
+	}
+
+	private void insertMessage(long id, Long senderId, Long receiverId) {
+		jdbcTemplate.update(
+			"INSERT INTO messages (id, sender_id, receiver_id, content, is_read, created_at, modified_at)"
+				+ " VALUES (?, ?, ?, ?, false, ?, ?)",
+			id, senderId, receiverId, "쪽지 " + id, Timestamp.valueOf(SENT_AT), Timestamp.valueOf(SENT_AT));
+	}
+
+	private Member member(String nickname) {
+		return Member.builder()
+			.nickname(nickname)
+			.gender(Gender.BLIND)
+			.mannerScore(BigDecimal.valueOf(50))
+			.hostCount(0)
+			.build();
+	}
+}
@@ -0,0 +1,93 @@
+package com.ddobang.backend.domain.message.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.member.entity.Gender;
+import com.ddobang.backend.domain.member.entity.Member;
+import com.ddobang.backend.domain.member.repository.MemberRepository;
+import com.ddobang.backend.global.config.QuerydslConfig;
+
+/**
+ * MessageThreadRepositoryTest
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+public class MessageThreadRepositoryTest {
+	private static final LocalDateTime SENT_AT = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+	@Autowired
+	private MessageThreadRepository messageThreadRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("rebuildForOwners - 기존 쪽지로 대화 요약을 만들고, 새 쪽지만 반영된 대화는 읽지 않은 쪽지 수를 다시 집계")
+	void t1() {
+		// given
+		Long alice = memberRepository.save(member("앨리스")).getId();
+		Long bob = memberRepository.save(member("밥")).getId();
+		Long carol = memberRepository.save(member("캐롤")).getId();
+		insertMessage(1L, alice, bob, false);
+		insertMessage(2L, bob, alice, true);
+		insertMessage(3L, alice, bob, false);
+		insertMessage(4L, carol, alice, false);
+		insertMessage(5L, alice, bob, false);
+		// 대화 목록 도입 이후 쪽지 5 만 반영된 상태
+		jdbcTemplate.update("INSERT INTO message_thread (owner_id, counterpart_id, last_message_id,"
+				+ " last_message_content, last_message_sender_id, last_activity_at, unread_count)"
+				+ " VALUES (?, ?, 5, '쪽지 5', ?, ?, 1)",
+			bob, alice, alice, Timestamp.valueOf(SENT_AT.plusMinutes(5)));
+
+		// when
+		int rebuiltCount = messageThreadRepository.rebuildForOwners(List.of(alice, bob, carol));
+		int rerunCount = messageThreadRepository.rebuildForOwners(List.of(alice, bob, carol));
+
+		// then
+		assertThat(rebuiltCount).isEqualTo(4);
+		assertThat(rerunCount).isEqualTo(4);
+		assertThat(messageThreadRepository.findFirstThreads(alice, 10))
+			.extracting(MessageThreadView::getCounterpartId, MessageThreadView::getLastMessageId,
+				MessageThreadView::getUnreadCount)
+			.containsExactly(tuple(bob, 5L, 0), tuple(carol, 4L, 1));
+		assertThat(messageThreadRepository.findFirstThreads(bob, 10))
+			.extracting(MessageThreadView::getCounterpartId, MessageThreadView::getLastMessageId,
+				MessageThreadView::getLastMessageSenderId, MessageThreadView::getUnreadCount)
+			.containsExactly(tuple(alice, 5L, alice, 3));
+		assertThat(messageThreadRepository.findFirstThreads(carol, 10))
+			.extracting(MessageThreadView::getCounterpartId, MessageThreadView::getUnreadCount)
+			.containsExactly(tuple(alice, 0));
+	}
+
+	private void insertMessage(long id, Long senderId, Long receiverId, boolean isRead) {
+		Timestamp sentAt = Timestamp.valueOf(SENT_AT.plusMinutes(id));
+		jdbcTemplate.update(
+			"INSERT INTO messages (id, sender_id, receiver_id, content, is_read, created_at, modified_at)"
+				+ " VALUES (?, ?, ?, ?, ?, ?, ?)",
+			id, senderId, receiverId, "쪽지 " + id, isRead, sentAt, sentAt);
+	}
+
+	private Member member(String nickname) {
+		return Member.builder()
+			.nickname(nickname)
+			.gender(Gender.BLIND)
+			.mannerScore(BigDecimal.valueOf(50))
+			.hostCount(0)
+			.build();
+	}
+}
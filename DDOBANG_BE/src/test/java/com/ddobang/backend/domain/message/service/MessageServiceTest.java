@@ -0,0 +1,135 @@
+package com.ddobang.backend.domain.message.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.ddobang.backend.domain.member.entity.Gender;
+import com.ddobang.backend.domain.member.entity.Member;
+import com.ddobang.backend.domain.member.repository.MemberRepository;
+import com.ddobang.backend.domain.message.dto.MessageDto;
+import com.ddobang.backend.domain.message.dto.MessageThreadDto;
+import com.ddobang.backend.global.config.JpaAuditingConfig;
+import com.ddobang.backend.global.config.QuerydslConfig;
+import com.ddobang.backend.global.event.EventPublisher;
+import com.ddobang.backend.global.response.SliceDto;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * MessageServiceTest
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, JpaAuditingConfig.class, MessageService.class})
+public class MessageServiceTest {
+
+	@Autowired
+	private MessageService messageService;
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@MockitoBean
+	private EventPublisher eventPublisher;
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@Test
+	@DisplayName("대화 목록 - 쪽지 전송 시 양쪽 대화의 마지막 쪽지와 받는 사람의 읽지 않은 쪽지 수 갱신")
+	void t1() {
+		// given
+		Member alice = memberRepository.save(member("alice"));
+		Member bob = memberRepository.save(member("bob"));
+		Member carol = memberRepository.save(member("carol"));
+
+		// when
+		messageService.sendMessage(alice, bob, "안녕");
+		messageService.sendMessage(alice, bob, "파티 같이 해요");
+		messageService.sendMessage(carol, bob, "반가워요");
+		messageService.sendMessage(bob, alice, "좋아요");
+		em.clear();
+
+		// then
+		SliceDto<MessageThreadDto> bobThreads = messageService.getThreadsWithCursor(bob, null, null, 10);
+		assertThat(bobThreads.content())
+			.extracting(MessageThreadDto::getCounterpartNickname, MessageThreadDto::getLastMessageContent,
+				MessageThreadDto::getUnreadCount)
+			.containsExactly(tuple("alice", "좋아요", 2), tuple("carol", "반가워요", 1));
+
+		SliceDto<MessageThreadDto> aliceThreads = messageService.getThreadsWithCursor(alice, null, null, 10);
+		assertThat(aliceThreads.content()).singleElement().satisfies(thread -> {
+			assertThat(thread.getCounterpartId()).isEqualTo(bob.getId());
+			assertThat(thread.getLastMessageSenderId()).isEqualTo(bob.getId());
+			assertThat(thread.getUnreadCount()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	@DisplayName("대화 목록 - 읽음 처리, 읽지 않은 쪽지 삭제 시 읽지 않은 쪽지 수 감소 (이미 읽은 쪽지는 변화 없음)")
+	void t2() {
+		// given
+		Member alice = memberRepository.save(member("alice"));
+		Member bob = memberRepository.save(member("bob"));
+		MessageDto first = messageService.sendMessage(alice, bob, "첫 번째");
+		MessageDto second = messageService.sendMessage(alice, bob, "두 번째");
+		messageService.sendMessage(alice, bob, "세 번째");
+		em.clear();
+
+		// when
+		messageService.updateIsRead(first.getId(), bob);
+		messageService.updateIsRead(first.getId(), bob);
+		messageService.deleteMessage(second.getId(), bob);
+		em.flush();
+		em.clear();
+
+		// then
+		SliceDto<MessageThreadDto> bobThreads = messageService.getThreadsWithCursor(bob, null, null, 10);
+		assertThat(bobThreads.content()).singleElement()
+			.extracting(MessageThreadDto::getUnreadCount)
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("대화 목록 - (마지막 대화 시각, id) 커서로 다음 페이지 조회")
+	void t3() {
+		// given
+		Member owner = memberRepository.save(member("owner"));
+		for (int i = 0; i < 3; i++) {
+			messageService.sendMessage(memberRepository.save(member("sender " + i)), owner, "쪽지 " + i);
+		}
+		em.clear();
+
+		// when
+		SliceDto<MessageThreadDto> first = messageService.getThreadsWithCursor(owner, null, null, 2);
+		MessageThreadDto last = first.content().get(first.content().size() - 1);
+		SliceDto<MessageThreadDto> second = messageService.getThreadsWithCursor(
+			owner, last.getLastActivityAt(), last.getId(), 2);
+
+		// then
+		assertThat(first.hasNext()).isTrue();
+		assertThat(first.content()).extracting(MessageThreadDto::getLastMessageContent)
+			.containsExactly("쪽지 2", "쪽지 1");
+		assertThat(second.hasNext()).isFalse();
+		assertThat(second.content()).extracting(MessageThreadDto::getLastMessageContent)
+			.containsExactly("쪽지 0");
+	}
+
+	private Member member(String nickname) {
+		return Member.builder()
+			.nickname(nickname)
+			.gender(Gender.BLIND)
+			.mannerScore(BigDecimal.valueOf(50))
+			.hostCount(0)
+			.build();
+	}
+}
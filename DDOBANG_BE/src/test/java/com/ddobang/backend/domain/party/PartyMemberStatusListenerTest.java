@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,12 +17,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.ddobang.backend.domain.alarm.dto.response.AlarmResponse;
 import com.ddobang.backend.domain.alarm.entity.AlarmType;
+import com.ddobang.backend.domain.alarm.event.AlarmEvent;
 import com.ddobang.backend.domain.alarm.service.AlarmEventService;
 import com.ddobang.backend.domain.alarm.service.AlarmService;
 import com.ddobang.backend.domain.party.event.PartyApplyEvent;
+import com.ddobang.backend.domain.party.event.PartyCancelledEvent;
 import com.ddobang.backend.domain.party.event.PartyMemberStatusUpdatedEvent;
 import com.ddobang.backend.domain.party.listener.PartyMemberStatusListener;
 import com.ddobang.backend.domain.party.types.PartyMemberStatus;
+import com.ddobang.backend.global.outbox.OutboxDelivery;
 
 @ExtendWith(MockitoExtension.class)
 public class PartyMemberStatusListenerTest {
@@ -173,4 +178,65 @@ public class PartyMemberStatusListenerTest {
 		// 예외가 발생했으므로 sendNotification은 호출되지 않아야 함
 		verify(alarmEventService, never()).sendNotification(any(), any());
 	}
+
+	@Test
+	@DisplayName("모임 취소 시 참가 확정 멤버 전원의 알림을 한 번에 저장하고 수신자별로 전송")
+	@SuppressWarnings("unchecked")
+	void handlePartyCancelledEventTest() {
+		// given
+		List<AlarmResponse> createdAlarms = List.of(mockAlarmResponse, mockAlarmResponse);
+		when(alarmService.createAlarms(any())).thenReturn(createdAlarms);
+
+		// when
+		listener.handlePartyCancelledEvent(new PartyCancelledEvent(1L, "방탈출 모임", "모임장", List.of(20L, 30L)));
+
+		// then
+		ArgumentCaptor<List<com.ddobang.backend.domain.alarm.dto.request.AlarmCreateRequest>> captor =
+			ArgumentCaptor.forClass(List.class);
+		verify(alarmService, times(1)).createAlarms(captor.capture());
+
+		assertThat(captor.getValue())
+			.extracting(com.ddobang.backend.domain.alarm.dto.request.AlarmCreateRequest::getReceiverId)
+			.containsExactly(20L, 30L);
+		assertThat(captor.getValue()).allSatisfy(request -> {
+			assertThat(request.getTitle()).contains("취소");
+			assertThat(request.getContent()).contains("방탈출 모임");
+			assertThat(request.getAlarmType()).isEqualTo(AlarmType.PARTY_STATUS);
+			assertThat(request.getRelId()).isEqualTo(1L);
+		});
+
+		verify(alarmEventService, times(1)).sendNotifications(createdAlarms);
+		verify(alarmService, never()).createAlarm(any());
+	}
+
+	@Test
+	@DisplayName("아웃박스로 전달된 승인 이벤트는 아웃박스 키를 eventId 로 저장 후 전송")
+	void handlePartyMemberStatusUpdatedDeliveryTest() {
+		// when
+		listener.handlePartyMemberStatusUpdatedDelivery(new OutboxDelivery<>(acceptEvent, "outbox-3"));
+
+		// then
+		ArgumentCaptor<AlarmEvent> captor = ArgumentCaptor.forClass(AlarmEvent.class);
+		verify(alarmEventService, times(1)).saveAndSend(captor.capture());
+		assertThat(captor.getValue().getEventId()).isEqualTo("outbox-3");
+		assertThat(captor.getValue().getReceiverId()).isEqualTo(20L);
+		assertThat(captor.getValue().getTitle()).isEqualTo("모임 참가 신청이 승인되었습니다");
+	}
+
+	@Test
+	@DisplayName("아웃박스로 전달된 지원하지 않는 상태 변경은 알림을 저장하지 않음")
+	void handlePartyMemberStatusUpdatedDeliveryUnsupportedStatusTest() {
+		// given
+		PartyMemberStatusUpdatedEvent pendingEvent = PartyMemberStatusUpdatedEvent.builder()
+			.partyId(1L)
+			.memberId(20L)
+			.newStatus(PartyMemberStatus.APPLICANT)
+			.build();
+
+		// when
+		listener.handlePartyMemberStatusUpdatedDelivery(new OutboxDelivery<>(pendingEvent, "outbox-4"));
+
+		// then
+		verify(alarmEventService, never()).saveAndSend(any());
+	}
 }
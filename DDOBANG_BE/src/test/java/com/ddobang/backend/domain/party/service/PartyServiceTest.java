@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -36,6 +37,7 @@ import com.ddobang.backend.domain.party.dto.response.PartySummaryResponse;
 import com.ddobang.backend.domain.party.entity.Party;
 import com.ddobang.backend.domain.party.entity.PartyMember;
 import com.ddobang.backend.domain.party.event.PartyApplyEvent;
+import com.ddobang.backend.domain.party.event.PartyCancelledEvent;
 import com.ddobang.backend.domain.party.event.PartyMemberStatusUpdatedEvent;
 import com.ddobang.backend.domain.party.exception.PartyException;
 import com.ddobang.backend.domain.party.repository.PartyMemberRepository;
@@ -247,6 +249,39 @@ class PartyServiceTest {
 
 		// verify
 		verify(partyRepository).findById(partyId);
+		verify(eventPublisher, never()).publish(any(PartyCancelledEvent.class));
+	}
+
+	@Test
+	@DisplayName("파티 삭제 - 참가 확정 멤버에게 모임 취소 알림 이벤트 발행")
+	void softDeletePartyWithAcceptedMembersTest() throws Exception {
+		// given
+		Long partyId = 1L;
+		Field idField = Member.class.getDeclaredField("id");
+		idField.setAccessible(true);
+		idField.set(host, 100L);
+
+		Member accepted = TestDataHelper.createMember("imgUrl", "참가자");
+		idField.set(accepted, 200L);
+		PartyMember acceptedMember = PartyMember.of(party, accepted);
+		acceptedMember.changeStatus(PartyMemberStatus.ACCEPTED);
+		party.addPartyMember(acceptedMember);
+
+		Member applicant = TestDataHelper.createMember("imgUrl", "신청자");
+		idField.set(applicant, 300L);
+		party.addPartyMember(PartyMember.of(party, applicant));
+
+		when(partyRepository.findById(partyId)).thenReturn(Optional.of(party));
+
+		// when
+		partyService.softDeleteParty(partyId, host);
+
+		// then
+		ArgumentCaptor<PartyCancelledEvent> captor = ArgumentCaptor.forClass(PartyCancelledEvent.class);
+		verify(eventPublisher).publish(captor.capture());
+		assertThat(captor.getValue().receiverIds()).containsExactly(200L);
+		assertThat(captor.getValue().partyTitle()).isEqualTo("모임");
+		assertThat(captor.getValue().hostNickname()).isEqualTo("멤버");
 	}
 
 	@Test
@@ -0,0 +1,84 @@
+package com.ddobang.backend.domain.theme.listener;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.ddobang.backend.domain.theme.event.ThemeModifiedEvent;
+import com.ddobang.backend.domain.theme.event.ThemeStatUpdatedEvent;
+
+/**
+ * ThemeCacheListenerTest
+ */
+@SpringJUnitConfig(ThemeCacheListenerTest.Config.class)
+public class ThemeCacheListenerTest {
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private CacheManager cacheManager;
+
+	private Cache themes;
+	private Cache popularThemesByTag;
+
+	@BeforeEach
+	void setUp() {
+		themes = cacheManager.getCache("themes");
+		popularThemesByTag = cacheManager.getCache("popularThemesByTag");
+		themes.clear();
+		popularThemesByTag.clear();
+
+		themes.put("detail-1", "테마 1 상세");
+		themes.put("detail-2", "테마 2 상세");
+		themes.put("all-tags", "태그 목록");
+		popularThemesByTag.put("공포", "인기 공포 테마");
+	}
+
+	@Test
+	@DisplayName("테마 통계 변경 시 해당 테마 상세 캐시만 삭제")
+	void t1() {
+		// when
+		eventPublisher.publishEvent(new ThemeStatUpdatedEvent(1L));
+
+		// then
+		assertThat(themes.get("detail-1")).isNull();
+		assertThat(themes.get("detail-2")).isNotNull();
+		assertThat(themes.get("all-tags")).isNotNull();
+		assertThat(popularThemesByTag.get("공포")).isNotNull();
+	}
+
+	@Test
+	@DisplayName("테마 수정, 삭제 시 해당 테마 상세 캐시와 태그별 인기 테마 캐시 삭제")
+	void t2() {
+		// when
+		eventPublisher.publishEvent(new ThemeModifiedEvent(2L));
+
+		// then
+		assertThat(themes.get("detail-2")).isNull();
+		assertThat(themes.get("detail-1")).isNotNull();
+		assertThat(popularThemesByTag.get("공포")).isNull();
+	}
+
+	@Configuration
+	@EnableCaching
+	@Import(ThemeCacheListener.class)
+	static class Config {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager("themes", "popularThemesByTag", "newestThemesByTag");
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package com.ddobang.backend.domain.theme.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.region.entity.QRegion;
+import com.ddobang.backend.domain.region.entity.Region;
+import com.ddobang.backend.domain.region.repository.RegionRepository;
+import com.ddobang.backend.domain.store.entity.QStore;
+import com.ddobang.backend.domain.store.entity.Store;
+import com.ddobang.backend.domain.store.repository.StoreRepository;
+import com.ddobang.backend.domain.theme.dto.request.ThemeFilterRequest;
+import com.ddobang.backend.domain.theme.entity.QTheme;
+import com.ddobang.backend.domain.theme.entity.QThemeTag;
+import com.ddobang.backend.domain.theme.entity.QThemeTagMapping;
+import com.ddobang.backend.domain.theme.entity.Theme;
+import com.ddobang.backend.domain.theme.entity.ThemeTag;
+import com.ddobang.backend.global.config.QuerydslConfig;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * ThemeListingBenchmarkTest
+ * 테마 목록 조회 - 태그 fetch join 후 메모리 페이징과 id 페이징 후 IN 조회의 쿼리 수, 로딩한 엔티티 수, 소요 시간 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+public class ThemeListingBenchmarkTest {
+	private static final int STORE_COUNT = 100;
+	private static final int TAG_COUNT = 10;
+	private static final int PAGE_SIZE = 12;
+	private static final ThemeFilterRequest NO_FILTER = new ThemeFilterRequest(null, null, null, null);
+
+	@Autowired
+	private ThemeRepository themeRepository;
+	@Autowired
+	private ThemeTagRepository themeTagRepository;
+	@Autowired
+	private StoreRepository storeRepository;
+	@Autowired
+	private RegionRepository regionRepository;
+	@Autowired
+	private JPAQueryFactory queryFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@ParameterizedTest(name = "테마 {0}개")
+	@ValueSource(ints = {10_000, 100_000})
+	@DisplayName("테마 목록 - 메모리 페이징 대비 id 페이징의 쿼리 수, 로딩 엔티티 수, 소요 시간")
+	void t1(int themeCount) {
+		seed(themeCount);
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		int deepPage = themeCount / PAGE_SIZE / 2;
+
+		// 워밍업
+		legacyPage(deepPage);
+		twoPhasePage(deepPage);
+
+		for (int page : new int[] {0, deepPage}) {
+			em.clear();
+			statistics.clear();
+			long legacyStart = System.nanoTime();
+			List<Long> legacy = legacyPage(page);
+			double legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000.0;
+			long legacyQueries = statistics.getPrepareStatementCount();
+			long legacyLoads = statistics.getEntityLoadCount();
+
+			em.clear();
+			statistics.clear();
+			long twoPhaseStart = System.nanoTime();
+			List<Long> twoPhase = twoPhasePage(page);
+			double twoPhaseMillis = (System.nanoTime() - twoPhaseStart) / 1_000_000.0;
+			long twoPhaseQueries = statistics.getPrepareStatementCount();
+			long twoPhaseLoads = statistics.getEntityLoadCount();
+
+			System.out.printf("[theme listing] themes=%d page=%d legacy: %d queries %d entities %.2f ms"
+					+ " / two-phase: %d queries %d entities %.2f ms%n",
+				themeCount, page, legacyQueries, legacyLoads, legacyMillis,
+				twoPhaseQueries, twoPhaseLoads, twoPhaseMillis);
+
+			// 같은 페이지를 조회하면서 id 페이징은 페이지 크기만큼만 엔티티를 로딩
+			assertThat(twoPhase).containsExactlyElementsOf(legacy);
+			assertThat(twoPhaseQueries).isEqualTo(2);
+			assertThat(twoPhaseLoads).isLessThan(legacyLoads);
+		}
+	}
+
+	// 기존 구현 - 태그 컬렉션 fetch join 후 offset, limit (HHH90003004, 전체 결과를 메모리에서 페이징)
+	private List<Long> legacyPage(int page) {
+		QTheme theme = QTheme.theme;
+		QThemeTagMapping mapping = QThemeTagMapping.themeTagMapping;
+
+		List<Theme> themes = queryFactory
+			.selectFrom(theme)
+			.leftJoin(theme.store, QStore.store).fetchJoin()
+			.leftJoin(QStore.store.region, QRegion.region).fetchJoin()
+			.leftJoin(theme.themeTagMappings, mapping).fetchJoin()
+			.leftJoin(mapping.themeTag, QThemeTag.themeTag).fetchJoin()
+			.distinct()
+			.where(theme.status.eq(Theme.Status.OPENED))
+			.orderBy(theme.createdAt.desc(), theme.id.desc())
+			.offset((long)page * PAGE_SIZE)
+			.limit(PAGE_SIZE + 1)
+			.fetch();
+
+		return toIds(themes);
+	}
+
+	private List<Long> twoPhasePage(int page) {
+		return toIds(themeRepository.findThemesByFilter(NO_FILTER, page, PAGE_SIZE));
+	}
+
+	// 응답 변환과 같이 매장 이름, 태그 이름까지 접근
+	private List<Long> toIds(List<Theme> themes) {
+		List<Long> ids = new ArrayList<>();
+		for (Theme theme : themes) {
+			theme.getStore().getName();
+			theme.getThemeTagMappings().forEach(ttm -> ttm.getThemeTag().getName());
+			ids.add(theme.getId());
+		}
+		return ids;
+	}
+
+	private void seed(int themeCount) {
+		Region region = regionRepository.save(Region.builder().majorRegion("서울").subRegion("홍대").build());
+		List<Long> storeIds = new ArrayList<>();
+		for (int i = 0; i < STORE_COUNT; i++) {
+			storeIds.add(storeRepository.save(Store.builder()
+				.name("매장 " + i)
+				.status(Store.Status.OPENED)
+				.region(region)
+				.build()).getId());
+		}
+		List<Long> tagIds = new ArrayList<>();
+		for (int i = 0; i < TAG_COUNT; i++) {
+			tagIds.add(themeTagRepository.save(new ThemeTag("태그 " + i)).getId());
+		}
+		em.flush();
+
+		// 테마마다 태그 2개, 1초 간격으로 등록된 것으로 저장
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+		List<Object[]> themes = new ArrayList<>();
+		List<Object[]> mappings = new ArrayList<>();
+		for (long id = 1; id <= themeCount; id++) {
+			Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(id));
+			themes.add(new Object[] {
+				id, "테마 " + id, storeIds.get((int)(id % STORE_COUNT)), createdAt, createdAt
+			});
+			mappings.add(new Object[] {id, tagIds.get((int)(id % TAG_COUNT))});
+			mappings.add(new Object[] {id, tagIds.get((int)((id + 1) % TAG_COUNT))});
+		}
+
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO theme (id, name, official_difficulty, runtime, min_participants, max_participants, price,"
+				+ " status, store_id, created_at, modified_at) VALUES (?, ?, 3, 60, 2, 4, 20000, 'OPENED', ?, ?, ?)",
+			themes);
+		jdbcTemplate.batchUpdate("INSERT INTO theme_tag_mapping (theme_id, theme_tag_id) VALUES (?, ?)", mappings);
+	}
+}
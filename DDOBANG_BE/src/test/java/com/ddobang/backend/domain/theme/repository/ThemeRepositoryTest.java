@@ -64,6 +64,7 @@ public class ThemeRepositoryTest {
 	@BeforeEach
 	void setUp() {
 		em.createNativeQuery("ALTER TABLE theme ALTER COLUMN id RESTART WITH 1").executeUpdate();
+		em.createNativeQuery("ALTER TABLE theme_tag ALTER COLUMN id RESTART WITH 1").executeUpdate();
 
 		tag1 = themeTagRepository.save(tag1);
 		tag2 = themeTagRepository.save(tag2);
@@ -228,6 +229,27 @@ public class ThemeRepositoryTest {
 		assertThat(results.get(1)).isIn(testThemes);
 	}
 
+	@Test
+	@DisplayName("페이지네이션 테스트 - id 로 페이징 후 최신순으로 매장, 태그까지 조회")
+	void findThemesWithPaginationOrderTest() {
+		// given
+		ThemeFilterRequest request = new ThemeFilterRequest(null, null, null, null);
+		em.flush();
+		em.clear();
+
+		// when
+		List<Theme> page0 = themeRepository.findThemesByFilter(request, 0, 3);
+		List<Theme> page1 = themeRepository.findThemesByFilter(request, 1, 3);
+
+		// then
+		assertThat(page0).extracting(Theme::getName).containsExactly("방탈출5", "방탈출4", "방탈출3", "방탈출2");
+		assertThat(page1).extracting(Theme::getName).containsExactly("방탈출2", "방탈출1");
+		assertThat(page0).allSatisfy(theme -> {
+			assertThat(theme.getStore().getName()).isEqualTo(store.getName());
+			assertThat(theme.getThemeTagMappings()).hasSize(2);
+		});
+	}
+
 	@Test
 	@DisplayName("테마 이름으로 모임 등록 전용 검색 테스트")
 	void findThemesForPartySearchByThemeTest() {
@@ -24,10 +24,12 @@ import com.ddobang.backend.domain.theme.dto.response.ThemesResponse;
 import com.ddobang.backend.domain.theme.entity.Theme;
 import com.ddobang.backend.domain.theme.entity.ThemeStat;
 import com.ddobang.backend.domain.theme.entity.ThemeTag;
+import com.ddobang.backend.domain.theme.event.ThemeModifiedEvent;
 import com.ddobang.backend.domain.theme.exception.ThemeErrorCode;
 import com.ddobang.backend.domain.theme.exception.ThemeException;
 import com.ddobang.backend.domain.theme.repository.ThemeRepository;
 import com.ddobang.backend.domain.theme.repository.ThemeStatRepository;
+import com.ddobang.backend.global.event.EventPublisher;
 import com.ddobang.backend.global.response.SliceDto;
 
 /**
@@ -48,6 +50,8 @@ public class ThemeServiceTest {
 	private StoreService storeService;
 	@Mock
 	private ThemeTagService themeTagService;
+	@Mock
+	private EventPublisher eventPublisher;
 
 	private Store store = Store.builder()
 		.name("매장1")
@@ -185,4 +189,18 @@ public class ThemeServiceTest {
 		assertThat(response.themeName()).isEqualTo("테마A");
 		assertThat(response.storeName()).isEqualTo("매장1");
 	}
+
+	@Test
+	@DisplayName("테마 삭제 시 캐시 삭제를 위한 테마 변경 이벤트 발행")
+	void delete_publishesThemeModifiedEvent() {
+		// given
+		when(themeRepository.findById(1L)).thenReturn(Optional.of(theme));
+
+		// when
+		themeService.delete(1L);
+
+		// then
+		assertThat(theme.getStatus()).isEqualTo(Theme.Status.DELETED);
+		verify(eventPublisher).publish(new ThemeModifiedEvent(1L));
+	}
 }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +16,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.ddobang.backend.domain.diary.dto.DiaryStatSnapshot;
 import com.ddobang.backend.domain.diary.entity.DiaryStat;
 import com.ddobang.backend.domain.diary.repository.DiaryStatRepository;
 import com.ddobang.backend.domain.theme.entity.Theme;
+import com.ddobang.backend.domain.theme.dto.ThemeStatAggregateDto;
 import com.ddobang.backend.domain.theme.entity.ThemeStat;
+import com.ddobang.backend.domain.theme.entity.ThemeStatAggregate;
+import com.ddobang.backend.domain.theme.repository.ThemeRepository;
 import com.ddobang.backend.domain.theme.repository.ThemeStatRepository;
+import com.ddobang.backend.global.event.EventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class ThemeStatCalculatorTest {
@@ -28,6 +35,12 @@ public class ThemeStatCalculatorTest {
 	@Mock
 	private ThemeStatRepository themeStatRepository;
 
+	@Mock
+	private ThemeRepository themeRepository;
+
+	@Mock
+	private EventPublisher eventPublisher;
+
 	@InjectMocks
 	private ThemeStatCalculator themeStatCalculator;
 
@@ -93,4 +106,153 @@ public class ThemeStatCalculatorTest {
 		assertThat(saved.getEscapeResult()).isEqualTo(50); // false, true
 		assertThat(saved.getEscapeTimeAvg()).isEqualTo(3138); // 평균(3600, 2675)
 	}
+
+	@Test
+	@DisplayName("일지 수정 시 전체 재조회 없이 변경분만 테마 통계에 반영 테스트")
+	void t2() {
+		// given
+		ThemeStat themeStat = ThemeStat.builder().build();
+		themeStat.applyDiary(snapshot(1L, 3, 4, 0, true, 0, 3600), 1);
+		themeStat.applyDiary(snapshot(1L, 4, 3, 3, true, 1, 2675), 1);
+
+		when(themeStatRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(themeStat));
+
+		// when
+		themeStatCalculator.applyDiaryDelta(
+			snapshot(1L, 3, 4, 0, true, 0, 3600),
+			snapshot(1L, 5, 2, 5, false, 2, 0)
+		);
+
+		// then
+		verify(diaryStatRepository, never()).findByThemeId(anyLong());
+		assertThat(themeStat.getDiaryCount()).isEqualTo(2);
+		assertThat(themeStat.getDifficulty()).isEqualTo(4.5f); // 평균(5, 4)
+		assertThat(themeStat.getFear()).isEqualTo(2.5f); // 평균(2, 3)
+		assertThat(themeStat.getSatisfaction()).isEqualTo(4.0f); // 평균(5, 3)
+		assertThat(themeStat.getEscapeResult()).isEqualTo(50); // false, true
+		assertThat(themeStat.getNoHintEscapeRate()).isEqualTo(0); // 힌트 사용
+		assertThat(themeStat.getEscapeTimeAvg()).isEqualTo(2675); // 0 제외
+		assertThat(themeStat.getPopularityScore()).isEqualTo(26.0f); // 2 * 7 + 4 * 3
+	}
+
+	@Test
+	@DisplayName("일지 삭제로 일지 수가 0이 되면 테마 통계 삭제 테스트")
+	void t3() {
+		// given
+		ThemeStat themeStat = ThemeStat.builder().build();
+		DiaryStatSnapshot diaryStat = snapshot(1L, 3, 4, 2, true, 0, 3600);
+		themeStat.applyDiary(diaryStat, 1);
+
+		when(themeStatRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(themeStat));
+
+		// when
+		themeStatCalculator.applyDiaryDelta(diaryStat, null);
+
+		// then
+		verify(themeStatRepository).delete(themeStat);
+	}
+
+	@Test
+	@DisplayName("저장된 누적값이 재집계 결과와 다를 경우 복구 테스트")
+	void t4() {
+		// given
+		ThemeStat themeStat = ThemeStat.builder().build();
+		ReflectionTestUtils.setField(themeStat, "id", 1L);
+		themeStat.applyDiary(snapshot(1L, 1, 1, 1, false, 3, 1000), 1);
+
+		ThemeStatAggregate recomputed = new ThemeStatAggregate();
+		recomputed.accumulate(snapshot(1L, 4, 4, 4, true, 0, 2000), 1);
+		recomputed.accumulate(snapshot(1L, 2, 2, 2, true, 0, 3000), 1);
+
+		when(themeStatRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(themeStat));
+		when(diaryStatRepository.aggregateThemeStatsByThemeIds(List.of(1L)))
+			.thenReturn(Map.of(1L, new ThemeStatAggregateDto(1L, 2, recomputed)));
+
+		// when
+		int repairedCount = themeStatCalculator.reconcile(List.of(1L));
+
+		// then
+		assertThat(repairedCount).isEqualTo(1);
+		assertThat(themeStat.getDiaryCount()).isEqualTo(2);
+		assertThat(themeStat.getAggregate()).isEqualTo(recomputed);
+		assertThat(themeStat.getDifficulty()).isEqualTo(3.0f);
+		assertThat(themeStat.getNoHintEscapeRate()).isEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("누적값은 같지만 인기 점수가 계산되지 않은 이전 통계 복구 테스트")
+	void t5() {
+		// given
+		ThemeStat themeStat = ThemeStat.builder().build();
+		ReflectionTestUtils.setField(themeStat, "id", 1L);
+		DiaryStatSnapshot diaryStat = snapshot(1L, 3, 3, 4, true, 0, 2000);
+		themeStat.applyDiary(diaryStat, 1);
+		ReflectionTestUtils.setField(themeStat, "popularityScore", 0f);
+
+		ThemeStatAggregate recomputed = new ThemeStatAggregate();
+		recomputed.accumulate(diaryStat, 1);
+
+		when(themeStatRepository.findAllByIdInForUpdate(List.of(1L))).thenReturn(List.of(themeStat));
+		when(diaryStatRepository.aggregateThemeStatsByThemeIds(List.of(1L)))
+			.thenReturn(Map.of(1L, new ThemeStatAggregateDto(1L, 1, recomputed)));
+
+		// when
+		int repairedCount = themeStatCalculator.reconcile(List.of(1L));
+
+		// then
+		assertThat(repairedCount).isEqualTo(1);
+		assertThat(themeStat.getPopularityScore()).isEqualTo(19.0f); // 1 * 7 + 4 * 3
+	}
+
+	@Test
+	@DisplayName("평가 항목이 모두 0 인 일지만 있는 테마도 재계산 이후에는 변경분만 반영 테스트")
+	void t6() {
+		// given - 평가, 탈출 시간 없이 실패한 일지만 있어 누적값이 모두 0
+		DiaryStatSnapshot unrated = new DiaryStatSnapshot(1L, 1L, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+			null, false, 0, null, 0, List.of());
+		ThemeStat themeStat = ThemeStat.builder().diaryCount(1).build();
+		ThemeStatAggregate aggregate = new ThemeStatAggregate();
+		aggregate.accumulate(unrated, 1);
+		themeStat.rebuild(aggregate, 1);
+
+		when(themeStatRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(themeStat));
+
+		// when
+		themeStatCalculator.applyDiaryDelta(null, unrated);
+
+		// then
+		verify(diaryStatRepository, never()).findByThemeId(anyLong());
+		assertThat(themeStat.needsRebuild()).isFalse();
+		assertThat(themeStat.getDiaryCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("누적값 기록 여부가 없는 이전 통계는 변경분 대신 전체 재계산 테스트")
+	void t7() {
+		// given
+		Theme theme = Theme.builder().build();
+		ReflectionTestUtils.setField(theme, "id", 1L);
+		ThemeStat legacy = ThemeStat.builder().theme(theme).diaryCount(2).difficulty(3.0f).build();
+		ReflectionTestUtils.setField(legacy, "aggregateInitialized", null);
+		DiaryStat diaryStat = DiaryStat.builder().theme(theme).difficulty(4).escapeResult(true).build();
+
+		when(themeStatRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(legacy));
+		when(themeRepository.getReferenceById(1L)).thenReturn(theme);
+		when(themeStatRepository.findById(1L)).thenReturn(Optional.of(legacy));
+		when(diaryStatRepository.findByThemeId(1L)).thenReturn(List.of(diaryStat));
+
+		// when
+		themeStatCalculator.applyDiaryDelta(null, DiaryStatSnapshot.of(diaryStat));
+
+		// then
+		assertThat(legacy.needsRebuild()).isFalse();
+		assertThat(legacy.getDiaryCount()).isEqualTo(1);
+		assertThat(legacy.getDifficulty()).isEqualTo(4.0f);
+	}
+
+	private DiaryStatSnapshot snapshot(Long themeId, int difficulty, int fear, int satisfaction,
+		boolean escapeResult, Integer hintCount, int elapsedTime) {
+		return new DiaryStatSnapshot(themeId, 1L, difficulty, fear, 3, satisfaction, 3, 3, 3, 3, 50,
+			hintCount, escapeResult, elapsedTime, null, 0, List.of());
+	}
 }
@@ -0,0 +1,100 @@
+package com.ddobang.backend.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.ddobang.backend.domain.party.dto.response.PartyMainResponse;
+import com.ddobang.backend.domain.theme.dto.response.ThemesResponse;
+import com.ddobang.backend.global.response.SliceDto;
+
+/**
+ * CacheValueCodecBenchmarkTest
+ * 캐시 값 직렬화 방식(JSON, SMILE, LZ4 압축)별 저장 크기, 직렬화/역직렬화 시간 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+public class CacheValueCodecBenchmarkTest {
+	private static final int COMPRESS_THRESHOLD = 512;
+	private static final int WARMUP = 20_000;
+	private static final int ITERATIONS = 20_000;
+
+	@Test
+	@DisplayName("캐시 값 직렬화 - 테마 목록, 모임 목록의 형식별 크기와 직렬화/역직렬화 시간")
+	void t1() {
+		List<Sample> samples = List.of(
+			new Sample("themes slice(12)", themesSlice(12)),
+			new Sample("themes slice(50)", themesSlice(50)),
+			new Sample("upcoming parties(12)", upcomingParties(12))
+		);
+
+		for (Sample sample : samples) {
+			for (CacheValueCodec codec : CacheValueCodec.values()) {
+				run(sample, codec.name(), codec.serializer());
+				run(sample, codec.name() + "+LZ4",
+					new Lz4CompressingRedisSerializer(codec.serializer(), COMPRESS_THRESHOLD));
+			}
+		}
+	}
+
+	private void run(Sample sample, String format, RedisSerializer<Object> serializer) {
+		byte[] bytes = serializer.serialize(sample.value());
+		assertThat(serializer.deserialize(bytes)).isEqualTo(sample.value());
+
+		for (int i = 0; i < WARMUP; i++) {
+			serializer.deserialize(serializer.serialize(sample.value()));
+		}
+
+		long serializeStart = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			serializer.serialize(sample.value());
+		}
+		double serializeMicros = (System.nanoTime() - serializeStart) / 1_000.0 / ITERATIONS;
+
+		long deserializeStart = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			serializer.deserialize(bytes);
+		}
+		double deserializeMicros = (System.nanoTime() - deserializeStart) / 1_000.0 / ITERATIONS;
+
+		System.out.printf("[cache codec] %-22s %-11s %6d bytes  serialize %7.2f us  deserialize %7.2f us%n",
+			sample.name(), format, bytes.length, serializeMicros, deserializeMicros);
+	}
+
+	private SliceDto<ThemesResponse> themesSlice(int size) {
+		List<ThemesResponse> themes = IntStream.rangeClosed(1, size + 1)
+			.mapToObj(i -> ThemesResponse.builder()
+				.id((long)i)
+				.name("방탈출 테마 " + i)
+				.storeName("제로월드 강남점")
+				.runtime(70)
+				.recommendedParticipants("2~4인")
+				.tags(new ArrayList<>(List.of("공포", "스릴러", "추리")))
+				.thumbnailUrl("https://ddobang-bucket.s3.ap-northeast-2.amazonaws.com/themes/" + i + ".jpg")
+				.build())
+			.collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+
+		return SliceDto.of(themes, size);
+	}
+
+	private List<PartyMainResponse> upcomingParties(int size) {
+		LocalDateTime scheduledAt = LocalDateTime.of(2025, 6, 1, 19, 30);
+
+		return IntStream.rangeClosed(1, size)
+			.mapToObj(i -> new PartyMainResponse((long)i, "방탈출 테마 " + i,
+				"https://ddobang-bucket.s3.ap-northeast-2.amazonaws.com/themes/" + i + ".jpg",
+				(long)i, "제로월드 강남점", (long)i, "같이 탈출하실 분 구해요 " + i, scheduledAt.plusHours(i), 2, 4))
+			.collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+	}
+
+	private record Sample(String name, Object value) {
+	}
+}
@@ -0,0 +1,64 @@
+package com.ddobang.backend.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.ddobang.backend.domain.party.dto.response.PartyMainResponse;
+import com.ddobang.backend.domain.theme.dto.response.ThemesResponse;
+import com.ddobang.backend.global.response.SliceDto;
+
+/**
+ * CacheValueCodecTest
+ */
+public class CacheValueCodecTest {
+
+	@ParameterizedTest
+	@EnumSource(CacheValueCodec.class)
+	@DisplayName("subList(), toList() 로 만든 목록과 LocalDateTime 이 포함된 응답 dto 를 그대로 복원")
+	void t1(CacheValueCodec codec) {
+		// given
+		RedisSerializer<Object> serializer = codec.serializer();
+		List<ThemesResponse> themes = new ArrayList<>();
+		for (long id = 1; id <= 3; id++) {
+			themes.add(ThemesResponse.builder().id(id).name("테마 " + id).tags(List.of("공포", "추리")).build());
+		}
+		SliceDto<ThemesResponse> slice = SliceDto.of(themes, 2);
+		List<PartyMainResponse> parties = List.of(new PartyMainResponse(1L, "테마", null, 1L, "매장", 1L, "모임",
+			LocalDateTime.of(2025, 6, 1, 19, 30), 2, 4));
+
+		// when, then
+		assertThat(serializer.deserialize(serializer.serialize(slice))).isEqualTo(slice);
+		assertThat(serializer.deserialize(serializer.serialize(parties))).isEqualTo(parties);
+		assertThat(serializer.deserialize(serializer.serialize(NullValue.INSTANCE))).isInstanceOf(NullValue.class);
+	}
+
+	@Test
+	@DisplayName("LZ4 - 기준 크기 이상만 압축하고 두 경우 모두 복원")
+	void t2() {
+		// given
+		RedisSerializer<Object> serializer = new Lz4CompressingRedisSerializer(CacheValueCodec.SMILE.serializer(), 256);
+		String small = "짧은 값";
+		String large = "반복되는 긴 값 ".repeat(100);
+
+		// when
+		byte[] smallBytes = serializer.serialize(small);
+		byte[] largeBytes = serializer.serialize(large);
+
+		// then
+		assertThat(smallBytes[0]).isEqualTo((byte)0);
+		assertThat(largeBytes[0]).isEqualTo((byte)1);
+		assertThat(largeBytes.length).isLessThan(CacheValueCodec.SMILE.serializer().serialize(large).length);
+		assertThat(serializer.deserialize(smallBytes)).isEqualTo(small);
+		assertThat(serializer.deserialize(largeBytes)).isEqualTo(large);
+	}
+}
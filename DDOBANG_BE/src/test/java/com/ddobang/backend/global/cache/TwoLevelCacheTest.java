@@ -0,0 +1,157 @@
+package com.ddobang.backend.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TwoLevelCacheTest
+ */
+public class TwoLevelCacheTest {
+	private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager("regions");
+	private final CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private TwoLevelCacheManager cacheManager;
+	private Consumer<CacheInvalidationMessage> invalidationHandler;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		cacheManager = new TwoLevelCacheManager(remoteCacheManager, invalidationBus, meterRegistry,
+			100, Map.of(), Duration.ofMinutes(5));
+
+		ArgumentCaptor<Consumer<CacheInvalidationMessage>> captor = ArgumentCaptor.forClass(Consumer.class);
+		verify(invalidationBus).subscribe(captor.capture());
+		invalidationHandler = captor.getValue();
+	}
+
+	@Test
+	@DisplayName("L2 에서 찾은 값은 L1 에 적재되어 다음 조회부터 L1 에서 반환")
+	void t1() {
+		// given
+		remoteCacheManager.getCache("regions").put("서울", "홍대");
+		Cache cache = cacheManager.getCache("regions");
+
+		// when
+		Cache.ValueWrapper first = cache.get("서울");
+		remoteCacheManager.getCache("regions").evict("서울"); // L1 에서 반환되는지 확인하기 위해 L2 만 비움
+		Cache.ValueWrapper second = cache.get("서울");
+
+		// then
+		assertThat(first.get()).isEqualTo("홍대");
+		assertThat(second.get()).isEqualTo("홍대");
+		assertThat(requests("l1", "miss")).isEqualTo(1);
+		assertThat(requests("l1", "hit")).isEqualTo(1);
+		assertThat(requests("l2", "hit")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("저장, 삭제 시 L2 까지 반영하고 다른 노드에 무효화 전달")
+	void t2() {
+		// given
+		Cache cache = cacheManager.getCache("regions");
+
+		// when
+		cache.put("서울", "홍대");
+		cache.evict("부산");
+		cache.clear();
+
+		// then
+		verify(invalidationBus).publish("regions", "서울");
+		verify(invalidationBus).publish("regions", "부산");
+		verify(invalidationBus).publish(eq("regions"), isNull());
+		assertThat(remoteCacheManager.getCache("regions").get("서울")).isNull();
+	}
+
+	@Test
+	@DisplayName("다른 노드의 무효화 메시지는 L1 만 비우고 다음 조회는 L2 에서 반환")
+	void t3() {
+		// given
+		Cache cache = cacheManager.getCache("regions");
+		cache.put("서울", "홍대");
+		remoteCacheManager.getCache("regions").put("서울", "강남"); // 다른 노드에서 변경
+
+		// when
+		Object beforeInvalidation = cache.get("서울").get();
+		invalidationHandler.accept(new CacheInvalidationMessage("other-node", "regions", "서울"));
+		Object afterInvalidation = cache.get("서울").get();
+
+		// then
+		assertThat(beforeInvalidation).isEqualTo("홍대");
+		assertThat(afterInvalidation).isEqualTo("강남");
+	}
+
+	@Test
+	@DisplayName("값이 없으면 한 번만 적재하고 null 도 캐싱")
+	void t4() {
+		// given
+		Cache cache = cacheManager.getCache("regions");
+		int[] loadCount = {0};
+
+		// when
+		Object first = cache.get("없는 지역", () -> {
+			loadCount[0]++;
+			return null;
+		});
+		Object second = cache.get("없는 지역", () -> {
+			loadCount[0]++;
+			return null;
+		});
+
+		// then
+		assertThat(first).isNull();
+		assertThat(second).isNull();
+		assertThat(loadCount[0]).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("L2 조회 도중 무효화된 키는 조회한 이전 값을 L1 에 적재하지 않음")
+	void t5() {
+		// given
+		Cache remoteCache = mock(Cache.class);
+		TwoLevelCache[] cache = new TwoLevelCache[1];
+		cache[0] = new TwoLevelCache("regions", Caffeine.newBuilder().build(), remoteCache, invalidationBus,
+			meterRegistry);
+		when(remoteCache.get("서울"))
+			.thenAnswer(invocation -> {
+				// 이전 값을 읽은 직후 다른 노드에서 변경되어 무효화 메시지 도착
+				cache[0].evictLocal("서울");
+				return new SimpleValueWrapper("홍대");
+			})
+			.thenReturn(new SimpleValueWrapper("강남"));
+
+		// when
+		Object first = cache[0].get("서울").get();
+		Object second = cache[0].get("서울").get();
+
+		// then
+		assertThat(first).isEqualTo("홍대");
+		assertThat(second).isEqualTo("강남");
+		verify(remoteCache, times(2)).get("서울");
+	}
+
+	private double requests(String tier, String result) {
+		return meterRegistry.get("cache.tier.requests")
+			.tags("cache", "regions", "tier", tier, "result", result)
+			.counter()
+			.count();
+	}
+}
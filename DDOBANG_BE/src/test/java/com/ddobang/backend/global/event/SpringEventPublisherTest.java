@@ -0,0 +1,98 @@
+package com.ddobang.backend.global.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ddobang.backend.domain.message.event.MessageCreatedEvent;
+import com.ddobang.backend.global.outbox.OutboxMessage;
+import com.ddobang.backend.global.outbox.OutboxMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class SpringEventPublisherTest {
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Mock
+	private OutboxMessageRepository outboxMessageRepository;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private SpringEventPublisher springEventPublisher;
+	private MessageCreatedEvent event;
+
+	@BeforeEach
+	void setUp() {
+		springEventPublisher = new SpringEventPublisher(applicationEventPublisher, outboxMessageRepository, objectMapper);
+		ReflectionTestUtils.setField(springEventPublisher, "outboxEnabled", true);
+
+		event = MessageCreatedEvent.builder()
+			.senderId(1L)
+			.senderNickname("보낸사람")
+			.receiverId(2L)
+			.receiverNickname("받는사람")
+			.content("안녕하세요")
+			.messageId(10L)
+			.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 발행한 아웃박스 이벤트는 즉시 발행하지 않고 아웃박스에 저장")
+	void publish_ShouldSaveToOutbox_WhenTransactionActive() throws Exception {
+		// given
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		// when
+		springEventPublisher.publish(event);
+
+		// then
+		ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+		verify(outboxMessageRepository).save(captor.capture());
+		verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+
+		OutboxMessage saved = captor.getValue();
+		assertEquals("MESSAGE_CREATED_EVENT", saved.getEventType());
+		assertEquals(OutboxMessage.Status.PENDING, saved.getStatus());
+
+		// 저장된 payload 로 이벤트 복원 가능
+		MessageCreatedEvent restored = (MessageCreatedEvent)objectMapper.readValue(
+			saved.getPayload(), Class.forName(saved.getEventClass()));
+		assertEquals(event.getReceiverId(), restored.getReceiverId());
+		assertEquals(event.getMessageId(), restored.getMessageId());
+		assertEquals(event.getSenderNickname(), restored.getSenderNickname());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 발행하거나 아웃박스가 비활성화되면 즉시 발행")
+	void publish_ShouldPublishDirectly_WhenNoTransactionOrDisabled() {
+		// 트랜잭션 없음
+		springEventPublisher.publish(event);
+
+		// 아웃박스 비활성화
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		ReflectionTestUtils.setField(springEventPublisher, "outboxEnabled", false);
+		springEventPublisher.publish(event);
+
+		verify(applicationEventPublisher, times(2)).publishEvent(event);
+		verifyNoInteractions(outboxMessageRepository);
+	}
+}
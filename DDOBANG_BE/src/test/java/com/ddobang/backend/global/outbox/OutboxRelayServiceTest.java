@@ -0,0 +1,122 @@
+package com.ddobang.backend.global.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ddobang.backend.domain.message.event.MessageCreatedEvent;
+import com.ddobang.backend.global.config.QuerydslConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+class OutboxRelayServiceTest {
+
+	@Autowired
+	private OutboxMessageRepository outboxMessageRepository;
+
+	@PersistenceContext
+	private EntityManager em;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private ApplicationEventPublisher applicationEventPublisher;
+	private OutboxRelayService outboxRelayService;
+
+	@BeforeEach
+	void setUp() {
+		applicationEventPublisher = mock(ApplicationEventPublisher.class);
+		outboxRelayService = new OutboxRelayService(
+			outboxMessageRepository, applicationEventPublisher, objectMapper, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("대기 중인 이벤트를 순서대로 복원하여 아웃박스 키와 함께 전달하고 PUBLISHED 로 변경")
+	void relayBatch_ShouldPublishPendingEventsInOrder() throws Exception {
+		// given
+		Long firstId = save(messageCreatedEvent(1L)).getId();
+		Long secondId = save(messageCreatedEvent(2L)).getId();
+		em.flush();
+		em.clear();
+
+		// when
+		int relayedCount = outboxRelayService.relayBatch(100, 3);
+
+		// then
+		assertThat(relayedCount).isEqualTo(2);
+
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(applicationEventPublisher, times(2)).publishEvent(captor.capture());
+		assertThat(captor.getAllValues())
+			.extracting(delivery -> ((MessageCreatedEvent)((OutboxDelivery<?>)delivery).event()).getMessageId())
+			.containsExactly(1L, 2L);
+		assertThat(captor.getAllValues())
+			.extracting(delivery -> ((OutboxDelivery<?>)delivery).eventKey())
+			.containsExactly("outbox-" + firstId, "outbox-" + secondId);
+
+		assertThat(outboxMessageRepository.findAllById(List.of(firstId, secondId)))
+			.extracting(OutboxMessage::getStatus)
+			.containsOnly(OutboxMessage.Status.PUBLISHED);
+		assertThat(outboxRelayService.relayBatch(100, 3)).isZero();
+	}
+
+	@Test
+	@DisplayName("전달 실패 시 시도 횟수를 기록하고 최대 횟수에 도달하면 FAILED 로 변경")
+	void relayBatch_ShouldRecordFailure() throws Exception {
+		// given
+		Long id = save(messageCreatedEvent(1L)).getId();
+		em.flush();
+		em.clear();
+		doThrow(new IllegalStateException("listener error")).when(applicationEventPublisher).publishEvent(any(Object.class));
+
+		// when & then - 첫 실패는 재시도 대기
+		outboxRelayService.relayBatch(100, 2);
+		em.flush();
+		em.clear();
+		OutboxMessage afterFirst = outboxMessageRepository.findById(id).orElseThrow();
+		assertThat(afterFirst.getStatus()).isEqualTo(OutboxMessage.Status.PENDING);
+		assertThat(afterFirst.getAttempts()).isEqualTo(1);
+
+		// 최대 횟수 도달
+		outboxRelayService.relayBatch(100, 2);
+		em.flush();
+		em.clear();
+		OutboxMessage afterSecond = outboxMessageRepository.findById(id).orElseThrow();
+		assertThat(afterSecond.getStatus()).isEqualTo(OutboxMessage.Status.FAILED);
+		assertThat(afterSecond.getAttempts()).isEqualTo(2);
+		assertThat(outboxRelayService.relayBatch(100, 2)).isZero();
+	}
+
+	private OutboxMessage save(MessageCreatedEvent event) throws Exception {
+		return outboxMessageRepository.save(new OutboxMessage(
+			event.getEventType(), event.getClass().getName(), objectMapper.writeValueAsString(event)));
+	}
+
+	private MessageCreatedEvent messageCreatedEvent(Long messageId) {
+		return MessageCreatedEvent.builder()
+			.senderId(1L)
+			.senderNickname("보낸사람")
+			.receiverId(2L)
+			.receiverNickname("받는사람")
+			.content("안녕하세요")
+			.messageId(messageId)
+			.build();
+	}
+}